@@ -76,6 +76,7 @@ import io.quarkus.runtime.configuration.HyphenateEnumConverter;
 import io.quarkus.runtime.configuration.NameIterator;
 import io.quarkus.runtime.configuration.ProfileManager;
 import io.quarkus.runtime.configuration.SimpleConfigurationProviderResolver;
+import io.quarkus.runtime.configuration.SnapshotConfigBuilder;
 import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.config.SmallRyeConfigBuilder;
 
@@ -132,6 +133,7 @@ public class ConfigurationSetup {
     private static final MethodDescriptor SRCB_ADD_DISCOVERED_SOURCES = MethodDescriptor.ofMethod(SmallRyeConfigBuilder.class,
             "addDiscoveredSources", ConfigBuilder.class);
     private static final MethodDescriptor SRCB_CONSTRUCT = MethodDescriptor.ofConstructor(SmallRyeConfigBuilder.class);
+    private static final MethodDescriptor SCB_CONSTRUCT = MethodDescriptor.ofConstructor(SnapshotConfigBuilder.class);
     private static final MethodDescriptor II_IN_IMAGE_RUN = MethodDescriptor.ofMethod(ImageInfo.class, "inImageRuntimeCode",
             boolean.class);
     private static final MethodDescriptor SRCB_WITH_WRAPPER = MethodDescriptor.ofMethod(SmallRyeConfigBuilder.class,
@@ -387,7 +389,8 @@ public class ConfigurationSetup {
                 // create build time configuration object
 
                 final ResultHandle builder = clinit.newInstance(SRCB_CONSTRUCT);
-                // todo: custom build time converters
+                // custom build time converters
+                clinit.invokeStaticMethod(CS_POPULATE_CONVERTERS, builder);
                 final ResultHandle array = clinit.newArray(ConfigSource[].class, clinit.load(1));
                 clinit.writeArrayValue(array, 0, clinit.invokeStaticMethod(BTCF_GET_CONFIG_SOURCE));
                 clinit.invokeVirtualMethod(SRCB_WITH_SOURCES, builder, array);
@@ -419,8 +422,8 @@ public class ConfigurationSetup {
             try (MethodCreator carc = cc.getMethodCreator(ConfigurationSetup.CREATE_RUN_TIME_CONFIG)) {
                 carc.setModifiers(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC);
 
-                // create run time configuration object
-                final ResultHandle builder = carc.newInstance(SRCB_CONSTRUCT);
+                // create run time configuration object, keeping a snapshot of the expanded values
+                final ResultHandle builder = carc.newInstance(SCB_CONSTRUCT);
                 carc.invokeVirtualMethod(SRCB_ADD_DEFAULT_SOURCES, builder);
 
                 // discovered sources
@@ -1,5 +1,6 @@
 package io.quarkus.deployment.steps;
 
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
@@ -18,10 +19,11 @@ public class ThreadPoolSetup {
     @BuildStep
     @Record(value = ExecutionTime.RUNTIME_INIT, optional = true)
     public ExecutorBuildItem createExecutor(ExecutorRecorder recorder, ShutdownContextBuildItem shutdownContextBuildItem,
-            LaunchModeBuildItem launchModeBuildItem,
+            LaunchModeBuildItem launchModeBuildItem, Capabilities capabilities,
             ThreadPoolConfig threadPoolConfig) {
         return new ExecutorBuildItem(
-                recorder.setupRunTime(shutdownContextBuildItem, threadPoolConfig, launchModeBuildItem.getLaunchMode()));
+                recorder.setupRunTime(shutdownContextBuildItem, threadPoolConfig, launchModeBuildItem.getLaunchMode(),
+                        capabilities.isCapabilityPresent(Capabilities.METRICS)));
     }
 
     @BuildStep
@@ -13,6 +13,9 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+import io.quarkus.runtime.metrics.TimedExecutorService;
 
 /**
  *
@@ -22,6 +25,11 @@ public class ExecutorRecorder {
 
     private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
 
+    /**
+     * The name under which the main executor is registered in {@link ThreadPoolMetrics}.
+     */
+    public static final String POOL_NAME = "executor";
+
     public ExecutorRecorder() {
     }
 
@@ -32,26 +40,40 @@ public class ExecutorRecorder {
     static CleanableExecutor devModeExecutor;
 
     public ExecutorService setupRunTime(ShutdownContext shutdownContext, ThreadPoolConfig threadPoolConfig,
-            LaunchMode launchMode) {
-        if (devModeExecutor != null) {
-            return devModeExecutor;
-        }
-        final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig);
+            LaunchMode launchMode, boolean recordTaskTimings) {
         ExecutorService executor;
-        Runnable shutdownTask = createShutdownTask(threadPoolConfig, underlying);
-        if (launchMode == LaunchMode.DEVELOPMENT) {
-            devModeExecutor = new CleanableExecutor(underlying);
-            shutdownContext.addShutdownTask(new Runnable() {
-                @Override
-                public void run() {
-                    devModeExecutor.clean();
-                }
-            });
+        EnhancedQueueExecutor underlying;
+        if (devModeExecutor != null) {
+            // the executor outlives the restarts, but the metrics are unregistered by each shutdown
             executor = devModeExecutor;
-            Runtime.getRuntime().addShutdownHook(new Thread(shutdownTask, "Executor shutdown thread"));
+            underlying = devModeExecutor.getExecutor();
         } else {
-            shutdownContext.addShutdownTask(shutdownTask);
-            executor = underlying;
+            underlying = createExecutor(threadPoolConfig);
+            Runnable shutdownTask = createShutdownTask(threadPoolConfig, underlying);
+            if (launchMode == LaunchMode.DEVELOPMENT) {
+                devModeExecutor = new CleanableExecutor(underlying);
+                shutdownContext.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        devModeExecutor.clean();
+                    }
+                });
+                executor = devModeExecutor;
+                Runtime.getRuntime().addShutdownHook(new Thread(shutdownTask, "Executor shutdown thread"));
+            } else {
+                shutdownContext.addShutdownTask(shutdownTask);
+                executor = underlying;
+            }
+        }
+        ThreadPoolMetrics.register(POOL_NAME, new EnhancedQueueExecutorStatistics(underlying));
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                ThreadPoolMetrics.unregister(POOL_NAME);
+            }
+        });
+        if (recordTaskTimings) {
+            executor = new TimedExecutorService(POOL_NAME, executor);
         }
         return executor;
     }
@@ -162,4 +184,47 @@ public class ExecutorRecorder {
         return builder.build();
     }
 
+    private static final class EnhancedQueueExecutorStatistics implements ThreadPoolStatistics {
+
+        private final EnhancedQueueExecutor executor;
+
+        EnhancedQueueExecutorStatistics(EnhancedQueueExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public int getPoolSize() {
+            return executor.getPoolSize();
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return executor.getMaximumPoolSize();
+        }
+
+        @Override
+        public int getActiveCount() {
+            return executor.getActiveCount();
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return executor.getLargestPoolSize();
+        }
+
+        @Override
+        public int getQueueSize() {
+            return executor.getQueueSize();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return executor.getCompletedTaskCount();
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return executor.getRejectedTaskCount();
+        }
+    }
 }
@@ -52,7 +52,7 @@ public class ExpandingConfigSource extends AbstractDelegatingConfigSource {
         cache.flush();
     }
 
-    private static boolean isExpanding() {
+    static boolean isExpanding() {
         return NO_EXPAND.get() != Boolean.TRUE;
     }
 
@@ -0,0 +1,126 @@
+package io.quarkus.runtime.configuration;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * A run time configuration keeping a snapshot of the expanded values it returned, so that the following lookups of the
+ * same property do not walk the configuration sources nor expand the value again.
+ * <p>
+ * The snapshot is a flat table indexed by the property name, holding the expanded value and the values it was
+ * converted to by type, so reading a property again with the same type does not convert it again. Missing properties
+ * are not recorded, so that looking up names built dynamically does not grow the snapshot. The snapshot is populated
+ * lazily: expanding all the properties eagerly would fail the startup for unused properties referencing missing
+ * values.
+ * <p>
+ * The value of a property is frozen once it has been read: the changes made to the configuration sources afterwards
+ * are not seen, except for the properties which were missing, until the snapshot is invalidated with
+ * {@link #invalidate()} or {@link #invalidate(String)}. A mutable configuration source, or a test changing the
+ * configuration, must call one of them after changing a value.
+ */
+public class SnapshotConfig extends SmallRyeConfig {
+
+    private final Map<String, Entry> snapshot = new ConcurrentHashMap<>();
+
+    protected SnapshotConfig(List<ConfigSource> configSources, Map<Type, Converter> converters) {
+        super(configSources, converters);
+    }
+
+    @Override
+    public <T> T getValue(String name, Class<T> type) {
+        final Entry entry = getEntry(name);
+        if (entry != null) {
+            final T value = entry.getValue(this, type);
+            if (value != null) {
+                return value;
+            }
+        }
+        // missing or converted to null: let SmallRye produce the proper result or exception
+        return super.getValue(name, type);
+    }
+
+    @Override
+    public <T> Optional<T> getOptionalValue(String name, Class<T> type) {
+        final Entry entry = getEntry(name);
+        if (entry == null) {
+            return super.getOptionalValue(name, type);
+        }
+        return Optional.ofNullable(entry.getValue(this, type));
+    }
+
+    /**
+     * Drops the whole snapshot, so that the following lookups read the configuration sources again.
+     */
+    public void invalidate() {
+        snapshot.clear();
+    }
+
+    /**
+     * Drops the snapshot of a single property, so that the following lookups of this property read the configuration
+     * sources again.
+     * <p>
+     * The properties whose value expands the given property keep their snapshot, use {@link #invalidate()} if they
+     * must see the change too.
+     *
+     * @param name the name of the property
+     */
+    public void invalidate(String name) {
+        snapshot.remove(name);
+    }
+
+    private Entry getEntry(String name) {
+        if (!ExpandingConfigSource.isExpanding()) {
+            // the raw values must not be recorded
+            return null;
+        }
+        Entry entry = snapshot.get(name);
+        if (entry == null) {
+            // not computeIfAbsent(): the expansion of the value recursively reads other properties
+            final String value = super.getOptionalValue(name, String.class).orElse(null);
+            if (value == null) {
+                return null;
+            }
+            entry = new Entry(value);
+            final Entry existing = snapshot.putIfAbsent(name, entry);
+            if (existing != null) {
+                entry = existing;
+            }
+        }
+        return entry;
+    }
+
+    static final class Entry {
+
+        private final String value;
+        private final Map<Class<?>, Object> converted = new ConcurrentHashMap<>(2);
+
+        Entry(String value) {
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T> T getValue(SmallRyeConfig config, Class<T> type) {
+            if (type == String.class) {
+                return (T) value;
+            }
+            final Object current = converted.get(type);
+            if (current != null) {
+                return (T) current;
+            }
+            final T convertedValue = config.convert(value, type);
+            if (convertedValue != null && !type.isArray()) {
+                // arrays are mutable, they are never shared
+                converted.put(type, convertedValue);
+            }
+            return convertedValue;
+        }
+    }
+}
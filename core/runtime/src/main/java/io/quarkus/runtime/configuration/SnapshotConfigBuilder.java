@@ -0,0 +1,22 @@
+package io.quarkus.runtime.configuration;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.config.spi.Converter;
+
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * A configuration builder creating a {@link SnapshotConfig}.
+ */
+public class SnapshotConfigBuilder extends SmallRyeConfigBuilder {
+
+    @Override
+    protected Config newConfig(List<ConfigSource> sources, Map<Type, Converter> configConverters) {
+        return new SnapshotConfig(sources, configConverters);
+    }
+}
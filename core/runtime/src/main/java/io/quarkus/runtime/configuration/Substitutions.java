@@ -57,7 +57,7 @@ final class Substitutions {
         private static ThreadLocal<Boolean> NO_EXPAND;
 
         @Substitute
-        private static boolean isExpanding() {
+        static boolean isExpanding() {
             return true;
         }
 
@@ -0,0 +1,62 @@
+package io.quarkus.runtime.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The registry of the instrumented thread pools of the application: the main executor, the Vert.x pools and the
+ * Undertow IO threads.
+ * <p>
+ * The pools register their {@link ThreadPoolStatistics} here, and the metrics extensions add a
+ * {@link ThreadPoolMetricsListener} to publish them. This class has no dependency on any metrics library, so the pools
+ * can be instrumented even if no metrics extension is present.
+ */
+public final class ThreadPoolMetrics {
+
+    private static final Map<String, ThreadPoolStatistics> pools = new ConcurrentHashMap<>();
+    private static final List<ThreadPoolMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    private ThreadPoolMetrics() {
+    }
+
+    public static void register(String poolName, ThreadPoolStatistics statistics) {
+        pools.put(poolName, statistics);
+        for (ThreadPoolMetricsListener listener : listeners) {
+            listener.poolRegistered(poolName, statistics);
+        }
+    }
+
+    public static void unregister(String poolName) {
+        if (pools.remove(poolName) != null) {
+            for (ThreadPoolMetricsListener listener : listeners) {
+                listener.poolUnregistered(poolName);
+            }
+        }
+    }
+
+    public static void addListener(ThreadPoolMetricsListener listener) {
+        listeners.add(listener);
+        for (Map.Entry<String, ThreadPoolStatistics> pool : pools.entrySet()) {
+            listener.poolRegistered(pool.getKey(), pool.getValue());
+        }
+    }
+
+    public static void removeListener(ThreadPoolMetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return {@code true} if at least one listener is interested in the task timings
+     */
+    public static boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    public static void taskExecuted(String poolName, long queueWaitNanos, long executionNanos) {
+        for (ThreadPoolMetricsListener listener : listeners) {
+            listener.taskExecuted(poolName, queueWaitNanos, executionNanos);
+        }
+    }
+}
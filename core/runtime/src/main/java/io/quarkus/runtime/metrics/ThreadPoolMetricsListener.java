@@ -0,0 +1,33 @@
+package io.quarkus.runtime.metrics;
+
+/**
+ * Notified of the thread pools registered in {@link ThreadPoolMetrics} and of the tasks they execute.
+ * <p>
+ * {@link #taskExecuted(String, long, long)} is called on the hot path of the pools, so it must not block.
+ */
+public interface ThreadPoolMetricsListener {
+
+    /**
+     * Called when a pool is registered, and for all the already registered pools when the listener is added.
+     *
+     * @param poolName the name of the pool
+     * @param statistics the statistics of the pool
+     */
+    void poolRegistered(String poolName, ThreadPoolStatistics statistics);
+
+    /**
+     * Called when a pool is unregistered.
+     *
+     * @param poolName the name of the pool
+     */
+    void poolUnregistered(String poolName);
+
+    /**
+     * Called when a pool finished the execution of a task, if the pool records the task timings.
+     *
+     * @param poolName the name of the pool
+     * @param queueWaitNanos the time the task waited before being executed
+     * @param executionNanos the time spent executing the task
+     */
+    void taskExecuted(String poolName, long queueWaitNanos, long executionNanos);
+}
@@ -0,0 +1,45 @@
+package io.quarkus.runtime.metrics;
+
+/**
+ * A read-only view of the state of a thread pool.
+ * <p>
+ * The values are read on demand, so implementations must be cheap and thread safe. A pool that cannot provide a given
+ * value returns {@code -1}.
+ */
+public interface ThreadPoolStatistics {
+
+    /**
+     * @return the current number of threads in the pool
+     */
+    int getPoolSize();
+
+    /**
+     * @return the maximum number of threads in the pool
+     */
+    int getMaximumPoolSize();
+
+    /**
+     * @return the number of threads currently executing a task
+     */
+    int getActiveCount();
+
+    /**
+     * @return the largest number of threads the pool ever had
+     */
+    int getLargestPoolSize();
+
+    /**
+     * @return the number of tasks waiting to be executed
+     */
+    int getQueueSize();
+
+    /**
+     * @return the number of tasks that completed their execution
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * @return the number of tasks rejected by the pool
+     */
+    long getRejectedTaskCount();
+}
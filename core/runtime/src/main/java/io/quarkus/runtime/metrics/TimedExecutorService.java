@@ -0,0 +1,68 @@
+package io.quarkus.runtime.metrics;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ExecutorService} recording the time each task waited in the queue of the delegate and the time spent
+ * executing it, and reporting them to {@link ThreadPoolMetrics#taskExecuted(String, long, long)}.
+ * <p>
+ * The tasks are only timed while a listener is registered, so the overhead is a volatile read otherwise.
+ */
+public final class TimedExecutorService extends AbstractExecutorService {
+
+    private final String poolName;
+    private final ExecutorService delegate;
+
+    public TimedExecutorService(String poolName, ExecutorService delegate) {
+        this.poolName = poolName;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!ThreadPoolMetrics.hasListeners()) {
+            delegate.execute(command);
+            return;
+        }
+        final long submitted = System.nanoTime();
+        delegate.execute(new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                try {
+                    command.run();
+                } finally {
+                    ThreadPoolMetrics.taskExecuted(poolName, start - submitted, System.nanoTime() - start);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
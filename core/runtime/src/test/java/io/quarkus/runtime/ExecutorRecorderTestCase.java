@@ -0,0 +1,77 @@
+package io.quarkus.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
+import io.quarkus.runtime.metrics.ThreadPoolMetricsListener;
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+import io.quarkus.runtime.metrics.TimedExecutorService;
+
+/**
+ * Tests of the {@linkplain ExecutorRecorder}
+ */
+public class ExecutorRecorderTestCase {
+
+    @Test
+    public void testDevModeRestartRegistersMetricsAgain() {
+        List<String> events = new ArrayList<>();
+        ThreadPoolMetricsListener listener = new ThreadPoolMetricsListener() {
+            @Override
+            public void poolRegistered(String poolName, ThreadPoolStatistics statistics) {
+                events.add("+" + poolName + ":" + statistics.getMaximumPoolSize());
+            }
+
+            @Override
+            public void poolUnregistered(String poolName) {
+                events.add("-" + poolName);
+            }
+
+            @Override
+            public void taskExecuted(String poolName, long queueWaitNanos, long executionNanos) {
+            }
+        };
+        ThreadPoolMetrics.addListener(listener);
+        try {
+            CleanableExecutor devModeExecutor = null;
+            for (int i = 0; i < 2; i++) {
+                List<Runnable> shutdownTasks = new ArrayList<>();
+                ExecutorService executor = new ExecutorRecorder().setupRunTime(shutdownTasks::add, createConfig(),
+                        LaunchMode.DEVELOPMENT, true);
+                Assert.assertTrue(executor instanceof TimedExecutorService);
+                if (devModeExecutor == null) {
+                    devModeExecutor = ExecutorRecorder.devModeExecutor;
+                }
+                // the dev mode executor is reused by the restart
+                Assert.assertSame(devModeExecutor, ExecutorRecorder.devModeExecutor);
+                shutdownTasks.forEach(Runnable::run);
+            }
+            Assert.assertEquals("[+executor:2, -executor, +executor:2, -executor]", events.toString());
+        } finally {
+            ThreadPoolMetrics.removeListener(listener);
+            if (ExecutorRecorder.devModeExecutor != null) {
+                ExecutorRecorder.devModeExecutor.shutdownNow();
+                ExecutorRecorder.devModeExecutor = null;
+            }
+        }
+    }
+
+    private static ThreadPoolConfig createConfig() {
+        ThreadPoolConfig config = new ThreadPoolConfig();
+        config.coreThreads = 1;
+        config.maxThreads = OptionalInt.of(2);
+        config.queueSize = OptionalInt.empty();
+        config.shutdownTimeout = Duration.ofSeconds(1);
+        config.shutdownInterrupt = Duration.ofMillis(10);
+        config.shutdownCheckInterval = Optional.empty();
+        config.keepAliveTime = Duration.ofSeconds(30);
+        return config;
+    }
+}
@@ -0,0 +1,161 @@
+package io.quarkus.runtime.configuration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.microprofile.config.spi.ConfigProviderResolver;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ */
+public class SnapshotConfigTestCase {
+
+    static ClassLoader classLoader;
+    static ConfigProviderResolver cpr;
+    SnapshotConfig config;
+    final Map<String, String> properties = new HashMap<>();
+
+    @BeforeClass
+    public static void initConfig() {
+        classLoader = Thread.currentThread().getContextClassLoader();
+        cpr = ConfigProviderResolver.instance();
+    }
+
+    @After
+    public void doAfter() {
+        cpr.releaseConfig(config);
+    }
+
+    private SnapshotConfig buildConfig() {
+        final SnapshotConfigBuilder builder = new SnapshotConfigBuilder();
+        builder.withWrapper(ExpandingConfigSource.wrapper(new ExpandingConfigSource.Cache()));
+        // the source reads the map on each lookup, so changing it shows whether the snapshot was used
+        builder.withSources(new MapConfigSource(properties));
+        config = (SnapshotConfig) builder.build();
+        cpr.registerConfig(config, classLoader);
+        return config;
+    }
+
+    @Test
+    public void testExpandedValuesAreRecorded() {
+        properties.put("foo.one", "value");
+        properties.put("foo.two", "+${foo.one}+");
+        final SnapshotConfig config = buildConfig();
+        assertEquals("+value+", config.getValue("foo.two", String.class));
+        properties.put("foo.one", "changed");
+        assertEquals("+value+", config.getValue("foo.two", String.class));
+    }
+
+    @Test
+    public void testInvalidateProperty() {
+        properties.put("foo.one", "value");
+        properties.put("foo.two", "+${foo.one}+");
+        final SnapshotConfig config = buildConfig();
+        assertEquals("value", config.getValue("foo.one", String.class));
+        assertEquals("+value+", config.getValue("foo.two", String.class));
+        properties.put("foo.one", "changed");
+        config.invalidate("foo.one");
+        assertEquals("changed", config.getValue("foo.one", String.class));
+        // the properties expanding the invalidated one keep their snapshot
+        assertEquals("+value+", config.getValue("foo.two", String.class));
+    }
+
+    @Test
+    public void testInvalidate() {
+        properties.put("foo.one", "value");
+        properties.put("foo.two", "+${foo.one}+");
+        properties.put("foo.number", "42");
+        final SnapshotConfig config = buildConfig();
+        assertEquals("+value+", config.getValue("foo.two", String.class));
+        assertEquals(Integer.valueOf(42), config.getValue("foo.number", Integer.class));
+        properties.put("foo.one", "changed");
+        properties.put("foo.number", "43");
+        config.invalidate();
+        assertEquals("+changed+", config.getValue("foo.two", String.class));
+        assertEquals(Integer.valueOf(43), config.getValue("foo.number", Integer.class));
+    }
+
+    @Test
+    public void testConvertedValuesAreRecorded() {
+        properties.put("foo.number", "42");
+        final SnapshotConfig config = buildConfig();
+        final Integer first = config.getValue("foo.number", Integer.class);
+        assertEquals(Integer.valueOf(42), first);
+        assertSame(first, config.getValue("foo.number", Integer.class));
+        assertEquals(Long.valueOf(42), config.getValue("foo.number", Long.class));
+        assertEquals("42", config.getValue("foo.number", String.class));
+        // each type keeps its own converted value
+        assertSame(first, config.getValue("foo.number", Integer.class));
+    }
+
+    @Test
+    public void testArraysAreNotShared() {
+        properties.put("foo.list", "a,b");
+        final SnapshotConfig config = buildConfig();
+        final String[] first = config.getValue("foo.list", String[].class);
+        assertEquals(2, first.length);
+        assertNotSame(first, config.getValue("foo.list", String[].class));
+    }
+
+    @Test
+    public void testMissingValues() {
+        final SnapshotConfig config = buildConfig();
+        assertFalse(config.getOptionalValue("foo.missing", String.class).isPresent());
+        try {
+            config.getValue("foo.missing", Integer.class);
+            fail("Expected exception");
+        } catch (NoSuchElementException expected) {
+        }
+        // missing values are not recorded
+        properties.put("foo.missing", "added");
+        assertEquals("added", config.getValue("foo.missing", String.class));
+    }
+
+    @Test
+    public void testRawValuesAreNotRecorded() {
+        properties.put("foo.one", "value");
+        properties.put("foo.two", "${foo.one}");
+        final SnapshotConfig config = buildConfig();
+        final boolean old = ExpandingConfigSource.setExpanding(false);
+        try {
+            assertEquals("${foo.one}", config.getValue("foo.two", String.class));
+        } finally {
+            ExpandingConfigSource.setExpanding(old);
+        }
+        assertEquals("value", config.getValue("foo.two", String.class));
+    }
+
+    static final class MapConfigSource implements ConfigSource {
+
+        private final Map<String, String> properties;
+
+        MapConfigSource(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public String getValue(String propertyName) {
+            return properties.get(propertyName);
+        }
+
+        @Override
+        public String getName() {
+            return "test input";
+        }
+    }
+}
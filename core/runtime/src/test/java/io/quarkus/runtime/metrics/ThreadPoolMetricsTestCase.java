@@ -0,0 +1,111 @@
+package io.quarkus.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests of the {@linkplain ThreadPoolMetrics} registry and the {@linkplain TimedExecutorService}
+ */
+public class ThreadPoolMetricsTestCase {
+
+    @Test
+    public void testListenerNotifiedOfRegisteredPools() {
+        RecordingListener listener = new RecordingListener();
+        ThreadPoolMetrics.register("before", new FixedStatistics());
+        try {
+            ThreadPoolMetrics.addListener(listener);
+            ThreadPoolMetrics.register("after", new FixedStatistics());
+            ThreadPoolMetrics.unregister("after");
+            Assert.assertEquals("[+before, +after, -after]", listener.events.toString());
+        } finally {
+            ThreadPoolMetrics.removeListener(listener);
+            ThreadPoolMetrics.unregister("before");
+        }
+    }
+
+    @Test
+    public void testTaskTimings() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        ExecutorService executor = new TimedExecutorService("timed", Executors.newSingleThreadExecutor());
+        ThreadPoolMetrics.addListener(listener);
+        try {
+            executor.execute(() -> {
+            });
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertTrue(listener.executed.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals("[timed]", listener.events.toString());
+        } finally {
+            ThreadPoolMetrics.removeListener(listener);
+        }
+    }
+
+    static class RecordingListener implements ThreadPoolMetricsListener {
+
+        final List<String> events = new ArrayList<>();
+        final CountDownLatch executed = new CountDownLatch(1);
+
+        @Override
+        public synchronized void poolRegistered(String poolName, ThreadPoolStatistics statistics) {
+            events.add("+" + poolName);
+        }
+
+        @Override
+        public synchronized void poolUnregistered(String poolName) {
+            events.add("-" + poolName);
+        }
+
+        @Override
+        public synchronized void taskExecuted(String poolName, long queueWaitNanos, long executionNanos) {
+            Assert.assertTrue(queueWaitNanos >= 0);
+            Assert.assertTrue(executionNanos >= 0);
+            events.add(poolName);
+            executed.countDown();
+        }
+    }
+
+    static class FixedStatistics implements ThreadPoolStatistics {
+
+        @Override
+        public int getPoolSize() {
+            return 1;
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return 1;
+        }
+
+        @Override
+        public int getActiveCount() {
+            return 0;
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return 1;
+        }
+
+        @Override
+        public int getQueueSize() {
+            return 0;
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return 0;
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return 0;
+        }
+    }
+}
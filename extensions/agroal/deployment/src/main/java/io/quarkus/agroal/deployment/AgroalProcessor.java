@@ -29,6 +29,7 @@ import io.quarkus.arc.deployment.BeanContainerListenerBuildItem;
 import io.quarkus.arc.deployment.GeneratedBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.DotNames;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -70,7 +71,8 @@ class AgroalProcessor {
             BuildProducer<SubstrateResourceBuildItem> resource,
             BuildProducer<DataSourceDriverBuildItem> dataSourceDriver,
             SslNativeConfigBuildItem sslNativeConfig, BuildProducer<ExtensionSslNativeSupportBuildItem> sslNativeSupport,
-            BuildProducer<GeneratedBeanBuildItem> generatedBean) throws Exception {
+            BuildProducer<GeneratedBeanBuildItem> generatedBean,
+            Capabilities capabilities) throws Exception {
 
         feature.produce(new FeatureBuildItem(FeatureBuildItem.AGROAL));
 
@@ -123,7 +125,8 @@ class AgroalProcessor {
         return new BeanContainerListenerBuildItem(recorder.addDataSource(
                 (Class<? extends AbstractDataSourceProducer>) recorderContext.classProxy(dataSourceProducerClassName),
                 agroalBuildTimeConfig,
-                sslNativeConfig.isExplicitlyDisabled()));
+                sslNativeConfig.isExplicitlyDisabled(),
+                capabilities.isCapabilityPresent(Capabilities.METRICS)));
     }
 
     @Record(ExecutionTime.RUNTIME_INIT)
@@ -0,0 +1,72 @@
+package io.quarkus.agroal.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.metrics.MetricRegistries;
+
+public class DataSourceMetricsTest {
+
+    private static final Tag DEFAULT_DATASOURCE_TAG = new Tag("datasource", "default");
+
+    @Inject
+    AgroalDataSource defaultDataSource;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-metrics-datasource.properties",
+                            "application.properties"));
+
+    @Test
+    public void testAcquisitionMetrics() throws SQLException {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Timer acquireTime = registry.getTimers().get(new MetricID("agroal.acquire.time", DEFAULT_DATASOURCE_TAG));
+        Counter acquireCount = registry.getCounters().get(new MetricID("agroal.acquire.count", DEFAULT_DATASOURCE_TAG));
+        long acquiredBefore = acquireTime.getCount();
+        long countedBefore = acquireCount.getCount();
+
+        try (Connection connection = defaultDataSource.getConnection()) {
+            Gauge<?> active = registry.getGauges().get(new MetricID("agroal.active.count", DEFAULT_DATASOURCE_TAG));
+            assertEquals(1L, ((Number) active.getValue()).longValue());
+        }
+
+        assertEquals(acquiredBefore + 1, acquireTime.getCount());
+        assertEquals(countedBefore + 1, acquireCount.getCount());
+    }
+
+    @Test
+    public void testLeakDetectionMetrics() throws Exception {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Counter leaks = registry.getCounters().get(new MetricID("agroal.leak.detection.count", DEFAULT_DATASOURCE_TAG));
+        long leaksBefore = leaks.getCount();
+
+        // hold the connection longer than the leak detection interval, until the pool reports it
+        try (Connection connection = defaultDataSource.getConnection()) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (leaks.getCount() == leaksBefore && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+        }
+
+        assertTrue(leaks.getCount() > leaksBefore, "The leaked connection was not detected");
+    }
+}
@@ -58,6 +58,7 @@ public class DefaultDataSourceConfigTest {
         assertEquals(AgroalConnectionFactoryConfiguration.TransactionIsolation.SERIALIZABLE,
                 agroalConnectionFactoryConfiguration.jdbcTransactionIsolation());
         assertTrue(dataSource.getConfiguration().metricsEnabled());
+        assertEquals("64", agroalConnectionFactoryConfiguration.jdbcProperties().getProperty("QUERY_CACHE_SIZE"));
 
         try (Connection connection = dataSource.getConnection()) {
         }
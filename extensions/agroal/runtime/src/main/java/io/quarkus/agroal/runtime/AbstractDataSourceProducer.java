@@ -23,6 +23,7 @@ import io.agroal.api.security.NamePrincipal;
 import io.agroal.api.security.SimplePassword;
 import io.agroal.api.transaction.TransactionIntegration;
 import io.agroal.narayana.NarayanaTransactionIntegration;
+import io.quarkus.agroal.runtime.metrics.DataSourceMetrics;
 
 public abstract class AbstractDataSourceProducer {
 
@@ -31,8 +32,11 @@ public abstract class AbstractDataSourceProducer {
     private AgroalBuildTimeConfig buildTimeConfig;
     private AgroalRuntimeConfig runtimeConfig;
     private boolean disableSslSupport = false;
+    private boolean metricsCapabilityPresent = false;
 
     private List<AgroalDataSource> dataSources = new ArrayList<>();
+    // only the unregistration actions are kept, so that the metrics classes are not loaded without the metrics extension
+    private List<Runnable> metricsUnregistrations = new ArrayList<>();
 
     @Inject
     public TransactionManager transactionManager;
@@ -159,8 +163,47 @@ public abstract class AbstractDataSourceProducer {
             }
         }
 
+        // Prepared statement cache: Agroal doesn't cache statements so we configure the cache of the driver
+        if (dataSourceRuntimeConfig.preparedStatementCacheSize.isPresent()) {
+            int cacheSize = dataSourceRuntimeConfig.preparedStatementCacheSize.get();
+            switch (driverName) {
+                case "org.h2.Driver":
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("QUERY_CACHE_SIZE",
+                            String.valueOf(cacheSize));
+                    break;
+                case "org.mariadb.jdbc.Driver":
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("cachePrepStmts",
+                            String.valueOf(cacheSize > 0));
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("prepStmtCacheSize",
+                            String.valueOf(cacheSize));
+                    break;
+                case "com.microsoft.sqlserver.jdbc.SQLServerDriver":
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("disableStatementPooling",
+                            String.valueOf(cacheSize == 0));
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("statementPoolingCacheSize",
+                            String.valueOf(cacheSize));
+                    break;
+                case "org.postgresql.Driver":
+                    agroalConnectionFactoryConfigurationSupplier.jdbcProperty("preparedStatementCacheQueries",
+                            String.valueOf(cacheSize));
+                    break;
+                default:
+                    log.warn("Agroal does not support configuring the prepared statement cache for driver " + driverName);
+            }
+        }
+
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
-        AgroalDataSource dataSource = new io.agroal.pool.DataSource(dataSourceConfiguration.get());
+        AgroalDataSource dataSource;
+        if (metricsCapabilityPresent && dataSourceRuntimeConfig.enableMetrics) {
+            // DataSourceMetrics references the SmallRye Metrics classes, it must only be loaded if the extension is present
+            DataSourceMetrics metrics = new DataSourceMetrics(
+                    AgroalRecorder.DEFAULT_DATASOURCE_NAME.equals(dataSourceName) ? "default" : dataSourceName);
+            dataSource = new io.agroal.pool.DataSource(dataSourceConfiguration.get(), metrics);
+            metrics.register(dataSource);
+            this.metricsUnregistrations.add(metrics::unregister);
+        } else {
+            dataSource = new io.agroal.pool.DataSource(dataSourceConfiguration.get());
+        }
 
         log.debug("Started data source " + dataSourceName + " connected to " + url);
 
@@ -181,6 +224,10 @@ public abstract class AbstractDataSourceProducer {
         this.disableSslSupport = true;
     }
 
+    public void metricsCapabilityPresent() {
+        this.metricsCapabilityPresent = true;
+    }
+
     private void checkRuntimeConfig() {
         if (runtimeConfig == null) {
             throw new IllegalStateException(
@@ -190,6 +237,9 @@ public abstract class AbstractDataSourceProducer {
 
     @PreDestroy
     public void stop() {
+        for (Runnable metricsUnregistration : metricsUnregistrations) {
+            metricsUnregistration.run();
+        }
         for (AgroalDataSource dataSource : dataSources) {
             if (dataSource != null) {
                 dataSource.close();
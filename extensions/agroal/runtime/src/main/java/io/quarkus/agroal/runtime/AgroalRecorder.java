@@ -13,7 +13,8 @@ public class AgroalRecorder {
     public BeanContainerListener addDataSource(
             Class<? extends AbstractDataSourceProducer> dataSourceProducerClass,
             AgroalBuildTimeConfig agroalBuildTimeConfig,
-            boolean disableSslSupport) {
+            boolean disableSslSupport,
+            boolean metricsCapabilityPresent) {
         return new BeanContainerListener() {
             @Override
             public void created(BeanContainer beanContainer) {
@@ -24,6 +25,10 @@ public class AgroalRecorder {
                 if (disableSslSupport) {
                     producer.disableSslSupport();
                 }
+
+                if (metricsCapabilityPresent) {
+                    producer.metricsCapabilityPresent();
+                }
             }
         };
     }
@@ -82,8 +82,19 @@ public class DataSourceRuntimeConfig {
     @ConfigItem
     public Optional<AgroalConnectionFactoryConfiguration.TransactionIsolation> transactionIsolationLevel;
 
+    /**
+     * The maximum number of prepared statements cached per connection.
+     * <p>
+     * Agroal does not cache statements itself so this configures the statement cache of the JDBC driver. It is supported
+     * for the H2, MariaDB, Microsoft SQL Server and PostgreSQL drivers.
+     */
+    @ConfigItem
+    public Optional<Integer> preparedStatementCacheSize;
+
     /**
      * Enable datasource metrics collection.
+     * <p>
+     * If the SmallRye Metrics extension is present, the pool metrics are also exposed in the vendor registry.
      */
     @ConfigItem
     public boolean enableMetrics;
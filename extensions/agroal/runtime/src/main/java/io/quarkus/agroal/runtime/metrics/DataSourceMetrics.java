@@ -0,0 +1,142 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.quarkus.smallrye.metrics.runtime.LambdaCounter;
+import io.quarkus.smallrye.metrics.runtime.LambdaGauge;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the metrics of an Agroal datasource in the vendor registry, tagged with the name of the datasource.
+ * <p>
+ * The pool gauges and counters are read from the {@link AgroalDataSourceMetrics}, the connection acquisition time is
+ * recorded in a {@link Timer} as Agroal only exposes its average and maximum values.
+ * <p>
+ * This class must only be loaded if the SmallRye Metrics extension is present.
+ */
+public class DataSourceMetrics implements AgroalDataSourceListener {
+
+    private static final String DATASOURCE_TAG = "datasource";
+
+    private final MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+    private final Tag tag;
+    private final List<MetricID> metricIds = new ArrayList<>();
+    private final Timer acquireTime;
+    private final ThreadLocal<Long> acquireStart = new ThreadLocal<>();
+
+    public DataSourceMetrics(String dataSourceName) {
+        this.tag = new Tag(DATASOURCE_TAG, dataSourceName);
+        Metadata metadata = Metadata.builder()
+                .withName("agroal.acquire.time")
+                .withType(MetricType.TIMER)
+                .withDisplayName("Connection Acquisition Time")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Time spent acquiring a connection from the pool.")
+                .build();
+        this.acquireTime = registry.timer(metadata, tag);
+        metricIds.add(new MetricID(metadata.getName(), tag));
+    }
+
+    public void register(AgroalDataSource dataSource) {
+        AgroalDataSourceMetrics metrics = dataSource.getMetrics();
+
+        gauge("agroal.active.count", "Active Connections",
+                "Number of active connections. These connections are in use and not available to be acquired.",
+                () -> metrics.activeCount());
+        gauge("agroal.available.count", "Available Connections",
+                "Number of idle connections in the pool, available to be acquired.",
+                () -> metrics.availableCount());
+        gauge("agroal.awaiting.count", "Awaiting Threads",
+                "Approximate number of threads blocked, waiting to acquire a connection.",
+                () -> metrics.awaitingCount());
+        gauge("agroal.max.used.count", "Max Used Connections",
+                "Maximum number of connections active simultaneously.",
+                () -> metrics.maxUsedCount());
+        gauge("agroal.blocking.time.average", "Average Blocking Time",
+                "Average time an application waited to acquire a connection, in milliseconds.",
+                () -> metrics.blockingTimeAverage().toMillis());
+        gauge("agroal.blocking.time.max", "Max Blocking Time",
+                "Maximum time an application waited to acquire a connection, in milliseconds.",
+                () -> metrics.blockingTimeMax().toMillis());
+        gauge("agroal.creation.time.average", "Average Creation Time",
+                "Average time for a connection to be created, in milliseconds.",
+                () -> metrics.creationTimeAverage().toMillis());
+
+        counter("agroal.acquire.count", "Acquired Connections",
+                "Number of times an acquire operation succeeded.",
+                () -> metrics.acquireCount());
+        counter("agroal.creation.count", "Created Connections",
+                "Number of created connections.",
+                () -> metrics.creationCount());
+        counter("agroal.destroy.count", "Destroyed Connections",
+                "Number of destroyed connections.",
+                () -> metrics.destroyCount());
+        counter("agroal.invalid.count", "Invalid Connections",
+                "Number of connections removed from the pool for being invalid.",
+                () -> metrics.invalidCount());
+        counter("agroal.leak.detection.count", "Leak Detections",
+                "Number of times a leak was detected. A single connection can be detected multiple times.",
+                () -> metrics.leakDetectionCount());
+        counter("agroal.reap.count", "Reaped Connections",
+                "Number of connections removed from the pool for being idle.",
+                () -> metrics.reapCount());
+    }
+
+    public void unregister() {
+        for (MetricID metricId : metricIds) {
+            registry.remove(metricId);
+        }
+        metricIds.clear();
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        acquireStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        Long start = acquireStart.get();
+        if (start != null) {
+            acquireStart.remove();
+            acquireTime.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void gauge(String name, String displayName, String description, Callable<Number> value) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.GAUGE)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build();
+        registry.register(metadata, new LambdaGauge(value), tag);
+        metricIds.add(new MetricID(name, tag));
+    }
+
+    private void counter(String name, String displayName, String description, Callable<Long> value) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.COUNTER)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build();
+        registry.register(metadata, new LambdaCounter(value), tag);
+        metricIds.add(new MetricID(name, tag));
+    }
+}
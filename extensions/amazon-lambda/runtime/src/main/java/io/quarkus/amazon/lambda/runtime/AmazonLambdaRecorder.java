@@ -34,11 +34,15 @@ public class AmazonLambdaRecorder {
 
         RequestHandler handler = beanContainer.instance(handlerClass);
 
-        final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // the shared ObjectMapper is not reconfigured, the readers are
+        final ObjectMapper mapper = beanContainer.instance(ObjectMapper.class);
         AtomicBoolean running = new AtomicBoolean(true);
-        ObjectReader objectReader = mapper.readerFor(handlerType.getValue());
-        ObjectReader cognitoIdReader = mapper.readerFor(CognitoIdentity.class);
-        ObjectReader clientCtxReader = mapper.readerFor(ClientContext.class);
+        ObjectReader objectReader = mapper.readerFor(handlerType.getValue())
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectReader cognitoIdReader = mapper.readerFor(CognitoIdentity.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectReader clientCtxReader = mapper.readerFor(ClientContext.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
 
         context.addShutdownTask(new Runnable() {
             @Override
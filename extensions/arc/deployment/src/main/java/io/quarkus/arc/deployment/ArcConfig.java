@@ -48,6 +48,30 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean autoInjectFields;
 
+    /**
+     * If set to true the resolution of the injection points and the generation of the bean classes are partitioned
+     * across the threads of the common fork-join pool. The generated classes are the same as with sequential processing,
+     * only the build time is affected.
+     * <p>
+     * The annotation transformers and injection point transformers are then invoked concurrently, so it must only be
+     * enabled if all the transformers of the application and its extensions are thread-safe.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean parallelProcessing;
+
+    /**
+     * If set to true the container records, for every bean, the number of created instances, the time spent creating
+     * them, the instances created before the application startup completed and the last access through a client proxy.
+     * <p>
+     * The statistics are available through {@link io.quarkus.arc.runtime.BeanContainer#getBeanStatistics()}, and in the
+     * development mode on the {@code /arc/bean-statistics} endpoint if the Undertow extension is present.
+     * <p>
+     * Recording the last access costs a map lookup and a volatile write on every client proxy invocation, so it should
+     * not be enabled in production.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean beanStatistics;
+
     public final boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans.toLowerCase());
     }
@@ -5,6 +5,8 @@ import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import java.util.List;
 
 import io.quarkus.arc.runtime.ArcRecorder;
+import io.quarkus.arc.runtime.ArcRuntimeConfig;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
@@ -12,6 +14,15 @@ import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 
 public class LifecycleEventsBuildStep {
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    ServiceStartBuildItem asyncEventsExecutor(ArcRecorder recorder, BeanContainerBuildItem beanContainer,
+            ShutdownContextBuildItem shutdown, ArcRuntimeConfig config, Capabilities capabilities) {
+        recorder.initAsyncEventsExecutor(shutdown, config, capabilities.isCapabilityPresent(Capabilities.METRICS));
+        // the executor must be set before the startup event is fired
+        return new ServiceStartBuildItem("arc-async-events");
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     void startupEvent(ArcRecorder recorder, List<ServiceStartBuildItem> startList,
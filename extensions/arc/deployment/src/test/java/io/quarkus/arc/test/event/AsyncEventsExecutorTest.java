@@ -0,0 +1,42 @@
+package io.quarkus.arc.test.event;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncEventsExecutorTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AsyncEventsExecutorTest.class, ThreadNameObserver.class));
+
+    @Inject
+    Event<StringBuilder> event;
+
+    @Test
+    public void testAsyncObserverNotifiedByArcExecutor() throws Exception {
+        StringBuilder threadName = event.fireAsync(new StringBuilder()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+        Assertions.assertTrue(threadName.toString().startsWith("arc-async-event-thread-"), threadName.toString());
+    }
+
+    @ApplicationScoped
+    static class ThreadNameObserver {
+
+        void observe(@ObservesAsync StringBuilder threadName) {
+            threadName.append(Thread.currentThread().getName());
+        }
+
+    }
+}
@@ -0,0 +1,85 @@
+package io.quarkus.arc.test.event;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncEventsQueueFullTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(AsyncEventsQueueFullTest.class, BlockingObserver.class)
+                    .addAsResource(new StringAsset("quarkus.arc.async-events.max-threads=1\n"
+                            + "quarkus.arc.async-events.queue-size=1"), "application.properties"));
+
+    @Inject
+    Event<CountDownLatch> event;
+
+    @Inject
+    BlockingObserver observer;
+
+    @Test
+    public void testEventRejectedWhenQueueFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // the first event blocks the only thread, the second one fills the queue
+            CompletionStage<CountDownLatch> running = event.fireAsync(release);
+            Assertions.assertTrue(observer.awaitStarted());
+            CompletionStage<CountDownLatch> queued = event.fireAsync(release);
+
+            CompletionStage<CountDownLatch> rejected = event.fireAsync(release);
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> rejected.toCompletableFuture().get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException, e.getCause().toString());
+            // the observer was not notified by the firing thread
+            Assertions.assertEquals(1, observer.getNotified());
+
+            release.countDown();
+            running.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            queued.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(2, observer.getNotified());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @ApplicationScoped
+    static class BlockingObserver {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile int notified;
+
+        void observe(@ObservesAsync CountDownLatch release) throws InterruptedException {
+            // a single thread notifies the observers
+            notified++;
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+        }
+
+        boolean awaitStarted() throws InterruptedException {
+            return started.await(10, TimeUnit.SECONDS);
+        }
+
+        int getNotified() {
+            return notified;
+        }
+
+    }
+}
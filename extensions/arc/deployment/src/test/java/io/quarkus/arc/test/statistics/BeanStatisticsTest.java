@@ -0,0 +1,75 @@
+package io.quarkus.arc.test.statistics;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.BeanStatistics;
+import io.quarkus.arc.Unremovable;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BeanStatisticsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(EagerBean.class, LazyBean.class, UnusedBean.class)
+                    .addAsResource(new StringAsset("quarkus.arc.bean-statistics=true"), "application.properties"));
+
+    @Inject
+    LazyBean lazyBean;
+
+    @Test
+    public void testStatistics() {
+        Assertions.assertTrue(BeanStatistics.isEnabled());
+        lazyBean.ping();
+
+        List<BeanStatistics.Entry> entries = BeanStatistics.getEntries();
+        BeanStatistics.Entry eager = find(entries, EagerBean.class);
+        Assertions.assertEquals(1, eager.getCreationCount());
+        Assertions.assertEquals(1, eager.getStartupCreationCount());
+
+        BeanStatistics.Entry lazy = find(entries, LazyBean.class);
+        Assertions.assertEquals(1, lazy.getCreationCount());
+        Assertions.assertEquals(0, lazy.getStartupCreationCount());
+        Assertions.assertTrue(lazy.getLastAccessed() > 0);
+
+        Assertions.assertTrue(find(entries, UnusedBean.class).isUnused());
+    }
+
+    private BeanStatistics.Entry find(List<BeanStatistics.Entry> entries, Class<?> beanClass) {
+        return entries.stream().filter(e -> e.getBean().getBeanClass().equals(beanClass)).findFirst().get();
+    }
+
+    @ApplicationScoped
+    static class EagerBean {
+
+        void onStart(@Observes StartupEvent event) {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class LazyBean {
+
+        void ping() {
+        }
+
+    }
+
+    @Unremovable
+    @ApplicationScoped
+    static class UnusedBean {
+
+    }
+}
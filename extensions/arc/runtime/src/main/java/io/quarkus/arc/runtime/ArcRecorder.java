@@ -3,19 +3,33 @@ package io.quarkus.arc.runtime;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.BeanStatistics;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+import io.quarkus.runtime.metrics.TimedExecutorService;
 
 /**
  */
@@ -29,6 +43,25 @@ public class ArcRecorder {
 
     private static final Logger LOGGER = Logger.getLogger(ArcRecorder.class.getName());
 
+    /**
+     * The name under which the executor notifying the asynchronous observers is registered in {@link ThreadPoolMetrics}.
+     */
+    public static final String ASYNC_EVENTS_POOL_NAME = "arc-async-events";
+
+    /**
+     * Must be invoked before the container is initialized, so that the beans created during the initialization are
+     * recorded.
+     */
+    public void enableBeanStatistics(ShutdownContext shutdown) {
+        BeanStatistics.enable();
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                BeanStatistics.reset();
+            }
+        });
+    }
+
     public ArcContainer getContainer(ShutdownContext shutdown) throws Exception {
         ArcContainer container = Arc.initialize();
         shutdown.addShutdownTask(new Runnable() {
@@ -40,6 +73,28 @@ public class ArcRecorder {
         return container;
     }
 
+    /**
+     * Creates the bounded executor notifying the asynchronous observers, instead of the common fork join pool which is
+     * shared with the parallel streams.
+     */
+    public void initAsyncEventsExecutor(ShutdownContext shutdown, ArcRuntimeConfig config, boolean recordTaskTimings) {
+        ThreadPoolExecutor underlying = createAsyncEventsExecutor(config.asyncEvents);
+        ThreadPoolMetrics.register(ASYNC_EVENTS_POOL_NAME, new ThreadPoolExecutorStatistics(underlying));
+        ExecutorService executor = recordTaskTimings ? new TimedExecutorService(ASYNC_EVENTS_POOL_NAME, underlying)
+                : underlying;
+        Arc.setExecutor(executor);
+        shutdown.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                if (Arc.container() != null) {
+                    Arc.setExecutor(null);
+                }
+                ThreadPoolMetrics.unregister(ASYNC_EVENTS_POOL_NAME);
+                underlying.shutdown();
+            }
+        });
+    }
+
     public void initSupplierBeans(Map<String, Supplier<Object>> beans) {
         supplierMap = beans;
     }
@@ -87,6 +142,11 @@ public class ArcRecorder {
             public ManagedContext requestContext() {
                 return container.requestContext();
             }
+
+            @Override
+            public List<BeanStatistics.Entry> getBeanStatistics() {
+                return BeanStatistics.isEnabled() ? BeanStatistics.getEntries() : Collections.emptyList();
+            }
         };
         for (BeanContainerListener listener : listeners) {
             listener.created(beanContainer);
@@ -97,6 +157,8 @@ public class ArcRecorder {
     public void handleLifecycleEvents(ShutdownContext context, BeanContainer beanContainer) {
         LifecycleEventRunner instance = beanContainer.instance(LifecycleEventRunner.class);
         instance.fireStartupEvent();
+        // The beans created from now on are not created eagerly by the startup observers
+        BeanStatistics.startupCompleted();
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
@@ -138,4 +200,85 @@ public class ArcRecorder {
         }
     }
 
+    private static ThreadPoolExecutor createAsyncEventsExecutor(ArcRuntimeConfig.AsyncEventsConfig config) {
+        int maxThreads = config.maxThreads.orElse(Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "arc-async-event-thread-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                config.keepAliveTime.toMillis(), TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, config.queueSize)), threadFactory, new CountingAbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The events are rejected with a {@link RejectedExecutionException} when the queue is full or the executor is shut
+     * down, so that the stage returned by {@code fireAsync()} completes exceptionally.
+     * <p>
+     * The observers are never notified by the thread firing the event instead: it may be an event loop, which must not
+     * be blocked by the observers.
+     */
+    private static final class CountingAbortPolicy implements RejectedExecutionHandler {
+
+        private final LongAdder rejected = new LongAdder();
+
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejected.increment();
+            throw new RejectedExecutionException(executor.isShutdown()
+                    ? "The asynchronous events executor is shut down"
+                    : "The asynchronous events queue is full, increase quarkus.arc.async-events.queue-size or max-threads");
+        }
+    }
+
+    private static final class ThreadPoolExecutorStatistics implements ThreadPoolStatistics {
+
+        private final ThreadPoolExecutor executor;
+
+        ThreadPoolExecutorStatistics(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public int getPoolSize() {
+            return executor.getPoolSize();
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return executor.getMaximumPoolSize();
+        }
+
+        @Override
+        public int getActiveCount() {
+            return executor.getActiveCount();
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return executor.getLargestPoolSize();
+        }
+
+        @Override
+        public int getQueueSize() {
+            return executor.getQueue().size();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return executor.getCompletedTaskCount();
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return ((CountingAbortPolicy) executor.getRejectedExecutionHandler()).rejected.sum();
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package io.quarkus.arc.runtime;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "arc", phase = ConfigPhase.RUN_TIME)
+public class ArcRuntimeConfig {
+
+    /**
+     * The executor notifying the asynchronous observers of the events fired without an explicit executor.
+     */
+    @ConfigItem
+    public AsyncEventsConfig asyncEvents;
+
+    @ConfigGroup
+    public static class AsyncEventsConfig {
+
+        /**
+         * The maximum number of threads notifying the asynchronous observers. Defaults to the number of processors.
+         */
+        @ConfigItem
+        public OptionalInt maxThreads;
+
+        /**
+         * The maximum number of events waiting for a thread. Once the queue is full, the events are rejected: the
+         * stage returned by {@code fireAsync()} completes exceptionally with a
+         * {@link java.util.concurrent.RejectedExecutionException} and the observers are not notified.
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int queueSize;
+
+        /**
+         * The time after which an idle thread is stopped.
+         */
+        @ConfigItem(defaultValue = "30s")
+        public Duration keepAliveTime;
+    }
+}
@@ -1,7 +1,10 @@
 package io.quarkus.arc.runtime;
 
 import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.List;
 
+import io.quarkus.arc.BeanStatistics;
 import io.quarkus.arc.ManagedContext;
 
 /**
@@ -47,6 +50,16 @@ public interface BeanContainer {
      */
     ManagedContext requestContext();
 
+    /**
+     * The statistics are only recorded if {@code quarkus.arc.bean-statistics} is enabled. They can be used to find the
+     * beans that are never used, or that are created eagerly and slow down the startup.
+     *
+     * @return the instantiation statistics of all the beans, or an empty list if the statistics are not recorded
+     */
+    default List<BeanStatistics.Entry> getBeanStatistics() {
+        return Collections.emptyList();
+    }
+
     interface Factory<T> {
 
         Factory<Object> EMPTY = new Factory<Object>() {
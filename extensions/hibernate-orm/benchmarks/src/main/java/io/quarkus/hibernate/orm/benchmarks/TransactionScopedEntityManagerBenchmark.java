@@ -0,0 +1,117 @@
+package io.quarkus.hibernate.orm.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Status;
+import javax.transaction.TransactionManager;
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionSynchronizationRegistryImple;
+
+import io.quarkus.hibernate.orm.runtime.entitymanager.TransactionScopedEntityManager;
+
+/**
+ * Measures the lookup of the entity manager of the current transaction on each call of a
+ * {@link TransactionScopedEntityManager}, compared to the lookup through the transaction synchronization registry it
+ * replaced.
+ * <p>
+ * Both run in a real Narayana transaction, the entity manager itself is a no-op stub so that only the lookup is
+ * measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionScopedEntityManagerBenchmark {
+
+    private static final Object REGISTRY_KEY = new Object();
+    private static final Object ENTITY = new Object();
+
+    @State(Scope.Thread)
+    public static class InTransaction {
+
+        TransactionManager transactionManager;
+        TransactionSynchronizationRegistry tsr;
+        TransactionScopedEntityManager transactionScoped;
+
+        @Setup(Level.Trial)
+        public void begin() throws Exception {
+            transactionManager = com.arjuna.ats.jta.TransactionManager.transactionManager();
+            tsr = new TransactionSynchronizationRegistryImple();
+            EntityManagerFactory emf = stub(EntityManagerFactory.class, stub(EntityManager.class, null));
+            // the request scope is never used within a transaction
+            transactionScoped = new TransactionScopedEntityManager(transactionManager, tsr, emf, "<default>", null);
+
+            // the transaction must outlive the warmup and measurement iterations
+            transactionManager.setTransactionTimeout((int) TimeUnit.HOURS.toSeconds(1));
+            transactionManager.begin();
+            tsr.putResource(REGISTRY_KEY, emf.createEntityManager());
+        }
+
+        @TearDown(Level.Trial)
+        public void rollback() throws Exception {
+            transactionManager.rollback();
+        }
+
+    }
+
+    @Benchmark
+    public Object transactionScoped(InTransaction state) {
+        return state.transactionScoped.find(Object.class, 1L);
+    }
+
+    @Benchmark
+    public Object registryLookup(InTransaction state) throws Exception {
+        // the lookup done by TransactionScopedEntityManager on each call before the thread local slot
+        switch (state.transactionManager.getStatus()) {
+            case Status.STATUS_ACTIVE:
+            case Status.STATUS_COMMITTING:
+            case Status.STATUS_MARKED_ROLLBACK:
+            case Status.STATUS_PREPARED:
+            case Status.STATUS_PREPARING:
+                EntityManager em = (EntityManager) state.tsr.getResource(REGISTRY_KEY);
+                return em.find(Object.class, 1L);
+            default:
+                throw new IllegalStateException("The transaction is not active");
+        }
+    }
+
+    /**
+     * A stub of the given interface: {@code find} returns an entity, the other methods returning an object return the
+     * given result and the rest do nothing.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Object result) {
+        return (T) Proxy.newProxyInstance(TransactionScopedEntityManagerBenchmark.class.getClassLoader(),
+                new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    if (method.getReturnType() == void.class) {
+                        return null;
+                    } else if (method.getReturnType() == boolean.class) {
+                        return Boolean.FALSE;
+                    } else if (method.getReturnType() == int.class) {
+                        return 0;
+                    } else if (method.getName().equals("find")) {
+                        return ENTITY;
+                    }
+                    return result;
+                });
+    }
+}
@@ -67,6 +67,15 @@ public class HibernateOrmConfig {
     @ConfigItem
     public HibernateOrmConfigLog log;
 
+    /**
+     * Whether the second-level cache and the query cache are enabled.
+     * <p>
+     * Entities, collections and queries still need to be explicitly marked as cacheable to be cached. The size and
+     * the expiration of each region are set with the {@code cache} settings, which are ignored when this is disabled.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean secondLevelCachingEnabled;
+
     /**
      * Caching configuration
      */
@@ -88,6 +97,7 @@ public class HibernateOrmConfig {
                 database.isAnyPropertySet() ||
                 jdbc.isAnyPropertySet() ||
                 log.isAnyPropertySet() ||
+                !secondLevelCachingEnabled ||
                 !cache.isEmpty();
     }
 
@@ -175,8 +185,15 @@ public class HibernateOrmConfig {
         @ConfigItem
         public Optional<Integer> statementBatchSize;
 
+        /**
+         * Whether inserts and updates are ordered by entity type so that they can be grouped in JDBC batches.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean orderStatements;
+
         public boolean isAnyPropertySet() {
-            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent();
+            return timezone.isPresent() || statementFetchSize.isPresent() || statementBatchSize.isPresent()
+                    || orderStatements;
         }
     }
 
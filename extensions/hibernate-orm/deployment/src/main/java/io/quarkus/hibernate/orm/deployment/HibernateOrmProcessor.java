@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import javax.enterprise.inject.Produces;
 import javax.persistence.PersistenceContext;
 import javax.persistence.PersistenceUnit;
+import javax.persistence.SharedCacheMode;
 import javax.persistence.spi.PersistenceUnitTransactionType;
 
 import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
@@ -402,6 +403,12 @@ public final class HibernateOrmProcessor {
                         fetchSize -> desc.getProperties().setProperty(AvailableSettings.STATEMENT_BATCH_SIZE,
                                 fetchSize.toString()));
 
+                // Ordering the statements by entity is needed to make the most of JDBC batching
+                if (hibernateConfig.jdbc.orderStatements) {
+                    desc.getProperties().setProperty(AvailableSettings.ORDER_INSERTS, "true");
+                    desc.getProperties().setProperty(AvailableSettings.ORDER_UPDATES, "true");
+                }
+
                 // Logging
                 if (hibernateConfig.log.sql) {
                     desc.getProperties().setProperty(AvailableSettings.SHOW_SQL, "true");
@@ -456,10 +463,17 @@ public final class HibernateOrmProcessor {
                 }
 
                 // Caching
-                Map<String, String> cacheConfigEntries = HibernateConfigUtil
-                        .getCacheConfigEntries(hibernateConfig);
-                for (Entry<String, String> entry : cacheConfigEntries.entrySet()) {
-                    desc.getProperties().setProperty(entry.getKey(), entry.getValue());
+                if (hibernateConfig.secondLevelCachingEnabled) {
+                    Map<String, String> cacheConfigEntries = HibernateConfigUtil
+                            .getCacheConfigEntries(hibernateConfig);
+                    for (Entry<String, String> entry : cacheConfigEntries.entrySet()) {
+                        desc.getProperties().setProperty(entry.getKey(), entry.getValue());
+                    }
+                } else {
+                    // caching is enabled by default at runtime so we need to explicitly disable it
+                    desc.getProperties().setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "false");
+                    desc.getProperties().setProperty(AvailableSettings.USE_QUERY_CACHE, "false");
+                    desc.getProperties().setProperty(AvailableSettings.JPA_SHARED_CACHE_MODE, SharedCacheMode.NONE.name());
                 }
 
                 descriptors.add(desc);
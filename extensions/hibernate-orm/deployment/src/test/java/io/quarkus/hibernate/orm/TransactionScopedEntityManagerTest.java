@@ -0,0 +1,100 @@
+package io.quarkus.hibernate.orm;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.enhancer.Address;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TransactionScopedEntityManagerTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(Address.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    TransactionManager transactionManager;
+
+    @Test
+    public void testSameTransactionReusesEntityManager() throws Exception {
+        transactionManager.begin();
+        try {
+            Object delegate = entityManager.getDelegate();
+            entityManager.persist(new Address("reused"));
+            assertSame(delegate, entityManager.getDelegate());
+        } finally {
+            transactionManager.commit();
+        }
+    }
+
+    @Test
+    public void testNewTransactionAfterCompletion() throws Exception {
+        transactionManager.begin();
+        EntityManager first = (EntityManager) entityManager.getDelegate();
+        transactionManager.commit();
+        assertFalse(first.isOpen());
+
+        transactionManager.begin();
+        try {
+            EntityManager second = (EntityManager) entityManager.getDelegate();
+            assertNotSame(first, second);
+            assertTrue(second.isOpen());
+        } finally {
+            transactionManager.commit();
+        }
+    }
+
+    @Test
+    public void testCompletionOnAnotherThread() throws Exception {
+        transactionManager.begin();
+        EntityManager first = (EntityManager) entityManager.getDelegate();
+        Transaction transaction = transactionManager.suspend();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                transactionManager.resume(transaction);
+                transactionManager.commit();
+                return null;
+            }).get();
+        } finally {
+            executor.shutdown();
+        }
+        assertFalse(first.isOpen());
+
+        // the slot of this thread is stale, neither a new transaction nor the request scope may use it
+        transactionManager.begin();
+        try {
+            assertNotSame(first, entityManager.getDelegate());
+        } finally {
+            transactionManager.commit();
+        }
+        Arc.container().requestContext().activate();
+        try {
+            assertNotSame(first, entityManager.getDelegate());
+        } finally {
+            Arc.container().requestContext().terminate();
+        }
+    }
+}
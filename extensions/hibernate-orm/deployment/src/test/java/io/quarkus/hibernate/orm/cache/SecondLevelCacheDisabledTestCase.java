@@ -0,0 +1,33 @@
+package io.quarkus.hibernate.orm.cache;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.MyEntity;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SecondLevelCacheDisabledTestCase {
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClass(MyEntity.class)
+                    .addAsResource("application-second-level-cache-disabled-test.properties", "application.properties"));
+
+    @Inject
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void testSecondLevelCacheDisabled() {
+        SessionFactoryOptions options = entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions();
+        Assertions.assertFalse(options.isSecondLevelCacheEnabled());
+        Assertions.assertFalse(options.isQueryCacheEnabled());
+    }
+}
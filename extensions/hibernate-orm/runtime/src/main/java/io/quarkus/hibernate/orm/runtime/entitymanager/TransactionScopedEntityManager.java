@@ -21,6 +21,7 @@ import javax.persistence.criteria.CriteriaUpdate;
 import javax.persistence.metamodel.Metamodel;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
 import javax.transaction.TransactionManager;
 import javax.transaction.TransactionSynchronizationRegistry;
 
@@ -35,6 +36,7 @@ public class TransactionScopedEntityManager implements EntityManager {
     private final String unitName;
     private static final Object transactionKey = new Object();
     private final Instance<RequestScopedEntityManagerHolder> requestScopedEms;
+    private final ThreadLocal<TransactionBoundEntityManager> transactionBoundEntityManager = new ThreadLocal<>();
 
     public TransactionScopedEntityManager(TransactionManager transactionManager,
             TransactionSynchronizationRegistry tsr,
@@ -48,39 +50,77 @@ public class TransactionScopedEntityManager implements EntityManager {
     }
 
     EntityManagerResult getEntityManager() {
-        if (isInTransaction()) {
-            EntityManager em = (EntityManager) tsr.getResource(transactionKey);
-            if (em != null) {
-                return new EntityManagerResult(em, false, true);
-            }
-            EntityManager newEm = emf.createEntityManager();
-            newEm.joinTransaction();
-            tsr.putResource(transactionKey, newEm);
-            tsr.registerInterposedSynchronization(new Synchronization() {
-                @Override
-                public void beforeCompletion() {
-                    newEm.flush();
-                    newEm.close();
+        Transaction transaction = getCurrentTransaction();
+        if (transaction != null) {
+            // fast path: the entity manager is still bound to the current transaction of this thread, which is not
+            // completed yet, so there is no need to check its status or to go through the registry
+            TransactionBoundEntityManager bound = transactionBoundEntityManager.get();
+            if (bound != null && bound.transaction == transaction) {
+                EntityManager em = bound.em;
+                if (em != null) {
+                    return new EntityManagerResult(em, false, true);
                 }
+            }
+            if (isActive(transaction)) {
+                bound = bindTransactionEntityManager(transaction);
+                transactionBoundEntityManager.set(bound);
+                return new EntityManagerResult(bound.em, false, true);
+            }
+        }
+        transactionBoundEntityManager.remove();
+        //this will throw an exception if the request scope is not active
+        //this is expected as either the request scope or an active transaction
+        //is required to properly managed the EM lifecycle
+        RequestScopedEntityManagerHolder requestScopedEms = this.requestScopedEms.get();
+        return new EntityManagerResult(requestScopedEms.getOrCreateEntityManager(unitName, emf), false, false);
+    }
+
+    /**
+     * Looks up the entity manager of the given transaction in the registry, creating and registering it
+     * if this is the first access in this transaction.
+     * <p>
+     * This only happens once per transaction and thread, subsequent calls are served from the thread local slot.
+     */
+    private TransactionBoundEntityManager bindTransactionEntityManager(Transaction transaction) {
+        TransactionBoundEntityManager bound = (TransactionBoundEntityManager) tsr.getResource(transactionKey);
+        if (bound != null) {
+            return bound;
+        }
+        EntityManager newEm = emf.createEntityManager();
+        newEm.joinTransaction();
+        TransactionBoundEntityManager newBound = new TransactionBoundEntityManager(transaction, newEm);
+        tsr.putResource(transactionKey, newBound);
+        tsr.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+                newEm.flush();
+                newEm.close();
+            }
 
-                @Override
-                public void afterCompletion(int i) {
-                    newEm.close();
-                }
-            });
-            return new EntityManagerResult(newEm, false, true);
-        } else {
-            //this will throw an exception if the request scope is not active
-            //this is expected as either the request scope or an active transaction
-            //is required to properly managed the EM lifecycle
-            RequestScopedEntityManagerHolder requestScopedEms = this.requestScopedEms.get();
-            return new EntityManagerResult(requestScopedEms.getOrCreateEntityManager(unitName, emf), false, false);
+            @Override
+            public void afterCompletion(int i) {
+                // the completion may happen on another thread, so we can't clear the thread local slot here:
+                // releasing the transaction makes the slot stale, it is replaced or removed by the next call.
+                // It is released before closing the entity manager so that no thread picks it up from its slot
+                // while it is being closed
+                newBound.release();
+                newEm.close();
+            }
+        });
+        return newBound;
+    }
+
+    private Transaction getCurrentTransaction() {
+        try {
+            return transactionManager.getTransaction();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
         }
     }
 
-    private boolean isInTransaction() {
+    private static boolean isActive(Transaction transaction) {
         try {
-            switch (transactionManager.getStatus()) {
+            switch (transaction.getStatus()) {
                 case Status.STATUS_ACTIVE:
                 case Status.STATUS_COMMITTING:
                 case Status.STATUS_MARKED_ROLLBACK:
@@ -477,6 +517,31 @@ public class TransactionScopedEntityManager implements EntityManager {
         }
     }
 
+    /**
+     * The entity manager bound to a given transaction.
+     * <p>
+     * It is stored both in the {@link TransactionSynchronizationRegistry} and in a thread local slot so that repeated
+     * calls within the same transaction do not need to go through the registry.
+     */
+    static class TransactionBoundEntityManager {
+
+        volatile Transaction transaction;
+        volatile EntityManager em;
+
+        TransactionBoundEntityManager(Transaction transaction, EntityManager em) {
+            this.transaction = transaction;
+            this.em = em;
+        }
+
+        /**
+         * Called on completion, so that the thread local slots do not keep the completed transaction reachable.
+         */
+        void release() {
+            em = null;
+            transaction = null;
+        }
+    }
+
     static class EntityManagerResult implements AutoCloseable {
 
         final EntityManager em;
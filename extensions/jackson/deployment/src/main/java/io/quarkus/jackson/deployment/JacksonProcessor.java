@@ -1,11 +1,42 @@
 package io.quarkus.jackson.deployment;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.deployment.recording.RecorderContext;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.jackson.runtime.JacksonBuildTimeConfig;
+import io.quarkus.jackson.runtime.JacksonRecorder;
+import io.quarkus.jackson.runtime.ObjectMapperProducer;
+import io.quarkus.jackson.spi.JacksonSerializedClassBuildItem;
 
 public class JacksonProcessor {
 
+    private static final DotName OBJECT_MAPPER = DotName.createSimple(ObjectMapper.class.getName());
+    private static final DotName OBJECT_MAPPER_CUSTOMIZER = DotName.createSimple(ObjectMapperCustomizer.class.getName());
+
     @BuildStep
     void register(BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
         reflectiveClass.produce(new ReflectiveClassBuildItem(true, false,
@@ -13,4 +44,71 @@ public class JacksonProcessor {
                 "com.fasterxml.jackson.databind.ser.std.SqlDateSerializer"));
     }
 
+    @BuildStep
+    void beans(CombinedIndexBuildItem combinedIndex, BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<UnremovableBeanBuildItem> unremovable) {
+        // the ObjectMapper and its customizers are looked up programmatically by the other extensions
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(ObjectMapperProducer.class));
+        Set<String> producers = getUserSuppliedJacksonProducerBeans(combinedIndex.getIndex());
+        producers.add(ObjectMapperProducer.class.getName());
+        unremovable.produce(
+                new UnremovableBeanBuildItem(new UnremovableBeanBuildItem.BeanClassNamesExclusion(producers)));
+        unremovable.produce(new UnremovableBeanBuildItem(new Predicate<BeanInfo>() {
+
+            @Override
+            public boolean test(BeanInfo bean) {
+                return bean.isClassBean() && bean.hasType(OBJECT_MAPPER_CUSTOMIZER);
+            }
+        }));
+    }
+
+    // the classes declared by the other extensions through JacksonSerializedClassBuildItem get a serializer generated
+    // at build time
+    @SuppressWarnings("unchecked")
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateSerializers(JacksonRecorder recorder, RecorderContext context, JacksonBuildTimeConfig config,
+            CombinedIndexBuildItem combinedIndex, List<JacksonSerializedClassBuildItem> serializedClasses,
+            BuildProducer<GeneratedClassBuildItem> generatedClass,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        if (!config.generateSerializers || serializedClasses.isEmpty()) {
+            return;
+        }
+        ClassOutput classOutput = new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                generatedClass.produce(new GeneratedClassBuildItem(true, name, data));
+            }
+        };
+        SerializerGenerator generator = new SerializerGenerator(combinedIndex.getIndex());
+
+        Set<String> classNames = new HashSet<>();
+        List<Class<? extends JsonSerializer<?>>> serializers = new ArrayList<>();
+        for (JacksonSerializedClassBuildItem serializedClass : serializedClasses) {
+            if (!classNames.add(serializedClass.getClassName())) {
+                continue;
+            }
+            String serializerName = generator.generate(serializedClass.getClassName(), classOutput);
+            if (serializerName != null) {
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, serializerName));
+                serializers.add((Class<? extends JsonSerializer<?>>) context.classProxy(serializerName));
+            }
+        }
+        recorder.registerGeneratedSerializers(serializers);
+    }
+
+    // we need to find all the user supplied producers and mark them as unremovable since there are no actual injection points
+    // for the ObjectMapper
+    private Set<String> getUserSuppliedJacksonProducerBeans(IndexView index) {
+        Set<String> result = new HashSet<>();
+        for (AnnotationInstance annotation : index.getAnnotations(DotName.createSimple("javax.enterprise.inject.Produces"))) {
+            if (annotation.target().kind() != AnnotationTarget.Kind.METHOD) {
+                continue;
+            }
+            if (OBJECT_MAPPER.equals(annotation.target().asMethod().returnType().name())) {
+                result.add(annotation.target().asMethod().declaringClass().name().toString());
+            }
+        }
+        return result;
+    }
 }
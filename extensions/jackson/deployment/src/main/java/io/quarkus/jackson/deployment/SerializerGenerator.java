@@ -0,0 +1,280 @@
+package io.quarkus.jackson.deployment;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates a Jackson serializer for a bean class, writing the properties the default {@code ObjectMapper} would
+ * detect by invoking the getters and reading the public fields directly.
+ * <p>
+ * The classes whose serialization could be customized are left alone: the classes using Jackson annotations,
+ * the collections and maps, the classes with a superclass or an interface Jackson could introspect differently.
+ */
+class SerializerGenerator {
+
+    private static final Logger log = Logger.getLogger(SerializerGenerator.class);
+
+    static final String SERIALIZER_SUFFIX = "_JacksonSerializer";
+
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+    private static final Set<DotName> NEUTRAL_INTERFACES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.io.Serializable"),
+            DotName.createSimple("java.lang.Cloneable"),
+            DotName.createSimple("java.lang.Comparable")));
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+
+    private static final MethodDescriptor WRITE_START_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStartObject", void.class, Object.class);
+    private static final MethodDescriptor WRITE_END_OBJECT = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeEndObject", void.class);
+    private static final MethodDescriptor WRITE_STRING_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeStringField", void.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_BOOLEAN_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeBooleanField", void.class, String.class, boolean.class);
+    private static final MethodDescriptor WRITE_INT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, int.class);
+    private static final MethodDescriptor WRITE_LONG_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, long.class);
+    private static final MethodDescriptor WRITE_FLOAT_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, float.class);
+    private static final MethodDescriptor WRITE_DOUBLE_FIELD = MethodDescriptor.ofMethod(JsonGenerator.class,
+            "writeNumberField", void.class, String.class, double.class);
+    private static final MethodDescriptor CHARACTER_VALUE_OF = MethodDescriptor.ofMethod(Character.class,
+            "valueOf", Character.class, char.class);
+    private static final MethodDescriptor DEFAULT_SERIALIZE_FIELD = MethodDescriptor.ofMethod(SerializerProvider.class,
+            "defaultSerializeField", void.class, String.class, Object.class, JsonGenerator.class);
+
+    private final IndexView index;
+
+    SerializerGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @return the name of the generated serializer or {@code null} if the class is not supported
+     */
+    String generate(String className, ClassOutput classOutput) {
+        ClassInfo classInfo = index.getClassByName(DotName.createSimple(className));
+        if (classInfo == null) {
+            return null;
+        }
+        Map<String, Property> properties = new LinkedHashMap<>();
+        if (!collectProperties(classInfo, properties, true) || properties.isEmpty()) {
+            log.debugf("No serializer generated for %s, it is serialized as usual", className);
+            return null;
+        }
+
+        String serializerName = className + SERIALIZER_SUFFIX;
+        try (ClassCreator serializer = ClassCreator.builder().classOutput(classOutput).className(serializerName)
+                .superClass(StdSerializer.class).build()) {
+            try (MethodCreator constructor = serializer.getMethodCreator("<init>", void.class)) {
+                constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(StdSerializer.class, Class.class),
+                        constructor.getThis(), constructor.loadClass(className));
+                constructor.returnValue(null);
+            }
+
+            try (MethodCreator serialize = serializer.getMethodCreator("serialize", void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class)) {
+                serialize.addException(IOException.class);
+                ResultHandle bean = serialize.checkCast(serialize.getMethodParam(0), className);
+                ResultHandle generator = serialize.getMethodParam(1);
+                ResultHandle provider = serialize.getMethodParam(2);
+
+                serialize.invokeVirtualMethod(WRITE_START_OBJECT, generator, bean);
+                for (Property property : properties.values()) {
+                    ResultHandle value = property.getter != null
+                            ? serialize.invokeVirtualMethod(MethodDescriptor.of(property.getter), bean)
+                            : serialize.readInstanceField(FieldDescriptor.of(property.field), bean);
+                    writeField(serialize, generator, provider, property.name, property.type(), value);
+                }
+                serialize.invokeVirtualMethod(WRITE_END_OBJECT, generator);
+                serialize.returnValue(null);
+            }
+        }
+        return serializerName;
+    }
+
+    private static void writeField(MethodCreator serialize, ResultHandle generator, ResultHandle provider,
+            String name, Type type, ResultHandle value) {
+        ResultHandle fieldName = serialize.load(name);
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    serialize.invokeVirtualMethod(WRITE_BOOLEAN_FIELD, generator, fieldName, value);
+                    return;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    serialize.invokeVirtualMethod(WRITE_INT_FIELD, generator, fieldName, value);
+                    return;
+                case LONG:
+                    serialize.invokeVirtualMethod(WRITE_LONG_FIELD, generator, fieldName, value);
+                    return;
+                case FLOAT:
+                    serialize.invokeVirtualMethod(WRITE_FLOAT_FIELD, generator, fieldName, value);
+                    return;
+                case DOUBLE:
+                    serialize.invokeVirtualMethod(WRITE_DOUBLE_FIELD, generator, fieldName, value);
+                    return;
+                case CHAR:
+                    value = serialize.invokeStaticMethod(CHARACTER_VALUE_OF, value);
+                    break;
+            }
+        } else if (type.kind() == Type.Kind.CLASS && type.name().equals(STRING)) {
+            serialize.invokeVirtualMethod(WRITE_STRING_FIELD, generator, fieldName, value);
+            return;
+        }
+        serialize.invokeVirtualMethod(DEFAULT_SERIALIZE_FIELD, provider, fieldName, value, generator);
+    }
+
+    /**
+     * Collects the properties of the class and its superclasses, the superclass properties first as Jackson does.
+     *
+     * @return {@code false} if Jackson could serialize the class differently from the default bean serialization
+     */
+    private boolean collectProperties(ClassInfo classInfo, Map<String, Property> properties, boolean serializedClass) {
+        // the generated serializer accesses the members directly, the whole hierarchy must be public
+        if (!Modifier.isPublic(classInfo.flags())) {
+            return false;
+        }
+        if (serializedClass && (Modifier.isAbstract(classInfo.flags()) || Modifier.isInterface(classInfo.flags())
+                || !classInfo.typeParameters().isEmpty())) {
+            return false;
+        }
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE)) {
+                return false;
+            }
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!NEUTRAL_INTERFACES.contains(interfaceName)) {
+                return false;
+            }
+        }
+        if (!OBJECT.equals(classInfo.superName())) {
+            ClassInfo superClass = index.getClassByName(classInfo.superName());
+            if (superClass == null || !collectProperties(superClass, properties, false)) {
+                return false;
+            }
+        }
+
+        // the fields first: Jackson orders the properties by the declaration of their fields
+        List<FieldInfo> publicFields = new ArrayList<>();
+        Map<String, Property> declared = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.fields()) {
+            if (Modifier.isStatic(field.flags()) || isSynthetic(field.flags())) {
+                continue;
+            }
+            declared.put(field.name(), null);
+            if (Modifier.isPublic(field.flags()) && !Modifier.isTransient(field.flags())) {
+                publicFields.add(field);
+            }
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            String name = getterPropertyName(method);
+            if (name != null) {
+                declared.put(name, new Property(name, method, null));
+            }
+        }
+        for (FieldInfo field : publicFields) {
+            if (declared.get(field.name()) == null) {
+                declared.put(field.name(), new Property(field.name(), null, field));
+            }
+        }
+        for (Property property : declared.values()) {
+            if (property != null) {
+                // an overriding getter replaces the superclass one
+                properties.remove(property.name);
+                properties.put(property.name, property);
+            }
+        }
+        return true;
+    }
+
+    private static String getterPropertyName(MethodInfo method) {
+        short flags = method.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isStatic(flags) || isSynthetic(flags) || !method.parameters().isEmpty()
+                || method.returnType().kind() == Type.Kind.VOID) {
+            return null;
+        }
+        String name = method.name();
+        if (name.startsWith("get")) {
+            return manglePropertyName(name, 3);
+        }
+        if (name.startsWith("is") && method.returnType().kind() == Type.Kind.PRIMITIVE
+                && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            return manglePropertyName(name, 2);
+        }
+        return null;
+    }
+
+    /**
+     * The default Jackson property naming: the leading upper case characters are lower cased, {@code getURL()} is the
+     * {@code url} property.
+     */
+    private static String manglePropertyName(String name, int offset) {
+        if (name.length() == offset) {
+            return null;
+        }
+        StringBuilder property = new StringBuilder(name.length() - offset);
+        for (int i = offset; i < name.length(); i++) {
+            char c = name.charAt(i);
+            char lower = Character.toLowerCase(c);
+            if (c == lower) {
+                property.append(name, i, name.length());
+                break;
+            }
+            property.append(lower);
+        }
+        return property.toString();
+    }
+
+    private static boolean isSynthetic(short flags) {
+        return (flags & 0x1000) != 0;
+    }
+
+    private static final class Property {
+
+        final String name;
+        final MethodInfo getter;
+        final FieldInfo field;
+
+        Property(String name, MethodInfo getter, FieldInfo field) {
+            this.name = name;
+            this.getter = getter;
+            this.field = field;
+        }
+
+        Type type() {
+            return getter != null ? getter.returnType() : field.type();
+        }
+    }
+}
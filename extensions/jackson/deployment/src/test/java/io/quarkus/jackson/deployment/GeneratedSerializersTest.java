@@ -0,0 +1,100 @@
+package io.quarkus.jackson.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.jackson.spi.JacksonSerializedClassBuildItem;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Item.class, ItemMixIn.class))
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder builder) {
+                    builder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            context.produce(new JacksonSerializedClassBuildItem(Item.class.getName()));
+                        }
+                    }).produces(JacksonSerializedClassBuildItem.class).build();
+                }
+            });
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializer() throws Exception {
+        assertTrue(isGenerated(objectMapper));
+        assertEquals("{\"itemName\":\"foo\"}", objectMapper.writeValueAsString(new Item("foo")));
+    }
+
+    @Test
+    public void testDefaultTypingUsesBeanSerializer() throws Exception {
+        ObjectMapper typing = objectMapper.copy().enableDefaultTyping(ObjectMapper.DefaultTyping.NON_FINAL);
+        assertFalse(isGenerated(typing));
+        assertEquals("[\"" + Item.class.getName() + "\",{\"itemName\":\"foo\"}]",
+                typing.writeValueAsString(new Item("foo")));
+    }
+
+    @Test
+    public void testNamingStrategyUsesBeanSerializer() throws Exception {
+        ObjectMapper snakeCase = objectMapper.copy().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        assertFalse(isGenerated(snakeCase));
+        assertEquals("{\"item_name\":\"foo\"}", snakeCase.writeValueAsString(new Item("foo")));
+    }
+
+    @Test
+    public void testMixInUsesBeanSerializer() throws Exception {
+        ObjectMapper mixIn = objectMapper.copy().addMixIn(Item.class, ItemMixIn.class);
+        assertFalse(isGenerated(mixIn));
+        assertEquals("{\"name\":\"foo\"}", mixIn.writeValueAsString(new Item("foo")));
+    }
+
+    private static boolean isGenerated(ObjectMapper objectMapper) throws JsonMappingException {
+        JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(Item.class);
+        return serializer.getClass().getName().endsWith(SerializerGenerator.SERIALIZER_SUFFIX);
+    }
+
+    public static class Item {
+
+        private final String itemName;
+
+        public Item(String itemName) {
+            this.itemName = itemName;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+    }
+
+    public abstract static class ItemMixIn {
+
+        @JsonProperty("name")
+        public abstract String getItemName();
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.jackson.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ObjectMapperCustomizerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SnakeCaseCustomizer.class, KebabCaseCustomizer.class));
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testCustomizersAppliedByPriority() {
+        assertTrue(objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT));
+        assertEquals(PropertyNamingStrategy.KEBAB_CASE, objectMapper.getPropertyNamingStrategy());
+    }
+
+    @Singleton
+    public static class SnakeCaseCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.enable(SerializationFeature.INDENT_OUTPUT)
+                    .setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        }
+    }
+
+    @Singleton
+    public static class KebabCaseCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.setPropertyNamingStrategy(PropertyNamingStrategy.KEBAB_CASE);
+        }
+
+        @Override
+        public int priority() {
+            return DEFAULT_PRIORITY + 1;
+        }
+    }
+}
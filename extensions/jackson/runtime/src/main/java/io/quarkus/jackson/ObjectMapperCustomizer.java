@@ -0,0 +1,29 @@
+package io.quarkus.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A CDI bean customizing the default {@link ObjectMapper}.
+ * <p>
+ * The default {@link ObjectMapper} is shared by the extensions, the customizations apply to the REST endpoints as
+ * well as to the other Jackson based integrations.
+ */
+public interface ObjectMapperCustomizer extends Comparable<ObjectMapperCustomizer> {
+
+    int DEFAULT_PRIORITY = 0;
+
+    void customize(ObjectMapper objectMapper);
+
+    /**
+     * The customizers are applied by ascending priority: a customizer with a higher priority overrides the
+     * customizations of the customizers with a lower priority.
+     */
+    default int priority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    default int compareTo(ObjectMapperCustomizer other) {
+        return Integer.compare(priority(), other.priority());
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.jackson.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * A Jackson module registering the serializers generated at build time.
+ * <p>
+ * A generated serializer only handles the exact class it was generated for: a subclass may declare additional
+ * properties, it is serialized as usual. It only writes what the default configuration would, so the bean serializer
+ * is used instead when the {@code ObjectMapper} was configured with a default typing, a property naming strategy or a
+ * mix-in for the class or one of its superclasses.
+ * <p>
+ * Only serializers are generated, the deserialization goes through the usual Jackson bean deserializers.
+ */
+public class GeneratedSerializersModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    private static volatile Map<Class<?>, JsonSerializer<?>> serializers = Collections.emptyMap();
+
+    public GeneratedSerializersModule() {
+        super("quarkus-generated-serializers");
+    }
+
+    static void setSerializers(Map<Class<?>, JsonSerializer<?>> serializers) {
+        GeneratedSerializersModule.serializers = serializers;
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        Map<Class<?>, JsonSerializer<?>> serializers = GeneratedSerializersModule.serializers;
+        if (!serializers.isEmpty()) {
+            context.addSerializers(new ExactClassSerializers(serializers));
+        }
+    }
+
+    private static final class ExactClassSerializers extends Serializers.Base {
+
+        private final Map<Class<?>, JsonSerializer<?>> serializers;
+
+        ExactClassSerializers(Map<Class<?>, JsonSerializer<?>> serializers) {
+            this.serializers = serializers;
+        }
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            JsonSerializer<?> serializer = serializers.get(type.getRawClass());
+            if (serializer == null || isCustomized(config, type)) {
+                return null;
+            }
+            return serializer;
+        }
+
+        /**
+         * The generated serializers do not write type ids, nor apply the naming strategy or the mix-ins.
+         */
+        private static boolean isCustomized(SerializationConfig config, JavaType type) {
+            if (config.getDefaultTyper(type) != null || config.getPropertyNamingStrategy() != null) {
+                return true;
+            }
+            if (config.mixInCount() > 0) {
+                for (Class<?> current = type.getRawClass(); current != Object.class; current = current.getSuperclass()) {
+                    if (config.findMixInClassFor(current) != null) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+}
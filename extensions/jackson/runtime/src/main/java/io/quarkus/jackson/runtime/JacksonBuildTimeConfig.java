@@ -0,0 +1,21 @@
+package io.quarkus.jackson.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * The Jackson build time configuration.
+ */
+@ConfigRoot(name = "jackson")
+public class JacksonBuildTimeConfig {
+
+    /**
+     * If serializers should be generated at build time for the classes serialized by the extensions, like the
+     * classes returned by the JAX-RS resource methods. The generated serializers invoke the getters directly
+     * instead of through reflection.
+     * <p>
+     * Only the public classes without any Jackson annotation are handled, the other classes are serialized as usual.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean generateSerializers;
+}
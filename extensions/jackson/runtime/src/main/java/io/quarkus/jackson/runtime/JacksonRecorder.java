@@ -0,0 +1,26 @@
+package io.quarkus.jackson.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class JacksonRecorder {
+
+    public void registerGeneratedSerializers(List<Class<? extends JsonSerializer<?>>> serializerClasses) {
+        Map<Class<?>, JsonSerializer<?>> serializers = new HashMap<>();
+        for (Class<? extends JsonSerializer<?>> serializerClass : serializerClasses) {
+            try {
+                JsonSerializer<?> serializer = serializerClass.newInstance();
+                serializers.put(serializer.handledType(), serializer);
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException("Unable to instantiate the generated serializer " + serializerClass, e);
+            }
+        }
+        GeneratedSerializersModule.setSerializers(serializers);
+    }
+}
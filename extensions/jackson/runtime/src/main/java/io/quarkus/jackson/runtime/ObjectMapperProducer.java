@@ -0,0 +1,39 @@
+package io.quarkus.jackson.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.jackson.ObjectMapperCustomizer;
+
+@ApplicationScoped
+public class ObjectMapperProducer {
+
+    @DefaultBean
+    @Singleton
+    @Produces
+    public ObjectMapper objectMapper(Instance<ObjectMapperCustomizer> customizers) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<ObjectMapperCustomizer> sortedCustomizers = new ArrayList<>();
+        for (ObjectMapperCustomizer customizer : customizers) {
+            sortedCustomizers.add(customizer);
+        }
+        if (sortedCustomizers.isEmpty()) {
+            // the generated serializers write what the default configuration would, a customizer may change that
+            objectMapper.registerModule(new GeneratedSerializersModule());
+        }
+        Collections.sort(sortedCustomizers);
+        for (ObjectMapperCustomizer customizer : sortedCustomizers) {
+            customizer.customize(objectMapper);
+        }
+        return objectMapper;
+    }
+}
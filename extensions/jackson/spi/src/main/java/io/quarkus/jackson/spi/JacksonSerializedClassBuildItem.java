@@ -0,0 +1,19 @@
+package io.quarkus.jackson.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A class serialized by Jackson, for which a serializer is generated at build time when possible.
+ */
+public final class JacksonSerializedClassBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public JacksonSerializedClassBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
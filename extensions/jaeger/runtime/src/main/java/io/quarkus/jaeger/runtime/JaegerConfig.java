@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -77,6 +78,14 @@ public class JaegerConfig {
     @ConfigItem
     public Optional<BigDecimal> samplerParam;
 
+    /**
+     * The sampling rules overriding the sampler for the operations matching their pattern, like
+     * {@code quarkus.jaeger.sampler-rules.health.operation=GET:.*HealthResource.*}.
+     * The rules are evaluated in the order of their names, the first matching rule applies.
+     */
+    @ConfigItem
+    public Map<String, JaegerSamplerRuleConfig> samplerRules;
+
     /**
      * The host name and port when using the remote controlled sampler
      */
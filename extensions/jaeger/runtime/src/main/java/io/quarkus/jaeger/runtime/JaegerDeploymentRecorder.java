@@ -22,7 +22,7 @@ public class JaegerDeploymentRecorder {
         if (!registered) {
             if (isValidConfig(jaeger)) {
                 initTracerConfig(jaeger);
-                QuarkusJaegerTracer quarkusJaegerTracer = new QuarkusJaegerTracer();
+                QuarkusJaegerTracer quarkusJaegerTracer = new QuarkusJaegerTracer(OperationSampler.rules(jaeger.samplerRules));
                 log.debugf("Registering tracer to GlobalTracer %s", quarkusJaegerTracer);
                 GlobalTracer.register(quarkusJaegerTracer);
             }
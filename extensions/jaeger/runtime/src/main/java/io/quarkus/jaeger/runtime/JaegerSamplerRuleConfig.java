@@ -0,0 +1,33 @@
+package io.quarkus.jaeger.runtime;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * A sampling rule, overriding the sampler of the operations matching its pattern.
+ */
+@ConfigGroup
+public class JaegerSamplerRuleConfig {
+
+    /**
+     * The regular expression matched against the whole operation name, like {@code GET:org.acme.GreetingResource.*}
+     */
+    @ConfigItem
+    public Optional<String> operation;
+
+    /**
+     * The sampler type of the matching operations (const, probabilistic or ratelimiting)
+     */
+    @ConfigItem(defaultValue = "probabilistic")
+    public String type;
+
+    /**
+     * The sampler parameter (number): {@code 0} or {@code 1} for the const sampler, the sampling probability for the
+     * probabilistic sampler and the maximum number of traces per second for the ratelimiting sampler
+     */
+    @ConfigItem
+    public Optional<BigDecimal> param;
+}
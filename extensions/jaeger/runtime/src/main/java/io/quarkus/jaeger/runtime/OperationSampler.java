@@ -0,0 +1,130 @@
+package io.quarkus.jaeger.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import io.jaegertracing.internal.samplers.ConstSampler;
+import io.jaegertracing.internal.samplers.ProbabilisticSampler;
+import io.jaegertracing.internal.samplers.RateLimitingSampler;
+import io.jaegertracing.internal.samplers.SamplingStatus;
+import io.jaegertracing.spi.Sampler;
+
+/**
+ * A sampler applying the sampler of the first rule matching the operation name, and the default sampler to the
+ * operations matching no rule.
+ * <p>
+ * The sampler resolved for an operation name is cached, so the patterns are only matched once per operation.
+ */
+class OperationSampler implements Sampler {
+
+    private static final Logger log = Logger.getLogger(OperationSampler.class);
+
+    /**
+     * The operation names are usually bounded (one per endpoint), but the cache is capped anyway should an
+     * instrumentation use unbounded names.
+     */
+    static final int MAX_CACHED_OPERATIONS = 2000;
+
+    private final List<Rule> rules;
+    private final Sampler defaultSampler;
+    final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    OperationSampler(List<Rule> rules, Sampler defaultSampler) {
+        this.rules = rules;
+        this.defaultSampler = defaultSampler;
+    }
+
+    @Override
+    public SamplingStatus sample(String operation, long id) {
+        Sampler sampler = samplers.get(operation);
+        if (sampler == null) {
+            sampler = resolve(operation);
+            if (samplers.size() < MAX_CACHED_OPERATIONS) {
+                samplers.put(operation, sampler);
+            }
+        }
+        return sampler.sample(operation, id);
+    }
+
+    private Sampler resolve(String operation) {
+        for (Rule rule : rules) {
+            if (rule.operation.matcher(operation).matches()) {
+                return rule.sampler;
+            }
+        }
+        return defaultSampler;
+    }
+
+    @Override
+    public void close() {
+        for (Rule rule : rules) {
+            rule.sampler.close();
+        }
+        defaultSampler.close();
+    }
+
+    @Override
+    public String toString() {
+        return "OperationSampler(rules=" + rules + ", defaultSampler=" + defaultSampler + ")";
+    }
+
+    /**
+     * The sampling rules are applied in the order of their names.
+     */
+    static List<Rule> rules(Map<String, JaegerSamplerRuleConfig> configs) {
+        List<Rule> rules = new ArrayList<>();
+        for (Map.Entry<String, JaegerSamplerRuleConfig> config : new TreeMap<>(configs).entrySet()) {
+            Rule rule = rule(config.getKey(), config.getValue());
+            log.debugf("Registering sampling rule %s for operations %s", config.getKey(), rule.operation);
+            rules.add(rule);
+        }
+        return rules;
+    }
+
+    private static Rule rule(String name, JaegerSamplerRuleConfig config) {
+        String operation = config.operation.orElseThrow(() -> new IllegalArgumentException(
+                "The operation of the sampling rule " + name + " must be set with quarkus.jaeger.sampler-rules."
+                        + name + ".operation"));
+        double param = config.param.orElseThrow(() -> new IllegalArgumentException(
+                "The sampler parameter of the sampling rule " + name + " must be set with quarkus.jaeger.sampler-rules."
+                        + name + ".param"))
+                .doubleValue();
+        return new Rule(Pattern.compile(operation), createSampler(config.type, param));
+    }
+
+    private static Sampler createSampler(String type, double param) {
+        switch (type) {
+            case ConstSampler.TYPE:
+                return new ConstSampler(param != 0);
+            case ProbabilisticSampler.TYPE:
+                return new ProbabilisticSampler(param);
+            case RateLimitingSampler.TYPE:
+                return new RateLimitingSampler(param);
+            default:
+                throw new IllegalArgumentException("Invalid sampler type " + type
+                        + ", the sampling rules support the const, probabilistic and ratelimiting samplers");
+        }
+    }
+
+    static final class Rule {
+
+        final Pattern operation;
+        final Sampler sampler;
+
+        Rule(Pattern operation, Sampler sampler) {
+            this.operation = operation;
+            this.sampler = sampler;
+        }
+
+        @Override
+        public String toString() {
+            return operation + "=" + sampler;
+        }
+    }
+}
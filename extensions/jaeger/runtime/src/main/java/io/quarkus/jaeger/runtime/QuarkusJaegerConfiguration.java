@@ -0,0 +1,49 @@
+package io.quarkus.jaeger.runtime;
+
+import java.util.List;
+
+import io.jaegertracing.Configuration;
+import io.jaegertracing.internal.JaegerTracer;
+import io.jaegertracing.spi.Sampler;
+
+/**
+ * The Jaeger configuration read from the environment, applying the per operation sampling rules on top of the
+ * configured sampler.
+ */
+class QuarkusJaegerConfiguration extends Configuration {
+
+    private final List<OperationSampler.Rule> samplerRules;
+
+    private QuarkusJaegerConfiguration(String serviceName, List<OperationSampler.Rule> samplerRules) {
+        super(serviceName);
+        this.samplerRules = samplerRules;
+    }
+
+    static Configuration fromEnv(List<OperationSampler.Rule> samplerRules) {
+        // Same as Configuration.fromEnv(), the environment is read once through a plain Configuration
+        Configuration env = Configuration.fromEnv();
+        return new QuarkusJaegerConfiguration(env.getServiceName(), samplerRules)
+                .withTracerTags(env.getTracerTags())
+                .withTraceId128Bit(Boolean.parseBoolean(getProperty(JAEGER_TRACEID_128BIT)))
+                .withReporter(env.getReporter())
+                .withSampler(env.getSampler())
+                .withCodec(env.getCodec());
+    }
+
+    private static String getProperty(String name) {
+        return System.getProperty(name, System.getenv(name));
+    }
+
+    @Override
+    protected JaegerTracer.Builder createTracerBuilder(String serviceName) {
+        if (samplerRules.isEmpty()) {
+            return super.createTracerBuilder(serviceName);
+        }
+        return new JaegerTracer.Builder(serviceName) {
+            @Override
+            public JaegerTracer.Builder withSampler(Sampler sampler) {
+                return super.withSampler(new OperationSampler(samplerRules, sampler));
+            }
+        };
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.jaeger.runtime;
 
-import io.jaegertracing.Configuration;
+import java.util.Collections;
+import java.util.List;
+
 import io.opentracing.ScopeManager;
 import io.opentracing.Span;
 import io.opentracing.SpanContext;
@@ -10,6 +12,14 @@ import io.opentracing.propagation.Format;
 public class QuarkusJaegerTracer implements Tracer {
 
     private static volatile Tracer tracer;
+    private static volatile List<OperationSampler.Rule> samplerRules = Collections.emptyList();
+
+    public QuarkusJaegerTracer() {
+    }
+
+    QuarkusJaegerTracer(List<OperationSampler.Rule> samplerRules) {
+        QuarkusJaegerTracer.samplerRules = samplerRules;
+    }
 
     @Override
     public String toString() {
@@ -20,7 +30,7 @@ public class QuarkusJaegerTracer implements Tracer {
         if (tracer == null) {
             synchronized (QuarkusJaegerTracer.class) {
                 if (tracer == null) {
-                    tracer = Configuration.fromEnv()
+                    tracer = QuarkusJaegerConfiguration.fromEnv(samplerRules)
                             .withMetricsFactory(new QuarkusJaegerMetricsFactory()).getTracer();
                 }
             }
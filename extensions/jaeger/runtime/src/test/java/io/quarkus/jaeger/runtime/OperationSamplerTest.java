@@ -0,0 +1,89 @@
+package io.quarkus.jaeger.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import io.jaegertracing.internal.samplers.ConstSampler;
+
+public class OperationSamplerTest {
+
+    @Test
+    public void testFirstMatchingRuleInNameOrderApplies() {
+        Map<String, JaegerSamplerRuleConfig> configs = new HashMap<>();
+        configs.put("b-everything", rule(".*", 1));
+        configs.put("a-health", rule("GET:.*HealthResource.*", 0));
+        configs.put("c-post", rule("POST:.*", 0));
+        OperationSampler sampler = new OperationSampler(OperationSampler.rules(configs), new ConstSampler(false));
+
+        // both a-health and b-everything match, a-health comes first
+        assertFalse(sampler.sample("GET:org.acme.HealthResource.check", 1).isSampled());
+        // b-everything comes before c-post
+        assertTrue(sampler.sample("POST:org.acme.GreetingResource.hello", 1).isSampled());
+    }
+
+    @Test
+    public void testDefaultSamplerAppliesWhenNoRuleMatches() {
+        Map<String, JaegerSamplerRuleConfig> configs = new HashMap<>();
+        configs.put("health", rule("GET:.*HealthResource.*", 0));
+        OperationSampler sampler = new OperationSampler(OperationSampler.rules(configs), new ConstSampler(true));
+
+        assertFalse(sampler.sample("GET:org.acme.HealthResource.check", 1).isSampled());
+        assertTrue(sampler.sample("GET:org.acme.GreetingResource.hello", 1).isSampled());
+    }
+
+    @Test
+    public void testResolvedSamplersAreCached() {
+        Map<String, JaegerSamplerRuleConfig> configs = new HashMap<>();
+        configs.put("health", rule("GET:.*HealthResource.*", 0));
+        ConstSampler defaultSampler = new ConstSampler(true);
+        OperationSampler sampler = new OperationSampler(OperationSampler.rules(configs), defaultSampler);
+
+        sampler.sample("GET:org.acme.HealthResource.check", 1);
+        sampler.sample("GET:org.acme.HealthResource.check", 2);
+        sampler.sample("GET:org.acme.GreetingResource.hello", 3);
+        assertEquals(2, sampler.samplers.size());
+        assertEquals(defaultSampler, sampler.samplers.get("GET:org.acme.GreetingResource.hello"));
+
+        for (int i = 0; i < OperationSampler.MAX_CACHED_OPERATIONS * 2; i++) {
+            assertTrue(sampler.sample("GET:operation" + i, i).isSampled());
+        }
+        assertEquals(OperationSampler.MAX_CACHED_OPERATIONS, sampler.samplers.size());
+    }
+
+    @Test
+    public void testMissingSettingsNameTheRule() {
+        JaegerSamplerRuleConfig noOperation = rule(".*", 1);
+        noOperation.operation = Optional.empty();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> OperationSampler.rules(singleRule("my-rule", noOperation)));
+        assertTrue(e.getMessage().contains("quarkus.jaeger.sampler-rules.my-rule.operation"), e.getMessage());
+
+        JaegerSamplerRuleConfig noParam = rule(".*", 1);
+        noParam.param = Optional.empty();
+        e = assertThrows(IllegalArgumentException.class, () -> OperationSampler.rules(singleRule("my-rule", noParam)));
+        assertTrue(e.getMessage().contains("quarkus.jaeger.sampler-rules.my-rule.param"), e.getMessage());
+    }
+
+    private static Map<String, JaegerSamplerRuleConfig> singleRule(String name, JaegerSamplerRuleConfig config) {
+        Map<String, JaegerSamplerRuleConfig> configs = new HashMap<>();
+        configs.put(name, config);
+        return configs;
+    }
+
+    private static JaegerSamplerRuleConfig rule(String operation, int param) {
+        JaegerSamplerRuleConfig config = new JaegerSamplerRuleConfig();
+        config.operation = Optional.of(operation);
+        config.type = ConstSampler.TYPE;
+        config.param = Optional.of(BigDecimal.valueOf(param));
+        return config;
+    }
+}
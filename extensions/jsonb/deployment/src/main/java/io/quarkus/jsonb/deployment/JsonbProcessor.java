@@ -2,12 +2,14 @@ package io.quarkus.jsonb.deployment;
 
 import java.util.function.Predicate;
 
+import javax.json.bind.Jsonb;
 import javax.json.bind.adapter.JsonbAdapter;
 
 import org.eclipse.yasson.JsonBindingProvider;
 import org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
@@ -16,11 +18,15 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.ServiceProviderBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBundleBuildItem;
+import io.quarkus.jsonb.JsonbConfigCustomizer;
+import io.quarkus.jsonb.JsonbProducer;
 import io.quarkus.jsonb.QuarkusJsonbComponentInstanceCreator;
 
 public class JsonbProcessor {
 
     static final DotName JSONB_ADAPTER_NAME = DotName.createSimple(JsonbAdapter.class.getName());
+    static final DotName JSONB_NAME = DotName.createSimple(Jsonb.class.getName());
+    static final DotName JSONB_CONFIG_CUSTOMIZER_NAME = DotName.createSimple(JsonbConfigCustomizer.class.getName());
 
     @BuildStep
     void build(BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
@@ -47,4 +53,18 @@ public class JsonbProcessor {
         }));
     }
 
+    @BuildStep
+    void jsonbBeans(BuildProducer<AdditionalBeanBuildItem> additionalBean,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        // the Jsonb and its customizers are looked up programmatically by the other extensions
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(JsonbProducer.class));
+        unremovableBeans.produce(new UnremovableBeanBuildItem(new Predicate<BeanInfo>() {
+
+            @Override
+            public boolean test(BeanInfo bean) {
+                return bean.hasType(JSONB_NAME) || (bean.isClassBean() && bean.hasType(JSONB_CONFIG_CUSTOMIZER_NAME));
+            }
+        }));
+    }
+
 }
@@ -0,0 +1,30 @@
+package io.quarkus.jsonb;
+
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbConfig;
+
+/**
+ * A CDI bean customizing the {@link JsonbConfig} of the default {@link Jsonb}.
+ * <p>
+ * The default {@link Jsonb} is shared by the extensions, the customizations apply to the REST endpoints as well as
+ * to the other JSON-B based integrations.
+ */
+public interface JsonbConfigCustomizer extends Comparable<JsonbConfigCustomizer> {
+
+    int DEFAULT_PRIORITY = 0;
+
+    void customize(JsonbConfig config);
+
+    /**
+     * The customizers are applied by ascending priority: a customizer with a higher priority overrides the
+     * customizations of the customizers with a lower priority.
+     */
+    default int priority() {
+        return DEFAULT_PRIORITY;
+    }
+
+    @Override
+    default int compareTo(JsonbConfigCustomizer other) {
+        return Integer.compare(priority(), other.priority());
+    }
+}
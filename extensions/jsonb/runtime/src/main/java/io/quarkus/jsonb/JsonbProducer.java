@@ -0,0 +1,40 @@
+package io.quarkus.jsonb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+
+import io.quarkus.arc.DefaultBean;
+
+@ApplicationScoped
+public class JsonbProducer {
+
+    @DefaultBean
+    @Singleton
+    @Produces
+    public Jsonb jsonb(Instance<JsonbConfigCustomizer> customizers) {
+        JsonbConfig config = new JsonbConfig();
+        List<JsonbConfigCustomizer> sortedCustomizers = new ArrayList<>();
+        for (JsonbConfigCustomizer customizer : customizers) {
+            sortedCustomizers.add(customizer);
+        }
+        Collections.sort(sortedCustomizers);
+        for (JsonbConfigCustomizer customizer : sortedCustomizers) {
+            customizer.customize(config);
+        }
+        return JsonbBuilder.create(config);
+    }
+
+    public void close(@Disposes Jsonb jsonb) throws Exception {
+        jsonb.close();
+    }
+}
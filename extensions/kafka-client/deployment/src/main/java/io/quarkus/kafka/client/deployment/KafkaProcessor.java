@@ -32,6 +32,7 @@ import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
 
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -43,6 +44,7 @@ import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.jackson.spi.JacksonSerializedClassBuildItem;
 
 public class KafkaProcessor {
 
@@ -69,6 +71,12 @@ public class KafkaProcessor {
             StringDeserializer.class,
             FloatDeserializer.class,
     };
+    // the Jackson dependency is optional, so the Jackson based serializers are referenced by name
+    static final DotName[] JACKSON_SERIALIZERS = {
+            DotName.createSimple("io.quarkus.kafka.client.serialization.ObjectMapperSerializer"),
+            DotName.createSimple("io.quarkus.kafka.client.serialization.ObjectMapperSerde"),
+    };
+
     static final String TARGET_JAVA_9_CHECKSUM_FACTORY = "io.quarkus.kafka.client.generated.Target_Java9ChecksumFactory";
 
     @BuildStep
@@ -103,6 +111,27 @@ public class KafkaProcessor {
         jni.produce(new JniBuildItem());
     }
 
+    /**
+     * The record types of the Jackson based serializers are serialized by Jackson, so that the Jackson extension can
+     * generate their serializers at build time.
+     */
+    @BuildStep
+    public void jacksonSerializedClasses(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<JacksonSerializedClassBuildItem> serializedClass) {
+        for (DotName jacksonSerializer : JACKSON_SERIALIZERS) {
+            for (ClassInfo subclass : indexBuildItem.getIndex().getAllKnownSubclasses(jacksonSerializer)) {
+                Type superClassType = subclass.superClassType();
+                if (superClassType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                    continue;
+                }
+                Type recordType = superClassType.asParameterizedType().arguments().get(0);
+                if (recordType.kind() == Type.Kind.CLASS) {
+                    serializedClass.produce(new JacksonSerializedClassBuildItem(recordType.name().toString()));
+                }
+            }
+        }
+    }
+
     /**
      * Generate a class which replaces the usage of {@code MethodHandle} in {@code Java9ChecksumFactory} with a plain
      * constructor invocation when run under GraalVM. This is necessary because the native image generator does not
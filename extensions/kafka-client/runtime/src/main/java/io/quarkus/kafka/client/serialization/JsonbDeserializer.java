@@ -19,8 +19,14 @@ public class JsonbDeserializer<T> implements Deserializer<T> {
     private final Class<T> type;
     private final boolean jsonbNeedsClosing;
 
+    /**
+     * Uses the {@link Jsonb} bean when running in a Quarkus application, a new {@link Jsonb} otherwise.
+     */
     public JsonbDeserializer(Class<T> type) {
-        this(type, JsonbBuilder.create(), true);
+        Jsonb sharedJsonb = SharedJsonb.get();
+        this.type = type;
+        this.jsonb = sharedJsonb != null ? sharedJsonb : JsonbBuilder.create();
+        this.jsonbNeedsClosing = sharedJsonb == null;
     }
 
     public JsonbDeserializer(Class<T> type, Jsonb jsonb) {
@@ -20,8 +20,16 @@ public class JsonbSerde<T> implements Serde<T> {
     private final JsonbSerializer<T> serializer;
     private final JsonbDeserializer<T> deserializer;
 
+    /**
+     * Uses the {@link Jsonb} bean when running in a Quarkus application, a new {@link Jsonb} otherwise.
+     */
     public JsonbSerde(Class<T> type) {
-        this(type, JsonbBuilder.create(), true);
+        Jsonb sharedJsonb = SharedJsonb.get();
+        this.jsonb = sharedJsonb != null ? sharedJsonb : JsonbBuilder.create();
+        this.jsonbNeedsClosing = sharedJsonb == null;
+
+        this.serializer = new JsonbSerializer<T>(jsonb);
+        this.deserializer = new JsonbDeserializer<T>(type, jsonb);
     }
 
     public JsonbSerde(Class<T> type, Jsonb jsonb) {
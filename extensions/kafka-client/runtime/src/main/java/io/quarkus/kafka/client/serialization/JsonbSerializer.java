@@ -1,7 +1,6 @@
 package io.quarkus.kafka.client.serialization;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 import java.util.Map;
 
 import javax.json.bind.Jsonb;
@@ -14,11 +13,22 @@ import org.apache.kafka.common.serialization.Serializer;
  */
 public class JsonbSerializer<T> implements Serializer<T> {
 
+    // the records of a topic usually have a similar size, so the buffer starts with the size of the last record.
+    // A producer may call the serializer from several threads, so the buffer itself is not shared
+    private static final int INITIAL_SIZE = 512;
+    private static final int MAX_INITIAL_SIZE = 64 * 1024;
+
     private final Jsonb jsonb;
     private final boolean jsonbNeedsClosing;
+    private volatile int lastSize = INITIAL_SIZE;
 
+    /**
+     * Uses the {@link Jsonb} bean when running in a Quarkus application, a new {@link Jsonb} otherwise.
+     */
     public JsonbSerializer() {
-        this(JsonbBuilder.create(), true);
+        Jsonb sharedJsonb = SharedJsonb.get();
+        this.jsonb = sharedJsonb != null ? sharedJsonb : JsonbBuilder.create();
+        this.jsonbNeedsClosing = sharedJsonb == null;
     }
 
     public JsonbSerializer(Jsonb jsonb) {
@@ -36,12 +46,11 @@ public class JsonbSerializer<T> implements Serializer<T> {
 
     @Override
     public byte[] serialize(String topic, T data) {
-        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
-            jsonb.toJson(data, output);
-            return output.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(lastSize);
+        jsonb.toJson(data, output);
+        // a buffer grown for an unusually large record does not size the following ones
+        lastSize = Math.min(Math.max(output.size(), INITIAL_SIZE), MAX_INITIAL_SIZE);
+        return output.toByteArray();
     }
 
     @Override
@@ -0,0 +1,52 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * A {@link Deserializer} that deserializes JSON using Jackson.
+ * <p>
+ * The record is parsed directly from its UTF-8 bytes, without decoding it to characters first. Subclass it with a
+ * no-arg constructor to configure it as the {@code value.deserializer} of a consumer.
+ */
+public class ObjectMapperDeserializer<T> implements Deserializer<T> {
+
+    private final ObjectReader reader;
+
+    /**
+     * Uses the {@link ObjectMapper} bean when running in a Quarkus application, a new {@link ObjectMapper} otherwise.
+     */
+    public ObjectMapperDeserializer(Class<T> type) {
+        this(type, SharedObjectMapper.get());
+    }
+
+    public ObjectMapperDeserializer(Class<T> type, ObjectMapper objectMapper) {
+        // the reader resolves the deserializer of the type once, not per record
+        this.reader = objectMapper.readerFor(type);
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return reader.readValue(data);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * A {@link Serializer} that serializes to JSON using Jackson.
+ * <p>
+ * The JSON is written directly as UTF-8 bytes, in buffers recycled by Jackson per thread.
+ */
+public class ObjectMapperSerializer<T> implements Serializer<T> {
+
+    private final ObjectWriter writer;
+
+    /**
+     * Uses the {@link ObjectMapper} bean when running in a Quarkus application, a new {@link ObjectMapper} otherwise.
+     */
+    public ObjectMapperSerializer() {
+        this(SharedObjectMapper.get());
+    }
+
+    public ObjectMapperSerializer(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer();
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return writer.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.kafka.client.serialization;
+
+import javax.json.bind.Jsonb;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+
+final class SharedJsonb {
+
+    private SharedJsonb() {
+    }
+
+    /**
+     * The bean is looked up by type rather than through the jsonb extension, which is an optional dependency.
+     *
+     * @return the {@link Jsonb} bean, or {@code null} when used outside of a Quarkus application or when no such bean
+     *         exists, in which case the caller creates and closes its own {@link Jsonb}
+     */
+    static Jsonb get() {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return null;
+        }
+        InstanceHandle<Jsonb> jsonb = container.instance(Jsonb.class);
+        return jsonb.isAvailable() ? jsonb.get() : null;
+    }
+}
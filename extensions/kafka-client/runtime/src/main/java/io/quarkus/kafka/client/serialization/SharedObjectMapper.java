@@ -0,0 +1,27 @@
+package io.quarkus.kafka.client.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+
+final class SharedObjectMapper {
+
+    private SharedObjectMapper() {
+    }
+
+    /**
+     * @return the {@link ObjectMapper} bean, or a new {@link ObjectMapper} when used outside of a Quarkus application
+     */
+    static ObjectMapper get() {
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            InstanceHandle<ObjectMapper> objectMapper = container.instance(ObjectMapper.class);
+            if (objectMapper.isAvailable()) {
+                return objectMapper.get();
+            }
+        }
+        return new ObjectMapper();
+    }
+}
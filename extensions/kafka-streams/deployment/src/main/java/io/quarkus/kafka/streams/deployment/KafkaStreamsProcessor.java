@@ -10,16 +10,20 @@ import org.apache.kafka.streams.processor.FailOnInvalidTimestamp;
 import org.apache.kafka.streams.processor.internals.StreamsPartitionAssignor;
 import org.rocksdb.util.Environment;
 
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.RuntimeReinitializedClassBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
+import io.quarkus.kafka.streams.runtime.KafkaStreamsRocksDbConfig;
+import io.quarkus.kafka.streams.runtime.QuarkusRocksDBConfigSetter;
 
 class KafkaStreamsProcessor {
 
@@ -39,6 +43,7 @@ class KafkaStreamsProcessor {
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, LogAndFailExceptionHandler.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, ByteArraySerde.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, FailOnInvalidTimestamp.class));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, QuarkusRocksDBConfigSetter.class));
 
         // for RocksDB, either add linux64 native lib when targeting containers
         if (isContainerBuild()) {
@@ -55,10 +60,12 @@ class KafkaStreamsProcessor {
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
-    void build(KafkaStreamsRecorder recorder) {
+    void build(KafkaStreamsRecorder recorder, KafkaStreamsRocksDbConfig rocksDbConfig, Capabilities capabilities,
+            ShutdownContextBuildItem shutdownContext) {
         // Explicitly loading RocksDB native libs, as that's normally done from within
         // static initializers which already ran during build
         recorder.loadRocksDb();
+        recorder.configureRocksDb(rocksDbConfig, capabilities.isCapabilityPresent(Capabilities.METRICS), shutdownContext);
     }
 
     private boolean isContainerBuild() {
@@ -2,6 +2,8 @@ package io.quarkus.kafka.streams.runtime;
 
 import org.rocksdb.RocksDB;
 
+import io.quarkus.kafka.streams.runtime.metrics.RocksDbMetrics;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -10,4 +12,23 @@ public class KafkaStreamsRecorder {
     public void loadRocksDb() {
         RocksDB.loadLibrary();
     }
+
+    public void configureRocksDb(KafkaStreamsRocksDbConfig config, boolean metricsEnabled,
+            ShutdownContext shutdownContext) {
+        QuarkusRocksDBConfigSetter.setConfig(config);
+        boolean registerMetrics = metricsEnabled && config.statistics;
+        if (registerMetrics) {
+            RocksDbMetrics.register(QuarkusRocksDBConfigSetter.statistics(), config.blockCacheSize.asLongValue());
+        }
+        shutdownContext.addShutdownTask(new Runnable() {
+            @Override
+            public void run() {
+                // the metrics read the statistics, so they are removed before the statistics are closed
+                if (registerMetrics) {
+                    RocksDbMetrics.unregister();
+                }
+                QuarkusRocksDBConfigSetter.close();
+            }
+        });
+    }
 }
@@ -0,0 +1,64 @@
+package io.quarkus.kafka.streams.runtime;
+
+import org.rocksdb.CompactionStyle;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of the RocksDB state stores, applied by {@link QuarkusRocksDBConfigSetter}.
+ */
+@ConfigRoot(name = "kafka-streams.rocksdb", phase = ConfigPhase.RUN_TIME)
+public class KafkaStreamsRocksDbConfig {
+
+    /**
+     * The size of the block cache shared by all the RocksDB state stores of the application.
+     * <p>
+     * Without a shared cache, every store allocates its own block cache, so the off-heap memory grows with the number
+     * of stores and partitions.
+     */
+    @ConfigItem(defaultValue = "50M")
+    public MemorySize blockCacheSize;
+
+    /**
+     * If inserting into the shared block cache should fail once the cache is full, instead of temporarily going over
+     * the configured size.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean blockCacheStrictCapacityLimit;
+
+    /**
+     * If the index and filter blocks should be stored in the shared block cache, and thus be accounted for in its
+     * size, instead of being held outside of the cache by every open file.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean cacheIndexAndFilterBlocks;
+
+    /**
+     * The size of a single memtable of a state store.
+     */
+    @ConfigItem(defaultValue = "16M")
+    public MemorySize writeBufferSize;
+
+    /**
+     * The maximum number of memtables of a state store, the memtables of a store use at most
+     * {@code write-buffer-size * max-write-buffers} bytes.
+     */
+    @ConfigItem(defaultValue = "3")
+    public int maxWriteBuffers;
+
+    /**
+     * The compaction style of the state stores: {@code level}, {@code universal} or {@code fifo}.
+     */
+    @ConfigItem(defaultValue = "universal")
+    public CompactionStyle compactionStyle;
+
+    /**
+     * If RocksDB statistics should be collected and exported as metrics when the SmallRye Metrics extension is present.
+     * Collecting statistics has a small overhead on every state store operation.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean statistics;
+}
@@ -0,0 +1,93 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.Statistics;
+import org.rocksdb.StatsLevel;
+import org.rocksdb.TableFormatConfig;
+
+/**
+ * A {@link RocksDBConfigSetter} applying the {@code quarkus.kafka-streams.rocksdb} configuration to every state store.
+ * <p>
+ * All the stores share a single block cache, so the off-heap memory used to cache blocks is bounded by the configured
+ * size whatever the number of stores. When the statistics are enabled, the stores also share a single
+ * {@link Statistics} instance, from which the metrics are exported.
+ * <p>
+ * Kafka Streams instantiates this class reflectively, so the shared state is kept in static fields initialized by
+ * {@link KafkaStreamsRecorder} and released by {@link #close()} when the application stops.
+ */
+public class QuarkusRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static volatile KafkaStreamsRocksDbConfig config;
+    private static Cache blockCache;
+    private static Statistics statistics;
+
+    static void setConfig(KafkaStreamsRocksDbConfig config) {
+        QuarkusRocksDBConfigSetter.config = config;
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        KafkaStreamsRocksDbConfig config = QuarkusRocksDBConfigSetter.config;
+        if (config == null) {
+            // not running within Quarkus, keep the Kafka Streams defaults
+            return;
+        }
+
+        TableFormatConfig tableFormatConfig = options.tableFormatConfig();
+        BlockBasedTableConfig tableConfig = tableFormatConfig instanceof BlockBasedTableConfig
+                ? (BlockBasedTableConfig) tableFormatConfig
+                : new BlockBasedTableConfig();
+        tableConfig.setBlockCache(blockCache(config));
+        tableConfig.setCacheIndexAndFilterBlocks(config.cacheIndexAndFilterBlocks);
+        tableConfig.setPinL0FilterAndIndexBlocksInCache(config.cacheIndexAndFilterBlocks);
+        options.setTableFormatConfig(tableConfig);
+
+        options.setWriteBufferSize(config.writeBufferSize.asLongValue());
+        options.setMaxWriteBufferNumber(config.maxWriteBuffers);
+        options.setCompactionStyle(config.compactionStyle);
+
+        if (config.statistics) {
+            options.setStatistics(statistics());
+        }
+    }
+
+    private static synchronized Cache blockCache(KafkaStreamsRocksDbConfig config) {
+        if (blockCache == null) {
+            // -1 lets RocksDB pick the number of shards from the capacity
+            blockCache = new LRUCache(config.blockCacheSize.asLongValue(), -1, config.blockCacheStrictCapacityLimit);
+        }
+        return blockCache;
+    }
+
+    /**
+     * @return the statistics shared by all the state stores, created on first use
+     */
+    static synchronized Statistics statistics() {
+        if (statistics == null) {
+            statistics = new Statistics();
+            statistics.setStatsLevel(StatsLevel.EXCEPT_DETAILED_TIMERS);
+        }
+        return statistics;
+    }
+
+    /**
+     * Releases the native handles of the shared block cache and statistics, the next start creates new ones.
+     * The state stores still open keep their own reference to the underlying RocksDB objects.
+     */
+    static synchronized void close() {
+        if (blockCache != null) {
+            blockCache.close();
+            blockCache = null;
+        }
+        if (statistics != null) {
+            statistics.close();
+            statistics = null;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.quarkus.kafka.streams.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.rocksdb.Statistics;
+import org.rocksdb.TickerType;
+
+import io.quarkus.smallrye.metrics.runtime.LambdaCounter;
+import io.quarkus.smallrye.metrics.runtime.LambdaGauge;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the statistics shared by the RocksDB state stores in the vendor registry.
+ * <p>
+ * This class must only be loaded if the SmallRye Metrics extension is present.
+ */
+public final class RocksDbMetrics {
+
+    private static final List<String> NAMES = new ArrayList<>();
+
+    private RocksDbMetrics() {
+    }
+
+    public static synchronized void register(Statistics statistics, long blockCacheSize) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+
+        register(registry, Metadata.builder()
+                .withName("kafka-streams.rocksdb.block-cache.capacity")
+                .withType(MetricType.GAUGE)
+                .withUnit(MetricUnits.BYTES)
+                .withDescription("Size of the block cache shared by the state stores.")
+                .build(), new LambdaGauge(() -> blockCacheSize));
+
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.hit", MetricUnits.NONE,
+                "Number of block cache hits.", TickerType.BLOCK_CACHE_HIT);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.miss", MetricUnits.NONE,
+                "Number of block cache misses.", TickerType.BLOCK_CACHE_MISS);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.add-failures", MetricUnits.NONE,
+                "Number of blocks that could not be added to a full block cache.", TickerType.BLOCK_CACHE_ADD_FAILURES);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.bytes-read", MetricUnits.BYTES,
+                "Bytes read from the block cache.", TickerType.BLOCK_CACHE_BYTES_READ);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.bytes-written", MetricUnits.BYTES,
+                "Bytes written to the block cache.", TickerType.BLOCK_CACHE_BYTES_WRITE);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.index-bytes-inserted", MetricUnits.BYTES,
+                "Bytes of index blocks inserted into the block cache.", TickerType.BLOCK_CACHE_INDEX_BYTES_INSERT);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.index-bytes-evicted", MetricUnits.BYTES,
+                "Bytes of index blocks evicted from the block cache.", TickerType.BLOCK_CACHE_INDEX_BYTES_EVICT);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.filter-bytes-inserted", MetricUnits.BYTES,
+                "Bytes of filter blocks inserted into the block cache.", TickerType.BLOCK_CACHE_FILTER_BYTES_INSERT);
+        counter(registry, statistics, "kafka-streams.rocksdb.block-cache.filter-bytes-evicted", MetricUnits.BYTES,
+                "Bytes of filter blocks evicted from the block cache.", TickerType.BLOCK_CACHE_FILTER_BYTES_EVICT);
+        counter(registry, statistics, "kafka-streams.rocksdb.memtable.hit", MetricUnits.NONE,
+                "Number of reads served by a memtable.", TickerType.MEMTABLE_HIT);
+        counter(registry, statistics, "kafka-streams.rocksdb.memtable.miss", MetricUnits.NONE,
+                "Number of reads not served by a memtable.", TickerType.MEMTABLE_MISS);
+        counter(registry, statistics, "kafka-streams.rocksdb.flush.bytes-written", MetricUnits.BYTES,
+                "Bytes written by the memtable flushes.", TickerType.FLUSH_WRITE_BYTES);
+        counter(registry, statistics, "kafka-streams.rocksdb.compaction.bytes-read", MetricUnits.BYTES,
+                "Bytes read by the compactions.", TickerType.COMPACT_READ_BYTES);
+        counter(registry, statistics, "kafka-streams.rocksdb.compaction.bytes-written", MetricUnits.BYTES,
+                "Bytes written by the compactions.", TickerType.COMPACT_WRITE_BYTES);
+        counter(registry, statistics, "kafka-streams.rocksdb.write-stall.time", MetricUnits.MICROSECONDS,
+                "Time the writes were stalled waiting for flushes or compactions.", TickerType.STALL_MICROS);
+    }
+
+    public static synchronized void unregister() {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        for (String name : NAMES) {
+            registry.remove(name);
+        }
+        NAMES.clear();
+    }
+
+    private static void counter(MetricRegistry registry, Statistics statistics, String name, String unit,
+            String description, TickerType ticker) {
+        register(registry, Metadata.builder()
+                .withName(name)
+                .withType(MetricType.COUNTER)
+                .withUnit(unit)
+                .withDescription(description)
+                .build(), new LambdaCounter(() -> statistics.getTickerCount(ticker)));
+    }
+
+    private static void register(MetricRegistry registry, Metadata metadata, Metric metric) {
+        registry.register(metadata, metric);
+        NAMES.add(metadata.getName());
+    }
+}
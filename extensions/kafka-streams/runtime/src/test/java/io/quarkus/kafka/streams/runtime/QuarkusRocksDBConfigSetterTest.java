@@ -0,0 +1,96 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.Collections;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Statistics;
+
+import io.quarkus.kafka.streams.runtime.metrics.RocksDbMetrics;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.smallrye.metrics.MetricRegistries;
+
+public class QuarkusRocksDBConfigSetterTest {
+
+    @BeforeAll
+    public static void loadRocksDb() {
+        RocksDB.loadLibrary();
+    }
+
+    @AfterEach
+    public void close() {
+        RocksDbMetrics.unregister();
+        QuarkusRocksDBConfigSetter.close();
+        QuarkusRocksDBConfigSetter.setConfig(null);
+    }
+
+    @Test
+    public void testStoresShareTheCacheAndStatistics() {
+        QuarkusRocksDBConfigSetter.setConfig(createConfig());
+        QuarkusRocksDBConfigSetter setter = new QuarkusRocksDBConfigSetter();
+        Statistics statistics = QuarkusRocksDBConfigSetter.statistics();
+        try (Options first = new Options(); Options second = new Options()) {
+            setter.setConfig("first", first, Collections.emptyMap());
+            setter.setConfig("second", second, Collections.emptyMap());
+
+            assertEquals(4 * 1024 * 1024, first.writeBufferSize());
+            assertEquals(2, first.maxWriteBufferNumber());
+            assertEquals(CompactionStyle.LEVEL, first.compactionStyle());
+            assertTrue(first.tableFormatConfig() instanceof BlockBasedTableConfig);
+            assertNotNull(first.statistics());
+            assertNotNull(second.statistics());
+            // RocksDB returns a new wrapper for the native statistics, so only the shared instance can be compared
+            assertSame(statistics, QuarkusRocksDBConfigSetter.statistics());
+        }
+    }
+
+    @Test
+    public void testCloseReleasesTheStatistics() {
+        QuarkusRocksDBConfigSetter.setConfig(createConfig());
+        Statistics statistics = QuarkusRocksDBConfigSetter.statistics();
+        QuarkusRocksDBConfigSetter.close();
+        assertFalse(statistics.isOwningHandle());
+        // the next start gets new statistics
+        assertNotSame(statistics, QuarkusRocksDBConfigSetter.statistics());
+    }
+
+    @Test
+    public void testMetricsAreUnregistered() {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        RocksDbMetrics.register(QuarkusRocksDBConfigSetter.statistics(), 1024);
+        assertTrue(registry.getNames().contains("kafka-streams.rocksdb.block-cache.capacity"));
+        assertTrue(registry.getNames().contains("kafka-streams.rocksdb.block-cache.hit"));
+
+        RocksDbMetrics.unregister();
+        assertTrue(registry.getNames().stream().noneMatch(name -> name.startsWith("kafka-streams.rocksdb.")));
+
+        // registering again after a restart does not fail on the metrics of the previous run
+        RocksDbMetrics.register(QuarkusRocksDBConfigSetter.statistics(), 1024);
+        assertTrue(registry.getNames().contains("kafka-streams.rocksdb.block-cache.capacity"));
+    }
+
+    private static KafkaStreamsRocksDbConfig createConfig() {
+        KafkaStreamsRocksDbConfig config = new KafkaStreamsRocksDbConfig();
+        config.blockCacheSize = new MemorySize(BigInteger.valueOf(8 * 1024 * 1024));
+        config.cacheIndexAndFilterBlocks = true;
+        config.writeBufferSize = new MemorySize(BigInteger.valueOf(4 * 1024 * 1024));
+        config.maxWriteBuffers = 2;
+        config.compactionStyle = CompactionStyle.LEVEL;
+        config.statistics = true;
+        return config;
+    }
+}
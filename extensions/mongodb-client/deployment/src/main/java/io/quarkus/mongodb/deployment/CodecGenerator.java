@@ -0,0 +1,580 @@
+package io.quarkus.mongodb.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonDiscriminator;
+import org.bson.codecs.pojo.annotations.BsonId;
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.types.ObjectId;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.mongodb.runtime.AbstractGeneratedCodec;
+
+/**
+ * Generates a BSON codec for a document class, mapping the properties the driver's {@code PojoCodecProvider} would
+ * detect with its default conventions by accessing the public fields and invoking the getters and setters directly.
+ * <p>
+ * The classes the generated codec could map differently are left alone: the classes using a {@link BsonCreator} or a
+ * {@link BsonDiscriminator}, the classes with a generic property or with annotated accessors.
+ */
+class CodecGenerator {
+
+    private static final Logger log = Logger.getLogger(CodecGenerator.class);
+
+    static final String CODEC_SUFFIX = "_MongoCodec";
+    static final String PROVIDER_NAME = "io.quarkus.mongodb.runtime.GeneratedCodecProvider";
+
+    private static final String ID_FIELD = "_id";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    private static final DotName ENUM = DotName.createSimple(Enum.class.getName());
+    private static final DotName OBJECT_ID = DotName.createSimple(ObjectId.class.getName());
+    private static final DotName BSON_ID = DotName.createSimple(BsonId.class.getName());
+    private static final DotName BSON_IGNORE = DotName.createSimple(BsonIgnore.class.getName());
+    private static final DotName BSON_PROPERTY = DotName.createSimple(BsonProperty.class.getName());
+    private static final DotName BSON_CREATOR = DotName.createSimple(BsonCreator.class.getName());
+    private static final DotName BSON_DISCRIMINATOR = DotName.createSimple(BsonDiscriminator.class.getName());
+
+    // the generic types decoded by the default registry into the declared type, with elements of the declared type
+    private static final Set<DotName> COLLECTION_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.lang.Iterable"),
+            DotName.createSimple("java.util.Collection"),
+            DotName.createSimple("java.util.List"),
+            DotName.createSimple("java.util.ArrayList")));
+    private static final Set<DotName> MAP_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple("java.util.Map"),
+            DotName.createSimple("java.util.HashMap")));
+    private static final Set<DotName> ELEMENT_TYPES = new HashSet<>(Arrays.asList(
+            STRING,
+            OBJECT_ID,
+            DotName.createSimple(Boolean.class.getName()),
+            DotName.createSimple(Integer.class.getName()),
+            DotName.createSimple(Long.class.getName()),
+            DotName.createSimple(Double.class.getName()),
+            DotName.createSimple("java.util.Date")));
+
+    private static final MethodDescriptor ABSTRACT_CODEC_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            AbstractGeneratedCodec.class, Class.class, CodecRegistry.class);
+    private static final MethodDescriptor REGISTRY_GET = MethodDescriptor.ofMethod(CodecRegistry.class, "get",
+            Codec.class, Class.class);
+    private static final MethodDescriptor WRITE_START_DOCUMENT = MethodDescriptor.ofMethod(BsonWriter.class,
+            "writeStartDocument", void.class);
+    private static final MethodDescriptor WRITE_END_DOCUMENT = MethodDescriptor.ofMethod(BsonWriter.class,
+            "writeEndDocument", void.class);
+    private static final MethodDescriptor READ_START_DOCUMENT = MethodDescriptor.ofMethod(BsonReader.class,
+            "readStartDocument", void.class);
+    private static final MethodDescriptor READ_END_DOCUMENT = MethodDescriptor.ofMethod(BsonReader.class,
+            "readEndDocument", void.class);
+    private static final MethodDescriptor READ_NAME = MethodDescriptor.ofMethod(BsonReader.class, "readName",
+            String.class);
+    private static final MethodDescriptor SKIP_VALUE = MethodDescriptor.ofMethod(BsonReader.class, "skipValue",
+            void.class);
+    private static final MethodDescriptor NEXT_FIELD = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "nextField", boolean.class, BsonReader.class);
+    private static final MethodDescriptor WRITE_STRING = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "writeString", void.class, BsonWriter.class, String.class, String.class);
+    private static final MethodDescriptor WRITE_ENUM = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "writeEnum", void.class, BsonWriter.class, String.class, Enum.class);
+    private static final MethodDescriptor WRITE_VALUE = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "writeValue", void.class, BsonWriter.class, String.class, Object.class, Encoder.class, EncoderContext.class);
+    private static final MethodDescriptor READ_STRING = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "readString", String.class, BsonReader.class);
+    private static final MethodDescriptor READ_ENUM = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "readEnum", Enum.class, BsonReader.class, Class.class);
+    private static final MethodDescriptor READ_VALUE = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "readValue", Object.class, BsonReader.class, Decoder.class, DecoderContext.class);
+    private static final MethodDescriptor TO_BSON_VALUE = MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+            "toBsonValue", BsonValue.class, AbstractGeneratedCodec.class, Object.class);
+    private static final MethodDescriptor STRING_EQUALS = MethodDescriptor.ofMethod(String.class, "equals",
+            boolean.class, Object.class);
+    private static final MethodDescriptor OBJECT_EQUALS = MethodDescriptor.ofMethod(Object.class, "equals",
+            boolean.class, Object.class);
+
+    private final IndexView index;
+
+    CodecGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @return the name of the generated codec or {@code null} if the class is not supported
+     */
+    String generate(String className, ClassOutput classOutput) {
+        ClassInfo classInfo = index.getClassByName(DotName.createSimple(className));
+        if (classInfo == null) {
+            return null;
+        }
+        Map<String, Property> properties = new LinkedHashMap<>();
+        if (!isInstantiable(classInfo) || !collectProperties(classInfo, classInfo, properties)) {
+            log.warnf("No BSON codec generated for %s, it is mapped by the PojoCodecProvider", className);
+            return null;
+        }
+        Property id = properties.get(ID_FIELD);
+
+        String codecName = className + CODEC_SUFFIX;
+        boolean collectible = id != null && id.kind() != ValueKind.PRIMITIVE;
+        ClassCreator.Builder builder = ClassCreator.builder().classOutput(classOutput).className(codecName)
+                .superClass(AbstractGeneratedCodec.class);
+        if (collectible) {
+            builder.interfaces(CollectibleCodec.class);
+        }
+        try (ClassCreator codec = builder.build()) {
+            // the codecs of the values are obtained once, the registry breaks the cycles between the document classes
+            Map<Property, FieldDescriptor> valueCodecs = new LinkedHashMap<>();
+            for (Property property : properties.values()) {
+                if (property.kind() == ValueKind.CODEC) {
+                    FieldDescriptor field = codec.getFieldCreator("codec" + valueCodecs.size(), Codec.class)
+                            .setModifiers(Modifier.PRIVATE | Modifier.FINAL).getFieldDescriptor();
+                    valueCodecs.put(property, field);
+                }
+            }
+
+            try (MethodCreator constructor = codec.getMethodCreator("<init>", void.class, CodecRegistry.class)) {
+                ResultHandle registry = constructor.getMethodParam(0);
+                constructor.invokeSpecialMethod(ABSTRACT_CODEC_CONSTRUCTOR, constructor.getThis(),
+                        constructor.loadClass(className), registry);
+                for (Map.Entry<Property, FieldDescriptor> entry : valueCodecs.entrySet()) {
+                    constructor.writeInstanceField(entry.getValue(), constructor.getThis(),
+                            constructor.invokeInterfaceMethod(REGISTRY_GET, registry,
+                                    constructor.loadClass(entry.getKey().rawTypeName())));
+                }
+                constructor.returnValue(null);
+            }
+
+            try (MethodCreator encode = codec.getMethodCreator("encode", void.class, BsonWriter.class, Object.class,
+                    EncoderContext.class)) {
+                ResultHandle writer = encode.getMethodParam(0);
+                ResultHandle document = encode.checkCast(encode.getMethodParam(1), className);
+                ResultHandle context = encode.getMethodParam(2);
+                encode.invokeInterfaceMethod(WRITE_START_DOCUMENT, writer);
+                // the id first, as the server would store it
+                if (id != null) {
+                    writeProperty(encode, writer, document, context, id, valueCodecs.get(id));
+                }
+                for (Property property : properties.values()) {
+                    if (property != id) {
+                        writeProperty(encode, writer, document, context, property, valueCodecs.get(property));
+                    }
+                }
+                encode.invokeInterfaceMethod(WRITE_END_DOCUMENT, writer);
+                encode.returnValue(null);
+            }
+
+            try (MethodCreator decode = codec.getMethodCreator("decode", Object.class, BsonReader.class,
+                    DecoderContext.class)) {
+                ResultHandle reader = decode.getMethodParam(0);
+                ResultHandle context = decode.getMethodParam(1);
+                ResultHandle document = decode.newInstance(MethodDescriptor.ofConstructor(className));
+                decode.invokeInterfaceMethod(READ_START_DOCUMENT, reader);
+                try (BytecodeCreator loop = decode.createScope()) {
+                    // while (nextField(reader))
+                    try (BytecodeCreator hasNext = loop.ifNonZero(loop.invokeStaticMethod(NEXT_FIELD, reader))
+                            .trueBranch()) {
+                        ResultHandle name = hasNext.invokeInterfaceMethod(READ_NAME, reader);
+                        for (Property property : properties.values()) {
+                            BytecodeCreator matches = hasNext
+                                    .ifNonZero(hasNext.invokeVirtualMethod(STRING_EQUALS, hasNext.load(property.name),
+                                            name))
+                                    .trueBranch();
+                            readProperty(matches, reader, document, context, property, valueCodecs.get(property));
+                            matches.continueScope(loop);
+                        }
+                        // unknown fields are ignored
+                        hasNext.invokeInterfaceMethod(SKIP_VALUE, reader);
+                        hasNext.continueScope(loop);
+                    }
+                }
+                decode.invokeInterfaceMethod(READ_END_DOCUMENT, reader);
+                decode.returnValue(document);
+            }
+
+            if (collectible) {
+                implementCollectible(codec, className, id);
+            }
+        }
+        return codecName;
+    }
+
+    /**
+     * Generates a provider returning the generated codecs.
+     *
+     * @param codecs the names of the generated codecs by the name of their document class
+     */
+    void generateProvider(Map<String, String> codecs, ClassOutput classOutput) {
+        try (ClassCreator provider = ClassCreator.builder().classOutput(classOutput).className(PROVIDER_NAME)
+                .interfaces(CodecProvider.class).build()) {
+            try (MethodCreator get = provider.getMethodCreator("get", Codec.class, Class.class, CodecRegistry.class)) {
+                ResultHandle clazz = get.getMethodParam(0);
+                ResultHandle registry = get.getMethodParam(1);
+                for (Map.Entry<String, String> entry : codecs.entrySet()) {
+                    BytecodeCreator matches = get
+                            .ifNonZero(get.invokeVirtualMethod(OBJECT_EQUALS, clazz, get.loadClass(entry.getKey())))
+                            .trueBranch();
+                    matches.returnValue(matches.newInstance(
+                            MethodDescriptor.ofConstructor(entry.getValue(), CodecRegistry.class), registry));
+                }
+                get.returnValue(get.loadNull());
+            }
+        }
+    }
+
+    private static void writeProperty(BytecodeCreator encode, ResultHandle writer, ResultHandle document,
+            ResultHandle context, Property property, FieldDescriptor valueCodec) {
+        ResultHandle value = property.read(encode, document);
+        ResultHandle name = encode.load(property.name);
+        switch (property.kind()) {
+            case PRIMITIVE:
+                PrimitiveType.Primitive primitive = property.type.asPrimitiveType().primitive();
+                encode.invokeStaticMethod(MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+                        "write" + primitiveName(primitive), void.class, BsonWriter.class, String.class,
+                        primitiveClass(primitive)), writer, name, value);
+                break;
+            case STRING:
+                encode.invokeStaticMethod(WRITE_STRING, writer, name, value);
+                break;
+            case ENUM:
+                encode.invokeStaticMethod(WRITE_ENUM, writer, name, value);
+                break;
+            default:
+                encode.invokeStaticMethod(WRITE_VALUE, writer, name, value,
+                        encode.readInstanceField(valueCodec, encode.getThis()), context);
+                break;
+        }
+    }
+
+    private static void readProperty(BytecodeCreator decode, ResultHandle reader, ResultHandle document,
+            ResultHandle context, Property property, FieldDescriptor valueCodec) {
+        ResultHandle value;
+        switch (property.kind()) {
+            case PRIMITIVE:
+                PrimitiveType.Primitive primitive = property.type.asPrimitiveType().primitive();
+                value = decode.invokeStaticMethod(MethodDescriptor.ofMethod(AbstractGeneratedCodec.class,
+                        "read" + primitiveName(primitive), primitiveClass(primitive), BsonReader.class), reader);
+                break;
+            case STRING:
+                value = decode.invokeStaticMethod(READ_STRING, reader);
+                break;
+            case ENUM:
+                value = decode.checkCast(decode.invokeStaticMethod(READ_ENUM, reader,
+                        decode.loadClass(property.rawTypeName())), property.rawTypeName());
+                break;
+            default:
+                value = decode.checkCast(decode.invokeStaticMethod(READ_VALUE, reader,
+                        decode.readInstanceField(valueCodec, decode.getThis()), context), property.rawTypeName());
+                break;
+        }
+        property.write(decode, document, value);
+    }
+
+    private void implementCollectible(ClassCreator codec, String className, Property id) {
+        boolean objectId = id.type.name().equals(OBJECT_ID);
+
+        try (MethodCreator documentHasId = codec.getMethodCreator("documentHasId", boolean.class, Object.class)) {
+            ResultHandle value = id.read(documentHasId, documentHasId.checkCast(documentHasId.getMethodParam(0),
+                    className));
+            documentHasId.ifNull(value).trueBranch().returnValue(documentHasId.load(false));
+            documentHasId.returnValue(documentHasId.load(true));
+        }
+
+        try (MethodCreator generateId = codec.getMethodCreator("generateIdIfAbsentFromDocument", Object.class,
+                Object.class)) {
+            ResultHandle document = generateId.checkCast(generateId.getMethodParam(0), className);
+            if (objectId) {
+                // the other ids cannot be generated, the server rejects the documents without one
+                BytecodeCreator absent = generateId.ifNull(id.read(generateId, document)).trueBranch();
+                id.write(absent, document, absent.newInstance(MethodDescriptor.ofConstructor(ObjectId.class)));
+            }
+            generateId.returnValue(document);
+        }
+
+        try (MethodCreator getDocumentId = codec.getMethodCreator("getDocumentId", BsonValue.class, Object.class)) {
+            ResultHandle value = id.read(getDocumentId, getDocumentId.checkCast(getDocumentId.getMethodParam(0),
+                    className));
+            getDocumentId.returnValue(getDocumentId.invokeStaticMethod(TO_BSON_VALUE, getDocumentId.getThis(), value));
+        }
+    }
+
+    private static boolean isInstantiable(ClassInfo classInfo) {
+        short flags = classInfo.flags();
+        if (!Modifier.isPublic(flags) || Modifier.isAbstract(flags) || Modifier.isInterface(flags)
+                || !classInfo.typeParameters().isEmpty()
+                || (classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL && !Modifier.isStatic(flags))) {
+            return false;
+        }
+        MethodInfo constructor = classInfo.method("<init>");
+        return constructor != null && Modifier.isPublic(constructor.flags());
+    }
+
+    /**
+     * Collects the properties of the class and its superclasses.
+     *
+     * @return {@code false} if the {@code PojoCodecProvider} could map the class differently
+     */
+    private boolean collectProperties(ClassInfo documentClass, ClassInfo classInfo, Map<String, Property> properties) {
+        // the generated codec accesses the members directly, the whole hierarchy must be public
+        if (!Modifier.isPublic(classInfo.flags()) || classInfo.classAnnotation(BSON_DISCRIMINATOR) != null) {
+            return false;
+        }
+        if (!OBJECT.equals(classInfo.superName())) {
+            ClassInfo superClass = index.getClassByName(classInfo.superName());
+            if (superClass == null || !collectProperties(documentClass, superClass, properties)) {
+                return false;
+            }
+        }
+        for (MethodInfo method : classInfo.methods()) {
+            if (method.hasAnnotation(BSON_CREATOR) || method.hasAnnotation(BSON_PROPERTY)
+                    || method.hasAnnotation(BSON_ID) || method.hasAnnotation(BSON_IGNORE)) {
+                // the annotated accessors are not supported
+                return false;
+            }
+        }
+
+        boolean declaresId = false;
+        for (FieldInfo field : classInfo.fields()) {
+            short flags = field.flags();
+            if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || isSynthetic(flags)
+                    || field.hasAnnotation(BSON_IGNORE)) {
+                continue;
+            }
+            boolean id = field.hasAnnotation(BSON_ID) || field.name().equals("id") || field.name().equals(ID_FIELD);
+            if (id && declaresId) {
+                // the conventions would pick one of them
+                return false;
+            }
+            declaresId |= id;
+            String name = id ? ID_FIELD : field.name();
+            AnnotationInstance bsonProperty = field.annotation(BSON_PROPERTY);
+            if (!id && bsonProperty != null && bsonProperty.value() != null) {
+                name = bsonProperty.value().asString();
+            }
+
+            Property property;
+            if (Modifier.isPublic(flags)) {
+                property = new Property(name, field.type(), field, null, null, id);
+            } else {
+                MethodInfo getter = findGetter(classInfo, field);
+                MethodInfo setter = findSetter(classInfo, field);
+                if (getter == null && setter == null) {
+                    // not a property
+                    continue;
+                }
+                if (getter == null || setter == null) {
+                    // read or write only
+                    return false;
+                }
+                property = new Property(name, field.type(), field, getter, setter, id);
+            }
+            ValueKind kind = valueKind(documentClass, field.type());
+            if (kind == null) {
+                return false;
+            }
+            property.kind = kind;
+            // a hiding field replaces the superclass one
+            properties.remove(name);
+            properties.put(name, property);
+        }
+        return true;
+    }
+
+    private ValueKind valueKind(ClassInfo documentClass, Type type) {
+        switch (type.kind()) {
+            case PRIMITIVE:
+                return ValueKind.PRIMITIVE;
+            case CLASS:
+                if (type.name().equals(STRING)) {
+                    return ValueKind.STRING;
+                }
+                if (type.name().equals(OBJECT)) {
+                    return null;
+                }
+                ClassInfo valueClass = index.getClassByName(type.name());
+                if (valueClass != null && !isAccessible(documentClass, valueClass)) {
+                    return null;
+                }
+                if (valueClass != null && ENUM.equals(valueClass.superName())) {
+                    return ValueKind.ENUM;
+                }
+                return ValueKind.CODEC;
+            case ARRAY:
+                Type component = type.asArrayType().component();
+                if (type.asArrayType().dimensions() == 1 && component.kind() == Type.Kind.PRIMITIVE
+                        && component.asPrimitiveType().primitive() == PrimitiveType.Primitive.BYTE) {
+                    return ValueKind.CODEC;
+                }
+                return null;
+            case PARAMETERIZED_TYPE:
+                ParameterizedType parameterized = type.asParameterizedType();
+                List<Type> arguments = parameterized.arguments();
+                if (COLLECTION_TYPES.contains(parameterized.name()) && isElementType(arguments.get(0))) {
+                    return ValueKind.CODEC;
+                }
+                if (MAP_TYPES.contains(parameterized.name()) && arguments.get(0).name().equals(STRING)
+                        && isElementType(arguments.get(1))) {
+                    return ValueKind.CODEC;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isElementType(Type type) {
+        return type.kind() == Type.Kind.CLASS && ELEMENT_TYPES.contains(type.name());
+    }
+
+    private static boolean isAccessible(ClassInfo documentClass, ClassInfo valueClass) {
+        return Modifier.isPublic(valueClass.flags())
+                || packageName(valueClass.name()).equals(packageName(documentClass.name()));
+    }
+
+    private static String packageName(DotName name) {
+        String className = name.toString();
+        int lastDot = className.lastIndexOf('.');
+        return lastDot != -1 ? className.substring(0, lastDot) : "";
+    }
+
+    private static MethodInfo findGetter(ClassInfo classInfo, FieldInfo field) {
+        String suffix = capitalize(field.name());
+        MethodInfo getter = classInfo.method("get" + suffix);
+        if (getter == null && field.type().kind() == Type.Kind.PRIMITIVE
+                && field.type().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+            getter = classInfo.method("is" + suffix);
+        }
+        if (getter == null || !isPublicInstanceMethod(getter) || !getter.returnType().name().equals(field.type().name())) {
+            return null;
+        }
+        return getter;
+    }
+
+    private static MethodInfo findSetter(ClassInfo classInfo, FieldInfo field) {
+        MethodInfo setter = classInfo.method("set" + capitalize(field.name()), field.type());
+        if (setter == null || !isPublicInstanceMethod(setter)) {
+            return null;
+        }
+        return setter;
+    }
+
+    private static boolean isPublicInstanceMethod(MethodInfo method) {
+        return Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean isSynthetic(short flags) {
+        return (flags & 0x1000) != 0;
+    }
+
+    private static String primitiveName(PrimitiveType.Primitive primitive) {
+        String name = primitive.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case CHAR:
+                return char.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            default:
+                return double.class;
+        }
+    }
+
+    private enum ValueKind {
+        PRIMITIVE,
+        STRING,
+        ENUM,
+        // delegated to the codec of the registry
+        CODEC,
+    }
+
+    private static final class Property {
+
+        final String name;
+        final Type type;
+        final FieldInfo field;
+        final MethodInfo getter;
+        final MethodInfo setter;
+        final boolean id;
+        ValueKind kind;
+
+        Property(String name, Type type, FieldInfo field, MethodInfo getter, MethodInfo setter, boolean id) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.getter = getter;
+            this.setter = setter;
+            this.id = id;
+        }
+
+        ValueKind kind() {
+            return kind;
+        }
+
+        String rawTypeName() {
+            // the only array supported is byte[]
+            return type.kind() == Type.Kind.ARRAY ? "[B" : type.name().toString();
+        }
+
+        ResultHandle read(BytecodeCreator bytecode, ResultHandle document) {
+            return getter != null ? bytecode.invokeVirtualMethod(MethodDescriptor.of(getter), document)
+                    : bytecode.readInstanceField(FieldDescriptor.of(field), document);
+        }
+
+        void write(BytecodeCreator bytecode, ResultHandle document, ResultHandle value) {
+            if (setter != null) {
+                bytecode.invokeVirtualMethod(MethodDescriptor.of(setter), document, value);
+            } else {
+                bytecode.writeInstanceField(FieldDescriptor.of(field), document, value);
+            }
+        }
+    }
+}
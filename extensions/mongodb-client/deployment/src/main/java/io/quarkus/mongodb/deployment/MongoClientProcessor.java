@@ -1,10 +1,14 @@
 package io.quarkus.mongodb.deployment;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.bson.codecs.configuration.CodecProvider;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 
@@ -19,10 +23,14 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.mongodb.MongoDocument;
 import io.quarkus.mongodb.ReactiveMongoClient;
+import io.quarkus.mongodb.runtime.MongoClientBuildTimeConfig;
 import io.quarkus.mongodb.runtime.MongoClientConfig;
 import io.quarkus.mongodb.runtime.MongoClientProducer;
 import io.quarkus.mongodb.runtime.MongoClientRecorder;
@@ -30,16 +38,54 @@ import io.quarkus.runtime.RuntimeValue;
 
 public class MongoClientProcessor {
 
+    private static final DotName MONGO_DOCUMENT = DotName.createSimple(MongoDocument.class.getName());
+
     @BuildStep
     AdditionalBeanBuildItem registerClientProducerBean() {
         return AdditionalBeanBuildItem.unremovableOf(MongoClientProducer.class);
     }
 
     @BuildStep
-    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem) {
+    void mongoDocumentClasses(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<MongoDocumentClassBuildItem> documentClass) {
+        for (AnnotationInstance annotation : indexBuildItem.getIndex().getAnnotations(MONGO_DOCUMENT)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.CLASS) {
+                documentClass.produce(new MongoDocumentClassBuildItem(annotation.target().asClass().name().toString()));
+            }
+        }
+    }
+
+    @BuildStep
+    CodecProviderBuildItem collectCodecProviders(CombinedIndexBuildItem indexBuildItem, MongoClientBuildTimeConfig config,
+            List<MongoDocumentClassBuildItem> documentClasses, BuildProducer<GeneratedClassBuildItem> generatedClass) {
         Collection<ClassInfo> codecProviderClasses = indexBuildItem.getIndex()
                 .getAllKnownImplementors(DotName.createSimple(CodecProvider.class.getName()));
         List<String> names = codecProviderClasses.stream().map(ci -> ci.name().toString()).collect(Collectors.toList());
+
+        if (config.generateCodecs && !documentClasses.isEmpty()) {
+            ClassOutput classOutput = new ClassOutput() {
+                @Override
+                public void write(String name, byte[] data) {
+                    generatedClass.produce(new GeneratedClassBuildItem(true, name, data));
+                }
+            };
+            CodecGenerator generator = new CodecGenerator(indexBuildItem.getIndex());
+            Map<String, String> codecs = new LinkedHashMap<>();
+            for (MongoDocumentClassBuildItem documentClass : documentClasses) {
+                if (codecs.containsKey(documentClass.getClassName())) {
+                    continue;
+                }
+                String codecName = generator.generate(documentClass.getClassName(), classOutput);
+                if (codecName != null) {
+                    codecs.put(documentClass.getClassName(), codecName);
+                }
+            }
+            if (!codecs.isEmpty()) {
+                // the user supplied providers come first, the PojoCodecProvider is added last at runtime
+                generator.generateProvider(codecs, classOutput);
+                names.add(CodecGenerator.PROVIDER_NAME);
+            }
+        }
         return new CodecProviderBuildItem(names);
     }
 
@@ -0,0 +1,19 @@
+package io.quarkus.mongodb.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A class stored in MongoDB, for which a BSON codec is generated at build time when possible.
+ */
+public final class MongoDocumentClassBuildItem extends MultiBuildItem {
+
+    private final String className;
+
+    public MongoDocumentClassBuildItem(String className) {
+        this.className = className;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+}
@@ -0,0 +1,146 @@
+package io.quarkus.mongodb.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonIgnore;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+import org.bson.types.ObjectId;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.mongodb.client.MongoClient;
+
+import io.quarkus.mongodb.MongoDocument;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, Address.class, Status.class, Unsupported.class));
+
+    @Inject
+    MongoClient client;
+
+    @Test
+    public void testRoundTrip() {
+        CodecRegistry registry = client.getDatabase("test").getCodecRegistry();
+        Codec<Person> codec = registry.get(Person.class);
+        assertTrue(codec.getClass().getName().endsWith(CodecGenerator.CODEC_SUFFIX));
+        assertTrue(codec instanceof CollectibleCodec);
+
+        Person person = new Person();
+        person.name = "Bob";
+        person.setAge(42);
+        person.email = "bob@acme.org";
+        person.tags = Arrays.asList("a", "b");
+        person.status = Status.ACTIVE;
+        person.address = new Address();
+        person.address.city = "Brno";
+        person.ignored = "ignored";
+        CollectibleCodec<Person> collectible = (CollectibleCodec<Person>) codec;
+        assertFalse(collectible.documentHasId(person));
+        collectible.generateIdIfAbsentFromDocument(person);
+        assertNotNull(person.id);
+
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), person, EncoderContext.builder().build());
+        assertEquals(person.id, document.getObjectId("_id").getValue());
+        assertEquals("_id", document.getFirstKey());
+        assertEquals("Bob", document.getString("name").getValue());
+        assertEquals(42, document.getInt32("age").getValue());
+        assertEquals("bob@acme.org", document.getString("mail").getValue());
+        assertEquals("ACTIVE", document.getString("status").getValue());
+        assertEquals("Brno", document.getDocument("address").getString("city").getValue());
+        assertEquals(2, document.getArray("tags").size());
+        assertFalse(document.containsKey("ignored"));
+        assertFalse(document.containsKey("nickname"));
+
+        document.put("unknown", new BsonString("skipped"));
+        Person decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        assertEquals(person.id, decoded.id);
+        assertEquals("Bob", decoded.name);
+        assertEquals(42, decoded.getAge());
+        assertEquals("bob@acme.org", decoded.email);
+        assertEquals(Arrays.asList("a", "b"), decoded.tags);
+        assertEquals(Status.ACTIVE, decoded.status);
+        assertEquals("Brno", decoded.address.city);
+        assertNull(decoded.ignored);
+        assertNull(decoded.nickname);
+        assertEquals(document.getObjectId("_id"), collectible.getDocumentId(decoded));
+    }
+
+    @Test
+    public void testUnsupportedClass() {
+        Codec<Unsupported> codec = client.getDatabase("test").getCodecRegistry().get(Unsupported.class);
+        assertFalse(codec.getClass().getName().endsWith(CodecGenerator.CODEC_SUFFIX));
+    }
+
+    public enum Status {
+        ACTIVE,
+        INACTIVE
+    }
+
+    @MongoDocument
+    public static class Address {
+
+        public String city;
+    }
+
+    @MongoDocument
+    public static class Person {
+
+        public ObjectId id;
+        public String name;
+        private int age;
+        @BsonProperty("mail")
+        public String email;
+        public List<String> tags;
+        public Status status;
+        public Address address;
+        public String nickname;
+        @BsonIgnore
+        public String ignored;
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    @MongoDocument
+    public static class Unsupported {
+
+        public final String name;
+
+        @BsonCreator
+        public Unsupported(@BsonProperty("name") String name) {
+            this.name = name;
+        }
+    }
+}
@@ -18,6 +18,7 @@ public class AggregateOptions {
     private TimeUnit maxTimeUnit;
     private long maxAwaitTime;
     private TimeUnit maxAwaitTimeUnit;
+    private int batchSize;
     private boolean bypassDocumentValidation;
     private Collation collation;
     private String comment;
@@ -114,8 +115,26 @@ public class AggregateOptions {
         return this;
     }
 
+    /**
+     * Sets the number of documents to return per batch.
+     * <p>
+     * The next batch is only fetched from the cursor once the documents of the previous one were requested by the
+     * downstream subscriber, so the batch size bounds the number of documents held in memory when streaming a large
+     * result.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public AggregateOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     public <T> AggregatePublisher<T> apply(AggregatePublisher<T> stream) {
         AggregatePublisher<T> publisher = stream;
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
 
         if (hint != null) {
             publisher = publisher.hint(hint);
@@ -20,6 +20,7 @@ public class ChangeStreamOptions {
     private long maxAwaitTime;
     private Collation collation;
     private TimeUnit maxAwaitTimeUnit;
+    private int batchSize;
 
     /**
      * Sets the fullDocument value.
@@ -90,8 +91,26 @@ public class ChangeStreamOptions {
         return this;
     }
 
+    /**
+     * Sets the number of documents to return per batch.
+     * <p>
+     * The next batch is only fetched from the cursor once the documents of the previous one were requested by the
+     * downstream subscriber, so the batch size bounds the number of documents held in memory when streaming a large
+     * result.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public ChangeStreamOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     public <T> ChangeStreamPublisher<T> apply(ChangeStreamPublisher<T> stream) {
         ChangeStreamPublisher<T> publisher = stream;
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
         if (collation != null) {
             publisher = publisher.collation(collation);
         }
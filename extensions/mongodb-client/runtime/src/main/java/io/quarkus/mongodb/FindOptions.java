@@ -33,6 +33,7 @@ public class FindOptions {
     private boolean showRecordId;
     private long maxAwaitTime;
     private TimeUnit maxAwaitTimeUnit;
+    private int batchSize;
 
     /**
      * Sets the query filter to apply to the query.
@@ -250,8 +251,26 @@ public class FindOptions {
         return this;
     }
 
+    /**
+     * Sets the number of documents to return per batch.
+     * <p>
+     * The next batch is only fetched from the cursor once the documents of the previous one were requested by the
+     * downstream subscriber, so the batch size bounds the number of documents held in memory when streaming a large
+     * result.
+     *
+     * @param batchSize the batch size
+     * @return this
+     */
+    public FindOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     public <T> FindPublisher<T> apply(FindPublisher<T> stream) {
         FindPublisher<T> publisher = stream;
+        if (batchSize > 0) {
+            publisher = publisher.batchSize(batchSize);
+        }
         if (filter != null) {
             publisher = publisher.filter(filter);
         }
@@ -0,0 +1,24 @@
+package io.quarkus.mongodb;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class stored in MongoDB, for which a BSON codec is generated at build time.
+ * <p>
+ * The generated codec reads and writes the properties the driver's {@code PojoCodecProvider} would detect, the public
+ * fields and the private fields with a public getter and setter, by accessing them directly instead of through
+ * reflection. The {@code BsonId}, {@code BsonProperty} and {@code BsonIgnore} annotations are honored on the fields.
+ * <p>
+ * The class must be public and have a public no-args constructor. The classes that cannot be handled, e.g. because
+ * they use a {@code BsonCreator} or a generic property, are left to the {@code PojoCodecProvider} as before.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface MongoDocument {
+}
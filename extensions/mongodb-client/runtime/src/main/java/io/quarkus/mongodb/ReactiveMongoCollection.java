@@ -1,11 +1,13 @@
 package io.quarkus.mongodb;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
+import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoNamespace;
 import com.mongodb.bulk.BulkWriteResult;
@@ -880,6 +882,41 @@ public interface ReactiveMongoCollection<T> {
     CompletionStage<BulkWriteResult> bulkWrite(ClientSession clientSession, List<? extends WriteModel<? extends T>> requests,
             BulkWriteOptions options);
 
+    /**
+     * Executes the writes emitted by the given publisher, coalesced into bulk writes of at most {@code batchSize}
+     * writes. A partial batch is written once {@code maxDelay} elapsed since its first write was received.
+     * <p>
+     * The publisher is consumed with backpressure: a single bulk write is in flight at a time and at most
+     * {@code 2 * batchSize} writes are requested ahead, so the memory used is bounded whatever the rate of the publisher.
+     * The first failing bulk write cancels the subscription to the publisher.
+     * <p>
+     * The delay is measured with a Vert.x timer: with a {@code maxDelay}, this method must be called on a Vert.x context
+     * or once the Vert.x instance of the application is started.
+     *
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write
+     * @param maxDelay the maximum delay before writing a partial batch, {@code null} to only write full batches and the
+     *        last one
+     * @return a completion stage completed when the publisher completed and all the writes were executed
+     * @throws IllegalStateException if a {@code maxDelay} is given and no Vert.x instance is available
+     */
+    CompletionStage<Void> bulkWrite(Publisher<? extends WriteModel<? extends T>> requests, int batchSize, Duration maxDelay);
+
+    /**
+     * Executes the writes emitted by the given publisher, coalesced into bulk writes of at most {@code batchSize}
+     * writes. A partial batch is written once {@code maxDelay} elapsed since its first write was received.
+     *
+     * @param requests the writes to execute
+     * @param batchSize the maximum number of writes per bulk write
+     * @param maxDelay the maximum delay before writing a partial batch, {@code null} to only write full batches and the
+     *        last one
+     * @param options the options to apply to each bulk write operation
+     * @return a completion stage completed when the publisher completed and all the writes were executed
+     * @see #bulkWrite(Publisher, int, Duration)
+     */
+    CompletionStage<Void> bulkWrite(Publisher<? extends WriteModel<? extends T>> requests, int batchSize, Duration maxDelay,
+            BulkWriteOptions options);
+
     /**
      * Inserts the provided document. If the document is missing an identifier, the driver should generate one.
      *
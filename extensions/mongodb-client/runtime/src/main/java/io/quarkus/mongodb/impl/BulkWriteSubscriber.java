@@ -0,0 +1,246 @@
+package io.quarkus.mongodb.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Coalesces the received write models into bulk writes of at most {@code batchSize} models, a partial batch being
+ * written once {@code maxDelay} elapsed since its first model was received.
+ * <p>
+ * A single bulk write is in flight at a time, and at most two batches are requested from the upstream publisher: one
+ * being written and one being filled. So the memory used is bounded whatever the throughput of the upstream publisher.
+ * <p>
+ * The delay is measured with a Vert.x timer: the one of the current Vert.x context, or else of the Vert.x instance of
+ * the application.
+ */
+class BulkWriteSubscriber<T> implements Subscriber<WriteModel<? extends T>> {
+
+    private final MongoCollection<T> collection;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private final BulkWriteOptions options;
+    private final Context context;
+    private final Vertx vertx;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private Subscription subscription;
+    private List<WriteModel<? extends T>> batch;
+    private long timer = -1;
+    private boolean expired;
+    private boolean writing;
+    private boolean upstreamCompleted;
+    private boolean done;
+
+    BulkWriteSubscriber(MongoCollection<T> collection, int batchSize, Duration maxDelay, BulkWriteOptions options) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        this.collection = collection;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelay != null ? maxDelay.toMillis() : 0;
+        this.options = options != null ? options : new BulkWriteOptions();
+        this.context = Vertx.currentContext();
+        this.vertx = maxDelayMillis > 0 ? lookupVertx(context) : null;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    CompletionStage<Void> getResult() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        synchronized (this) {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+            this.subscription = subscription;
+        }
+        subscription.request(2L * batchSize);
+    }
+
+    @Override
+    public synchronized void onNext(WriteModel<? extends T> request) {
+        if (done) {
+            return;
+        }
+        batch.add(request);
+        if (batch.size() == 1 && maxDelayMillis > 0) {
+            startTimer();
+        }
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable failure) {
+        fail(failure, false);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        upstreamCompleted = true;
+        if (!writing) {
+            flushOrComplete();
+        }
+    }
+
+    private synchronized void expire(long id) {
+        if (id != timer) {
+            // cancelled after it fired
+            return;
+        }
+        timer = -1;
+        if (done || batch.isEmpty()) {
+            return;
+        }
+        if (writing) {
+            // written as soon as the current bulk write completes
+            expired = true;
+        } else {
+            flush();
+        }
+    }
+
+    private synchronized void written(int count, Throwable failure) {
+        writing = false;
+        if (done) {
+            return;
+        }
+        if (failure != null) {
+            fail(failure, true);
+            return;
+        }
+        if (upstreamCompleted) {
+            flushOrComplete();
+            return;
+        }
+        if (batch.size() >= batchSize || (expired && !batch.isEmpty())) {
+            flush();
+        }
+        subscription.request(count);
+    }
+
+    private void flushOrComplete() {
+        if (batch.isEmpty()) {
+            complete(null);
+        } else {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (writing) {
+            return;
+        }
+        cancelTimer();
+        expired = false;
+        List<WriteModel<? extends T>> requests;
+        if (batch.size() <= batchSize) {
+            requests = batch;
+            batch = new ArrayList<>(batchSize);
+        } else {
+            requests = new ArrayList<>(batch.subList(0, batchSize));
+            batch.subList(0, batchSize).clear();
+        }
+        if (!batch.isEmpty() && maxDelayMillis > 0) {
+            // the remaining requests were received while the previous bulk write was in flight
+            startTimer();
+        }
+        writing = true;
+        collection.bulkWrite(requests, options).subscribe(new Subscriber<BulkWriteResult>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(BulkWriteResult bulkWriteResult) {
+                // the counts are not aggregated
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                written(requests.size(), t);
+            }
+
+            @Override
+            public void onComplete() {
+                written(requests.size(), null);
+            }
+        });
+    }
+
+    private void startTimer() {
+        timer = vertx.setTimer(maxDelayMillis, this::expire);
+    }
+
+    private void cancelTimer() {
+        if (timer != -1) {
+            vertx.cancelTimer(timer);
+            timer = -1;
+        }
+    }
+
+    private void fail(Throwable failure, boolean cancel) {
+        if (done) {
+            return;
+        }
+        if (cancel && subscription != null) {
+            subscription.cancel();
+        }
+        complete(failure);
+    }
+
+    private void complete(Throwable failure) {
+        done = true;
+        cancelTimer();
+        batch = new ArrayList<>(0);
+        if (context != null) {
+            context.runOnContext(x -> completeTheFuture(failure));
+        } else {
+            completeTheFuture(failure);
+        }
+    }
+
+    private void completeTheFuture(Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(null);
+        }
+    }
+
+    private static Vertx lookupVertx(Context context) {
+        if (context != null) {
+            return context.owner();
+        }
+        ArcContainer container = Arc.container();
+        if (container != null) {
+            Vertx vertx = container.instance(Vertx.class).get();
+            if (vertx != null) {
+                return vertx;
+            }
+        }
+        throw new IllegalStateException("A maximum delay requires a Vert.x instance: "
+                + "call the bulk write on a Vert.x context or within the application");
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.mongodb.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
@@ -7,6 +8,7 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.microprofile.reactive.streams.operators.PublisherBuilder;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoNamespace;
 import com.mongodb.bulk.BulkWriteResult;
@@ -610,6 +612,20 @@ public class ReactiveMongoCollectionImpl<T> implements ReactiveMongoCollection<T
         return Wrappers.toCompletionStage(collection.bulkWrite(clientSession, requests, options));
     }
 
+    @Override
+    public CompletionStage<Void> bulkWrite(Publisher<? extends WriteModel<? extends T>> requests, int batchSize,
+            Duration maxDelay) {
+        return bulkWrite(requests, batchSize, maxDelay, null);
+    }
+
+    @Override
+    public CompletionStage<Void> bulkWrite(Publisher<? extends WriteModel<? extends T>> requests, int batchSize,
+            Duration maxDelay, BulkWriteOptions options) {
+        BulkWriteSubscriber<T> subscriber = new BulkWriteSubscriber<>(collection, batchSize, maxDelay, options);
+        requests.subscribe(subscriber);
+        return subscriber.getResult();
+    }
+
     @Override
     public CompletionStage<Void> insertOne(T t) {
         return Wrappers.toEmptyCompletionStage(collection.insertOne(t));
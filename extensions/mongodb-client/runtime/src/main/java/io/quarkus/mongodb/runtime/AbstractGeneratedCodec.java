@@ -0,0 +1,232 @@
+package io.quarkus.mongodb.runtime;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * The superclass of the codecs generated at build time for the document classes.
+ * <p>
+ * The generated codecs read and write the properties directly, the values that are neither primitives nor strings
+ * are delegated to the codecs of the registry, obtained once when the codec is created.
+ *
+ * @param <T> The document class
+ */
+public abstract class AbstractGeneratedCodec<T> implements Codec<T> {
+
+    private static final String ID_FIELD = "_id";
+
+    private final CodecRegistry registry;
+    private final Class<T> documentClass;
+
+    protected AbstractGeneratedCodec(Class<T> documentClass, CodecRegistry registry) {
+        this.documentClass = documentClass;
+        this.registry = registry;
+    }
+
+    @Override
+    public Class<T> getEncoderClass() {
+        return documentClass;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + documentClass.getName() + "]";
+    }
+
+    // Encoding
+
+    protected static void writeBoolean(BsonWriter writer, String name, boolean value) {
+        writer.writeBoolean(name, value);
+    }
+
+    protected static void writeByte(BsonWriter writer, String name, byte value) {
+        writer.writeInt32(name, value);
+    }
+
+    protected static void writeShort(BsonWriter writer, String name, short value) {
+        writer.writeInt32(name, value);
+    }
+
+    protected static void writeChar(BsonWriter writer, String name, char value) {
+        writer.writeString(name, String.valueOf(value));
+    }
+
+    protected static void writeInt(BsonWriter writer, String name, int value) {
+        writer.writeInt32(name, value);
+    }
+
+    protected static void writeLong(BsonWriter writer, String name, long value) {
+        writer.writeInt64(name, value);
+    }
+
+    protected static void writeFloat(BsonWriter writer, String name, float value) {
+        writer.writeDouble(name, value);
+    }
+
+    protected static void writeDouble(BsonWriter writer, String name, double value) {
+        writer.writeDouble(name, value);
+    }
+
+    protected static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    protected static void writeEnum(BsonWriter writer, String name, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    /**
+     * The {@code null} values are not written, as the {@code PojoCodecProvider} does.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static void writeValue(BsonWriter writer, String name, Object value, Encoder encoder,
+            EncoderContext context) {
+        if (value != null) {
+            writer.writeName(name);
+            context.encodeWithChildContext(encoder, writer, value);
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static BsonValue toBsonValue(AbstractGeneratedCodec<?> codec, Object id) {
+        if (id == null) {
+            throw new IllegalStateException("The document does not have an " + ID_FIELD);
+        }
+        Encoder encoder = codec.registry.get(id.getClass());
+        BsonDocument document = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(document);
+        writer.writeStartDocument();
+        writer.writeName(ID_FIELD);
+        encoder.encode(writer, id, EncoderContext.builder().build());
+        writer.writeEndDocument();
+        return document.get(ID_FIELD);
+    }
+
+    // Decoding
+
+    /**
+     * @return {@code true} if the reader is positioned on the next field, {@code false} at the end of the document
+     */
+    protected static boolean nextField(BsonReader reader) {
+        return reader.readBsonType() != BsonType.END_OF_DOCUMENT;
+    }
+
+    protected static boolean readBoolean(BsonReader reader) {
+        if (skipNull(reader)) {
+            return false;
+        }
+        return reader.readBoolean();
+    }
+
+    protected static byte readByte(BsonReader reader) {
+        return (byte) readInt(reader);
+    }
+
+    protected static short readShort(BsonReader reader) {
+        return (short) readInt(reader);
+    }
+
+    protected static char readChar(BsonReader reader) {
+        String value = readString(reader);
+        if (value == null) {
+            return 0;
+        }
+        if (value.length() != 1) {
+            throw new CodecConfigurationException("Unable to decode '" + value + "' as a char");
+        }
+        return value.charAt(0);
+    }
+
+    protected static int readInt(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case NULL:
+                reader.readNull();
+                return 0;
+            case INT64:
+                return (int) reader.readInt64();
+            case DOUBLE:
+                return (int) reader.readDouble();
+            default:
+                return reader.readInt32();
+        }
+    }
+
+    protected static long readLong(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case NULL:
+                reader.readNull();
+                return 0;
+            case INT32:
+                return reader.readInt32();
+            case DOUBLE:
+                return (long) reader.readDouble();
+            default:
+                return reader.readInt64();
+        }
+    }
+
+    protected static float readFloat(BsonReader reader) {
+        return (float) readDouble(reader);
+    }
+
+    protected static double readDouble(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case NULL:
+                reader.readNull();
+                return 0;
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            default:
+                return reader.readDouble();
+        }
+    }
+
+    protected static String readString(BsonReader reader) {
+        if (skipNull(reader)) {
+            return null;
+        }
+        if (reader.getCurrentBsonType() == BsonType.SYMBOL) {
+            return reader.readSymbol();
+        }
+        return reader.readString();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static Enum<?> readEnum(BsonReader reader, Class enumClass) {
+        String value = readString(reader);
+        return value != null ? Enum.valueOf(enumClass, value) : null;
+    }
+
+    protected static Object readValue(BsonReader reader, Decoder<?> decoder, DecoderContext context) {
+        if (skipNull(reader)) {
+            return null;
+        }
+        return context.decodeWithChildContext(decoder, reader);
+    }
+
+    private static boolean skipNull(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return true;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.quarkus.mongodb.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * The MongoDB client build time configuration.
+ */
+@ConfigRoot(name = "mongodb")
+public class MongoClientBuildTimeConfig {
+
+    /**
+     * If BSON codecs should be generated at build time for the classes annotated with
+     * {@link io.quarkus.mongodb.MongoDocument} and the classes mapped by the extensions, like the MongoDB with Panache
+     * entities. The generated codecs access the properties directly instead of through reflection.
+     * <p>
+     * The classes that cannot be handled are mapped by the {@code PojoCodecProvider} as usual.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean generateCodecs;
+}
@@ -4,12 +4,17 @@ import static com.mongodb.client.model.Accumulators.sum;
 import static com.mongodb.client.model.Filters.eq;
 import static com.mongodb.client.model.Updates.inc;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 
 import org.bson.Document;
 import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
@@ -24,6 +29,7 @@ import com.mongodb.client.result.UpdateResult;
 import com.mongodb.reactivestreams.client.MongoClients;
 
 import io.quarkus.mongodb.impl.ReactiveMongoClientImpl;
+import io.vertx.core.Vertx;
 
 class CollectionManagementTest extends MongoTestBase {
 
@@ -372,6 +378,76 @@ class CollectionManagementTest extends MongoTestBase {
 
     }
 
+    @Test
+    void bulkWriteFromPublisher() {
+        ReactiveMongoDatabase database = client.getDatabase(DATABASE);
+        ReactiveMongoCollection<Document> collection = database.getCollection("test");
+
+        // the maximum delay is measured with a Vert.x timer
+        Vertx vertx = Vertx.vertx();
+        try {
+            onContext(vertx, () -> collection.bulkWrite(ReactiveStreams.iterate(0, i -> i + 1).limit(1050)
+                    .map(i -> new InsertOneModel<>(new Document("_id", i)))
+                    .buildRs(), 100, Duration.ofMillis(50))).join();
+            assertThat(collection.countDocuments().toCompletableFuture().join()).isEqualTo(1050);
+
+            onContext(vertx, () -> collection.bulkWrite(
+                    ReactiveStreams.of(new DeleteOneModel<Document>(new Document("_id", 0))).buildRs(),
+                    100, Duration.ofMillis(10))).join();
+            assertThat(collection.countDocuments().toCompletableFuture().join()).isEqualTo(1049);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    void bulkWriteFromPublisherWithoutVertx() {
+        ReactiveMongoDatabase database = client.getDatabase(DATABASE);
+        ReactiveMongoCollection<Document> collection = database.getCollection("test");
+
+        assertThatThrownBy(() -> collection.bulkWrite(ReactiveStreams.of(new InsertOneModel<>(new Document("_id", 1)))
+                .buildRs(), 10, Duration.ofMillis(10))).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static <T> CompletableFuture<T> onContext(Vertx vertx, Supplier<CompletionStage<T>> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        vertx.runOnContext(x -> action.get().whenComplete((value, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }));
+        return result;
+    }
+
+    @Test
+    void bulkWriteFromPublisherFailure() {
+        ReactiveMongoDatabase database = client.getDatabase(DATABASE);
+        ReactiveMongoCollection<Document> collection = database.getCollection("test");
+
+        // the duplicated key fails the bulk write
+        assertThatThrownBy(() -> collection.bulkWrite(ReactiveStreams.of(
+                new InsertOneModel<>(new Document("_id", 1)),
+                new InsertOneModel<>(new Document("_id", 1))).buildRs(), 10, null).toCompletableFuture().join())
+                        .isInstanceOf(CompletionException.class);
+    }
+
+    @Test
+    void findWithBatchSize() {
+        ReactiveMongoDatabase database = client.getDatabase(DATABASE);
+        ReactiveMongoCollection<Document> collection = database.getCollection("test");
+        collection.bulkWrite(ReactiveStreams.iterate(0, i -> i + 1).limit(250)
+                .map(i -> new InsertOneModel<>(new Document("_id", i)))
+                .buildRs(), 100, null)
+                .toCompletableFuture().join();
+
+        List<Document> documents = collection.find(new FindOptions().batchSize(10).sort(new Document("_id", 1)))
+                .limit(25).toList().run().toCompletableFuture().join();
+        assertThat(documents).hasSize(25);
+        assertThat(documents.get(24).getInteger("_id")).isEqualTo(24);
+    }
+
     @Test
     void distinct() {
         ReactiveMongoDatabase database = client.getDatabase(DATABASE);
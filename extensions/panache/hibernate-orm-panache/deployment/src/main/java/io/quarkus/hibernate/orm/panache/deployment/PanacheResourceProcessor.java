@@ -1,5 +1,6 @@
 package io.quarkus.hibernate.orm.panache.deployment;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -8,6 +9,8 @@ import java.util.function.Predicate;
 
 import javax.persistence.EntityManager;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Type;
@@ -16,15 +19,21 @@ import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
 import io.quarkus.hibernate.orm.deployment.AdditionalJpaModelBuildItem;
 import io.quarkus.hibernate.orm.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.hibernate.orm.panache.PanacheProjection;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+import io.quarkus.hibernate.orm.panache.runtime.PanacheHibernateOrmRecorder;
 import io.quarkus.panache.common.deployment.EntityField;
 import io.quarkus.panache.common.deployment.EntityModel;
 import io.quarkus.panache.common.deployment.MetamodelInfo;
@@ -36,6 +45,8 @@ public final class PanacheResourceProcessor {
     private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheRepository.class.getName());
     static final DotName DOTNAME_PANACHE_ENTITY_BASE = DotName.createSimple(PanacheEntityBase.class.getName());
     private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheEntity.class.getName());
+    private static final DotName DOTNAME_PANACHE_PROJECTION = DotName.createSimple(PanacheProjection.class.getName());
+    private static final DotName DOTNAME_PROJECTED_FIELD_NAME = DotName.createSimple(ProjectedFieldName.class.getName());
 
     private static final Set<DotName> UNREMOVABLE_BEANS = Collections.singleton(
             DotName.createSimple(EntityManager.class.getName()));
@@ -64,6 +75,33 @@ public final class PanacheResourceProcessor {
         });
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void registerProjections(PanacheHibernateOrmRecorder recorder, CombinedIndexBuildItem index,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        Set<DotName> projectionClasses = new HashSet<>();
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(DOTNAME_PANACHE_PROJECTION)) {
+            projectionClasses.add(annotation.target().asClass().name());
+        }
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(DOTNAME_PROJECTED_FIELD_NAME)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                projectionClasses.add(annotation.target().asMethodParameter().method().declaringClass().name());
+            }
+        }
+        if (projectionClasses.isEmpty()) {
+            return;
+        }
+        ProjectionSelectClauses selectClauses = new ProjectionSelectClauses(index.getIndex());
+        List<String> classNames = new ArrayList<>();
+        for (DotName projectionClass : projectionClasses) {
+            selectClauses.add(index.getIndex().getClassByName(projectionClass));
+            classNames.add(projectionClass.toString());
+        }
+        recorder.setProjections(selectClauses.getConstructorSelects(), selectClauses.getFieldSelects());
+        // projection classes are instantiated by Hibernate ORM using reflection
+        reflectiveClass.produce(new ReflectiveClassBuildItem(true, true, classNames.toArray(new String[0])));
+    }
+
     @BuildStep
     void build(CombinedIndexBuildItem index,
             ApplicationIndexBuildItem applicationIndex,
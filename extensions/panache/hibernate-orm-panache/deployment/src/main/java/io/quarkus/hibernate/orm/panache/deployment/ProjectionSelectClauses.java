@@ -0,0 +1,125 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+
+/**
+ * Computes the select clauses of the projection classes from the index, so that no reflection is needed to project
+ * a query at runtime.
+ */
+class ProjectionSelectClauses {
+
+    private static final DotName DOTNAME_OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName DOTNAME_PROJECTED_FIELD_NAME = DotName.createSimple(ProjectedFieldName.class.getName());
+    // not exposed by java.lang.reflect.Modifier
+    private static final int SYNTHETIC = 0x1000;
+
+    private final IndexView index;
+    private final Map<String, String> constructorSelects = new HashMap<>();
+    private final Map<String, String> fieldSelects = new HashMap<>();
+
+    ProjectionSelectClauses(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * The select clauses calling the constructor of the projection class, by class name.
+     */
+    Map<String, String> getConstructorSelects() {
+        return constructorSelects;
+    }
+
+    /**
+     * The select clauses of aliased attributes to set on the fields of the projection class, by class name.
+     */
+    Map<String, String> getFieldSelects() {
+        return fieldSelects;
+    }
+
+    void add(ClassInfo projectionClass) {
+        String className = projectionClass.name().toString();
+        MethodInfo constructor = null;
+        for (MethodInfo method : projectionClass.methods()) {
+            if (method.name().equals("<init>") && Modifier.isPublic(method.flags()) && method.parameters().size() > 0) {
+                if (constructor != null) {
+                    throw new IllegalArgumentException("Projection class " + className
+                            + " must have a single public constructor with parameters");
+                }
+                constructor = method;
+            }
+        }
+
+        StringBuilder select = new StringBuilder("SELECT ");
+        if (constructor != null) {
+            select.append("new ").append(className).append('(');
+            for (int i = 0; i < constructor.parameters().size(); i++) {
+                if (i > 0)
+                    select.append(", ");
+                select.append(getAttributeName(className, constructor, i));
+            }
+            select.append(')');
+            constructorSelects.put(className, select.toString());
+            return;
+        }
+
+        boolean first = true;
+        for (ClassInfo current = projectionClass; current != null; current = superClass(current)) {
+            for (FieldInfo field : current.fields()) {
+                if (Modifier.isStatic(field.flags()) || Modifier.isTransient(field.flags())
+                        || (field.flags() & SYNTHETIC) != 0) {
+                    continue;
+                }
+                if (!first)
+                    select.append(", ");
+                select.append(field.name()).append(" AS ").append(field.name());
+                first = false;
+            }
+        }
+        if (first) {
+            throw new IllegalArgumentException("Projection class " + className
+                    + " has neither a public constructor with parameters nor fields to project");
+        }
+        fieldSelects.put(className, select.toString());
+    }
+
+    private ClassInfo superClass(ClassInfo classInfo) {
+        DotName superName = classInfo.superName();
+        if (superName == null || superName.equals(DOTNAME_OBJECT)) {
+            return null;
+        }
+        ClassInfo superClass = index.getClassByName(superName);
+        if (superClass == null) {
+            throw new IllegalArgumentException("The superclass " + superName + " of projection class "
+                    + classInfo.name() + " is not in the index");
+        }
+        return superClass;
+    }
+
+    private static String getAttributeName(String className, MethodInfo constructor, int position) {
+        for (AnnotationInstance annotation : constructor.annotations()) {
+            if (annotation.name().equals(DOTNAME_PROJECTED_FIELD_NAME)
+                    && annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                    && annotation.target().asMethodParameter().position() == position) {
+                return annotation.value().asString();
+            }
+        }
+        String name = constructor.parameterName(position);
+        if (name == null) {
+            throw new IllegalArgumentException("The constructor parameter names of projection class " + className
+                    + " are not available: compile it with the -parameters option or annotate its parameters with @"
+                    + ProjectedFieldName.class.getSimpleName());
+        }
+        return name;
+    }
+}
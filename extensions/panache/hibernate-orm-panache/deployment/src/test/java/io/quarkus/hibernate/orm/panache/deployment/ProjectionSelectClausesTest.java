@@ -0,0 +1,78 @@
+package io.quarkus.hibernate.orm.panache.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+
+public class ProjectionSelectClausesTest {
+
+    @Test
+    public void testConstructorProjection() throws IOException {
+        ProjectionSelectClauses selectClauses = selectClauses(ByConstructor.class);
+        Assertions.assertEquals("SELECT new " + ByConstructor.class.getName() + "(name, owner.name)",
+                selectClauses.getConstructorSelects().get(ByConstructor.class.getName()));
+        Assertions.assertTrue(selectClauses.getFieldSelects().isEmpty());
+    }
+
+    @Test
+    public void testFieldProjection() throws IOException {
+        ProjectionSelectClauses selectClauses = selectClauses(ByFields.class, ByFieldsBase.class);
+        Assertions.assertEquals("SELECT status AS status, name AS name",
+                selectClauses.getFieldSelects().get(ByFields.class.getName()));
+        Assertions.assertTrue(selectClauses.getConstructorSelects().isEmpty());
+    }
+
+    @Test
+    public void testSeveralConstructorsAreRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> selectClauses(TwoConstructors.class));
+    }
+
+    private static ProjectionSelectClauses selectClauses(Class<?> projectionClass, Class<?>... otherClasses)
+            throws IOException {
+        Indexer indexer = new Indexer();
+        index(indexer, projectionClass);
+        for (Class<?> otherClass : otherClasses) {
+            index(indexer, otherClass);
+        }
+        Index index = indexer.complete();
+        ProjectionSelectClauses selectClauses = new ProjectionSelectClauses(index);
+        selectClauses.add(index.getClassByName(DotName.createSimple(projectionClass.getName())));
+        return selectClauses;
+    }
+
+    private static void index(Indexer indexer, Class<?> type) throws IOException {
+        try (InputStream in = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            indexer.index(in);
+        }
+    }
+
+    public static class ByConstructor {
+        public ByConstructor(@ProjectedFieldName("name") String name, @ProjectedFieldName("owner.name") String owner) {
+        }
+    }
+
+    public static class ByFieldsBase {
+        public String name;
+        public static String ignoredStatic;
+    }
+
+    public static class ByFields extends ByFieldsBase {
+        public String status;
+        public transient String ignoredTransient;
+    }
+
+    public static class TwoConstructors {
+        public TwoConstructors(@ProjectedFieldName("name") String name) {
+        }
+
+        public TwoConstructors(@ProjectedFieldName("name") String name, @ProjectedFieldName("status") String status) {
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.hibernate.orm.panache;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class as a projection class, which can be passed to {@link PanacheQuery#project(Class)}. Its select clause is
+ * computed at build time, and the class is registered for reflection.
+ * <p>
+ * The classes which have a constructor parameter annotated with {@link ProjectedFieldName} are projection classes too,
+ * and do not need this annotation.
+ *
+ * @see PanacheQuery#project(Class)
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface PanacheProjection {
+}
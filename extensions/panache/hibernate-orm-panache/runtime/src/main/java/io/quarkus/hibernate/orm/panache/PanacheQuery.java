@@ -25,6 +25,30 @@ public interface PanacheQuery<Entity> {
 
     // Builder
 
+    /**
+     * Defines a projection class: instead of managed entities, this query will return instances of the given class
+     * built from the selected entity attributes only.
+     * <p>
+     * The projection class must be annotated with {@link PanacheProjection}, or have constructor parameters annotated
+     * with {@link ProjectedFieldName}, so that its select clause is computed at build time.
+     * If the projection class has a constructor with parameters, it is called with the entity attributes named after
+     * its parameters, or after their {@link ProjectedFieldName} annotation. This requires the class to be compiled with
+     * the <code>-parameters</code> option unless all the parameters are annotated. Otherwise, the projection class must
+     * have a no-arg constructor and its non-static, non-transient fields are set from the entity attributes of the same
+     * name.
+     * <p>
+     * Projection instances are not managed by the persistence context, so they are never flushed back to the database.
+     * This query must not already have a <code>SELECT</code> clause.
+     * 
+     * @param type the projection class
+     * @return a new query returning instances of the projection class, with the same parameters, keyset restriction,
+     *         paging and sorting
+     * @throws IllegalArgumentException if the given class is not a projection class
+     * @see PanacheProjection
+     * @see ProjectedFieldName
+     */
+    public <T> PanacheQuery<T> project(Class<T> type);
+
     /**
      * Sets the current page.
      * 
@@ -76,6 +100,7 @@ public interface PanacheQuery<Entity> {
      * @return this query, modified
      * @see #firstPage()
      * @see #count()
+     * @throws IllegalStateException if this query is paginated by keyset
      */
     public <T extends Entity> PanacheQuery<T> lastPage();
 
@@ -86,6 +111,7 @@ public interface PanacheQuery<Entity> {
      * @return true if there is another page to read
      * @see #hasPreviousPage()
      * @see #count()
+     * @throws IllegalStateException if this query is paginated by keyset
      */
     public boolean hasNextPage();
 
@@ -102,6 +128,7 @@ public interface PanacheQuery<Entity> {
      * This will cause reading of the entity count.
      * 
      * @return the total number of pages to be read using the current page size.
+     * @throws IllegalStateException if this query is paginated by keyset
      */
     public int pageCount();
 
@@ -114,6 +141,38 @@ public interface PanacheQuery<Entity> {
      */
     public Page page();
 
+    /**
+     * Switches this query to keyset pagination, restricting the results to those located after the given values
+     * of the sort columns, in sort order. The current page is reset to the first page, keeping the same page size.
+     * <p>
+     * Unlike {@link #page(Page)}, which skips the results of the previous pages using an offset, this lets the
+     * database seek directly to the first result of the page, so reading a page has the same cost whatever its
+     * position. This requires the query to be sorted and the sort columns to be non-null and to uniquely identify
+     * each result, which is typically achieved by sorting on the ID last. The rows whose sort columns are null are
+     * never returned, so only sort on non-nullable columns.
+     * <p>
+     * Once switched to keyset pagination, {@link #count()}, {@link #pageCount()}, {@link #hasNextPage()} and
+     * {@link #lastPage()} are no longer supported, as they would ignore the keyset restriction: the end of the results
+     * is reached when a page has less results than the page size.
+     * 
+     * @param sortValues the values of the sort columns of the last result of the previous page, in sort order
+     * @return this query, modified
+     * @throws IllegalStateException if this query is not sorted
+     * @throws IllegalArgumentException if a sort value is null
+     * @see #nextKeysetPage()
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... sortValues);
+
+    /**
+     * Sets the current page to the keyset page following the last result returned by {@link #list()}.
+     * The sort columns must be attributes or the ID of the entity.
+     * 
+     * @return this query, modified
+     * @throws IllegalStateException if this query is not sorted or if the current page was not read or is empty
+     * @see #after(Object...)
+     */
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage();
+
     // Results
 
     /**
@@ -122,6 +181,7 @@ public interface PanacheQuery<Entity> {
      * ordering.
      * 
      * @return the total number of entities this query operates on, cached.
+     * @throws IllegalStateException if this query is paginated by keyset
      */
     public long count();
 
@@ -130,6 +190,7 @@ public interface PanacheQuery<Entity> {
      * 
      * @return the current page of results as a {@link List}.
      * @see #stream()
+     * @see #streamInBatches(int)
      * @see #page(Page)
      * @see #page()
      */
@@ -145,6 +206,23 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream}, fetching <code>batchSize</code> rows at a time
+     * from the database. The persistence context is flushed and cleared once every <code>batchSize</code> results
+     * have been processed, once more after the last result, and when the stream is closed. Clearing the persistence
+     * context detaches all the entities it manages, including those loaded before streaming.
+     * <p>
+     * Use this instead of {@link #stream()} when streaming a large number of entities, so that the persistence
+     * context does not grow with the number of results. Results of a {@link #project(Class) projection} are
+     * never managed, so they are only fetched in batches.
+     * 
+     * @param batchSize the number of results to fetch and keep managed at a time
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     * @see #page(Page)
+     */
+    public <T extends Entity> Stream<T> streamInBatches(int batchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -677,4 +677,96 @@ public interface PanacheRepositoryBase<Entity, Id> {
     public default void persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity... entities) {
         JpaOperations.persist(firstEntity, entities);
     }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every <code>batchSize</code> entities.
+     * Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * Use this for bulk imports to keep the persistence context bounded. Beware that all entities managed by the
+     * current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist before flushing and clearing the persistence context
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    public default void persistInBatches(Iterable<Entity> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities, flushing and clearing the persistence context every <code>batchSize</code> entities.
+     * Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * Use this for bulk imports to keep the persistence context bounded. Beware that all entities managed by the
+     * current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to persist
+     * @param batchSize the number of entities to persist before flushing and clearing the persistence context
+     * @see #persist(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    public default void persistInBatches(Stream<Entity> entities, int batchSize) {
+        JpaOperations.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Merge the state of all given entities into the database, flushing and clearing the persistence context every
+     * <code>batchSize</code> entities. Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * Beware that all entities managed by the current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to update
+     * @param batchSize the number of entities to update before flushing and clearing the persistence context
+     * @see #updateInBatches(Stream, int)
+     */
+    public default void updateInBatches(Iterable<Entity> entities, int batchSize) {
+        JpaOperations.updateInBatches(entities, batchSize);
+    }
+
+    /**
+     * Merge the state of all given entities into the database, flushing and clearing the persistence context every
+     * <code>batchSize</code> entities. Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * Beware that all entities managed by the current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to update
+     * @param batchSize the number of entities to update before flushing and clearing the persistence context
+     * @see #updateInBatches(Iterable, int)
+     */
+    public default void updateInBatches(Stream<Entity> entities, int batchSize) {
+        JpaOperations.updateInBatches(entities, batchSize);
+    }
+
+    /**
+     * Delete all given entities, flushing and clearing the persistence context every <code>batchSize</code> entities.
+     * Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * Beware that all entities managed by the current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to delete
+     * @param batchSize the number of entities to delete before flushing and clearing the persistence context
+     * @see #delete(Object)
+     * @see #deleteInBatches(Stream, int)
+     */
+    public default void deleteInBatches(Iterable<Entity> entities, int batchSize) {
+        JpaOperations.deleteInBatches(entities, batchSize);
+    }
+
+    /**
+     * Delete all given entities, flushing and clearing the persistence context every <code>batchSize</code> entities.
+     * Each flush is sent to the database as a single JDBC batch.
+     * <p>
+     * This is typically used with the results of {@link #stream(String, Object...)} to delete a large number of
+     * entities while still triggering their lifecycle callbacks and cascades, with a bounded persistence context.
+     * Beware that all entities managed by the current persistence context are detached on each batch.
+     * 
+     * @param entities the entities to delete
+     * @param batchSize the number of entities to delete before flushing and clearing the persistence context
+     * @see #delete(Object)
+     * @see #deleteInBatches(Iterable, int)
+     */
+    public default void deleteInBatches(Stream<Entity> entities, int batchSize) {
+        JpaOperations.deleteInBatches(entities, batchSize);
+    }
 }
@@ -0,0 +1,23 @@
+package io.quarkus.hibernate.orm.panache;
+
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates the entity attribute, or the path to an attribute of an associated entity, that a constructor parameter of
+ * a projection class is read from. By default, the name of the constructor parameter is used.
+ *
+ * @see PanacheQuery#project(Class)
+ */
+@Target(PARAMETER)
+@Retention(RUNTIME)
+public @interface ProjectedFieldName {
+
+    /**
+     * @return the name of the entity attribute, or the path to it, such as <code>owner.name</code>
+     */
+    String value();
+}
@@ -0,0 +1,65 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Streams the results of a query, flushing and clearing the persistence context once every {@code batchSize} results
+ * have been processed, and once more after the last one or when the stream is closed.
+ * <p>
+ * The persistence context is only cleared once the consumer returned, so the entity it is processing is never
+ * detached under its feet.
+ */
+class BatchingSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final Iterator<T> results;
+    private final EntityManager em;
+    private final int batchSize;
+    private int processed;
+
+    private BatchingSpliterator(Iterator<T> results, EntityManager em, int batchSize) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.results = results;
+        this.em = em;
+        this.batchSize = batchSize;
+    }
+
+    static <T> Stream<T> stream(Stream<T> results, EntityManager em, int batchSize) {
+        BatchingSpliterator<T> spliterator = new BatchingSpliterator<>(results.iterator(), em, batchSize);
+        return StreamSupport.stream(spliterator, false)
+                .onClose(() -> {
+                    try {
+                        spliterator.endBatch();
+                    } finally {
+                        results.close();
+                    }
+                });
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (!results.hasNext()) {
+            endBatch();
+            return false;
+        }
+        action.accept(results.next());
+        if (++processed == batchSize) {
+            endBatch();
+        }
+        return true;
+    }
+
+    private void endBatch() {
+        if (processed > 0) {
+            processed = 0;
+            em.flush();
+            em.clear();
+        }
+    }
+}
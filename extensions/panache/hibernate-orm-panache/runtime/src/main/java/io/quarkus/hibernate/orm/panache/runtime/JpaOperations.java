@@ -1,8 +1,10 @@
 package io.quarkus.hibernate.orm.panache.runtime;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -11,6 +13,8 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Parameters;
@@ -52,11 +56,66 @@ public class JpaOperations {
         entities.forEach(entity -> persist(em, entity));
     }
 
+    public static void persistInBatches(Iterable<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, JpaOperations::persist);
+    }
+
+    public static void persistInBatches(Stream<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, JpaOperations::persist);
+    }
+
+    public static void updateInBatches(Iterable<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, EntityManager::merge);
+    }
+
+    public static void updateInBatches(Stream<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, EntityManager::merge);
+    }
+
+    public static void deleteInBatches(Iterable<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, JpaOperations::delete);
+    }
+
+    public static void deleteInBatches(Stream<?> entities, int batchSize) {
+        processInBatches(entities.iterator(), batchSize, JpaOperations::delete);
+    }
+
+    private static void processInBatches(Iterator<?> entities, int batchSize,
+            BiConsumer<EntityManager, Object> operation) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        EntityManager em = getEntityManager();
+        // make sure each flush is sent as a single JDBC batch, whatever the global batch size
+        Session session = em.unwrap(Session.class);
+        Integer previousJdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(batchSize);
+        try {
+            int count = 0;
+            while (entities.hasNext()) {
+                operation.accept(em, entities.next());
+                if (++count % batchSize == 0) {
+                    // keep the persistence context bounded
+                    em.flush();
+                    em.clear();
+                }
+            }
+            em.flush();
+        } finally {
+            session.setJdbcBatchSize(previousJdbcBatchSize);
+        }
+    }
+
     public static void delete(Object entity) {
         EntityManager em = getEntityManager();
         em.remove(entity);
     }
 
+    private static void delete(EntityManager em, Object entity) {
+        // the entity might have been detached by a previous batch
+        em.remove(em.contains(entity) ? entity : em.merge(entity));
+    }
+
     public static boolean isPersistent(Object entity) {
         return getEntityManager().contains(entity);
     }
@@ -112,24 +171,45 @@ public class JpaOperations {
     }
 
     private static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
-        if (query == null)
-            return "FROM " + getEntityName(entityClass);
+        String restriction = createFindRestriction(query, paramCount);
+        if (restriction != null)
+            return "FROM " + getEntityName(entityClass) + " WHERE " + restriction;
 
-        String trimmed = query.trim();
-        if (trimmed.isEmpty())
+        if (query == null || query.trim().isEmpty())
             return "FROM " + getEntityName(entityClass);
 
-        String trimmedLc = trimmed.toLowerCase();
-        if (trimmedLc.startsWith("from ") || trimmedLc.startsWith("select ")) {
-            return query;
-        }
-        if (trimmedLc.startsWith("order by ")) {
+        if (query.trim().toLowerCase().startsWith("order by ")) {
             return "FROM " + getEntityName(entityClass) + " " + query;
         }
+        return query;
+    }
+
+    /**
+     * Returns the WHERE restriction of a find query, or null if the query is empty, starts with ORDER BY or is a
+     * full HQL query.
+     */
+    private static String createFindRestriction(String query, int paramCount) {
+        if (query == null)
+            return null;
+
+        String trimmedLc = query.trim().toLowerCase();
+        if (trimmedLc.isEmpty() || trimmedLc.startsWith("from ") || trimmedLc.startsWith("select ")
+                || trimmedLc.startsWith("order by ")) {
+            return null;
+        }
         if (trimmedLc.indexOf(' ') == -1 && trimmedLc.indexOf('=') == -1 && paramCount == 1) {
-            query += " = ?1";
+            return query + " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return query;
+    }
+
+    /**
+     * Returns the FROM clause that a restriction can be appended to, or null if the query does not allow it.
+     */
+    private static String createFindFromClause(Class<?> entityClass, String query, int paramCount) {
+        if (query == null || query.trim().isEmpty() || createFindRestriction(query, paramCount) != null)
+            return "FROM " + getEntityName(entityClass);
+        return null;
     }
 
     private static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
@@ -176,7 +256,7 @@ public class JpaOperations {
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
-    private static String toOrderBy(Sort sort) {
+    static String toOrderBy(Sort sort) {
         StringBuilder sb = new StringBuilder(" ORDER BY ");
         for (int i = 0; i < sort.getColumns().size(); i++) {
             Sort.Column column = sort.getColumns().get(i);
@@ -202,12 +282,14 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        int paramCount = paramCount(params);
+        String findQuery = createFindQuery(entityClass, query, paramCount);
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, createFindFromClause(entityClass, query, paramCount),
+                createFindRestriction(query, paramCount), sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
@@ -216,12 +298,14 @@ public class JpaOperations {
 
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
-        String findQuery = createFindQuery(entityClass, query, paramCount(params));
+        int paramCount = paramCount(params);
+        String findQuery = createFindQuery(entityClass, query, paramCount);
         EntityManager em = getEntityManager();
         // FIXME: check for duplicate ORDER BY clause?
         Query jpaQuery = em.createQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         bindParameters(jpaQuery, params);
-        return new PanacheQueryImpl(em, jpaQuery, findQuery, params);
+        return new PanacheQueryImpl(em, jpaQuery, findQuery, createFindFromClause(entityClass, query, paramCount),
+                createFindRestriction(query, paramCount), sort, params);
     }
 
     public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
@@ -284,7 +368,7 @@ public class JpaOperations {
     public static PanacheQuery<?> findAll(Class<?> entityClass) {
         String query = "FROM " + getEntityName(entityClass);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(query), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(query), query, query, null, null, null);
     }
 
     @SuppressWarnings("rawtypes")
@@ -292,7 +376,7 @@ public class JpaOperations {
         String query = "FROM " + getEntityName(entityClass);
         String sortedQuery = query + toOrderBy(sort);
         EntityManager em = getEntityManager();
-        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, null);
+        return new PanacheQueryImpl(em, em.createQuery(sortedQuery), query, query, null, sort, null);
     }
 
     public static List<?> listAll(Class<?> entityClass) {
@@ -0,0 +1,18 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheHibernateOrmRecorder {
+
+    /**
+     * @param constructorSelects the select clauses calling the constructor of the projection class, by class name
+     * @param fieldSelects the select clauses of aliased attributes set on the fields of the projection class, by class
+     *        name
+     */
+    public void setProjections(Map<String, String> constructorSelects, Map<String, String> fieldSelects) {
+        Projection.setSelectClauses(constructorSelects, fieldSelects);
+    }
+}
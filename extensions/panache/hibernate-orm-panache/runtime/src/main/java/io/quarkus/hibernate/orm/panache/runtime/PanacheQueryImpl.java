@@ -7,14 +7,29 @@ import java.util.stream.Stream;
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
 
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.transform.Transformers;
+
 import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
+    private static final String KEYSET_PARAMETER_PREFIX = "__panache_key";
+
     private Query jpaQuery;
     private Object paramsArrayOrMap;
     private String query;
+    /*
+     * The FROM clause and the WHERE restriction of the query, kept apart so that a keyset restriction can be added to
+     * them. The FROM clause is null for full HQL queries, which cannot be paginated by keyset.
+     */
+    private String fromClause;
+    private String restriction;
+    private Sort sort;
     private EntityManager em;
 
     /*
@@ -23,17 +38,48 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
      */
     private Page page;
     private Long count;
+    /*
+     * The last result of the current page, used to compute the next keyset page
+     */
+    private Object lastResult;
+    /*
+     * The sort column values set by after(), if any
+     */
+    private Object[] keysetValues;
+    private Projection projection;
 
-    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, Object paramsArrayOrMap) {
+    PanacheQueryImpl(EntityManager em, javax.persistence.Query jpaQuery, String query, String fromClause,
+            String restriction, Sort sort, Object paramsArrayOrMap) {
         this.em = em;
         this.jpaQuery = jpaQuery;
         this.query = query;
+        this.fromClause = fromClause;
+        this.restriction = restriction;
+        this.sort = sort;
         this.paramsArrayOrMap = paramsArrayOrMap;
         page = new Page(0, Integer.MAX_VALUE);
     }
 
     // Builder
 
+    @Override
+    public <T> PanacheQuery<T> project(Class<T> type) {
+        if (query.trim().toLowerCase().startsWith("select ")) {
+            throw new IllegalStateException("Unable to project a query which already has a select clause: " + query);
+        }
+        PanacheQueryImpl<T> projectedQuery = new PanacheQueryImpl<>(em, null, query, fromClause, restriction, sort,
+                paramsArrayOrMap);
+        projectedQuery.projection = Projection.of(type);
+        projectedQuery.jpaQuery = projectedQuery.createJpaQuery(query);
+        bindParameters(projectedQuery.jpaQuery);
+        projectedQuery.count = count;
+        if (keysetValues != null) {
+            projectedQuery.after(keysetValues);
+        }
+        projectedQuery.page(page);
+        return projectedQuery;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Entity> PanacheQuery<T> page(Page page) {
@@ -64,11 +110,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     @Override
     public <T extends Entity> PanacheQuery<T> lastPage() {
+        checkNotKeysetPaginated("lastPage");
         return page(page.index(pageCount() - 1));
     }
 
     @Override
     public boolean hasNextPage() {
+        checkNotKeysetPaginated("hasNextPage");
         return page.index < (pageCount() - 1);
     }
 
@@ -79,6 +127,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     @Override
     public int pageCount() {
+        checkNotKeysetPaginated("pageCount");
         long count = count();
         if (count == 0)
             return 1; // a single page of zero results
@@ -90,11 +139,123 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page;
     }
 
-    // Results
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> after(Object... sortValues) {
+        if (sort == null) {
+            throw new IllegalStateException("Keyset pagination requires the query to be sorted");
+        }
+        if (fromClause == null) {
+            throw new IllegalStateException(
+                    "Keyset pagination requires a query made of a restriction rather than a full HQL query: " + query);
+        }
+        List<Sort.Column> columns = sort.getColumns();
+        if (sortValues.length != columns.size()) {
+            throw new IllegalArgumentException("Expected one value for each sort column " + columns.size()
+                    + " but got " + sortValues.length);
+        }
+        for (int i = 0; i < sortValues.length; i++) {
+            if (sortValues[i] == null) {
+                // the keyset restriction can't match the rows following a null value, whatever the null ordering
+                throw new IllegalArgumentException("Keyset pagination requires non-null sort columns but the value of "
+                        + columns.get(i).getName() + " is null");
+            }
+        }
+        boolean namedParameters = paramsArrayOrMap instanceof Map;
+        int firstKeyIndex = paramsArrayOrMap == null || namedParameters ? 0 : ((Object[]) paramsArrayOrMap).length;
+
+        // (a > ?) OR (a = ? AND b > ?) OR ... which, unlike row value comparison, supports mixed sort directions
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                predicate.append(" OR ");
+            predicate.append('(');
+            for (int j = 0; j < i; j++) {
+                predicate.append(columns.get(j).getName()).append(" = ")
+                        .append(keyParameter(namedParameters, firstKeyIndex, j)).append(" AND ");
+            }
+            Sort.Column column = columns.get(i);
+            predicate.append(column.getName())
+                    .append(column.getDirection() == Sort.Direction.Descending ? " < " : " > ")
+                    .append(keyParameter(namedParameters, firstKeyIndex, i)).append(')');
+        }
+
+        String keysetQuery = restriction == null
+                ? fromClause + " WHERE " + predicate
+                : fromClause + " WHERE (" + restriction + ") AND (" + predicate + ")";
+
+        jpaQuery = createJpaQuery(keysetQuery);
+        bindParameters(jpaQuery);
+        for (int i = 0; i < sortValues.length; i++) {
+            if (namedParameters) {
+                jpaQuery.setParameter(KEYSET_PARAMETER_PREFIX + i, sortValues[i]);
+            } else {
+                jpaQuery.setParameter(firstKeyIndex + i + 1, sortValues[i]);
+            }
+        }
+        // the keyset replaces the offset
+        page = page.first();
+        lastResult = null;
+        keysetValues = sortValues;
+        return (PanacheQuery<T>) this;
+    }
 
     @Override
+    public <T extends Entity> PanacheQuery<T> nextKeysetPage() {
+        if (projection != null) {
+            throw new IllegalStateException("The next keyset page of a projection query must be set using after()");
+        }
+        if (lastResult == null) {
+            throw new IllegalStateException("The next keyset page can only be computed after reading a non-empty page");
+        }
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getEntityPersister(null, lastResult);
+        List<Sort.Column> columns = sort.getColumns();
+        Object[] sortValues = new Object[columns.size()];
+        for (int i = 0; i < sortValues.length; i++) {
+            String name = columns.get(i).getName();
+            sortValues[i] = name.equals(persister.getIdentifierPropertyName())
+                    ? persister.getIdentifier(lastResult, session)
+                    : persister.getPropertyValue(lastResult, name);
+        }
+        return after(sortValues);
+    }
+
+    @SuppressWarnings("deprecation")
+    private Query createJpaQuery(String fromQuery) {
+        String selectQuery = projection != null ? projection.selectClause + " " + fromQuery : fromQuery;
+        Query query = em.createQuery(sort != null ? selectQuery + JpaOperations.toOrderBy(sort) : selectQuery);
+        if (projection != null && projection.setsFields) {
+            query.unwrap(org.hibernate.query.Query.class)
+                    .setResultTransformer(Transformers.aliasToBean(projection.type));
+        }
+        return query;
+    }
+
     @SuppressWarnings("unchecked")
+    private void bindParameters(Query query) {
+        if (paramsArrayOrMap instanceof Map)
+            JpaOperations.bindParameters(query, (Map<String, Object>) paramsArrayOrMap);
+        else
+            JpaOperations.bindParameters(query, (Object[]) paramsArrayOrMap);
+    }
+
+    private void checkNotKeysetPaginated(String method) {
+        if (keysetValues != null) {
+            throw new IllegalStateException(
+                    method + "() is not supported with keyset pagination, as it would ignore the keyset restriction");
+        }
+    }
+
+    private static String keyParameter(boolean namedParameters, int firstKeyIndex, int index) {
+        return namedParameters ? ":" + KEYSET_PARAMETER_PREFIX + index : "?" + (firstKeyIndex + index + 1);
+    }
+
+    // Results
+
+    @Override
     public long count() {
+        checkNotKeysetPaginated("count");
         if (count == null) {
             // FIXME: this is crude but good enough for a first version
             String lcQuery = query.toLowerCase();
@@ -102,10 +263,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
             if (orderByIndex != -1)
                 query = query.substring(0, orderByIndex);
             Query countQuery = em.createQuery("SELECT COUNT(*) " + query);
-            if (paramsArrayOrMap instanceof Map)
-                JpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
-            else
-                JpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
+            bindParameters(countQuery);
             count = (Long) countQuery.getSingleResult();
         }
         return count;
@@ -115,7 +273,9 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> List<T> list() {
         jpaQuery.setMaxResults(page.size);
-        return jpaQuery.getResultList();
+        List<T> list = jpaQuery.getResultList();
+        lastResult = list.isEmpty() ? null : list.get(list.size() - 1);
+        return list;
     }
 
     @Override
@@ -125,6 +285,21 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return jpaQuery.getResultStream();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> streamInBatches(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        jpaQuery.setMaxResults(page.size);
+        jpaQuery.setHint(QueryHints.HINT_FETCH_SIZE, batchSize);
+        if (projection != null) {
+            // projections are not managed so there is nothing to flush or clear
+            return jpaQuery.getResultStream();
+        }
+        return BatchingSpliterator.stream(jpaQuery.getResultStream(), em, batchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         List<T> list = list();
@@ -0,0 +1,49 @@
+package io.quarkus.hibernate.orm.panache.runtime;
+
+import java.util.Collections;
+import java.util.Map;
+
+import io.quarkus.hibernate.orm.panache.PanacheProjection;
+import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+
+/**
+ * The select clause of a projection class, computed at build time.
+ */
+final class Projection {
+
+    private static volatile Map<String, String> constructorSelects = Collections.emptyMap();
+    private static volatile Map<String, String> fieldSelects = Collections.emptyMap();
+
+    final Class<?> type;
+    final String selectClause;
+    /*
+     * When false, the select clause calls the constructor of the projection class. When true, it selects aliased
+     * attributes which need to be set on the fields of the projection class.
+     */
+    final boolean setsFields;
+
+    private Projection(Class<?> type, String selectClause, boolean setsFields) {
+        this.type = type;
+        this.selectClause = selectClause;
+        this.setsFields = setsFields;
+    }
+
+    static void setSelectClauses(Map<String, String> constructorSelects, Map<String, String> fieldSelects) {
+        Projection.constructorSelects = constructorSelects;
+        Projection.fieldSelects = fieldSelects;
+    }
+
+    static Projection of(Class<?> type) {
+        String selectClause = constructorSelects.get(type.getName());
+        if (selectClause != null) {
+            return new Projection(type, selectClause, false);
+        }
+        selectClause = fieldSelects.get(type.getName());
+        if (selectClause != null) {
+            return new Projection(type, selectClause, true);
+        }
+        throw new IllegalArgumentException("Class " + type.getName() + " is not a projection class: annotate it with @"
+                + PanacheProjection.class.getSimpleName() + " or its constructor parameters with @"
+                + ProjectedFieldName.class.getSimpleName());
+    }
+}
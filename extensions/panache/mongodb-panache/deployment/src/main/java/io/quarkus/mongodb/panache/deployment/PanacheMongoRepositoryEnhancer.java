@@ -0,0 +1,86 @@
+package io.quarkus.mongodb.panache.deployment;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.mongodb.panache.PanacheMongoRepository;
+import io.quarkus.mongodb.panache.PanacheMongoRepositoryBase;
+import io.quarkus.panache.common.deployment.PanacheRepositoryEnhancer;
+
+public class PanacheMongoRepositoryEnhancer extends PanacheRepositoryEnhancer {
+
+    public final static String PANACHE_REPOSITORY_BASE_NAME = PanacheMongoRepositoryBase.class.getName();
+    public final static String PANACHE_REPOSITORY_BASE_BINARY_NAME = PANACHE_REPOSITORY_BASE_NAME.replace('.', '/');
+
+    public final static String PANACHE_REPOSITORY_NAME = PanacheMongoRepository.class.getName();
+    public final static String PANACHE_REPOSITORY_BINARY_NAME = PANACHE_REPOSITORY_NAME.replace('.', '/');
+
+    public PanacheMongoRepositoryEnhancer(IndexView index) {
+        super(index, PanacheResourceProcessor.DOTNAME_PANACHE_REPOSITORY_BASE);
+    }
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor outputClassVisitor) {
+        return new PanacheMongoRepositoryClassVisitor(className, outputClassVisitor, panacheRepositoryBaseClassInfo);
+    }
+
+    static class PanacheMongoRepositoryClassVisitor extends PanacheRepositoryClassVisitor {
+
+        public PanacheMongoRepositoryClassVisitor(String className, ClassVisitor outputClassVisitor,
+                ClassInfo panacheRepositoryBaseClassInfo) {
+            super(className, outputClassVisitor, panacheRepositoryBaseClassInfo);
+        }
+
+        @Override
+        protected String getPanacheRepositoryBinaryName() {
+            return PANACHE_REPOSITORY_BINARY_NAME;
+        }
+
+        @Override
+        protected String getPanacheRepositoryBaseBinaryName() {
+            return PANACHE_REPOSITORY_BASE_BINARY_NAME;
+        }
+
+        @Override
+        protected String getPanacheOperationsBinaryName() {
+            return PanacheMongoEntityEnhancer.MONGO_OPERATIONS_BINARY_NAME;
+        }
+
+        @Override
+        public void visitEnd() {
+            // Bridge for findById
+            MethodVisitor mv = super.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_SYNTHETIC | Opcodes.ACC_BRIDGE,
+                    "findById",
+                    "(Ljava/lang/Object;)Ljava/lang/Object;",
+                    null,
+                    null);
+            mv.visitParameter("id", 0);
+            mv.visitCode();
+            mv.visitIntInsn(Opcodes.ALOAD, 0);
+            mv.visitIntInsn(Opcodes.ALOAD, 1);
+            mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL,
+                    daoBinaryName,
+                    "findById",
+                    "(Ljava/lang/Object;)" + entitySignature, false);
+            mv.visitInsn(Opcodes.ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+
+            super.visitEnd();
+        }
+
+        @Override
+        protected void injectModel(MethodVisitor mv) {
+            // inject Class
+            mv.visitLdcInsn(entityType);
+        }
+
+        @Override
+        protected String getModelDescriptor() {
+            return "Ljava/lang/Class;";
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.quarkus.mongodb.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+import com.mongodb.client.MongoClient;
+
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.mongodb.deployment.MongoDocumentClassBuildItem;
+import io.quarkus.mongodb.panache.MongoEntity;
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+import io.quarkus.mongodb.panache.PanacheMongoEntityBase;
+import io.quarkus.mongodb.panache.PanacheMongoRepository;
+import io.quarkus.mongodb.panache.PanacheMongoRepositoryBase;
+import io.quarkus.mongodb.panache.runtime.PanacheMongoRecorder;
+import io.quarkus.mongodb.runtime.MongoClientConfig;
+import io.quarkus.panache.common.deployment.EntityField;
+import io.quarkus.panache.common.deployment.EntityModel;
+import io.quarkus.panache.common.deployment.MetamodelInfo;
+import io.quarkus.panache.common.deployment.PanacheFieldAccessEnhancer;
+
+public final class PanacheResourceProcessor {
+
+    static final DotName DOTNAME_PANACHE_REPOSITORY_BASE = DotName.createSimple(PanacheMongoRepositoryBase.class.getName());
+    private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanacheMongoRepository.class.getName());
+    static final DotName DOTNAME_PANACHE_ENTITY_BASE = DotName.createSimple(PanacheMongoEntityBase.class.getName());
+    private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanacheMongoEntity.class.getName());
+    private static final DotName DOTNAME_MONGO_ENTITY = DotName.createSimple(MongoEntity.class.getName());
+
+    private static final Set<DotName> UNREMOVABLE_BEANS = Collections.singleton(
+            DotName.createSimple(MongoClient.class.getName()));
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FeatureBuildItem.MONGODB_PANACHE);
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem ensureBeanLookupAvailable() {
+        return new UnremovableBeanBuildItem(new Predicate<BeanInfo>() {
+            @Override
+            public boolean test(BeanInfo beanInfo) {
+                for (Type t : beanInfo.getTypes()) {
+                    if (UNREMOVABLE_BEANS.contains(t.name())) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        });
+    }
+
+    @BuildStep
+    void registerCodecs(CombinedIndexBuildItem index, BuildProducer<MongoDocumentClassBuildItem> documentClass) {
+        // the entities are mapped by codecs generated at build time instead of the reflective PojoCodecProvider
+        for (ClassInfo classInfo : mappedClasses(index.getIndex())) {
+            if (!Modifier.isAbstract(classInfo.flags())) {
+                documentClass.produce(new MongoDocumentClassBuildItem(classInfo.name().toString()));
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureEntities(PanacheMongoRecorder recorder, MongoClientConfig config, CombinedIndexBuildItem index) {
+        Map<String, String> collections = new HashMap<>();
+        Map<String, String> databases = new HashMap<>();
+        for (ClassInfo classInfo : mappedClasses(index.getIndex())) {
+            String className = classInfo.name().toString();
+            AnnotationInstance mongoEntity = classInfo.classAnnotation(DOTNAME_MONGO_ENTITY);
+            String collection = null;
+            if (mongoEntity != null) {
+                collection = stringValue(mongoEntity.value("collection"));
+                String database = stringValue(mongoEntity.value("database"));
+                if (database != null) {
+                    databases.put(className, database);
+                }
+            }
+            collections.put(className, collection != null ? collection : classInfo.simpleName());
+        }
+        recorder.setEntities(config, collections, databases);
+    }
+
+    @BuildStep
+    void build(CombinedIndexBuildItem index,
+            ApplicationIndexBuildItem applicationIndex,
+            BuildProducer<BytecodeTransformerBuildItem> transformers) throws Exception {
+
+        PanacheMongoRepositoryEnhancer daoEnhancer = new PanacheMongoRepositoryEnhancer(index.getIndex());
+        Set<String> daoClasses = new HashSet<>();
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            // Skip PanacheMongoRepository
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
+                continue;
+            daoClasses.add(classInfo.name().toString());
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
+            daoClasses.add(classInfo.name().toString());
+        }
+        for (String daoClass : daoClasses) {
+            transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
+        }
+
+        PanacheMongoEntityEnhancer modelEnhancer = new PanacheMongoEntityEnhancer(index.getIndex());
+        Set<String> modelClasses = new HashSet<>();
+        for (ClassInfo classInfo : entityClasses(index.getIndex())) {
+            if (modelClasses.add(classInfo.name().toString()))
+                modelEnhancer.collectFields(classInfo);
+        }
+        for (String modelClass : modelClasses) {
+            transformers.produce(new BytecodeTransformerBuildItem(modelClass, modelEnhancer));
+        }
+
+        MetamodelInfo<EntityModel<EntityField>> modelInfo = modelEnhancer.getModelInfo();
+        if (modelInfo.hasEntities()) {
+            PanacheFieldAccessEnhancer panacheFieldAccessEnhancer = new PanacheFieldAccessEnhancer(modelInfo);
+            for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+                String className = classInfo.name().toString();
+                if (!modelClasses.contains(className)) {
+                    transformers.produce(new BytecodeTransformerBuildItem(className, panacheFieldAccessEnhancer));
+                }
+            }
+        }
+    }
+
+    private static Set<ClassInfo> entityClasses(IndexView index) {
+        Set<ClassInfo> entities = new HashSet<>();
+        // Note that we do this in two passes because for some reason Jandex does not give us subtypes
+        // of PanacheMongoEntity if we ask for subtypes of PanacheMongoEntityBase
+        for (ClassInfo classInfo : index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE)) {
+            if (!classInfo.name().equals(DOTNAME_PANACHE_ENTITY)) {
+                entities.add(classInfo);
+            }
+        }
+        entities.addAll(index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY));
+        return entities;
+    }
+
+    /**
+     * @return the entity classes and the classes handled by the repositories
+     */
+    private static Set<ClassInfo> mappedClasses(IndexView index) {
+        Set<ClassInfo> classes = entityClasses(index);
+        Set<ClassInfo> repositories = new HashSet<>(index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE));
+        repositories.addAll(index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY));
+        for (ClassInfo repository : repositories) {
+            for (Type type : repository.interfaceTypes()) {
+                if ((type.name().equals(DOTNAME_PANACHE_REPOSITORY) || type.name().equals(DOTNAME_PANACHE_REPOSITORY_BASE))
+                        && type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                    ClassInfo entity = index.getClassByName(type.asParameterizedType().arguments().get(0).name());
+                    if (entity != null) {
+                        classes.add(entity);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static String stringValue(AnnotationValue value) {
+        return value != null && !value.asString().isEmpty() ? value.asString() : null;
+    }
+}
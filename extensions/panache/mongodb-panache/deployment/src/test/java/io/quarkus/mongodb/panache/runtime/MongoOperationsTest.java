@@ -0,0 +1,66 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.bson.BsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+
+public class MongoOperationsTest {
+
+    private static final CodecRegistry REGISTRY = com.mongodb.MongoClient.getDefaultCodecRegistry();
+
+    enum Status {
+        ALIVE
+    }
+
+    @Test
+    public void testShorthandQuery() {
+        BsonDocument filter = MongoOperations.bindFilter(Object.class, "name", new Object[] { "Stef" }, REGISTRY);
+        assertEquals(BsonDocument.parse("{name: 'Stef'}"), filter);
+        assertEquals(new BsonDocument(), MongoOperations.bindFilter(Object.class, null, new Object[0], REGISTRY));
+        assertThrows(IllegalArgumentException.class,
+                () -> MongoOperations.bindFilter(Object.class, "name = ?1", new Object[] { "Stef" }, REGISTRY));
+    }
+
+    @Test
+    public void testIndexedParameters() {
+        ObjectId id = new ObjectId();
+        BsonDocument filter = MongoOperations.bindFilter(Object.class,
+                "{_id: ?1, status: ?2, tags: {$in: ?3}, 'text': '?1 and :name'}",
+                new Object[] { id, Status.ALIVE, Arrays.asList("a", "b") }, REGISTRY);
+        assertEquals(BsonDocument.parse("{_id: {$oid: '" + id.toHexString()
+                + "'}, status: 'ALIVE', tags: {$in: ['a', 'b']}, 'text': '?1 and :name'}"), filter);
+        assertThrows(IllegalArgumentException.class,
+                () -> MongoOperations.bindFilter(Object.class, "{name: ?2}", new Object[] { "Stef" }, REGISTRY));
+    }
+
+    @Test
+    public void testNamedParameters() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "Stef");
+        params.put("min", 18);
+        params.put("max", 99L);
+        BsonDocument filter = MongoOperations.bindFilter(Object.class,
+                "{name:'x', $or: [{name: :name}, {age: {$gte: :min, $lt: :max}}], alive:true}", params, REGISTRY);
+        assertEquals(BsonDocument.parse(
+                "{name: 'x', $or: [{name: 'Stef'}, {age: {$gte: 18, $lt: {$numberLong: '99'}}}], alive: true}"), filter);
+        assertThrows(IllegalArgumentException.class,
+                () -> MongoOperations.bindFilter(Object.class, "{name: :other}", Collections.emptyMap(), REGISTRY));
+    }
+
+    @Test
+    public void testSort() {
+        assertEquals(BsonDocument.parse("{name: 1, age: -1}"),
+                MongoOperations.toSort(Sort.by("name").and("age", Sort.Direction.Descending)));
+    }
+}
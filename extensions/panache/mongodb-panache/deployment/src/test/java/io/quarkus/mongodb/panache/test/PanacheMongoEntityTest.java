@@ -0,0 +1,94 @@
+package io.quarkus.mongodb.panache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.ObjectId;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.mongodb.client.MongoClient;
+
+import io.quarkus.mongodb.panache.MongoEntity;
+import io.quarkus.mongodb.panache.PanacheMongoEntity;
+import io.quarkus.mongodb.panache.PanacheMongoRepository;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PanacheMongoEntityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, Book.class, BookRepository.class));
+
+    @Inject
+    MongoClient client;
+
+    @Inject
+    BookRepository bookRepository;
+
+    @Test
+    public void testEntityCodec() throws Exception {
+        Codec<Person> codec = client.getDatabase("test").getCodecRegistry().get(Person.class);
+        assertTrue(codec.getClass().getName().endsWith("_MongoCodec"));
+
+        Person person = new Person();
+        person.id = new ObjectId();
+        person.name = "Stef";
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), person, EncoderContext.builder().build());
+        assertEquals(person.id, document.getObjectId("_id").getValue());
+        assertEquals("Stef", document.getString("name").getValue());
+
+        // the accessors are generated for the public fields
+        assertNotNull(Person.class.getMethod("getName"));
+        assertNotNull(Person.class.getMethod("setName", String.class));
+    }
+
+    @Test
+    public void testRepositoryCodec() {
+        Codec<Book> codec = client.getDatabase("test").getCodecRegistry().get(Book.class);
+        assertTrue(codec.getClass().getName().endsWith("_MongoCodec"));
+    }
+
+    @Test
+    public void testOperationsAreBridged() {
+        // the queries are only sent to the server when their results are read
+        assertNotNull(Person.find("name", "Stef"));
+        assertNotNull(Person.find("{name: :name, age: {$gt: :age}}", Sort.by("name"),
+                Parameters.with("name", "Stef").and("age", 18)));
+        assertNotNull(Person.findAll());
+        assertNotNull(bookRepository.find("title", "Panache"));
+        assertNotNull(bookRepository.findAll(Sort.descending("title")));
+    }
+
+    @MongoEntity(collection = "persons", database = "test")
+    public static class Person extends PanacheMongoEntity {
+
+        public String name;
+        public int age;
+    }
+
+    @MongoEntity(database = "test")
+    public static class Book {
+
+        public ObjectId id;
+        public String title;
+    }
+
+    @ApplicationScoped
+    public static class BookRepository implements PanacheMongoRepository<Book> {
+    }
+}
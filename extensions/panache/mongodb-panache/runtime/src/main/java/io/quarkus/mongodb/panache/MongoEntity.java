@@ -0,0 +1,30 @@
+package io.quarkus.mongodb.panache;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the collection and the database where the entities of the annotated class are stored.
+ * <p>
+ * Without this annotation, the entities are stored in a collection named after the simple name of the class, in the
+ * database configured by {@code quarkus.mongodb.database}.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface MongoEntity {
+
+    /**
+     * The name of the collection, defaults to the simple name of the class.
+     */
+    String collection() default "";
+
+    /**
+     * The name of the database, defaults to the database configured by {@code quarkus.mongodb.database}.
+     */
+    String database() default "";
+}
@@ -0,0 +1,33 @@
+package io.quarkus.mongodb.panache;
+
+import org.bson.types.ObjectId;
+
+/**
+ * <p>
+ * Represents an entity with a generated ID field {@link #id} of type {@link ObjectId}. If your
+ * MongoDB entities extend this class they gain the ID field and auto-generated accessors
+ * to all their public fields, as well as all the useful methods from {@link PanacheMongoEntityBase}.
+ * </p>
+ * <p>
+ * If you want a custom ID type or strategy, you can directly extend {@link PanacheMongoEntityBase}
+ * instead, and write your own ID field. You will still get auto-generated accessors and
+ * all the useful methods.
+ * </p>
+ *
+ * @see PanacheMongoEntityBase
+ */
+public abstract class PanacheMongoEntity extends PanacheMongoEntityBase {
+
+    /**
+     * The auto-generated ID field, stored as the {@code _id} of the document. This field is set when this entity
+     * is persisted.
+     *
+     * @see #persist()
+     */
+    public ObjectId id;
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "<" + id + ">";
+    }
+}
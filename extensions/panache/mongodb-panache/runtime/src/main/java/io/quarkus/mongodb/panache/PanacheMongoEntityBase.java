@@ -0,0 +1,633 @@
+package io.quarkus.mongodb.panache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import io.quarkus.mongodb.panache.runtime.MongoOperations;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.impl.GenerateBridge;
+
+/**
+ * <p>
+ * Represents an entity. If your MongoDB entities extend this class they gain auto-generated accessors
+ * to all their public fields, as well as a lot of useful methods. Unless you have a custom ID strategy,
+ * you should not extend this class directly but extend {@link PanacheMongoEntity} instead.
+ * </p>
+ * <p>
+ * The entities are mapped by a BSON codec generated at build time, see {@link io.quarkus.mongodb.MongoDocument}.
+ * </p>
+ *
+ * @see PanacheMongoEntity
+ */
+public abstract class PanacheMongoEntityBase {
+
+    // Operations
+
+    /**
+     * Insert this entity in the database. This will set your ID field if it is not already set.
+     *
+     * @see #update()
+     * @see #persistOrUpdate()
+     * @see #persist(Iterable)
+     * @see #persist(Stream)
+     * @see #persist(Object, Object...)
+     */
+    public void persist() {
+        MongoOperations.persist(this);
+    }
+
+    /**
+     * Replace this entity in the database, it must have an ID.
+     *
+     * @see #persist()
+     * @see #persistOrUpdate()
+     */
+    public void update() {
+        MongoOperations.update(this);
+    }
+
+    /**
+     * Insert this entity in the database if it does not have an ID yet, or replace it if it has one.
+     *
+     * @see #persist()
+     * @see #update()
+     */
+    public void persistOrUpdate() {
+        MongoOperations.persistOrUpdate(this);
+    }
+
+    /**
+     * Delete this entity from the database, if it is already persisted.
+     *
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     * @see #deleteAll()
+     */
+    public void delete() {
+        MongoOperations.delete(this);
+    }
+
+    // Queries
+
+    /**
+     * Find an entity of this type by ID.
+     *
+     * @param id the ID of the entity to find.
+     * @return the entity found, or <code>null</code> if not found.
+     */
+    @GenerateBridge(targetReturnTypeErased = true)
+    public static <T extends PanacheMongoEntityBase> T findById(Object id) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Sort sort, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Sort sort, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> find(String query, Sort sort, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> findAll() {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll()
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> PanacheQuery<T> findAll(Sort sort) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Sort sort, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Sort sort, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link List} containing all results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> list(String query, Sort sort, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a {@link List} containing all results, without paging
+     * @see #listAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> listAll() {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a {@link List} containing all results, without paging
+     * @see #listAll()
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> List<T> listAll(Sort sort) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #list(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #list(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Sort sort, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Map)
+     * @see #list(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #list(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Sort sort, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #list(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Stream} containing all results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> stream(String query, Sort sort, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a {@link Stream} containing all results, without paging
+     * @see #streamAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> streamAll() {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a {@link Stream} containing all results, without paging
+     * @see #streamAll()
+     */
+    @GenerateBridge
+    public static <T extends PanacheMongoEntityBase> Stream<T> streamAll(Sort sort) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity in the database.
+     *
+     * @return the number of this type of entity in the database.
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static long count() {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static long count(String query, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static long count(String query, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     */
+    @GenerateBridge
+    public static long count(String query, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type from the database.
+     *
+     * @return the number of entities deleted.
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static long deleteAll() {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static long delete(String query, Object... params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static long delete(String query, Map<String, Object> params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.mongodb.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     */
+    @GenerateBridge
+    public static long delete(String query, Parameters params) {
+        throw MongoOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Insert all given entities, as a single bulk insert.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Stream)
+     * @see #persist(Object,Object...)
+     */
+    public static void persist(Iterable<?> entities) {
+        MongoOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, as a single bulk insert.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Iterable)
+     * @see #persist(Object,Object...)
+     */
+    public static void persist(Stream<?> entities) {
+        MongoOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, as a single bulk insert.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Stream)
+     * @see #persist(Iterable)
+     */
+    public static void persist(Object firstEntity, Object... entities) {
+        MongoOperations.persist(firstEntity, entities);
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * <h2>API usage</h2>
+ * 
+ * Make your entities extend {@link io.quarkus.mongodb.panache.PanacheMongoEntity}, use public fields for your
+ * properties, use the existing operations defined as static methods on your entity class, and define custom ones as
+ * static methods on your entity class:
+ * 
+ * <code><pre>
+ * &#64;MongoEntity(collection = "persons")
+ * public class Person extends PanacheMongoEntity {
+ *     public String name;
+ *     public LocalDate birth;
+ *     public PersonStatus status;
+ *     
+ *     public static Person findByName(String name){
+ *       return find("name", name).firstResult();
+ *     }
+ *     
+ *     public static List&lt;Person&gt; findAlive(){
+ *       return list("status", Status.Alive);
+ *     }
+ *     
+ *     public static void deleteStefs(){
+ *       delete("name", "Stef");
+ *     }
+ * }
+ * </pre></code>
+ * 
+ * <h2>Queries</h2>
+ * 
+ * <p>
+ * Queries are native MongoDB filters, written as JSON documents: <code>{status: ?1, 'address.city': :city}</code>.
+ * Indexed parameters are written <code>?1</code>, <code>?2</code>... and named parameters <code>:name</code>, they are
+ * encoded with the codecs of the collection, so they can be of any type the client can store, including entities.
+ * </p>
+ * <p>
+ * If your query does not start with <code>{</code>, we support the following additional forms:
+ * </p>
+ * <ul>
+ * <li><code>&lt;singlePropertyName&gt;</code> (and single parameter) which will expand to
+ * <code>{&lt;singlePropertyName&gt;: ?1}</code></li>
+ * <li>an empty or <code>null</code> query, which matches all the documents</li>
+ * </ul>
+ */
+package io.quarkus.mongodb.panache;
@@ -0,0 +1,481 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonNull;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.codecs.Codec;
+import org.bson.codecs.CollectibleCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.ReplaceOptions;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.mongodb.panache.PanacheQuery;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+
+public class MongoOperations {
+
+    static final String ID = "_id";
+    private static final String PARAMETER_MARKER = "__panache_parameter";
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+
+    // set by the PanacheMongoRecorder
+    private static volatile Map<String, String> collections = Collections.emptyMap();
+    private static volatile Map<String, String> databases = Collections.emptyMap();
+    private static volatile String defaultDatabase;
+
+    static void setEntities(Map<String, String> collections, Map<String, String> databases, String defaultDatabase) {
+        MongoOperations.collections = collections;
+        MongoOperations.databases = databases;
+        MongoOperations.defaultDatabase = defaultDatabase;
+    }
+
+    //
+    // Instance methods
+
+    public static void persist(Object entity) {
+        collection(entity.getClass()).insertOne(entity);
+    }
+
+    public static void persist(Iterable<?> entities) {
+        List<Object> list = new ArrayList<>();
+        for (Object entity : entities) {
+            list.add(entity);
+        }
+        persist(list);
+    }
+
+    public static void persist(Object firstEntity, Object... entities) {
+        List<Object> list = new ArrayList<>(entities.length + 1);
+        list.add(firstEntity);
+        Collections.addAll(list, entities);
+        persist(list);
+    }
+
+    public static void persist(Stream<?> entities) {
+        persist(entities.collect(Collectors.toList()));
+    }
+
+    private static void persist(List<Object> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        // a single bulk insert for all the entities of the same class, as most calls are for a single class
+        Class<?> entityClass = entities.get(0).getClass();
+        for (Object entity : entities) {
+            if (entity.getClass() != entityClass) {
+                for (Object e : entities) {
+                    persist(e);
+                }
+                return;
+            }
+        }
+        collection(entityClass).insertMany(entities);
+    }
+
+    public static void update(Object entity) {
+        MongoCollection<Object> collection = collection(entity.getClass());
+        BsonValue id = getId(entity, collection);
+        if (id == null) {
+            throw new IllegalArgumentException("Unable to update an entity without an " + ID + ": " + entity);
+        }
+        collection.replaceOne(new BsonDocument(ID, id), entity);
+    }
+
+    public static void persistOrUpdate(Object entity) {
+        MongoCollection<Object> collection = collection(entity.getClass());
+        BsonValue id = getId(entity, collection);
+        if (id == null) {
+            collection.insertOne(entity);
+        } else {
+            collection.replaceOne(new BsonDocument(ID, id), entity, UPSERT);
+        }
+    }
+
+    public static void delete(Object entity) {
+        MongoCollection<Object> collection = collection(entity.getClass());
+        BsonValue id = getId(entity, collection);
+        if (id == null) {
+            throw new IllegalArgumentException("Unable to delete an entity without an " + ID + ": " + entity);
+        }
+        collection.deleteOne(new BsonDocument(ID, id));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static BsonValue getId(Object entity, MongoCollection<Object> collection) {
+        Codec codec = collection.getCodecRegistry().get(entity.getClass());
+        if (codec instanceof CollectibleCodec) {
+            CollectibleCodec collectible = (CollectibleCodec) codec;
+            return collectible.documentHasId(entity) ? collectible.getDocumentId(entity) : null;
+        }
+        return BsonDocumentWrapper.asBsonDocument(entity, collection.getCodecRegistry()).get(ID);
+    }
+
+    //
+    // Collections
+
+    @SuppressWarnings("unchecked")
+    static MongoCollection<Object> collection(Class<?> entityClass) {
+        String collection = collections.get(entityClass.getName());
+        if (collection == null) {
+            collection = entityClass.getSimpleName();
+        }
+        String database = databases.get(entityClass.getName());
+        if (database == null) {
+            database = defaultDatabase;
+        }
+        if (database == null) {
+            throw new IllegalStateException("No database configured for the entity " + entityClass.getName()
+                    + ", set quarkus.mongodb.database or the database of its @MongoEntity annotation");
+        }
+        return (MongoCollection<Object>) getMongoClient().getDatabase(database).getCollection(collection, entityClass);
+    }
+
+    static MongoClient getMongoClient() {
+        return Arc.container().instance(MongoClient.class).get();
+    }
+
+    //
+    // Query binding
+
+    static BsonDocument bindFilter(Class<?> entityClass, String query, Object[] params, CodecRegistry registry) {
+        String trimmed = query != null ? query.trim() : "";
+        if (trimmed.isEmpty()) {
+            return new BsonDocument();
+        }
+        if (trimmed.charAt(0) != '{') {
+            if (params.length != 1 || !isPropertyName(trimmed)) {
+                throw new IllegalArgumentException(
+                        "Unable to parse the query for " + entityClass.getName() + ", it must be a JSON document or a"
+                                + " single property name with a single parameter: " + query);
+            }
+            return new BsonDocument(trimmed, encode(params[0], registry));
+        }
+        return bindFilter(entityClass, trimmed, (Object) params, registry);
+    }
+
+    static BsonDocument bindFilter(Class<?> entityClass, String query, Map<String, Object> params,
+            CodecRegistry registry) {
+        String trimmed = query != null ? query.trim() : "";
+        if (trimmed.isEmpty()) {
+            return new BsonDocument();
+        }
+        if (trimmed.charAt(0) != '{') {
+            throw new IllegalArgumentException("Unable to parse the query for " + entityClass.getName()
+                    + ", it must be a JSON document when using named parameters: " + query);
+        }
+        return bindFilter(entityClass, trimmed, (Object) params, registry);
+    }
+
+    private static BsonDocument bindFilter(Class<?> entityClass, String query, Object params, CodecRegistry registry) {
+        BsonDocument template;
+        try {
+            template = BsonDocument.parse(replaceParameters(query));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Unable to parse the query for " + entityClass.getName() + ": " + query, e);
+        }
+        return bind(template, params, registry).asDocument();
+    }
+
+    private static boolean isPropertyName(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (!Character.isJavaIdentifierPart(c) && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the {@code ?1} and {@code :name} parameters, outside of the string literals, with marker documents
+     * which are substituted once the query is parsed.
+     */
+    static String replaceParameters(String query) {
+        StringBuilder result = new StringBuilder(query.length() + 32);
+        char quote = 0;
+        char previous = 0;
+        int length = query.length();
+        for (int i = 0; i < length; i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                result.append(c);
+                if (c == '\\' && i + 1 < length) {
+                    result.append(query.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '?' && i + 1 < length && Character.isDigit(query.charAt(i + 1))) {
+                int end = i + 1;
+                while (end < length && Character.isDigit(query.charAt(end))) {
+                    end++;
+                }
+                result.append("{'").append(PARAMETER_MARKER).append("': ").append(query, i + 1, end).append('}');
+                previous = '}';
+                i = end - 1;
+                continue;
+            } else if (c == ':' && (previous == ':' || previous == ',' || previous == '[') && i + 1 < length
+                    && Character.isJavaIdentifierStart(query.charAt(i + 1))) {
+                // a colon after a key is a separator, a colon in a value position starts a named parameter
+                int end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+                result.append("{'").append(PARAMETER_MARKER).append("': '").append(query, i + 1, end).append("'}");
+                previous = '}';
+                i = end - 1;
+                continue;
+            }
+            result.append(c);
+            if (!Character.isWhitespace(c)) {
+                previous = c;
+            }
+        }
+        return result.toString();
+    }
+
+    private static BsonValue bind(BsonValue value, Object params, CodecRegistry registry) {
+        if (value.isDocument()) {
+            BsonDocument document = value.asDocument();
+            BsonValue parameter = document.get(PARAMETER_MARKER);
+            if (parameter != null && document.size() == 1) {
+                return encode(getParameter(parameter, params), registry);
+            }
+            BsonDocument bound = new BsonDocument();
+            for (Map.Entry<String, BsonValue> entry : document.entrySet()) {
+                bound.put(entry.getKey(), bind(entry.getValue(), params, registry));
+            }
+            return bound;
+        }
+        if (value.isArray()) {
+            BsonArray bound = new BsonArray();
+            for (BsonValue element : value.asArray()) {
+                bound.add(bind(element, params, registry));
+            }
+            return bound;
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object getParameter(BsonValue parameter, Object params) {
+        if (parameter.isInt32()) {
+            int index = parameter.asInt32().getValue();
+            if (!(params instanceof Object[]) || index < 1 || index > ((Object[]) params).length) {
+                throw new IllegalArgumentException("Missing value for the query parameter ?" + index);
+            }
+            return ((Object[]) params)[index - 1];
+        }
+        String name = parameter.asString().getValue();
+        if (!(params instanceof Map) || !((Map<String, Object>) params).containsKey(name)) {
+            throw new IllegalArgumentException("Missing value for the query parameter :" + name);
+        }
+        return ((Map<String, Object>) params).get(name);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static BsonValue encode(Object value, CodecRegistry registry) {
+        if (value == null) {
+            return BsonNull.VALUE;
+        }
+        if (value instanceof BsonValue) {
+            return (BsonValue) value;
+        }
+        if (value instanceof Enum) {
+            // enums are stored by name, as the generated codecs and the PojoCodecProvider do
+            return new BsonString(((Enum<?>) value).name());
+        }
+        Codec codec = registry.get(value.getClass());
+        BsonDocument wrapper = new BsonDocument();
+        BsonDocumentWriter writer = new BsonDocumentWriter(wrapper);
+        writer.writeStartDocument();
+        writer.writeName(ID);
+        EncoderContext.builder().build().encodeWithChildContext(codec, writer, value);
+        writer.writeEndDocument();
+        return wrapper.get(ID);
+    }
+
+    static BsonDocument toSort(Sort sort) {
+        if (sort == null) {
+            return null;
+        }
+        BsonDocument document = new BsonDocument();
+        for (Sort.Column column : sort.getColumns()) {
+            document.put(column.getName(),
+                    new BsonInt32(column.getDirection() == Sort.Direction.Descending ? -1 : 1));
+        }
+        return document;
+    }
+
+    //
+    // Queries
+
+    public static Object findById(Class<?> entityClass, Object id) {
+        MongoCollection<Object> collection = collection(entityClass);
+        return collection.find(new BsonDocument(ID, encode(id, collection.getCodecRegistry()))).first();
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, null, params);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        Bson filter = bindFilter(entityClass, query, params, collection.getCodecRegistry());
+        return new PanacheQueryImpl<>(collection, filter, toSort(sort));
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, null, params);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        Bson filter = bindFilter(entityClass, query, params, collection.getCodecRegistry());
+        return new PanacheQueryImpl<>(collection, filter, toSort(sort));
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, null, params.map());
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Parameters params) {
+        return find(entityClass, query, sort, params.map());
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Sort sort, Object... params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static List<?> list(Class<?> entityClass, String query, Sort sort, Parameters params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Sort sort, Object... params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Stream<?> stream(Class<?> entityClass, String query, Sort sort, Parameters params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static PanacheQuery<?> findAll(Class<?> entityClass) {
+        return new PanacheQueryImpl<>(collection(entityClass), new BsonDocument(), null);
+    }
+
+    public static PanacheQuery<?> findAll(Class<?> entityClass, Sort sort) {
+        return new PanacheQueryImpl<>(collection(entityClass), new BsonDocument(), toSort(sort));
+    }
+
+    public static List<?> listAll(Class<?> entityClass) {
+        return findAll(entityClass).list();
+    }
+
+    public static List<?> listAll(Class<?> entityClass, Sort sort) {
+        return findAll(entityClass, sort).list();
+    }
+
+    public static Stream<?> streamAll(Class<?> entityClass) {
+        return findAll(entityClass).stream();
+    }
+
+    public static Stream<?> streamAll(Class<?> entityClass, Sort sort) {
+        return findAll(entityClass, sort).stream();
+    }
+
+    public static long count(Class<?> entityClass) {
+        return collection(entityClass).countDocuments();
+    }
+
+    public static long count(Class<?> entityClass, String query, Object... params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        return collection.countDocuments(bindFilter(entityClass, query, params, collection.getCodecRegistry()));
+    }
+
+    public static long count(Class<?> entityClass, String query, Map<String, Object> params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        return collection.countDocuments(bindFilter(entityClass, query, params, collection.getCodecRegistry()));
+    }
+
+    public static long count(Class<?> entityClass, String query, Parameters params) {
+        return count(entityClass, query, params.map());
+    }
+
+    public static long deleteAll(Class<?> entityClass) {
+        return collection(entityClass).deleteMany(new BsonDocument()).getDeletedCount();
+    }
+
+    public static long delete(Class<?> entityClass, String query, Object... params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        return collection.deleteMany(bindFilter(entityClass, query, params, collection.getCodecRegistry()))
+                .getDeletedCount();
+    }
+
+    public static long delete(Class<?> entityClass, String query, Map<String, Object> params) {
+        MongoCollection<Object> collection = collection(entityClass);
+        return collection.deleteMany(bindFilter(entityClass, query, params, collection.getCodecRegistry()))
+                .getDeletedCount();
+    }
+
+    public static long delete(Class<?> entityClass, String query, Parameters params) {
+        return delete(entityClass, query, params.map());
+    }
+
+    public static IllegalStateException implementationInjectionMissing() {
+        return new IllegalStateException(
+                "This method is normally automatically overridden in subclasses: is your entity class part of the application index?");
+    }
+}
@@ -0,0 +1,18 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.Map;
+
+import io.quarkus.mongodb.runtime.MongoClientConfig;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheMongoRecorder {
+
+    /**
+     * @param collections the collection names by entity class name, collected from {@code @MongoEntity} at build time
+     * @param databases the database names by entity class name, for the entities which do not use the default database
+     */
+    public void setEntities(MongoClientConfig config, Map<String, String> collections, Map<String, String> databases) {
+        MongoOperations.setEntities(collections, databases, config.database.orElse(null));
+    }
+}
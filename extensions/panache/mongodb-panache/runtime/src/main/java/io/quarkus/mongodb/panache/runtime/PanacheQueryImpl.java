@@ -0,0 +1,151 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.conversions.Bson;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+
+import io.quarkus.mongodb.panache.PanacheQuery;
+import io.quarkus.panache.common.Page;
+
+public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
+
+    private final MongoCollection<Entity> collection;
+    private final Bson filter;
+    private final Bson sort;
+
+    private Page page;
+    private Long count;
+
+    PanacheQueryImpl(MongoCollection<Entity> collection, Bson filter, Bson sort) {
+        this.collection = collection;
+        this.filter = filter;
+        this.sort = sort;
+        page = new Page(0, Integer.MAX_VALUE);
+    }
+
+    // Builder
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> page(Page page) {
+        this.page = page;
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize) {
+        return page(Page.of(pageIndex, pageSize));
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> nextPage() {
+        return page(page.next());
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> previousPage() {
+        return page(page.previous());
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> firstPage() {
+        return page(page.first());
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> lastPage() {
+        return page(page.index(pageCount() - 1));
+    }
+
+    @Override
+    public boolean hasNextPage() {
+        return page.index < (pageCount() - 1);
+    }
+
+    @Override
+    public boolean hasPreviousPage() {
+        return page.index > 0;
+    }
+
+    @Override
+    public int pageCount() {
+        long count = count();
+        if (count == 0)
+            return 1; // a single page of zero results
+        return (int) Math.ceil((double) count / (double) page.size);
+    }
+
+    @Override
+    public Page page() {
+        return page;
+    }
+
+    // Results
+
+    @Override
+    public long count() {
+        if (count == null) {
+            count = collection.countDocuments(filter);
+        }
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> List<T> list() {
+        return (List<T>) createQuery(page.size).into(new ArrayList<Entity>());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> stream() {
+        // the documents are fetched by the cursor in batches as the stream is consumed
+        MongoCursor<T> cursor = (MongoCursor<T>) createQuery(page.size).iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T firstResult() {
+        return (T) createQuery(1).first();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> T singleResult() {
+        List<T> results = (List<T>) createQuery(2).into(new ArrayList<Entity>());
+        if (results.isEmpty()) {
+            throw new NoSuchElementException("No result for the query " + filter);
+        }
+        if (results.size() > 1) {
+            throw new IllegalStateException("More than one result for the query " + filter);
+        }
+        return results.get(0);
+    }
+
+    private FindIterable<Entity> createQuery(int limit) {
+        FindIterable<Entity> query = collection.find(filter);
+        if (sort != null) {
+            query.sort(sort);
+        }
+        long skip = (long) page.index * page.size;
+        if (skip > 0) {
+            query.skip((int) Math.min(skip, Integer.MAX_VALUE));
+        }
+        if (limit != Integer.MAX_VALUE) {
+            query.limit(limit);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,75 @@
+package io.quarkus.reactive.pg.panache.deployment;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.panache.common.deployment.EntityField;
+import io.quarkus.panache.common.deployment.EntityModel;
+import io.quarkus.panache.common.deployment.MetamodelInfo;
+import io.quarkus.panache.common.deployment.PanacheEntityEnhancer;
+import io.quarkus.reactive.pg.panache.runtime.PgOperations;
+
+public class PanachePgEntityEnhancer extends PanacheEntityEnhancer<MetamodelInfo<EntityModel<EntityField>>> {
+
+    public final static String PG_OPERATIONS_NAME = PgOperations.class.getName();
+    public final static String PG_OPERATIONS_BINARY_NAME = PG_OPERATIONS_NAME.replace('.', '/');
+
+    public PanachePgEntityEnhancer(IndexView index) {
+        super(index, PanacheResourceProcessor.DOTNAME_PANACHE_ENTITY_BASE);
+        modelInfo = new MetamodelInfo<>();
+    }
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor outputClassVisitor) {
+        return new PanachePgEntityClassVisitor(className, outputClassVisitor, modelInfo, panacheEntityBaseClassInfo);
+    }
+
+    static class PanachePgEntityClassVisitor extends PanacheEntityClassVisitor<EntityField> {
+
+        public PanachePgEntityClassVisitor(String className, ClassVisitor outputClassVisitor,
+                MetamodelInfo<EntityModel<EntityField>> modelInfo, ClassInfo panacheEntityBaseClassInfo) {
+            super(className, outputClassVisitor, modelInfo, panacheEntityBaseClassInfo);
+        }
+
+        @Override
+        protected void injectModel(MethodVisitor mv) {
+            mv.visitLdcInsn(thisClass);
+        }
+
+        @Override
+        protected String getModelDescriptor() {
+            return "Ljava/lang/Class;";
+        }
+
+        @Override
+        protected String getPanacheOperationsBinaryName() {
+            return PG_OPERATIONS_BINARY_NAME;
+        }
+
+        @Override
+        protected void generateAccessorSetField(MethodVisitor mv, EntityField field) {
+            mv.visitFieldInsn(Opcodes.PUTFIELD, thisClass.getInternalName(), field.name, field.descriptor);
+        }
+
+        @Override
+        protected void generateAccessorGetField(MethodVisitor mv, EntityField field) {
+            mv.visitFieldInsn(Opcodes.GETFIELD, thisClass.getInternalName(), field.name, field.descriptor);
+        }
+    }
+
+    public void collectFields(ClassInfo classInfo) {
+        EntityModel<EntityField> entityModel = new EntityModel<>(classInfo);
+        for (FieldInfo fieldInfo : classInfo.fields()) {
+            String name = fieldInfo.name();
+            if (PgMapperGenerator.isMapped(fieldInfo)) {
+                entityModel.addField(new EntityField(name, DescriptorUtils.typeToString(fieldInfo.type())));
+            }
+        }
+        modelInfo.addEntityModel(entityModel);
+    }
+}
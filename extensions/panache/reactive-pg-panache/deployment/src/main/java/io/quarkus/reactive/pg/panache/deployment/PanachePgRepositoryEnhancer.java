@@ -0,0 +1,64 @@
+package io.quarkus.reactive.pg.panache.deployment;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.IndexView;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+
+import io.quarkus.panache.common.deployment.PanacheRepositoryEnhancer;
+import io.quarkus.reactive.pg.panache.PanachePgRepository;
+import io.quarkus.reactive.pg.panache.PanachePgRepositoryBase;
+
+public class PanachePgRepositoryEnhancer extends PanacheRepositoryEnhancer {
+
+    public final static String PANACHE_REPOSITORY_BASE_NAME = PanachePgRepositoryBase.class.getName();
+    public final static String PANACHE_REPOSITORY_BASE_BINARY_NAME = PANACHE_REPOSITORY_BASE_NAME.replace('.', '/');
+
+    public final static String PANACHE_REPOSITORY_NAME = PanachePgRepository.class.getName();
+    public final static String PANACHE_REPOSITORY_BINARY_NAME = PANACHE_REPOSITORY_NAME.replace('.', '/');
+
+    public PanachePgRepositoryEnhancer(IndexView index) {
+        super(index, PanacheResourceProcessor.DOTNAME_PANACHE_REPOSITORY_BASE);
+    }
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor outputClassVisitor) {
+        return new PanachePgRepositoryClassVisitor(className, outputClassVisitor, panacheRepositoryBaseClassInfo);
+    }
+
+    static class PanachePgRepositoryClassVisitor extends PanacheRepositoryClassVisitor {
+
+        public PanachePgRepositoryClassVisitor(String className, ClassVisitor outputClassVisitor,
+                ClassInfo panacheRepositoryBaseClassInfo) {
+            super(className, outputClassVisitor, panacheRepositoryBaseClassInfo);
+        }
+
+        @Override
+        protected String getPanacheRepositoryBinaryName() {
+            return PANACHE_REPOSITORY_BINARY_NAME;
+        }
+
+        @Override
+        protected String getPanacheRepositoryBaseBinaryName() {
+            return PANACHE_REPOSITORY_BASE_BINARY_NAME;
+        }
+
+        @Override
+        protected String getPanacheOperationsBinaryName() {
+            return PanachePgEntityEnhancer.PG_OPERATIONS_BINARY_NAME;
+        }
+
+        // no bridge is needed for findById, which returns a CompletionStage of the entity
+
+        @Override
+        protected void injectModel(MethodVisitor mv) {
+            // inject Class
+            mv.visitLdcInsn(entityType);
+        }
+
+        @Override
+        protected String getModelDescriptor() {
+            return "Ljava/lang/Class;";
+        }
+    }
+}
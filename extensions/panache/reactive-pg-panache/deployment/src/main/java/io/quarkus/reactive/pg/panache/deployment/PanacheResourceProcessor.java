@@ -0,0 +1,169 @@
+package io.quarkus.reactive.pg.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.substrate.ReflectiveClassBuildItem;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.panache.common.deployment.EntityField;
+import io.quarkus.panache.common.deployment.EntityModel;
+import io.quarkus.panache.common.deployment.MetamodelInfo;
+import io.quarkus.panache.common.deployment.PanacheFieldAccessEnhancer;
+import io.quarkus.reactive.pg.panache.PanachePgEntity;
+import io.quarkus.reactive.pg.panache.PanachePgEntityBase;
+import io.quarkus.reactive.pg.panache.PanachePgRepository;
+import io.quarkus.reactive.pg.panache.PanachePgRepositoryBase;
+import io.quarkus.reactive.pg.panache.runtime.PanachePgRecorder;
+import io.reactiverse.pgclient.PgPool;
+
+public final class PanacheResourceProcessor {
+
+    static final DotName DOTNAME_PANACHE_REPOSITORY_BASE = DotName.createSimple(PanachePgRepositoryBase.class.getName());
+    private static final DotName DOTNAME_PANACHE_REPOSITORY = DotName.createSimple(PanachePgRepository.class.getName());
+    static final DotName DOTNAME_PANACHE_ENTITY_BASE = DotName.createSimple(PanachePgEntityBase.class.getName());
+    private static final DotName DOTNAME_PANACHE_ENTITY = DotName.createSimple(PanachePgEntity.class.getName());
+
+    private static final Set<DotName> UNREMOVABLE_BEANS = Collections.singleton(
+            DotName.createSimple(PgPool.class.getName()));
+
+    @BuildStep
+    FeatureBuildItem feature() {
+        return new FeatureBuildItem(FeatureBuildItem.REACTIVE_PG_PANACHE);
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem ensureBeanLookupAvailable() {
+        return new UnremovableBeanBuildItem(new Predicate<BeanInfo>() {
+            @Override
+            public boolean test(BeanInfo beanInfo) {
+                for (Type t : beanInfo.getTypes()) {
+                    if (UNREMOVABLE_BEANS.contains(t.name())) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        });
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateMappers(PanachePgRecorder recorder, CombinedIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        ClassOutput classOutput = new ClassOutput() {
+            @Override
+            public void write(String name, byte[] data) {
+                generatedClass.produce(new GeneratedClassBuildItem(true, name, data));
+            }
+        };
+        // the rows are mapped by mappers generated at build time instead of reflection
+        PgMapperGenerator generator = new PgMapperGenerator(index.getIndex());
+        Map<String, String> mappers = new HashMap<>();
+        for (ClassInfo classInfo : mappedClasses(index.getIndex())) {
+            if (!Modifier.isAbstract(classInfo.flags())) {
+                String mapperName = generator.generate(classInfo, classOutput);
+                mappers.put(classInfo.name().toString(), mapperName);
+                reflectiveClass.produce(new ReflectiveClassBuildItem(false, false, mapperName));
+            }
+        }
+        recorder.setMappers(mappers);
+    }
+
+    @BuildStep
+    void build(CombinedIndexBuildItem index,
+            ApplicationIndexBuildItem applicationIndex,
+            BuildProducer<BytecodeTransformerBuildItem> transformers) throws Exception {
+
+        PanachePgRepositoryEnhancer daoEnhancer = new PanachePgRepositoryEnhancer(index.getIndex());
+        Set<String> daoClasses = new HashSet<>();
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            // Skip PanachePgRepository
+            if (classInfo.name().equals(DOTNAME_PANACHE_REPOSITORY))
+                continue;
+            daoClasses.add(classInfo.name().toString());
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY)) {
+            daoClasses.add(classInfo.name().toString());
+        }
+        for (String daoClass : daoClasses) {
+            transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
+        }
+
+        PanachePgEntityEnhancer modelEnhancer = new PanachePgEntityEnhancer(index.getIndex());
+        Set<String> modelClasses = new HashSet<>();
+        for (ClassInfo classInfo : entityClasses(index.getIndex())) {
+            if (modelClasses.add(classInfo.name().toString()))
+                modelEnhancer.collectFields(classInfo);
+        }
+        for (String modelClass : modelClasses) {
+            transformers.produce(new BytecodeTransformerBuildItem(modelClass, modelEnhancer));
+        }
+
+        MetamodelInfo<EntityModel<EntityField>> modelInfo = modelEnhancer.getModelInfo();
+        if (modelInfo.hasEntities()) {
+            PanacheFieldAccessEnhancer panacheFieldAccessEnhancer = new PanacheFieldAccessEnhancer(modelInfo);
+            for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+                String className = classInfo.name().toString();
+                if (!modelClasses.contains(className)) {
+                    transformers.produce(new BytecodeTransformerBuildItem(className, panacheFieldAccessEnhancer));
+                }
+            }
+        }
+    }
+
+    private static Set<ClassInfo> entityClasses(IndexView index) {
+        Set<ClassInfo> entities = new HashSet<>();
+        // Note that we do this in two passes because for some reason Jandex does not give us subtypes
+        // of PanachePgEntity if we ask for subtypes of PanachePgEntityBase
+        for (ClassInfo classInfo : index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY_BASE)) {
+            if (!classInfo.name().equals(DOTNAME_PANACHE_ENTITY)) {
+                entities.add(classInfo);
+            }
+        }
+        entities.addAll(index.getAllKnownSubclasses(DOTNAME_PANACHE_ENTITY));
+        return entities;
+    }
+
+    /**
+     * @return the entity classes and the classes handled by the repositories
+     */
+    private static Set<ClassInfo> mappedClasses(IndexView index) {
+        Set<ClassInfo> classes = entityClasses(index);
+        Set<ClassInfo> repositories = new HashSet<>(index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY_BASE));
+        repositories.addAll(index.getAllKnownImplementors(DOTNAME_PANACHE_REPOSITORY));
+        for (ClassInfo repository : repositories) {
+            for (Type type : repository.interfaceTypes()) {
+                if ((type.name().equals(DOTNAME_PANACHE_REPOSITORY) || type.name().equals(DOTNAME_PANACHE_REPOSITORY_BASE))
+                        && type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                    ClassInfo entity = index.getClassByName(type.asParameterizedType().arguments().get(0).name());
+                    if (entity != null) {
+                        classes.add(entity);
+                    }
+                }
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,302 @@
+package io.quarkus.reactive.pg.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.reactive.pg.panache.PgEntity;
+import io.quarkus.reactive.pg.panache.runtime.PgEntityMapper;
+import io.reactiverse.pgclient.Row;
+import io.reactiverse.pgclient.Tuple;
+
+/**
+ * Generates the {@link PgEntityMapper} of an entity class, which reads the columns of a row by position and binds the
+ * values of the public fields of the entity without reflection.
+ * <p>
+ * Each public, non static and non transient field of the class and of its superclasses is mapped to the column of the
+ * same name, the field named {@code id} being the primary key.
+ */
+class PgMapperGenerator {
+
+    static final String MAPPER_SUFFIX = "_PgMapper";
+
+    private static final String ID_FIELD = "id";
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName ENUM = DotName.createSimple(Enum.class.getName());
+    private static final DotName PG_ENTITY = DotName.createSimple(PgEntity.class.getName());
+
+    // the types read by a dedicated getter of the row, the other ones are read with getValue
+    private static final Map<DotName, Class<?>> ROW_TYPES = new HashMap<>();
+
+    static {
+        for (Class<?> type : new Class<?>[] { String.class, Boolean.class, Short.class, Integer.class, Long.class,
+                Float.class, Double.class, BigDecimal.class, LocalDate.class, LocalTime.class, LocalDateTime.class,
+                OffsetTime.class, OffsetDateTime.class, UUID.class }) {
+            ROW_TYPES.put(DotName.createSimple(type.getName()), type);
+        }
+    }
+
+    private static final MethodDescriptor MAPPER_CONSTRUCTOR = MethodDescriptor.ofConstructor(PgEntityMapper.class,
+            String.class, String.class, String[].class);
+    private static final MethodDescriptor GET_VALUE = MethodDescriptor.ofMethod(Tuple.class, "getValue", Object.class,
+            int.class);
+    private static final MethodDescriptor ADD_VALUE = MethodDescriptor.ofMethod(Tuple.class, "addValue", Tuple.class,
+            Object.class);
+    private static final MethodDescriptor READ_ENUM = MethodDescriptor.ofMethod(PgEntityMapper.class, "readEnum",
+            Enum.class, Row.class, int.class, Class.class);
+    private static final MethodDescriptor ADD_ENUM = MethodDescriptor.ofMethod(PgEntityMapper.class, "addEnum",
+            void.class, Tuple.class, Enum.class);
+
+    private final IndexView index;
+
+    PgMapperGenerator(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @return whether the field is mapped to a column
+     */
+    static boolean isMapped(FieldInfo field) {
+        short flags = field.flags();
+        return Modifier.isPublic(flags) && !Modifier.isStatic(flags) && !Modifier.isTransient(flags)
+                && (flags & 0x1000) == 0; // synthetic
+    }
+
+    /**
+     * @return the name of the generated mapper
+     */
+    String generate(ClassInfo entityClass, ClassOutput classOutput) {
+        String className = entityClass.name().toString();
+        MethodInfo constructor = entityClass.method("<init>");
+        if (!Modifier.isPublic(entityClass.flags()) || constructor == null || !Modifier.isPublic(constructor.flags())) {
+            throw new IllegalStateException(
+                    "The entity " + className + " must be a public class with a public no-args constructor");
+        }
+
+        List<FieldInfo> fields = new ArrayList<>();
+        collectFields(entityClass, fields);
+        FieldInfo id = null;
+        List<FieldInfo> columns = new ArrayList<>();
+        for (FieldInfo field : fields) {
+            if (field.name().equals(ID_FIELD)) {
+                id = field;
+            } else {
+                columns.add(field);
+            }
+        }
+
+        String mapperName = className + MAPPER_SUFFIX;
+        try (ClassCreator mapper = ClassCreator.builder().classOutput(classOutput).className(mapperName)
+                .superClass(PgEntityMapper.class).build()) {
+
+            try (MethodCreator init = mapper.getMethodCreator("<init>", void.class)) {
+                ResultHandle names = init.newArray(String.class, init.load(columns.size()));
+                for (int i = 0; i < columns.size(); i++) {
+                    init.writeArrayValue(names, i, init.load(columns.get(i).name()));
+                }
+                init.invokeSpecialMethod(MAPPER_CONSTRUCTOR, init.getThis(), init.load(tableName(entityClass)),
+                        id != null ? init.load(id.name()) : init.loadNull(), names);
+                init.returnValue(null);
+            }
+
+            try (MethodCreator map = mapper.getMethodCreator("map", Object.class, Row.class)) {
+                ResultHandle row = map.getMethodParam(0);
+                ResultHandle entity = map.newInstance(MethodDescriptor.ofConstructor(className));
+                // the id is the first column of the select statement
+                int pos = 0;
+                if (id != null) {
+                    map.writeInstanceField(FieldDescriptor.of(id), entity, readColumn(map, row, pos++, id.type()));
+                }
+                for (FieldInfo column : columns) {
+                    map.writeInstanceField(FieldDescriptor.of(column), entity,
+                            readColumn(map, row, pos++, column.type()));
+                }
+                map.returnValue(entity);
+            }
+
+            try (MethodCreator addValues = mapper.getMethodCreator("addValues", void.class, Object.class,
+                    Tuple.class)) {
+                addValues.setModifiers(Modifier.PROTECTED);
+                ResultHandle entity = addValues.checkCast(addValues.getMethodParam(0), className);
+                ResultHandle tuple = addValues.getMethodParam(1);
+                for (FieldInfo column : columns) {
+                    addValue(addValues, tuple, addValues.readInstanceField(FieldDescriptor.of(column), entity),
+                            column.type());
+                }
+                addValues.returnValue(null);
+            }
+
+            if (id != null) {
+                try (MethodCreator getId = mapper.getMethodCreator("getId", Object.class, Object.class)) {
+                    getId.setModifiers(Modifier.PROTECTED);
+                    ResultHandle entity = getId.checkCast(getId.getMethodParam(0), className);
+                    ResultHandle value = getId.readInstanceField(FieldDescriptor.of(id), entity);
+                    getId.returnValue(id.type().kind() == Type.Kind.PRIMITIVE
+                            ? box(getId, value, id.type().asPrimitiveType().primitive())
+                            : value);
+                }
+
+                try (MethodCreator setId = mapper.getMethodCreator("setId", void.class, Object.class, Row.class)) {
+                    setId.setModifiers(Modifier.PROTECTED);
+                    ResultHandle entity = setId.checkCast(setId.getMethodParam(0), className);
+                    setId.writeInstanceField(FieldDescriptor.of(id), entity,
+                            readColumn(setId, setId.getMethodParam(1), 0, id.type()));
+                    setId.returnValue(null);
+                }
+            }
+        }
+        return mapperName;
+    }
+
+    /**
+     * Collects the mapped fields of the class and of its superclasses, the superclass fields first. The index sorts
+     * the fields of a class by name.
+     */
+    private void collectFields(ClassInfo classInfo, List<FieldInfo> fields) {
+        if (!OBJECT.equals(classInfo.superName())) {
+            ClassInfo superClass = index.getClassByName(classInfo.superName());
+            if (superClass != null) {
+                collectFields(superClass, fields);
+            }
+        }
+        for (FieldInfo field : classInfo.fields()) {
+            if (isMapped(field)) {
+                // a hiding field replaces the superclass one
+                fields.removeIf(f -> f.name().equals(field.name()));
+                fields.add(field);
+            }
+        }
+    }
+
+    private ResultHandle readColumn(BytecodeCreator method, ResultHandle row, int pos, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            return method.invokeStaticMethod(MethodDescriptor.ofMethod(PgEntityMapper.class,
+                    "read" + primitiveName(primitive), primitiveClass(primitive), Row.class, int.class), row,
+                    method.load(pos));
+        }
+        if (isEnum(type)) {
+            return method.checkCast(method.invokeStaticMethod(READ_ENUM, row, method.load(pos),
+                    method.loadClass(type.name().toString())), type.name().toString());
+        }
+        Class<?> rowType = type.kind() == Type.Kind.CLASS ? ROW_TYPES.get(type.name()) : null;
+        if (rowType != null) {
+            return method.invokeInterfaceMethod(MethodDescriptor.ofMethod(Tuple.class, "get" + rowType.getSimpleName(),
+                    rowType, int.class), row, method.load(pos));
+        }
+        return method.checkCast(method.invokeInterfaceMethod(GET_VALUE, row, method.load(pos)), type.name().toString());
+    }
+
+    private void addValue(BytecodeCreator method, ResultHandle tuple, ResultHandle value, Type type) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+            method.invokeStaticMethod(MethodDescriptor.ofMethod(PgEntityMapper.class,
+                    "add" + primitiveName(primitive), void.class, Tuple.class, primitiveClass(primitive)), tuple,
+                    value);
+        } else if (isEnum(type)) {
+            method.invokeStaticMethod(ADD_ENUM, tuple, value);
+        } else {
+            method.invokeInterfaceMethod(ADD_VALUE, tuple, value);
+        }
+    }
+
+    private boolean isEnum(Type type) {
+        if (type.kind() != Type.Kind.CLASS) {
+            return false;
+        }
+        ClassInfo classInfo = index.getClassByName(type.name());
+        return classInfo != null && ENUM.equals(classInfo.superName());
+    }
+
+    private static ResultHandle box(BytecodeCreator method, ResultHandle value, PrimitiveType.Primitive primitive) {
+        Class<?> primitiveClass = primitiveClass(primitive);
+        Class<?> wrapperClass = wrapperClass(primitive);
+        return method.invokeStaticMethod(MethodDescriptor.ofMethod(wrapperClass, "valueOf", wrapperClass,
+                primitiveClass), value);
+    }
+
+    private static String tableName(ClassInfo entityClass) {
+        AnnotationInstance pgEntity = entityClass.classAnnotation(PG_ENTITY);
+        if (pgEntity != null) {
+            AnnotationValue table = pgEntity.value("table");
+            if (table != null && !table.asString().isEmpty()) {
+                return table.asString();
+            }
+        }
+        return entityClass.simpleName();
+    }
+
+    private static String primitiveName(PrimitiveType.Primitive primitive) {
+        String name = primitive.name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case SHORT:
+                return short.class;
+            case CHAR:
+                return char.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            default:
+                return double.class;
+        }
+    }
+
+    private static Class<?> wrapperClass(PrimitiveType.Primitive primitive) {
+        switch (primitive) {
+            case BOOLEAN:
+                return Boolean.class;
+            case BYTE:
+                return Byte.class;
+            case SHORT:
+                return Short.class;
+            case CHAR:
+                return Character.class;
+            case INT:
+                return Integer.class;
+            case LONG:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            default:
+                return Double.class;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.reactive.pg.panache.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.reactiverse.pgclient.Tuple;
+
+public class PgOperationsTest {
+
+    enum Status {
+        ALIVE
+    }
+
+    @Test
+    public void testShorthandQuery() {
+        Tuple arguments = Tuple.tuple();
+        assertEquals(" WHERE name = $1", PgOperations.bindQuery(Object.class, "name", new Object[] { "Stef" }, arguments));
+        assertEquals("Stef", arguments.getString(0));
+        assertEquals("", PgOperations.bindQuery(Object.class, null, new Object[0], Tuple.tuple()));
+        assertEquals("", PgOperations.bindQuery(Object.class, " ", new Object[0], Tuple.tuple()));
+    }
+
+    @Test
+    public void testIndexedParameters() {
+        Tuple arguments = Tuple.tuple();
+        String where = PgOperations.bindQuery(Object.class,
+                "status = ?2 and (name = ?1 or nickname = ?1) and text <> '?1 and :name' and id > $3",
+                new Object[] { "Stef", Status.ALIVE, 10L }, arguments);
+        assertEquals(" WHERE status = $2 and (name = $1 or nickname = $1) and text <> '?1 and :name' and id > $3", where);
+        assertEquals(3, arguments.size());
+        assertEquals("ALIVE", arguments.getString(1));
+        assertThrows(IllegalArgumentException.class,
+                () -> PgOperations.bindQuery(Object.class, "name = ?2", new Object[] { "Stef" }, Tuple.tuple()));
+    }
+
+    @Test
+    public void testNamedParameters() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", "Stef");
+        params.put("min", 18);
+        params.put("max", 99L);
+        Tuple arguments = Tuple.tuple();
+        String where = PgOperations.bindQuery(Object.class,
+                "(name = :name or \"Nick:name\" = :name) and age >= :min and age < :max and birth::text like '19%'",
+                params, arguments);
+        assertEquals(" WHERE (name = $1 or \"Nick:name\" = $1) and age >= $2 and age < $3 and birth::text like '19%'",
+                where);
+        assertEquals(3, arguments.size());
+        assertEquals("Stef", arguments.getString(0));
+        assertEquals(Integer.valueOf(18), arguments.getInteger(1));
+        assertEquals(Long.valueOf(99L), arguments.getLong(2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PgOperations.bindQuery(Object.class, "name = :other", Collections.emptyMap(), Tuple.tuple()));
+    }
+
+    @Test
+    public void testSort() {
+        assertEquals(" ORDER BY name ASC, age DESC",
+                PgOperations.toOrderBy(Sort.by("name").and("age", Sort.Direction.Descending)));
+        assertEquals("", PgOperations.toOrderBy(null));
+    }
+}
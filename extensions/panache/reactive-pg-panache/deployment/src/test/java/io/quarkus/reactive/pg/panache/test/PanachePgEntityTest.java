@@ -0,0 +1,116 @@
+package io.quarkus.reactive.pg.panache.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.reactive.pg.panache.PanachePgEntity;
+import io.quarkus.reactive.pg.panache.PanachePgRepositoryBase;
+import io.quarkus.reactive.pg.panache.PgEntity;
+import io.quarkus.reactive.pg.panache.runtime.PgEntityMapper;
+import io.quarkus.test.QuarkusUnitTest;
+import io.reactiverse.pgclient.Row;
+import io.reactiverse.pgclient.Tuple;
+
+public class PanachePgEntityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Person.class, Status.class, Book.class, BookRepository.class));
+
+    @Inject
+    BookRepository bookRepository;
+
+    @Test
+    public void testEntityMapper() throws Exception {
+        PgEntityMapper<Person> mapper = mapper(Person.class);
+        // the id comes first, followed by the other columns sorted by name
+        Person person = mapper.map(row(12L, 42, "Stef", "ALIVE"));
+        assertEquals(Long.valueOf(12L), person.id);
+        assertEquals("Stef", person.name);
+        assertEquals(42, person.age);
+        assertEquals(Status.ALIVE, person.status);
+        assertNull(person.nickname);
+
+        // the accessors are generated for the public fields
+        assertNotNull(Person.class.getMethod("getName"));
+        assertNotNull(Person.class.getMethod("setName", String.class));
+    }
+
+    @Test
+    public void testRepositoryMapper() throws Exception {
+        PgEntityMapper<Book> mapper = mapper(Book.class);
+        Book book = mapper.map(row(3, null));
+        assertEquals(3, book.id);
+        assertNull(book.title);
+    }
+
+    @Test
+    public void testOperationsAreBridged() {
+        // the queries are only sent to the server when their results are read
+        assertNotNull(Person.find("name", "Stef"));
+        assertNotNull(Person.find("name = :name and age > :age", Sort.by("name"),
+                Parameters.with("name", "Stef").and("age", 18)));
+        assertNotNull(Person.findAll());
+        assertNotNull(bookRepository.find("title", "Panache"));
+        assertNotNull(bookRepository.findAll(Sort.descending("title")));
+        // the other operations are asynchronous, they do not throw without a database
+        assertNotNull(Person.count());
+        assertNotNull(bookRepository.findById(3));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PgEntityMapper<T> mapper(Class<T> entityClass) throws Exception {
+        Class<?> mapperClass = Thread.currentThread().getContextClassLoader()
+                .loadClass(entityClass.getName() + "_PgMapper");
+        assertTrue(PgEntityMapper.class.isAssignableFrom(mapperClass));
+        return (PgEntityMapper<T>) mapperClass.newInstance();
+    }
+
+    private static Row row(Object... values) {
+        Tuple tuple = Tuple.of(values[0]);
+        for (int i = 1; i < values.length; i++) {
+            tuple.addValue(values[i]);
+        }
+        return (Row) Proxy.newProxyInstance(Row.class.getClassLoader(), new Class<?>[] { Row.class },
+                (proxy, method, args) -> method.invoke(tuple, args));
+    }
+
+    public enum Status {
+        ALIVE,
+        DEAD
+    }
+
+    @PgEntity(table = "persons")
+    public static class Person extends PanachePgEntity {
+
+        public String name;
+        public int age;
+        public Status status;
+        public transient String nickname;
+    }
+
+    public static class Book {
+
+        public int id;
+        public String title;
+    }
+
+    @ApplicationScoped
+    public static class BookRepository implements PanachePgRepositoryBase<Book, Integer> {
+    }
+}
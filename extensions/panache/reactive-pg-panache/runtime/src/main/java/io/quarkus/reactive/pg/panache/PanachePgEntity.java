@@ -0,0 +1,31 @@
+package io.quarkus.reactive.pg.panache;
+
+/**
+ * <p>
+ * Represents an entity with a generated ID field {@link #id} of type {@link Long}. If your
+ * reactive PostgreSQL entities extend this class they gain the ID field and auto-generated accessors
+ * to all their public fields, as well as all the useful methods from {@link PanachePgEntityBase}.
+ * </p>
+ * <p>
+ * If you want a custom ID type or strategy, you can directly extend {@link PanachePgEntityBase}
+ * instead, and write your own ID field. You will still get auto-generated accessors and
+ * all the useful methods.
+ * </p>
+ *
+ * @see PanachePgEntityBase
+ */
+public abstract class PanachePgEntity extends PanachePgEntityBase {
+
+    /**
+     * The auto-generated ID field, stored in the {@code id} column. The column must be generated by the database,
+     * typically as a {@code bigserial}, this field is set when this entity is persisted.
+     *
+     * @see #persist()
+     */
+    public Long id;
+
+    @Override
+    public String toString() {
+        return this.getClass().getSimpleName() + "<" + id + ">";
+    }
+}
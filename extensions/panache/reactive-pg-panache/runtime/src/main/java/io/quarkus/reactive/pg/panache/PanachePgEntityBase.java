@@ -0,0 +1,637 @@
+package io.quarkus.reactive.pg.panache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.impl.GenerateBridge;
+import io.quarkus.reactive.pg.panache.runtime.PgOperations;
+
+/**
+ * <p>
+ * Represents an entity. If your reactive PostgreSQL entities extend this class they gain auto-generated accessors
+ * to all their public fields, as well as a lot of useful methods. Unless you have a custom ID strategy,
+ * you should not extend this class directly but extend {@link PanachePgEntity} instead.
+ * </p>
+ * <p>
+ * The entities are read from the rows by a mapper generated at build time, all the operations are asynchronous.
+ * </p>
+ *
+ * @see PanachePgEntity
+ */
+public abstract class PanachePgEntityBase {
+
+    // Operations
+
+    /**
+     * Insert this entity in the database. This will set your ID field if it is not already set.
+     *
+     * @see #update()
+     * @see #persistOrUpdate()
+     * @see #persist(Iterable)
+     * @see #persist(Stream)
+     * @see #persist(Object, Object...)
+     */
+    public CompletionStage<Void> persist() {
+        return PgOperations.persist(this);
+    }
+
+    /**
+     * Update this entity in the database, it must have an ID.
+     *
+     * @see #persist()
+     * @see #persistOrUpdate()
+     */
+    public CompletionStage<Void> update() {
+        return PgOperations.update(this);
+    }
+
+    /**
+     * Insert this entity in the database if it does not have an ID yet, or update it if it has one.
+     *
+     * @see #persist()
+     * @see #update()
+     */
+    public CompletionStage<Void> persistOrUpdate() {
+        return PgOperations.persistOrUpdate(this);
+    }
+
+    /**
+     * Delete this entity from the database, if it is already persisted.
+     *
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     * @see #deleteAll()
+     */
+    public CompletionStage<Void> delete() {
+        return PgOperations.delete(this);
+    }
+
+    // Queries
+
+    /**
+     * Find an entity of this type by ID.
+     *
+     * @param id the ID of the entity to find.
+     * @return the entity found, or <code>null</code> if not found.
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<T> findById(Object id) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Sort sort, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> find(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> findAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll()
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> PanacheQuery<T> findAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Sort sort,
+            Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> list(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return all the results, without paging
+     * @see #listAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> listAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return all the results, without paging
+     * @see #listAll()
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> CompletionStage<List<T>> listAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #list(String, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #list(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Map)
+     * @see #list(String, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #list(String, Sort, Map)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Sort sort, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #list(String, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> stream(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #streamAll(Sort)
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> streamAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #streamAll()
+     */
+    @GenerateBridge
+    public static <T extends PanachePgEntityBase> Publisher<T> streamAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity in the database.
+     *
+     * @return the number of this type of entity in the database.
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> count() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> count(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> count(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> count(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type from the database.
+     *
+     * @return the number of entities deleted.
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> deleteAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> delete(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> delete(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     */
+    @GenerateBridge
+    public static CompletionStage<Long> delete(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Stream)
+     * @see #persist(Object,Object...)
+     */
+    public static CompletionStage<Void> persist(Iterable<?> entities) {
+        return PgOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Iterable)
+     * @see #persist(Object,Object...)
+     */
+    public static CompletionStage<Void> persist(Stream<?> entities) {
+        return PgOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist()
+     * @see #persist(Stream)
+     * @see #persist(Iterable)
+     */
+    public static CompletionStage<Void> persist(Object firstEntity, Object... entities) {
+        return PgOperations.persist(firstEntity, entities);
+    }
+}
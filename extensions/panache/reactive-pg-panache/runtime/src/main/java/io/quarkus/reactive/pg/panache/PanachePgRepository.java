@@ -0,0 +1,15 @@
+package io.quarkus.reactive.pg.panache;
+
+/**
+ * <p>
+ * Represents a Repository for a specific type of entity {@code Entity}, with an ID type
+ * of {@code Long}. Implementing this repository will gain you the exact same useful methods
+ * that are on {@link PanachePgEntityBase}. If you have a custom ID strategy, you should
+ * implement {@link PanachePgRepositoryBase} instead.
+ * </p>
+ *
+ * @param <Entity> The type of entity to operate on
+ */
+public interface PanachePgRepository<Entity> extends PanachePgRepositoryBase<Entity, Long> {
+
+}
@@ -0,0 +1,639 @@
+package io.quarkus.reactive.pg.panache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.impl.GenerateBridge;
+import io.quarkus.reactive.pg.panache.runtime.PgOperations;
+
+/**
+ * <p>
+ * Represents a Repository for a specific type of entity {@code Entity}, with an ID type
+ * of {@code Id}. Implementing this repository will gain you the exact same useful methods
+ * that are on {@link PanachePgEntityBase}. Unless you have a custom ID strategy, you should not
+ * implement this interface directly but implement {@link PanachePgRepository} instead.
+ * </p>
+ *
+ * @param <Entity> The type of entity to operate on
+ * @param <Id> The ID type of the entity
+ */
+public interface PanachePgRepositoryBase<Entity, Id> {
+
+    // Operations
+
+    /**
+     * Insert the given entity in the database. This will set its ID field if it is not already set.
+     *
+     * @param entity the entity to insert.
+     * @see #update(Object)
+     * @see #persistOrUpdate(Object)
+     * @see #persist(Iterable)
+     * @see #persist(Stream)
+     * @see #persist(Object, Object...)
+     */
+    public default CompletionStage<Void> persist(Entity entity) {
+        return PgOperations.persist(entity);
+    }
+
+    /**
+     * Update the given entity in the database, it must have an ID.
+     *
+     * @param entity the entity to update.
+     * @see #persist(Object)
+     * @see #persistOrUpdate(Object)
+     */
+    public default CompletionStage<Void> update(Entity entity) {
+        return PgOperations.update(entity);
+    }
+
+    /**
+     * Insert the given entity in the database if it does not have an ID yet, or update it if it has one.
+     *
+     * @param entity the entity to insert or update.
+     * @see #persist(Object)
+     * @see #update(Object)
+     */
+    public default CompletionStage<Void> persistOrUpdate(Entity entity) {
+        return PgOperations.persistOrUpdate(entity);
+    }
+
+    /**
+     * Delete the given entity from the database, if it is already persisted.
+     *
+     * @param entity the entity to delete.
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     * @see #deleteAll()
+     */
+    public default CompletionStage<Void> delete(Entity entity) {
+        return PgOperations.delete(entity);
+    }
+
+    // Queries
+
+    /**
+     * Find an entity of this type by ID.
+     *
+     * @param id the ID of the entity to find.
+     * @return the entity found, or <code>null</code> if not found.
+     */
+    @GenerateBridge
+    public default CompletionStage<Entity> findById(Id id) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Sort sort, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Object...)
+     * @see #find(String, Map)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities using a query and the given sort options, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a new {@link PanacheQuery} instance for the given query
+     * @see #find(String, Sort, Object...)
+     * @see #find(String, Sort, Map)
+     * @see #find(String, Parameters)
+     * @see #list(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> find(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll(Sort)
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> findAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a new {@link PanacheQuery} instance to find all entities of this type
+     * @see #findAll()
+     */
+    @GenerateBridge
+    public default PanacheQuery<Entity> findAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #stream(String, Object...)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #stream(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Map)
+     * @see #stream(String, Map)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #stream(String, Sort, Map)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Sort sort, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Object...)
+     * @see #list(String, Map)
+     * @see #list(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #stream(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).list()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return all the results, without paging
+     * @see #list(String, Sort, Object...)
+     * @see #list(String, Sort, Map)
+     * @see #list(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #stream(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> list(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return all the results, without paging
+     * @see #listAll(Sort)
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> listAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return all the results, without paging
+     * @see #listAll()
+     */
+    @GenerateBridge
+    public default CompletionStage<List<Entity>> listAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Object...)
+     * @see #list(String, Object...)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with optional indexed parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params optional sequence of indexed parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Object...)
+     * @see #list(String, Sort, Object...)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Sort sort, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Map)
+     * @see #list(String, Map)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Map} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Sort, Map)
+     * @see #list(String, Sort, Map)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Sort sort, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query, with named parameters.
+     * This method is a shortcut for <code>find(query, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Object...)
+     * @see #stream(String, Map)
+     * @see #stream(String, Sort, Parameters)
+     * @see #find(String, Parameters)
+     * @see #list(String, Parameters)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities matching a query and the given sort options, with named parameters.
+     * This method is a shortcut for <code>find(query, sort, params).stream()</code>.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param sort the sort strategy to use
+     * @param params {@link Parameters} of named parameters
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #stream(String, Sort, Object...)
+     * @see #stream(String, Sort, Map)
+     * @see #stream(String, Parameters)
+     * @see #find(String, Sort, Parameters)
+     * @see #list(String, Sort, Parameters)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> stream(String query, Sort sort, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type.
+     *
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #streamAll(Sort)
+     */
+    @GenerateBridge
+    public default Publisher<Entity> streamAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Find all entities of this type, in the given order.
+     *
+     * @param sort the sort order to use
+     * @return a {@link Publisher} of all the results, without paging
+     * @see #streamAll()
+     */
+    @GenerateBridge
+    public default Publisher<Entity> streamAll(Sort sort) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity in the database.
+     *
+     * @return the number of this type of entity in the database.
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> count() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Map)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> count(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> count(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Counts the number of this type of entity matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities counted.
+     * @see #count()
+     * @see #count(String, Object...)
+     * @see #count(String, Map)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> count(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type from the database.
+     *
+     * @return the number of entities deleted.
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> deleteAll() {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with optional indexed parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Map)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> delete(String query, Object... params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Parameters)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> delete(String query, Map<String, Object> params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Delete all entities of this type matching the given query, with named parameters.
+     *
+     * @param query a {@link io.quarkus.reactive.pg.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities deleted.
+     * @see #deleteAll()
+     * @see #delete(String, Object...)
+     * @see #delete(String, Map)
+     */
+    @GenerateBridge
+    public default CompletionStage<Long> delete(String query, Parameters params) {
+        throw PgOperations.implementationInjectionMissing();
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Object)
+     * @see #persist(Stream)
+     * @see #persist(Object,Object...)
+     */
+    public default CompletionStage<Void> persist(Iterable<Entity> entities) {
+        return PgOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Object)
+     * @see #persist(Iterable)
+     * @see #persist(Object,Object...)
+     */
+    public default CompletionStage<Void> persist(Stream<Entity> entities) {
+        return PgOperations.persist(entities);
+    }
+
+    /**
+     * Insert all given entities, with pipelined inserts.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Object)
+     * @see #persist(Stream)
+     * @see #persist(Iterable)
+     */
+    public default CompletionStage<Void> persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity... entities) {
+        return PgOperations.persist(firstEntity, entities);
+    }
+}
@@ -0,0 +1,24 @@
+package io.quarkus.reactive.pg.panache;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the table where the entities of the annotated class are stored.
+ * <p>
+ * Without this annotation, the entities are stored in a table named after the simple name of the class.
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface PgEntity {
+
+    /**
+     * The name of the table, defaults to the simple name of the class.
+     */
+    String table() default "";
+}
@@ -0,0 +1,54 @@
+/**
+ * <h2>API usage</h2>
+ *
+ * Make your entities extend {@link io.quarkus.reactive.pg.panache.PanachePgEntity}, use public fields for your
+ * columns, use the existing operations defined as static methods on your entity class, and define custom ones as
+ * static methods on your entity class. All the operations are asynchronous, they return a
+ * {@link java.util.concurrent.CompletionStage} or a {@link org.reactivestreams.Publisher}:
+ *
+ * <code><pre>
+ * &#64;PgEntity(table = "persons")
+ * public class Person extends PanachePgEntity {
+ *     public String name;
+ *     public LocalDate birth;
+ *     public PersonStatus status;
+ *
+ *     public static CompletionStage&lt;Person&gt; findByName(String name){
+ *       return find("name", name).firstResult();
+ *     }
+ *
+ *     public static CompletionStage&lt;List&lt;Person&gt;&gt; findAlive(){
+ *       return list("status", Status.Alive);
+ *     }
+ *
+ *     public static CompletionStage&lt;Long&gt; deleteStefs(){
+ *       return delete("name", "Stef");
+ *     }
+ * }
+ * </pre></code>
+ *
+ * <p>
+ * Each public, non static and non transient field is mapped to the column of the same name, the field named
+ * {@code id} being mapped to the primary key. The column and table names are not quoted, so PostgreSQL folds them to
+ * lower case.
+ * </p>
+ *
+ * <h2>Queries</h2>
+ *
+ * <p>
+ * Queries are native PostgreSQL conditions, which are appended to the <code>WHERE</code> clause of the generated
+ * statement: <code>status = ?1 and birth &gt; :date</code>. Indexed parameters are written <code>?1</code>,
+ * <code>?2</code>... and named parameters <code>:name</code>, enums are bound by name. The native <code>$1</code>
+ * parameters can also be used with indexed parameters.
+ * </p>
+ * <p>
+ * We support the following additional forms:
+ * </p>
+ * <ul>
+ * <li><code>&lt;singleColumnName&gt;</code> (and single parameter) which will expand to
+ * <code>&lt;singleColumnName&gt; = ?1</code></li>
+ * <li><code>order by ...</code> which will not add a <code>WHERE</code> clause</li>
+ * <li>an empty or <code>null</code> query, which matches all the rows</li>
+ * </ul>
+ */
+package io.quarkus.reactive.pg.panache;
@@ -0,0 +1,26 @@
+package io.quarkus.reactive.pg.panache.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanachePgRecorder {
+
+    /**
+     * @param mappers the names of the mapper classes generated at build time, by entity class name
+     */
+    public void setMappers(Map<String, String> mappers) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        Map<String, PgEntityMapper<?>> instances = new HashMap<>();
+        for (Map.Entry<String, String> entry : mappers.entrySet()) {
+            try {
+                instances.put(entry.getKey(), (PgEntityMapper<?>) cl.loadClass(entry.getValue()).newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create the mapper of the entity " + entry.getKey(), e);
+            }
+        }
+        PgOperations.setMappers(instances);
+    }
+}
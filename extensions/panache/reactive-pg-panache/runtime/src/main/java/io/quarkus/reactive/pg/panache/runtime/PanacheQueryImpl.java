@@ -0,0 +1,177 @@
+package io.quarkus.reactive.pg.panache.runtime;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.microprofile.reactive.streams.operators.ReactiveStreams;
+import org.reactivestreams.Publisher;
+
+import io.quarkus.panache.common.Page;
+import io.quarkus.reactive.pg.panache.PanacheQuery;
+import io.reactiverse.pgclient.Tuple;
+
+public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
+
+    // the number of rows fetched at once by the cursor of a stream
+    private static final int FETCH_SIZE = 100;
+
+    private final PgEntityMapper<Entity> mapper;
+    private final String where;
+    private final String orderBy;
+    private final Tuple arguments;
+
+    private Page page;
+    private CompletionStage<Long> count;
+
+    PanacheQueryImpl(PgEntityMapper<Entity> mapper, String where, String orderBy, Tuple arguments) {
+        this.mapper = mapper;
+        this.where = where;
+        this.orderBy = orderBy;
+        this.arguments = arguments;
+        page = new Page(0, Integer.MAX_VALUE);
+    }
+
+    // Builder
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> PanacheQuery<T> page(Page page) {
+        this.page = page;
+        return (PanacheQuery<T>) this;
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize) {
+        return page(Page.of(pageIndex, pageSize));
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> nextPage() {
+        return page(page.next());
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> previousPage() {
+        return page(page.previous());
+    }
+
+    @Override
+    public <T extends Entity> PanacheQuery<T> firstPage() {
+        return page(page.first());
+    }
+
+    @Override
+    public <T extends Entity> CompletionStage<PanacheQuery<T>> lastPage() {
+        return pageCount().thenApply(pageCount -> page(page.index(pageCount - 1)));
+    }
+
+    @Override
+    public CompletionStage<Boolean> hasNextPage() {
+        return pageCount().thenApply(pageCount -> page.index < (pageCount - 1));
+    }
+
+    @Override
+    public boolean hasPreviousPage() {
+        return page.index > 0;
+    }
+
+    @Override
+    public CompletionStage<Integer> pageCount() {
+        int size = page.size;
+        return count().thenApply(count -> {
+            if (count == 0)
+                return 1; // a single page of zero results
+            return (int) Math.ceil((double) count / (double) size);
+        });
+    }
+
+    @Override
+    public Page page() {
+        return page;
+    }
+
+    // Results
+
+    @Override
+    public CompletionStage<Long> count() {
+        if (count == null) {
+            count = PgOperations.execute(mapper.count + where, arguments)
+                    .thenApply(rows -> rows.iterator().next().getLong(0));
+        }
+        return count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CompletionStage<List<T>> list() {
+        Tuple arguments = Tuple.tuple();
+        String sql = createQuery(page.size, arguments);
+        return PgOperations.execute(sql, arguments).thenApply(rows -> (List<T>) PgOperations.map(mapper, rows));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Publisher<T> stream() {
+        Tuple arguments = Tuple.tuple();
+        String sql = createQuery(page.size, arguments);
+        int fetchSize = Math.min(page.size, FETCH_SIZE);
+        io.reactiverse.axle.pgclient.PgPool pool = io.reactiverse.axle.pgclient.PgPool
+                .newInstance(PgOperations.getPgPool());
+        // the rows are fetched by a cursor, which needs a transaction, as the stream is consumed
+        return ReactiveStreams.fromCompletionStage(pool.begin())
+                .flatMap(tx -> ReactiveStreams.fromCompletionStage(tx.prepare(sql))
+                        .flatMap(query -> query
+                                .createStream(fetchSize, io.reactiverse.axle.pgclient.Tuple.newInstance(arguments))
+                                .toPublisherBuilder())
+                        .onTerminate(() -> tx.commit()))
+                .map(row -> (T) mapper.map(row.getDelegate()))
+                .buildRs();
+    }
+
+    @Override
+    public <T extends Entity> CompletionStage<T> firstResult() {
+        return this.<T> fetch(1).thenApply(results -> results.isEmpty() ? null : results.get(0));
+    }
+
+    @Override
+    public <T extends Entity> CompletionStage<T> singleResult() {
+        return this.<T> fetch(2).thenApply(results -> {
+            if (results.isEmpty()) {
+                throw new NoSuchElementException("No result for the query" + where);
+            }
+            if (results.size() > 1) {
+                throw new IllegalStateException("More than one result for the query" + where);
+            }
+            return results.get(0);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Entity> CompletionStage<List<T>> fetch(int limit) {
+        Tuple arguments = Tuple.tuple();
+        String sql = createQuery(limit, arguments);
+        return PgOperations.execute(sql, arguments).thenApply(rows -> (List<T>) PgOperations.map(mapper, rows));
+    }
+
+    /**
+     * Adds the arguments of the query to the given tuple, followed by the limit and offset of the current page, which
+     * are bound as parameters.
+     */
+    String createQuery(int limit, Tuple arguments) {
+        for (int i = 0; i < this.arguments.size(); i++) {
+            arguments.addValue(this.arguments.getValue(i));
+        }
+        StringBuilder sql = new StringBuilder(mapper.select).append(where).append(orderBy);
+        if (limit != Integer.MAX_VALUE) {
+            arguments.addLong((long) limit);
+            sql.append(" LIMIT $").append(arguments.size());
+        }
+        long offset = (long) page.index * page.size;
+        if (offset > 0) {
+            arguments.addLong(offset);
+            sql.append(" OFFSET $").append(arguments.size());
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,242 @@
+package io.quarkus.reactive.pg.panache.runtime;
+
+import io.reactiverse.pgclient.Row;
+import io.reactiverse.pgclient.Tuple;
+
+/**
+ * The superclass of the mappers generated at build time for the entity classes.
+ * <p>
+ * The generated mappers read the columns by position, in the order of the {@code SELECT} statement built here, and
+ * access the public fields of the entity directly. The statements of an entity class are built once, when its mapper
+ * is created.
+ *
+ * @param <Entity> The entity class
+ */
+public abstract class PgEntityMapper<Entity> {
+
+    private final String table;
+    private final String idColumn;
+
+    final String select;
+    final String selectById;
+    final String count;
+    final String delete;
+    final String deleteById;
+    final String insert;
+    final String insertWithId;
+    final String update;
+    final String upsert;
+
+    /**
+     * @param table the table name
+     * @param idColumn the primary key column, read first, or {@code null} if the entity does not have an ID
+     * @param columns the other columns, in the order they are read and bound
+     */
+    protected PgEntityMapper(String table, String idColumn, String[] columns) {
+        this.table = table;
+        this.idColumn = idColumn;
+
+        StringBuilder selected = new StringBuilder();
+        if (idColumn != null) {
+            selected.append(idColumn);
+        }
+        for (String column : columns) {
+            if (selected.length() > 0) {
+                selected.append(", ");
+            }
+            selected.append(column);
+        }
+        this.select = "SELECT " + selected + " FROM " + table;
+        this.count = "SELECT COUNT(*) FROM " + table;
+        this.delete = "DELETE FROM " + table;
+
+        String returning = idColumn != null ? " RETURNING " + idColumn : "";
+        if (columns.length == 0) {
+            this.insert = "INSERT INTO " + table + " DEFAULT VALUES" + returning;
+        } else {
+            this.insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + parameters(1, columns.length) + ")" + returning;
+        }
+
+        if (idColumn != null) {
+            this.selectById = select + " WHERE " + idColumn + " = $1";
+            this.deleteById = delete + " WHERE " + idColumn + " = $1";
+            this.insertWithId = "INSERT INTO " + table + " (" + selected + ") VALUES (" + parameters(1, columns.length + 1)
+                    + ")";
+            StringBuilder assignments = new StringBuilder();
+            StringBuilder excluded = new StringBuilder();
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    assignments.append(", ");
+                    excluded.append(", ");
+                }
+                assignments.append(columns[i]).append(" = $").append(i + 1);
+                excluded.append(columns[i]).append(" = EXCLUDED.").append(columns[i]);
+            }
+            this.update = columns.length == 0 ? null
+                    : "UPDATE " + table + " SET " + assignments + " WHERE " + idColumn + " = $" + (columns.length + 1);
+            this.upsert = insertWithId + " ON CONFLICT (" + idColumn + ") DO "
+                    + (columns.length == 0 ? "NOTHING" : "UPDATE SET " + excluded);
+        } else {
+            this.selectById = null;
+            this.deleteById = null;
+            this.insertWithId = null;
+            this.update = null;
+            this.upsert = null;
+        }
+    }
+
+    /**
+     * @return the entity read from the given row, which columns are in the order of the {@code SELECT} statement
+     */
+    public abstract Entity map(Row row);
+
+    /**
+     * Adds the values of the columns other than the ID to the given tuple.
+     */
+    protected abstract void addValues(Entity entity, Tuple tuple);
+
+    protected Object getId(Entity entity) {
+        throw noId();
+    }
+
+    /**
+     * Sets the ID of the entity from the first column of the given row.
+     */
+    protected void setId(Entity entity, Row row) {
+        throw noId();
+    }
+
+    boolean hasId() {
+        return idColumn != null;
+    }
+
+    String getTable() {
+        return table;
+    }
+
+    Tuple values(Entity entity) {
+        Tuple tuple = Tuple.tuple();
+        addValues(entity, tuple);
+        return tuple;
+    }
+
+    Tuple idThenValues(Entity entity) {
+        Tuple tuple = Tuple.tuple();
+        tuple.addValue(getId(entity));
+        addValues(entity, tuple);
+        return tuple;
+    }
+
+    Tuple valuesThenId(Entity entity) {
+        Tuple tuple = Tuple.tuple();
+        addValues(entity, tuple);
+        tuple.addValue(getId(entity));
+        return tuple;
+    }
+
+    IllegalStateException noId() {
+        return new IllegalStateException("The table " + table + " does not have an id column, the entity must have a"
+                + " public id field to be found, updated or deleted by ID");
+    }
+
+    private static String parameters(int first, int count) {
+        StringBuilder parameters = new StringBuilder();
+        for (int i = first; i < first + count; i++) {
+            if (i > first) {
+                parameters.append(", ");
+            }
+            parameters.append('$').append(i);
+        }
+        return parameters.toString();
+    }
+
+    // Reading
+
+    protected static boolean readBoolean(Row row, int pos) {
+        Boolean value = row.getBoolean(pos);
+        return value != null ? value : false;
+    }
+
+    protected static byte readByte(Row row, int pos) {
+        Short value = row.getShort(pos);
+        return value != null ? value.byteValue() : 0;
+    }
+
+    protected static short readShort(Row row, int pos) {
+        Short value = row.getShort(pos);
+        return value != null ? value : 0;
+    }
+
+    protected static char readChar(Row row, int pos) {
+        String value = row.getString(pos);
+        return value != null && !value.isEmpty() ? value.charAt(0) : 0;
+    }
+
+    protected static int readInt(Row row, int pos) {
+        Integer value = row.getInteger(pos);
+        return value != null ? value : 0;
+    }
+
+    protected static long readLong(Row row, int pos) {
+        Long value = row.getLong(pos);
+        return value != null ? value : 0;
+    }
+
+    protected static float readFloat(Row row, int pos) {
+        Float value = row.getFloat(pos);
+        return value != null ? value : 0;
+    }
+
+    protected static double readDouble(Row row, int pos) {
+        Double value = row.getDouble(pos);
+        return value != null ? value : 0;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static Enum<?> readEnum(Row row, int pos, Class enumClass) {
+        String value = row.getString(pos);
+        return value != null ? Enum.valueOf(enumClass, value) : null;
+    }
+
+    // Binding
+
+    protected static void addBoolean(Tuple tuple, boolean value) {
+        tuple.addBoolean(value);
+    }
+
+    protected static void addByte(Tuple tuple, byte value) {
+        tuple.addShort((short) value);
+    }
+
+    protected static void addShort(Tuple tuple, short value) {
+        tuple.addShort(value);
+    }
+
+    protected static void addChar(Tuple tuple, char value) {
+        tuple.addString(String.valueOf(value));
+    }
+
+    protected static void addInt(Tuple tuple, int value) {
+        tuple.addInteger(value);
+    }
+
+    protected static void addLong(Tuple tuple, long value) {
+        tuple.addLong(value);
+    }
+
+    protected static void addFloat(Tuple tuple, float value) {
+        tuple.addFloat(value);
+    }
+
+    protected static void addDouble(Tuple tuple, double value) {
+        tuple.addDouble(value);
+    }
+
+    /**
+     * The enums are stored by name.
+     */
+    protected static void addEnum(Tuple tuple, Enum<?> value) {
+        tuple.addString(value != null ? value.name() : null);
+    }
+}
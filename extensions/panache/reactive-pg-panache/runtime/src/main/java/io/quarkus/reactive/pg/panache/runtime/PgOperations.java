@@ -0,0 +1,463 @@
+package io.quarkus.reactive.pg.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.reactivestreams.Publisher;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.reactive.pg.panache.PanacheQuery;
+import io.reactiverse.pgclient.PgPool;
+import io.reactiverse.pgclient.PgRowSet;
+import io.reactiverse.pgclient.Row;
+import io.reactiverse.pgclient.Tuple;
+
+public class PgOperations {
+
+    private static final String ORDER_BY = "order by";
+
+    // set by the PanachePgRecorder
+    private static volatile Map<String, PgEntityMapper<?>> mappers = Collections.emptyMap();
+
+    static void setMappers(Map<String, PgEntityMapper<?>> mappers) {
+        PgOperations.mappers = mappers;
+    }
+
+    //
+    // Instance methods
+
+    public static CompletionStage<Void> persist(Object entity) {
+        PgEntityMapper<Object> mapper = mapper(entity.getClass());
+        if (!mapper.hasId()) {
+            return execute(mapper.insert, mapper.values(entity)).thenApply(rows -> null);
+        }
+        if (mapper.getId(entity) != null) {
+            return execute(mapper.insertWithId, mapper.idThenValues(entity)).thenApply(rows -> null);
+        }
+        return execute(mapper.insert, mapper.values(entity)).thenApply(rows -> {
+            mapper.setId(entity, rows.iterator().next());
+            return null;
+        });
+    }
+
+    public static CompletionStage<Void> persist(Iterable<?> entities) {
+        List<Object> list = new ArrayList<>();
+        for (Object entity : entities) {
+            list.add(entity);
+        }
+        return persist(list);
+    }
+
+    public static CompletionStage<Void> persist(Object firstEntity, Object... entities) {
+        List<Object> list = new ArrayList<>(entities.length + 1);
+        list.add(firstEntity);
+        Collections.addAll(list, entities);
+        return persist(list);
+    }
+
+    public static CompletionStage<Void> persist(Stream<?> entities) {
+        return persist(entities.collect(Collectors.toList()));
+    }
+
+    private static CompletionStage<Void> persist(List<Object> entities) {
+        // the inserts are all sent at once, the pool pipelines them on its connections
+        CompletableFuture<?>[] inserts = new CompletableFuture<?>[entities.size()];
+        for (int i = 0; i < inserts.length; i++) {
+            inserts[i] = persist(entities.get(i)).toCompletableFuture();
+        }
+        return CompletableFuture.allOf(inserts);
+    }
+
+    public static CompletionStage<Void> update(Object entity) {
+        PgEntityMapper<Object> mapper = mapper(entity.getClass());
+        if (!mapper.hasId()) {
+            return failed(mapper.noId());
+        }
+        if (mapper.getId(entity) == null) {
+            return failed(new IllegalArgumentException("Unable to update an entity without an ID: " + entity));
+        }
+        if (mapper.update == null) {
+            // only the ID is mapped
+            return CompletableFuture.completedFuture(null);
+        }
+        return execute(mapper.update, mapper.valuesThenId(entity)).thenApply(rows -> null);
+    }
+
+    public static CompletionStage<Void> persistOrUpdate(Object entity) {
+        PgEntityMapper<Object> mapper = mapper(entity.getClass());
+        if (!mapper.hasId() || mapper.getId(entity) == null) {
+            return persist(entity);
+        }
+        return execute(mapper.upsert, mapper.idThenValues(entity)).thenApply(rows -> null);
+    }
+
+    public static CompletionStage<Void> delete(Object entity) {
+        PgEntityMapper<Object> mapper = mapper(entity.getClass());
+        if (!mapper.hasId()) {
+            return failed(mapper.noId());
+        }
+        Object id = mapper.getId(entity);
+        if (id == null) {
+            return failed(new IllegalArgumentException("Unable to delete an entity without an ID: " + entity));
+        }
+        return execute(mapper.deleteById, Tuple.of(id)).thenApply(rows -> null);
+    }
+
+    //
+    // Mappers and execution
+
+    @SuppressWarnings("unchecked")
+    static <Entity> PgEntityMapper<Entity> mapper(Class<?> entityClass) {
+        PgEntityMapper<?> mapper = mappers.get(entityClass.getName());
+        if (mapper == null) {
+            throw new IllegalStateException("No mapper generated for the entity " + entityClass.getName()
+                    + ": is your entity class part of the application index?");
+        }
+        return (PgEntityMapper<Entity>) mapper;
+    }
+
+    static PgPool getPgPool() {
+        return Arc.container().instance(PgPool.class).get();
+    }
+
+    static CompletionStage<PgRowSet> execute(String sql, Tuple arguments) {
+        CompletableFuture<PgRowSet> result = new CompletableFuture<>();
+        getPgPool().preparedQuery(sql, arguments, ar -> {
+            if (ar.succeeded()) {
+                result.complete(ar.result());
+            } else {
+                result.completeExceptionally(ar.cause());
+            }
+        });
+        return result;
+    }
+
+    static <T> CompletionStage<T> failed(Throwable failure) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(failure);
+        return result;
+    }
+
+    static <Entity> List<Entity> map(PgEntityMapper<Entity> mapper, PgRowSet rows) {
+        List<Entity> entities = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            entities.add(mapper.map(row));
+        }
+        return entities;
+    }
+
+    //
+    // Query binding
+
+    /**
+     * @return the {@code WHERE} clause, or an empty string, the arguments being added to the given tuple
+     */
+    static String bindQuery(Class<?> entityClass, String query, Object[] params, Tuple arguments) {
+        String trimmed = query != null ? query.trim() : "";
+        if (trimmed.isEmpty()) {
+            return "";
+        }
+        if (params.length == 1 && isColumnName(trimmed)) {
+            arguments.addValue(encode(params[0]));
+            return " WHERE " + trimmed + " = $1";
+        }
+        String clause = " WHERE " + replaceParameters(entityClass, trimmed, params, null);
+        for (Object param : params) {
+            arguments.addValue(encode(param));
+        }
+        return clause;
+    }
+
+    static String bindQuery(Class<?> entityClass, String query, Map<String, Object> params, Tuple arguments) {
+        String trimmed = query != null ? query.trim() : "";
+        if (trimmed.isEmpty()) {
+            return "";
+        }
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        String clause = " WHERE " + replaceParameters(entityClass, trimmed, null, indexes);
+        for (String name : indexes.keySet()) {
+            if (!params.containsKey(name)) {
+                throw new IllegalArgumentException("Missing value for the query parameter :" + name);
+            }
+            arguments.addValue(encode(params.get(name)));
+        }
+        return clause;
+    }
+
+    private static boolean isColumnName(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (!Character.isJavaIdentifierPart(c) && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isOrderBy(String query) {
+        return query != null && query.trim().toLowerCase(Locale.ROOT).startsWith(ORDER_BY);
+    }
+
+    /**
+     * Replaces the {@code ?1} and {@code :name} parameters, outside of the string literals and quoted identifiers,
+     * with the native {@code $1} parameters. The named parameters are numbered in order of appearance, their indexes
+     * being collected in the given map.
+     */
+    static String replaceParameters(Class<?> entityClass, String query, Object[] params, Map<String, Integer> indexes) {
+        StringBuilder result = new StringBuilder(query.length());
+        char quote = 0;
+        int length = query.length();
+        for (int i = 0; i < length; i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                result.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '?' && i + 1 < length && Character.isDigit(query.charAt(i + 1))) {
+                int end = i + 1;
+                while (end < length && Character.isDigit(query.charAt(end))) {
+                    end++;
+                }
+                int index = Integer.parseInt(query.substring(i + 1, end));
+                if (params == null) {
+                    throw new IllegalArgumentException("Unable to bind the indexed parameter ?" + index
+                            + " with named parameters in the query for " + entityClass.getName() + ": " + query);
+                }
+                if (index < 1 || index > params.length) {
+                    throw new IllegalArgumentException("Missing value for the query parameter ?" + index);
+                }
+                result.append('$').append(index);
+                i = end - 1;
+                continue;
+            } else if (c == ':' && i + 1 < length && Character.isJavaIdentifierStart(query.charAt(i + 1))
+                    && (i == 0 || query.charAt(i - 1) != ':')) {
+                // a double colon is a cast
+                int end = i + 1;
+                while (end < length && Character.isJavaIdentifierPart(query.charAt(end))) {
+                    end++;
+                }
+                String name = query.substring(i + 1, end);
+                if (indexes == null) {
+                    throw new IllegalArgumentException("Missing value for the query parameter :" + name);
+                }
+                Integer index = indexes.get(name);
+                if (index == null) {
+                    index = indexes.size() + 1;
+                    indexes.put(name, index);
+                }
+                result.append('$').append(index);
+                i = end - 1;
+                continue;
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    static Object encode(Object value) {
+        if (value instanceof Enum) {
+            // enums are stored by name, as the generated mappers do
+            return ((Enum<?>) value).name();
+        }
+        return value;
+    }
+
+    static String toOrderBy(Sort sort) {
+        if (sort == null || sort.getColumns().isEmpty()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        for (int i = 0; i < sort.getColumns().size(); i++) {
+            Sort.Column column = sort.getColumns().get(i);
+            if (i > 0) {
+                orderBy.append(", ");
+            }
+            orderBy.append(column.getName())
+                    .append(column.getDirection() == Sort.Direction.Descending ? " DESC" : " ASC");
+        }
+        return orderBy.toString();
+    }
+
+    //
+    // Queries
+
+    public static CompletionStage<?> findById(Class<?> entityClass, Object id) {
+        PgEntityMapper<Object> mapper = mapper(entityClass);
+        if (!mapper.hasId()) {
+            return failed(mapper.noId());
+        }
+        return execute(mapper.selectById, Tuple.of(encode(id))).thenApply(rows -> {
+            Iterable<Row> iterable = rows;
+            for (Row row : iterable) {
+                return mapper.map(row);
+            }
+            return null;
+        });
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, null, params);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
+        if (isOrderBy(query)) {
+            return new PanacheQueryImpl<>(mapper(entityClass), "", " " + query.trim(), Tuple.tuple());
+        }
+        Tuple arguments = Tuple.tuple();
+        String where = bindQuery(entityClass, query, params, arguments);
+        return new PanacheQueryImpl<>(mapper(entityClass), where, toOrderBy(sort), arguments);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, null, params);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        if (isOrderBy(query)) {
+            return new PanacheQueryImpl<>(mapper(entityClass), "", " " + query.trim(), Tuple.tuple());
+        }
+        Tuple arguments = Tuple.tuple();
+        String where = bindQuery(entityClass, query, params, arguments);
+        return new PanacheQueryImpl<>(mapper(entityClass), where, toOrderBy(sort), arguments);
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, null, params.map());
+    }
+
+    public static PanacheQuery<?> find(Class<?> entityClass, String query, Sort sort, Parameters params) {
+        return find(entityClass, query, sort, params.map());
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query, Sort sort,
+            Object... params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query,
+            Map<String, Object> params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query, Sort sort,
+            Map<String, Object> params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, params).list();
+    }
+
+    public static CompletionStage<? extends List<?>> list(Class<?> entityClass, String query, Sort sort,
+            Parameters params) {
+        return find(entityClass, query, sort, params).list();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Sort sort, Object... params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Parameters params) {
+        return find(entityClass, query, params).stream();
+    }
+
+    public static Publisher<?> stream(Class<?> entityClass, String query, Sort sort, Parameters params) {
+        return find(entityClass, query, sort, params).stream();
+    }
+
+    public static PanacheQuery<?> findAll(Class<?> entityClass) {
+        return new PanacheQueryImpl<>(mapper(entityClass), "", "", Tuple.tuple());
+    }
+
+    public static PanacheQuery<?> findAll(Class<?> entityClass, Sort sort) {
+        return new PanacheQueryImpl<>(mapper(entityClass), "", toOrderBy(sort), Tuple.tuple());
+    }
+
+    public static CompletionStage<? extends List<?>> listAll(Class<?> entityClass) {
+        return findAll(entityClass).list();
+    }
+
+    public static CompletionStage<? extends List<?>> listAll(Class<?> entityClass, Sort sort) {
+        return findAll(entityClass, sort).list();
+    }
+
+    public static Publisher<?> streamAll(Class<?> entityClass) {
+        return findAll(entityClass).stream();
+    }
+
+    public static Publisher<?> streamAll(Class<?> entityClass, Sort sort) {
+        return findAll(entityClass, sort).stream();
+    }
+
+    public static CompletionStage<Long> count(Class<?> entityClass) {
+        return findAll(entityClass).count();
+    }
+
+    public static CompletionStage<Long> count(Class<?> entityClass, String query, Object... params) {
+        return find(entityClass, query, params).count();
+    }
+
+    public static CompletionStage<Long> count(Class<?> entityClass, String query, Map<String, Object> params) {
+        return find(entityClass, query, params).count();
+    }
+
+    public static CompletionStage<Long> count(Class<?> entityClass, String query, Parameters params) {
+        return count(entityClass, query, params.map());
+    }
+
+    public static CompletionStage<Long> deleteAll(Class<?> entityClass) {
+        return execute(mapper(entityClass).delete, Tuple.tuple()).thenApply(rows -> (long) rows.rowCount());
+    }
+
+    public static CompletionStage<Long> delete(Class<?> entityClass, String query, Object... params) {
+        Tuple arguments = Tuple.tuple();
+        String where = bindQuery(entityClass, query, params, arguments);
+        return execute(mapper(entityClass).delete + where, arguments).thenApply(rows -> (long) rows.rowCount());
+    }
+
+    public static CompletionStage<Long> delete(Class<?> entityClass, String query, Map<String, Object> params) {
+        Tuple arguments = Tuple.tuple();
+        String where = bindQuery(entityClass, query, params, arguments);
+        return execute(mapper(entityClass).delete + where, arguments).thenApply(rows -> (long) rows.rowCount());
+    }
+
+    public static CompletionStage<Long> delete(Class<?> entityClass, String query, Parameters params) {
+        return delete(entityClass, query, params.map());
+    }
+
+    public static IllegalStateException implementationInjectionMissing() {
+        return new IllegalStateException(
+                "This method is normally automatically overridden in subclasses: is your entity class part of the application index?");
+    }
+}
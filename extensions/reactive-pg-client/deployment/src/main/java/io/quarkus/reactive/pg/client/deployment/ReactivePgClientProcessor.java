@@ -4,6 +4,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -31,12 +32,12 @@ class ReactivePgClientProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     PgPoolBuildItem build(BuildProducer<FeatureBuildItem> feature, PgPoolRecorder recorder, VertxBuildItem vertx,
             BeanContainerBuildItem beanContainer, ShutdownContextBuildItem shutdown,
-            DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig) {
+            DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig, Capabilities capabilities) {
 
         feature.produce(new FeatureBuildItem(FeatureBuildItem.REACTIVE_PG_CLIENT));
 
         RuntimeValue<PgPool> pgPool = recorder.configurePgPool(vertx.getVertx(), beanContainer.getValue(), dataSourceConfig,
-                pgPoolConfig, shutdown);
+                pgPoolConfig, capabilities.isCapabilityPresent(Capabilities.METRICS), shutdown);
 
         return new PgPoolBuildItem(pgPool);
     }
@@ -0,0 +1,58 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.reactiverse.pgclient.PgPool;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class PgPoolPerEventLoopSmallerMaxSizeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-pool-per-event-loop-small.properties", "application.properties"));
+
+    @Inject
+    PgPool pgPool;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testEventLoopsWithoutPartitionAreDistributed() throws Exception {
+        // the commands fail as there is no database, the handlers are called on the thread of the partition anyway
+        Set<Thread> callers = new HashSet<>();
+        Set<Thread> completions = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            // a new context is created on each of the 4 event loops in turn
+            Context context = vertx.getOrCreateContext();
+            CompletableFuture<Thread> caller = new CompletableFuture<>();
+            CompletableFuture<Thread> completion = new CompletableFuture<>();
+            context.runOnContext(v -> {
+                caller.complete(Thread.currentThread());
+                pgPool.query("SELECT 1", ar -> completion.complete(Thread.currentThread()));
+            });
+            callers.add(caller.get(10, TimeUnit.SECONDS));
+            completions.add(completion.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(4, callers.size());
+        // a partition per connection, each one bound to an event loop
+        assertEquals(2, completions.size());
+        assertTrue(callers.containsAll(completions));
+    }
+}
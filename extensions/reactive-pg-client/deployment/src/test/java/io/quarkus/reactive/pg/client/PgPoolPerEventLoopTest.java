@@ -0,0 +1,66 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.reactiverse.pgclient.PgPool;
+import io.smallrye.metrics.MetricRegistries;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+public class PgPoolPerEventLoopTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("application-pool-per-event-loop.properties", "application.properties"));
+
+    @Inject
+    PgPool pgPool;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testCommandsStayOnTheEventLoop() throws Exception {
+        // the commands fail as there is no database, the handlers are called on the thread of the partition anyway
+        for (int i = 0; i < 4; i++) {
+            Context context = vertx.getOrCreateContext();
+            CompletableFuture<Thread> caller = new CompletableFuture<>();
+            CompletableFuture<Thread> completion = new CompletableFuture<>();
+            context.runOnContext(v -> {
+                caller.complete(Thread.currentThread());
+                pgPool.query("SELECT 1", ar -> completion.complete(Thread.currentThread()));
+            });
+            assertSame(caller.get(10, TimeUnit.SECONDS), completion.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        pgPool.query("SELECT 1", ar -> completion.complete(null));
+        completion.get(10, TimeUnit.SECONDS);
+
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Gauge<?> waiting = registry.getGauges().get(new MetricID("pgpool.waiting.count"));
+        assertNotNull(waiting);
+        assertEquals(0L, waiting.getValue());
+        assertNotNull(registry.getTimers().get(new MetricID("pgpool.acquire.time")));
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+import io.netty.channel.EventLoop;
+import io.quarkus.reactive.pg.client.runtime.metrics.PgPoolMetrics;
+import io.reactiverse.pgclient.PgClient;
+import io.reactiverse.pgclient.PgConnection;
+import io.reactiverse.pgclient.PgPool;
+import io.reactiverse.pgclient.PgResult;
+import io.reactiverse.pgclient.PgRowSet;
+import io.reactiverse.pgclient.PgTransaction;
+import io.reactiverse.pgclient.Row;
+import io.reactiverse.pgclient.Tuple;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * A {@link PgPool} made of several pools, the partitions, each one bound to a Vert.x event loop.
+ * <p>
+ * The commands issued from an event loop are executed by the partition bound to this event loop, the other ones are
+ * distributed in a round-robin fashion. When there are less partitions than event loops, the event loops without a
+ * partition are not bound to any: their commands are distributed too, so their results are handed back from the
+ * event loop of the partition.
+ * <p>
+ * When the metrics are enabled, the commands acquire a connection explicitly, so that the acquisition can be measured,
+ * and release it once the command is completed. Unlike the pool, which pipelines several commands on a connection, a
+ * connection then runs a single command at a time.
+ */
+final class PartitionedPgPool implements PgPool {
+
+    private final Map<EventLoop, PgPool> partitionsByEventLoop;
+    private final PgPool[] partitions;
+    private final PgPoolMetrics metrics;
+    private final AtomicInteger next = new AtomicInteger();
+
+    PartitionedPgPool(Map<EventLoop, PgPool> partitionsByEventLoop, List<PgPool> partitions, PgPoolMetrics metrics) {
+        this.partitionsByEventLoop = partitionsByEventLoop;
+        this.partitions = partitions.toArray(new PgPool[0]);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public PgPool query(String sql, Handler<AsyncResult<PgRowSet>> handler) {
+        return execute((client, h) -> client.query(sql, h), handler);
+    }
+
+    @Override
+    public <R> PgPool query(String sql, Collector<Row, ?, R> collector, Handler<AsyncResult<PgResult<R>>> handler) {
+        return execute((client, h) -> client.query(sql, collector, h), handler);
+    }
+
+    @Override
+    public PgPool preparedQuery(String sql, Handler<AsyncResult<PgRowSet>> handler) {
+        return execute((client, h) -> client.preparedQuery(sql, h), handler);
+    }
+
+    @Override
+    public <R> PgPool preparedQuery(String sql, Collector<Row, ?, R> collector,
+            Handler<AsyncResult<PgResult<R>>> handler) {
+        return execute((client, h) -> client.preparedQuery(sql, collector, h), handler);
+    }
+
+    @Override
+    public PgPool preparedQuery(String sql, Tuple arguments, Handler<AsyncResult<PgRowSet>> handler) {
+        return execute((client, h) -> client.preparedQuery(sql, arguments, h), handler);
+    }
+
+    @Override
+    public <R> PgPool preparedQuery(String sql, Tuple arguments, Collector<Row, ?, R> collector,
+            Handler<AsyncResult<PgResult<R>>> handler) {
+        return execute((client, h) -> client.preparedQuery(sql, arguments, collector, h), handler);
+    }
+
+    @Override
+    public PgPool preparedBatch(String sql, List<Tuple> batch, Handler<AsyncResult<PgRowSet>> handler) {
+        return execute((client, h) -> client.preparedBatch(sql, batch, h), handler);
+    }
+
+    @Override
+    public <R> PgPool preparedBatch(String sql, List<Tuple> batch, Collector<Row, ?, R> collector,
+            Handler<AsyncResult<PgResult<R>>> handler) {
+        return execute((client, h) -> client.preparedBatch(sql, batch, collector, h), handler);
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<PgConnection>> handler) {
+        select().getConnection(measured(handler));
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<PgTransaction>> handler) {
+        // the pool sends BEGIN lazily, so the transaction is handed over as soon as the connection is acquired
+        select().begin(measured(handler));
+    }
+
+    @Override
+    public void close() {
+        for (PgPool partition : partitions) {
+            partition.close();
+        }
+        if (metrics != null) {
+            metrics.unregister();
+        }
+    }
+
+    private <T> PgPool execute(BiConsumer<PgClient, Handler<AsyncResult<T>>> command, Handler<AsyncResult<T>> handler) {
+        PgPool partition = select();
+        if (metrics == null) {
+            command.accept(partition, handler);
+        } else {
+            partition.getConnection(measured(ar -> {
+                if (ar.failed()) {
+                    handler.handle(Future.failedFuture(ar.cause()));
+                    return;
+                }
+                PgConnection connection = ar.result();
+                command.accept(connection, result -> {
+                    connection.close();
+                    handler.handle(result);
+                });
+            }));
+        }
+        return this;
+    }
+
+    private <T> Handler<AsyncResult<T>> measured(Handler<AsyncResult<T>> handler) {
+        if (metrics == null) {
+            return handler;
+        }
+        long start = metrics.beforeAcquire();
+        return ar -> {
+            metrics.afterAcquire(start, ar.succeeded());
+            handler.handle(ar);
+        };
+    }
+
+    private PgPool select() {
+        Context context = Vertx.currentContext();
+        if (context != null && context.isEventLoopContext()) {
+            PgPool partition = partitionsByEventLoop.get(((ContextInternal) context).nettyEventLoop());
+            if (partition != null) {
+                return partition;
+            }
+        }
+        if (partitions.length == 1) {
+            return partitions[0];
+        }
+        return partitions[Math.abs(next.getAndIncrement() % partitions.length)];
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.reactive.pg.client.runtime;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -21,4 +22,44 @@ public class PgPoolConfig {
      */
     @ConfigItem
     public OptionalInt pipeliningLimit;
+
+    /**
+     * Whether a pool partition should be created for each Vert.x event loop.
+     * <p>
+     * The commands issued from an event loop owning a partition are then executed on the connections of this event
+     * loop, without hopping threads. The commands issued from other threads are distributed among the partitions.
+     * <p>
+     * The datasource pool maximum size is split among the partitions, so the total number of connections never exceeds
+     * it. When the maximum size is smaller than the number of event loops, there is one partition per connection: the
+     * remaining event loops have no partition, their commands are distributed among the partitions and hop threads. A
+     * warning is logged at startup in this case.
+     */
+    @ConfigItem
+    public boolean poolPerEventLoop;
+
+    /**
+     * The maximum number of commands waiting for a connection, per pool partition. By default, the queue is unbounded.
+     */
+    @ConfigItem
+    public OptionalInt maxWaitQueueSize;
+
+    /**
+     * The time after which an idle connection is closed. By default, the connections are never closed.
+     * <p>
+     * The timeout has a one second resolution, a shorter timeout is rounded up to one second.
+     */
+    @ConfigItem
+    public Optional<Duration> idleTimeout;
+
+    /**
+     * Enable the pool metrics collection.
+     * <p>
+     * If the SmallRye Metrics extension is present, the number of commands waiting for a connection and the connection
+     * acquisition time are exposed in the vendor registry.
+     * <p>
+     * To measure the acquisition, each command takes a connection out of the pool until it completes, which disables
+     * the pipelining of the commands on a connection: enabling the metrics lowers the throughput under load.
+     */
+    @ConfigItem
+    public boolean enableMetrics;
 }
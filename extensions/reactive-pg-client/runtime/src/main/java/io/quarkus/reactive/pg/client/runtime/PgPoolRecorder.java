@@ -1,6 +1,18 @@
 package io.quarkus.reactive.pg.client.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.reactive.pg.client.runtime.metrics.PgPoolMetrics;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -8,14 +20,20 @@ import io.reactiverse.pgclient.PgClient;
 import io.reactiverse.pgclient.PgPool;
 import io.reactiverse.pgclient.PgPoolOptions;
 import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
 
 @Recorder
 public class PgPoolRecorder {
 
+    private static final Logger LOGGER = Logger.getLogger(PgPoolRecorder.class);
+
     public RuntimeValue<PgPool> configurePgPool(RuntimeValue<Vertx> vertx, BeanContainer container,
-            DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig, ShutdownContext shutdown) {
+            DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig, boolean metricsCapabilityPresent,
+            ShutdownContext shutdown) {
 
-        PgPool pgPool = initialize(vertx.getValue(), dataSourceConfig, pgPoolConfig);
+        PgPool pgPool = initialize(vertx.getValue(), dataSourceConfig, pgPoolConfig, metricsCapabilityPresent);
 
         PgPoolProducer producer = container.instance(PgPoolProducer.class);
         producer.initialize(pgPool);
@@ -24,9 +42,69 @@ public class PgPoolRecorder {
         return new RuntimeValue<>(pgPool);
     }
 
-    private PgPool initialize(Vertx vertx, DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig) {
+    private PgPool initialize(Vertx vertx, DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig,
+            boolean metricsCapabilityPresent) {
         PgPoolOptions pgPoolOptions = toPgPoolOptions(dataSourceConfig, pgPoolConfig);
-        return PgClient.pool(vertx, pgPoolOptions);
+        boolean poolPerEventLoop = pgPoolConfig != null && pgPoolConfig.poolPerEventLoop;
+        PgPoolMetrics metrics = metricsCapabilityPresent && pgPoolConfig != null && pgPoolConfig.enableMetrics
+                ? new PgPoolMetrics()
+                : null;
+
+        if (!poolPerEventLoop && metrics == null) {
+            return PgClient.pool(vertx, pgPoolOptions);
+        }
+        if (!poolPerEventLoop) {
+            return new PartitionedPgPool(Collections.emptyMap(),
+                    Collections.singletonList(PgClient.pool(vertx, pgPoolOptions)), metrics);
+        }
+
+        VertxInternal vertxInternal = (VertxInternal) vertx;
+        int eventLoops = 0;
+        for (EventExecutor ignored : vertxInternal.getEventLoopGroup()) {
+            eventLoops++;
+        }
+        // the max size is split among the partitions without exceeding it, so there are less partitions than event
+        // loops when the max size is smaller than the number of event loops
+        int maxSize = Math.max(1, pgPoolOptions.getMaxSize());
+        int partitionCount = Math.min(maxSize, eventLoops);
+        if (partitionCount < eventLoops) {
+            LOGGER.warnf("The pool max size (%d) is smaller than the number of event loops (%d): the commands issued "
+                    + "from the %d event loops without a pool partition are distributed among the partitions of the "
+                    + "other event loops", maxSize, eventLoops, eventLoops - partitionCount);
+        }
+
+        // the event loop contexts are created on the next event loop of the group, in a round-robin fashion
+        Map<EventLoop, PgPool> partitionsByEventLoop = new HashMap<>();
+        List<PgPool> partitions = new ArrayList<>();
+        for (int i = 0; i < 2 * eventLoops && partitions.size() < partitionCount; i++) {
+            ContextInternal context = vertxInternal.createEventLoopContext(null, null, new JsonObject(),
+                    Thread.currentThread().getContextClassLoader());
+            if (partitionsByEventLoop.containsKey(context.nettyEventLoop())) {
+                continue;
+            }
+            int index = partitions.size();
+            PgPoolOptions partitionOptions = new PgPoolOptions(pgPoolOptions)
+                    .setMaxSize(maxSize / partitionCount + (index < maxSize % partitionCount ? 1 : 0));
+            PgPool partition = createPool(vertx, context, partitionOptions);
+            partitions.add(partition);
+            partitionsByEventLoop.put(context.nettyEventLoop(), partition);
+        }
+        return new PartitionedPgPool(partitionsByEventLoop, partitions, metrics);
+    }
+
+    /**
+     * The pool is bound to the context it is created from.
+     */
+    private PgPool createPool(Vertx vertx, ContextInternal context, PgPoolOptions pgPoolOptions) {
+        CompletableFuture<PgPool> pool = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            try {
+                pool.complete(PgClient.pool(vertx, pgPoolOptions));
+            } catch (RuntimeException e) {
+                pool.completeExceptionally(e);
+            }
+        });
+        return pool.join();
     }
 
     private PgPoolOptions toPgPoolOptions(DataSourceConfig dataSourceConfig, PgPoolConfig pgPoolConfig) {
@@ -50,6 +128,10 @@ public class PgPoolRecorder {
         if (pgPoolConfig != null) {
             pgPoolConfig.cachePreparedStatements.ifPresent(value -> pgPoolOptions.setCachePreparedStatements(value));
             pgPoolConfig.pipeliningLimit.ifPresent(value -> pgPoolOptions.setPipeliningLimit(value));
+            pgPoolConfig.maxWaitQueueSize.ifPresent(value -> pgPoolOptions.setMaxWaitQueueSize(value));
+            // the pool has a one second resolution and 0 means never, so a sub-second timeout is rounded up
+            pgPoolConfig.idleTimeout.ifPresent(value -> pgPoolOptions.setIdleTimeout(
+                    (int) Math.max(1, value.getSeconds() + (value.getNano() > 0 ? 1 : 0))));
         }
 
         return pgPoolOptions;
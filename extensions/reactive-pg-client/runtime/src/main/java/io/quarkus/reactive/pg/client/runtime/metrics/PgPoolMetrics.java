@@ -0,0 +1,75 @@
+package io.quarkus.reactive.pg.client.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.quarkus.smallrye.metrics.runtime.LambdaGauge;
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Exposes the metrics of the reactive PostgreSQL pool in the vendor registry.
+ * <p>
+ * The pool does not expose its waiting queue, so the commands waiting for a connection are counted between the
+ * acquisition request and the moment the connection is handed over, which also gives the acquisition time.
+ * <p>
+ * This class must only be loaded if the SmallRye Metrics extension is present.
+ */
+public class PgPoolMetrics {
+
+    private final MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+    private final List<MetricID> metricIds = new ArrayList<>();
+    private final AtomicLong waiting = new AtomicLong();
+    private final Timer acquireTime;
+
+    public PgPoolMetrics() {
+        Metadata timerMetadata = Metadata.builder()
+                .withName("pgpool.acquire.time")
+                .withType(MetricType.TIMER)
+                .withDisplayName("Connection Acquisition Time")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription("Time spent acquiring a connection from the pool.")
+                .build();
+        this.acquireTime = registry.timer(timerMetadata);
+        metricIds.add(new MetricID(timerMetadata.getName()));
+
+        Metadata gaugeMetadata = Metadata.builder()
+                .withName("pgpool.waiting.count")
+                .withType(MetricType.GAUGE)
+                .withDisplayName("Waiting Commands")
+                .withDescription("Number of commands waiting for a connection, for all the pool partitions.")
+                .build();
+        registry.register(gaugeMetadata, new LambdaGauge(() -> waiting.get()));
+        metricIds.add(new MetricID(gaugeMetadata.getName()));
+    }
+
+    /**
+     * @return the start time of the acquisition, to be passed to {@link #afterAcquire(long, boolean)}
+     */
+    public long beforeAcquire() {
+        waiting.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void afterAcquire(long start, boolean succeeded) {
+        waiting.decrementAndGet();
+        if (succeeded) {
+            acquireTime.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public void unregister() {
+        for (MetricID metricId : metricIds) {
+            registry.remove(metricId);
+        }
+        metricIds.clear();
+    }
+}
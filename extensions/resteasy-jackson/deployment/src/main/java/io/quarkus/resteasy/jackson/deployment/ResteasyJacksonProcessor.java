@@ -23,8 +23,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InstanceHandle;
-import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
-import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
@@ -39,14 +37,23 @@ import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.jackson.spi.JacksonSerializedClassBuildItem;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyJaxrsProviderBuildItem;
-import io.quarkus.resteasy.jackson.runtime.ObjectMapperProducer;
 
 public class ResteasyJacksonProcessor {
 
     private static final DotName OBJECT_MAPPER = DotName.createSimple(ObjectMapper.class.getName());
     private static final DotName CONTEXT_RESOLVER = DotName.createSimple(ContextResolver.class.getName());
 
+    private static final DotName[] HTTP_METHOD_ANNOTATIONS = {
+            ResteasyDotNames.GET,
+            ResteasyDotNames.DELETE,
+            ResteasyDotNames.PATCH,
+            ResteasyDotNames.POST,
+            ResteasyDotNames.PUT,
+    };
+
     private static final String QUARKUS_CONTEXT_RESOLVER_NAME = "io.quarkus.resteasy.jackson.runtime.QuarkusObjectMapperContextResolver";
 
     @BuildStep
@@ -57,9 +64,7 @@ public class ResteasyJacksonProcessor {
     @BuildStep
     void register(CombinedIndexBuildItem combinedIndexBuildItem, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
-            BuildProducer<ResteasyJaxrsProviderBuildItem> jaxrsProvider,
-            BuildProducer<AdditionalBeanBuildItem> additionalBean,
-            BuildProducer<UnremovableBeanBuildItem> unremovable) {
+            BuildProducer<ResteasyJaxrsProviderBuildItem> jaxrsProvider) {
 
         IndexView index = combinedIndexBuildItem.getIndex();
 
@@ -75,12 +80,45 @@ public class ResteasyJacksonProcessor {
             }
         });
         jaxrsProvider.produce(new ResteasyJaxrsProviderBuildItem(QUARKUS_CONTEXT_RESOLVER_NAME));
+    }
+
+    // the entities returned by the resource methods get a serializer generated at build time
+    @BuildStep
+    void serializedClasses(CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<JacksonSerializedClassBuildItem> serializedClass) {
+        IndexView index = combinedIndexBuildItem.getIndex();
+        Set<DotName> entityClasses = new HashSet<>();
+        for (DotName annotationType : HTTP_METHOD_ANNOTATIONS) {
+            for (AnnotationInstance annotation : index.getAnnotations(annotationType)) {
+                if (annotation.target().kind() == AnnotationTarget.Kind.METHOD) {
+                    collectEntityClasses(annotation.target().asMethod().returnType(), entityClasses);
+                }
+            }
+        }
+        for (DotName entityClass : entityClasses) {
+            serializedClass.produce(new JacksonSerializedClassBuildItem(entityClass.toString()));
+        }
+    }
 
-        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(ObjectMapperProducer.class));
-        Set<String> userSuppliedProducers = getUserSuppliedJacksonProducerBeans(index);
-        if (!userSuppliedProducers.isEmpty()) {
-            unremovable.produce(
-                    new UnremovableBeanBuildItem(new UnremovableBeanBuildItem.BeanClassNamesExclusion(userSuppliedProducers)));
+    private static void collectEntityClasses(Type type, Set<DotName> entityClasses) {
+        switch (type.kind()) {
+            case CLASS:
+                if (!ResteasyDotNames.TYPES_IGNORED_FOR_REFLECTION.contains(type.name())
+                        && !type.name().toString().startsWith("java.")) {
+                    entityClasses.add(type.name());
+                }
+                break;
+            case PARAMETERIZED_TYPE:
+                // the elements of collections, CompletionStage...
+                for (Type argument : type.asParameterizedType().arguments()) {
+                    collectEntityClasses(argument, entityClasses);
+                }
+                break;
+            case ARRAY:
+                collectEntityClasses(type.asArrayType().component(), entityClasses);
+                break;
+            default:
+                break;
         }
     }
 
@@ -115,21 +153,6 @@ public class ResteasyJacksonProcessor {
         return false;
     }
 
-    // we need to find all the user supplied producers and mark them as unremovable since there are no actual injection points
-    // for the ObjectMapper
-    private Set<String> getUserSuppliedJacksonProducerBeans(IndexView index) {
-        Set<String> result = new HashSet<>();
-        for (AnnotationInstance annotation : index.getAnnotations(DotName.createSimple("javax.enterprise.inject.Produces"))) {
-            if (annotation.target().kind() != AnnotationTarget.Kind.METHOD) {
-                continue;
-            }
-            if (OBJECT_MAPPER.equals(annotation.target().asMethod().returnType().name())) {
-                result.add(annotation.target().asMethod().declaringClass().name().toString());
-            }
-        }
-        return result;
-    }
-
     // we generate a javax.ws.rs.ext.ContextResolver for ObjectMapper that pulls the ObjectMapper out of Arc
     // thus ensuring that the configured ObjectMapper bean is used (whether it's the default bean or the user supplied bean).
     // The reason we need to generate this class instead of just including it at runtime is to ensure that
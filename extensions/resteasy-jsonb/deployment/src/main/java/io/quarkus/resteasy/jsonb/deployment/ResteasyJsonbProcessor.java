@@ -1,13 +1,60 @@
 package io.quarkus.resteasy.jsonb.deployment;
 
+import java.util.List;
+
+import javax.json.bind.Jsonb;
+import javax.ws.rs.ext.ContextResolver;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.resteasy.common.deployment.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.jsonb.runtime.QuarkusJsonbContextResolver;
 
 public class ResteasyJsonbProcessor {
 
+    private static final DotName JSONB = DotName.createSimple(Jsonb.class.getName());
+    private static final DotName CONTEXT_RESOLVER = DotName.createSimple(ContextResolver.class.getName());
+    private static final DotName PROVIDER = DotName.createSimple(Provider.class.getName());
+
     @BuildStep
     void build(BuildProducer<FeatureBuildItem> feature) {
         feature.produce(new FeatureBuildItem(FeatureBuildItem.RESTEASY_JSONB));
     }
+
+    // the JSON-B provider uses the Jsonb bean unless the user has declared a custom ContextResolver for Jsonb
+    @BuildStep
+    void registerContextResolver(CombinedIndexBuildItem combinedIndexBuildItem,
+            BuildProducer<ResteasyJaxrsProviderBuildItem> jaxrsProvider) {
+        if (!hasCustomContextResolverBeenSupplied(combinedIndexBuildItem.getIndex())) {
+            jaxrsProvider.produce(new ResteasyJaxrsProviderBuildItem(QuarkusJsonbContextResolver.class.getName()));
+        }
+    }
+
+    private boolean hasCustomContextResolverBeenSupplied(IndexView index) {
+        for (ClassInfo contextResolver : index.getAllKnownImplementors(CONTEXT_RESOLVER)) {
+            if (contextResolver.classAnnotation(PROVIDER) == null) {
+                continue;
+            }
+            for (Type interfaceType : contextResolver.interfaceTypes()) {
+                if (!CONTEXT_RESOLVER.equals(interfaceType.name())
+                        || interfaceType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                    continue;
+                }
+                List<Type> arguments = interfaceType.asParameterizedType().arguments();
+                if (arguments.size() == 1 && arguments.get(0).kind() == Type.Kind.CLASS
+                        && arguments.get(0).name().equals(JSONB)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,28 @@
+package io.quarkus.resteasy.jsonb.runtime;
+
+import javax.json.bind.Jsonb;
+import javax.ws.rs.ext.ContextResolver;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * Provides the {@link Jsonb} bean, whether it's the default bean or a user supplied bean, to the JSON-B provider.
+ * <p>
+ * This resolver is not annotated with {@code @Provider}: it is only registered when the application does not declare
+ * its own {@code ContextResolver} for {@link Jsonb}.
+ */
+public class QuarkusJsonbContextResolver implements ContextResolver<Jsonb> {
+
+    // cache the instance for faster lookup
+    private volatile Jsonb jsonb;
+
+    @Override
+    public Jsonb getContext(Class<?> type) {
+        Jsonb jsonb = this.jsonb;
+        if (jsonb == null) {
+            jsonb = Arc.container().instance(Jsonb.class).get();
+            this.jsonb = jsonb;
+        }
+        return jsonb;
+    }
+}
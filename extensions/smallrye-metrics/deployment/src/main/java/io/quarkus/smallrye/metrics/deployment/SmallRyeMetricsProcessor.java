@@ -26,6 +26,7 @@ import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.AutoInjectAnnotationBuildItem;
 import io.quarkus.arc.deployment.BeanArchiveIndexBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
@@ -64,7 +65,7 @@ public class SmallRyeMetricsProcessor {
 
     SmallRyeMetricsConfig metrics;
 
-    @BuildStep
+    @BuildStep(providesCapabilities = Capabilities.METRICS)
     ServletBuildItem createServlet() {
         ServletBuildItem servletBuildItem = ServletBuildItem.builder("metrics", SmallRyeMetricsServlet.class.getName())
                 .addMapping(metrics.path + (metrics.path.endsWith("/") ? "*" : "/*"))
@@ -140,6 +141,7 @@ public class SmallRyeMetricsProcessor {
     void registerBaseAndVendorMetrics(SmallRyeMetricsRecorder metrics, ShutdownContextBuildItem shutdown) {
         metrics.registerBaseMetrics(shutdown);
         metrics.registerVendorMetrics(shutdown);
+        metrics.registerThreadPoolMetrics(shutdown);
     }
 
     @BuildStep
@@ -0,0 +1,83 @@
+package io.quarkus.smallrye.metrics.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.exporters.OpenMetricsExporter;
+
+public class OpenMetricsExportTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @BeforeAll
+    public static void registerMetrics() {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.APPLICATION);
+        registry.counter(Metadata.builder().withName("requests").withType(MetricType.COUNTER)
+                .withDescription("The \"requests\"").build(), new Tag("path", "/a")).inc(3);
+        registry.counter("requests", new Tag("path", "/b")).inc();
+        registry.timer(Metadata.builder().withName("handling.time").withType(MetricType.TIMER)
+                .withUnit(MetricUnits.MILLISECONDS).build()).update(5, TimeUnit.MILLISECONDS);
+        registry.histogram(Metadata.builder().withName("payload.size").withType(MetricType.HISTOGRAM)
+                .withUnit(MetricUnits.BYTES).build()).update(42);
+        registry.meter("events").mark(2);
+        registry.concurrentGauge("in.flight").inc();
+    }
+
+    @Test
+    public void testSameOutputAsSmallRye() {
+        String expected = new OpenMetricsExporter().exportOneScope(MetricRegistry.Type.APPLICATION).toString();
+        String actual = given().header("Accept", "text/plain")
+                .when().get("/metrics/application").then()
+                .statusCode(200)
+                .extract().asString();
+        // the rates and the snapshots may change between the two exports
+        Assertions.assertEquals(stableLines(expected), stableLines(actual));
+    }
+
+    @Test
+    public void testFilteredScrape() {
+        given().queryParam("name[]", "requests")
+                .when().get("/metrics/application").then()
+                .statusCode(200)
+                .body(containsString("application_requests_total{path=\"/a\"} 3.0"),
+                        containsString("application_requests_total{path=\"/b\"} 1.0"),
+                        not(containsString("application_events")));
+    }
+
+    @Test
+    public void testMissingMetric() {
+        given().when().get("/metrics/application/missing").then()
+                .statusCode(404);
+        given().when().get("/metrics/unknown").then()
+                .statusCode(404);
+    }
+
+    private static List<String> stableLines(String export) {
+        return Arrays.stream(export.split("\n"))
+                .filter(line -> line.startsWith("#") || line.contains("requests") || line.contains("_count"))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
@@ -22,6 +22,7 @@ import org.jboss.logging.Logger;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
 import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.elementdesc.BeanInfo;
 import io.smallrye.metrics.elementdesc.MemberInfo;
@@ -74,6 +75,16 @@ public class SmallRyeMetricsRecorder {
         }
     }
 
+    public void registerThreadPoolMetrics(ShutdownContext shutdown) {
+        ThreadPoolMetricsExporter exporter = new ThreadPoolMetricsExporter(
+                MetricRegistries.get(MetricRegistry.Type.VENDOR));
+        ThreadPoolMetrics.addListener(exporter);
+        shutdown.addShutdownTask(() -> {
+            ThreadPoolMetrics.removeListener(exporter);
+            exporter.unregisterAll();
+        });
+    }
+
     public void registerBaseMetrics(ShutdownContext shutdown) {
         MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.BASE);
         List<String> names = new ArrayList<>();
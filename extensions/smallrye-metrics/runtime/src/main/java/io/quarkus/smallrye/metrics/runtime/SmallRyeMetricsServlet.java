@@ -1,7 +1,12 @@
 package io.quarkus.smallrye.metrics.runtime;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -10,14 +15,26 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import io.smallrye.metrics.MetricRegistries;
 import io.smallrye.metrics.MetricsRequestHandler;
 
 @WebServlet
 public class SmallRyeMetricsServlet extends HttpServlet {
 
+    // this allows to suppress the (noisy) # HELP line
+    private static final String OMIT_HELP_LINE = "microprofile.metrics.omitHelpLine";
+    // the Prometheus convention to select the metrics of a scrape
+    private static final String NAME_PARAMETER = "name[]";
+    private static final String APPLICATION_JSON = "application/json";
+
     @Inject
     MetricsRequestHandler metricsHandler;
 
+    private volatile StreamingOpenMetricsExporter exporter;
+
     @Override
     protected void doOptions(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         doGet(req, resp);
@@ -25,6 +42,12 @@ public class SmallRyeMetricsServlet extends HttpServlet {
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (request.getMethod().equals("GET") && !acceptsJson(request)) {
+            // the OpenMetrics format is written directly to the response
+            export(request, response);
+            return;
+        }
+
         String requestPath = request.getRequestURI();
         String method = request.getMethod();
         Stream<String> acceptHeaders = Collections.list(request.getHeaders("Accept")).stream();
@@ -35,4 +58,94 @@ public class SmallRyeMetricsServlet extends HttpServlet {
             response.getWriter().write(message);
         });
     }
+
+    private void export(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String scopePath = request.getPathInfo() == null ? "" : request.getPathInfo();
+        if (scopePath.startsWith("/")) {
+            scopePath = scopePath.substring(1);
+        }
+        if (scopePath.endsWith("/")) {
+            scopePath = scopePath.substring(0, scopePath.length() - 1);
+        }
+
+        Predicate<String> names = null;
+        String[] selectedNames = request.getParameterValues(NAME_PARAMETER);
+        if (selectedNames != null) {
+            Set<String> selected = new HashSet<>(Arrays.asList(selectedNames));
+            names = selected::contains;
+        }
+
+        MetricRegistry.Type[] scopes;
+        if (scopePath.isEmpty()) {
+            // all metrics
+            scopes = MetricRegistry.Type.values();
+        } else {
+            int slash = scopePath.indexOf('/');
+            MetricRegistry.Type scope = getScope(slash < 0 ? scopePath : scopePath.substring(0, slash));
+            if (scope == null) {
+                respondWith(response, 404, "Bad scope requested: " + scopePath);
+                return;
+            }
+            MetricRegistry registry = MetricRegistries.get(scope);
+            if (slash > 0) {
+                // one metric name in a scope
+                String metricName = scopePath.substring(slash + 1);
+                if (registry.getMetricIDs().stream().noneMatch(id -> id.getName().equals(metricName))) {
+                    respondWith(response, 404, "Metric " + scopePath + " not found");
+                    return;
+                }
+                names = names == null ? metricName::equals : names.and(metricName::equals);
+            } else if (registry.getMetadata().isEmpty()) {
+                respondWith(response, 204, "No data in scope " + scopePath);
+                return;
+            }
+            scopes = new MetricRegistry.Type[] { scope };
+        }
+
+        response.setStatus(200);
+        response.addHeader("Content-Type", "text/plain");
+        response.addHeader("Access-Control-Max-Age", "1209600");
+        response.addHeader("Access-Control-Allow-Origin", "*");
+        response.addHeader("Access-Control-Allow-Headers", "origin, content-type, accept, authorization");
+        response.addHeader("Access-Control-Allow-Credentials", "true");
+        response.addHeader("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS, HEAD");
+        Writer writer = response.getWriter();
+        StreamingOpenMetricsExporter exporter = getExporter();
+        for (MetricRegistry.Type scope : scopes) {
+            exporter.export(scope, names, writer);
+        }
+    }
+
+    private StreamingOpenMetricsExporter getExporter() {
+        StreamingOpenMetricsExporter exporter = this.exporter;
+        if (exporter == null) {
+            boolean omitHelpLine = ConfigProvider.getConfig().getOptionalValue(OMIT_HELP_LINE, Boolean.class)
+                    .orElse(false);
+            exporter = this.exporter = new StreamingOpenMetricsExporter(!omitHelpLine);
+        }
+        return exporter;
+    }
+
+    private static boolean acceptsJson(HttpServletRequest request) {
+        // the content negotiation of the JSON format is left to SmallRye
+        for (String accept : Collections.list(request.getHeaders("Accept"))) {
+            if (accept.contains(APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MetricRegistry.Type getScope(String scopePath) {
+        try {
+            return MetricRegistry.Type.valueOf(scopePath.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void respondWith(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.getWriter().write(message);
+    }
 }
@@ -0,0 +1,322 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.eclipse.microprofile.metrics.ConcurrentGauge;
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Metered;
+import org.eclipse.microprofile.metrics.Metric;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.logging.Logger;
+
+import io.smallrye.metrics.MetricRegistries;
+import io.smallrye.metrics.exporters.OpenMetricsExporter;
+import io.smallrye.metrics.exporters.OpenMetricsUnit;
+
+/**
+ * Exports the metrics in the OpenMetrics text format, writing them directly to the response instead of building the
+ * whole payload in memory.
+ * <p>
+ * The output is the same as the one of the SmallRye {@link OpenMetricsExporter}. The name of each metric, prefixed
+ * with its scope, and its encoded tags are computed once and kept until the metric is removed, so a scrape mostly
+ * writes the values.
+ */
+class StreamingOpenMetricsExporter {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.metrics");
+
+    private static final String LF = "\n";
+    private static final String GAUGE = "gauge";
+    private static final String SUMMARY = "summary";
+    private static final String COUNTER = "counter";
+    private static final String NONE = "none";
+    private static final String SECONDS = "seconds";
+    private static final String NANOSECONDS = "nanoseconds";
+
+    private final boolean writeHelpLine;
+    private final Map<MetricRegistry.Type, Map<MetricID, EncodedMetricID>> encodedIds = new EnumMap<>(
+            MetricRegistry.Type.class);
+
+    StreamingOpenMetricsExporter(boolean writeHelpLine) {
+        this.writeHelpLine = writeHelpLine;
+        for (MetricRegistry.Type scope : MetricRegistry.Type.values()) {
+            encodedIds.put(scope, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Writes the metrics of a scope.
+     *
+     * @param scope the scope
+     * @param names the names of the metrics to write, {@code null} to write all of them
+     * @param out the writer
+     * @return the number of metrics written
+     */
+    int export(MetricRegistry.Type scope, Predicate<String> names, Writer out) throws IOException {
+        MetricRegistry registry = MetricRegistries.get(scope);
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        Map<String, Metadata> metadata = registry.getMetadata();
+        Map<MetricID, EncodedMetricID> scopeIds = encodedIds.get(scope);
+        if (scopeIds.size() > metrics.size()) {
+            // some metrics were removed
+            scopeIds.keySet().retainAll(metrics.keySet());
+        }
+
+        // the HELP and TYPE lines are written once per metric name
+        Set<String> exportedNames = new HashSet<>();
+        int exported = 0;
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
+            String name = entry.getKey().getName();
+            if (names != null && !names.test(name)) {
+                continue;
+            }
+            Metadata md = metadata.get(name);
+            if (md == null) {
+                throw new IllegalStateException("No entry for " + name + " found");
+            }
+            EncodedMetricID id = scopeIds.get(entry.getKey());
+            if (id == null) {
+                id = new EncodedMetricID(scope, entry.getKey());
+                scopeIds.put(entry.getKey(), id);
+            }
+            if (export(out, id, md, entry.getValue(), exportedNames.contains(name))) {
+                exportedNames.add(name);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    private boolean export(Writer out, EncodedMetricID id, Metadata md, Metric metric, boolean nameExported)
+            throws IOException {
+        try {
+            switch (md.getTypeRaw()) {
+                case GAUGE: {
+                    // read the value first, nothing must be written for a gauge that fails
+                    Object value = ((Gauge<?>) metric).getValue();
+                    if (!(value instanceof Number)) {
+                        throw new IllegalStateException("Value must not be null for " + md.getName());
+                    }
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    String unitSuffix = unit.equals(NONE) ? null : "_" + unit;
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, unitSuffix);
+                        writeTypeLine(out, id, unitSuffix, md.getType());
+                    }
+                    writeValueLine(out, id, unitSuffix, null,
+                            OpenMetricsUnit.scaleToBase(md.getUnit().orElse(NONE), ((Number) value).doubleValue()));
+                    break;
+                }
+                case COUNTER: {
+                    String suffix = id.name.endsWith("_total") ? null : "_total";
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, suffix);
+                        writeTypeLine(out, id, suffix, md.getType());
+                    }
+                    writeValueLine(out, id, suffix, null,
+                            OpenMetricsUnit.scaleToBase(md.getUnit().orElse(NONE), (double) ((Counter) metric).getCount()));
+                    break;
+                }
+                case CONCURRENT_GAUGE: {
+                    ConcurrentGauge concurrentGauge = (ConcurrentGauge) metric;
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, "_current");
+                    }
+                    writeTypeAndValue(out, id, nameExported, "_current", concurrentGauge.getCount(), GAUGE);
+                    writeTypeAndValue(out, id, nameExported, "_max", concurrentGauge.getMax(), GAUGE);
+                    writeTypeAndValue(out, id, nameExported, "_min", concurrentGauge.getMin(), GAUGE);
+                    break;
+                }
+                case METERED: {
+                    Metered meter = (Metered) metric;
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, "_total");
+                    }
+                    writeTypeAndValue(out, id, nameExported, "_total", meter.getCount(), COUNTER);
+                    writeMeterRateValues(out, id, nameExported, meter);
+                    break;
+                }
+                case TIMER: {
+                    Timer timer = (Timer) metric;
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    if (unit.equals(NONE)) {
+                        unit = SECONDS;
+                    }
+                    String unitSuffix = "_" + unit;
+                    writeMeterRateValues(out, id, nameExported, timer);
+                    Snapshot snapshot = timer.getSnapshot();
+                    writeSnapshotBasics(out, id, nameExported, snapshot, unitSuffix, NANOSECONDS);
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, unitSuffix);
+                        writeTypeLine(out, id, unitSuffix, SUMMARY);
+                    }
+                    writeValueLine(out, id, unitSuffix + "_count", null, timer.getCount());
+                    writeSnapshotQuantiles(out, id, snapshot, unitSuffix, NANOSECONDS);
+                    break;
+                }
+                case HISTOGRAM: {
+                    Histogram histogram = (Histogram) metric;
+                    Snapshot snapshot = histogram.getSnapshot();
+                    String unit = OpenMetricsUnit.getBaseUnitAsOpenMetricsString(md.getUnit());
+                    String unitSuffix = unit.equals(NONE) ? "" : "_" + unit;
+                    // the histograms record their values in the unit of the metric
+                    String scaleFrom = md.getUnit().orElse(NONE);
+                    if (!nameExported) {
+                        writeHelpLine(out, id, md, unitSuffix);
+                    }
+                    writeSnapshotBasics(out, id, nameExported, snapshot, unitSuffix, scaleFrom);
+                    if (!nameExported) {
+                        writeTypeLine(out, id, unitSuffix, SUMMARY);
+                    }
+                    writeValueLine(out, id, unitSuffix + "_count", null, histogram.getCount());
+                    writeSnapshotQuantiles(out, id, snapshot, unitSuffix, scaleFrom);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Not supported: " + md.getName());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Unable to export metric " + md.getName(), e);
+            return false;
+        }
+    }
+
+    private void writeMeterRateValues(Writer out, EncodedMetricID id, boolean nameExported, Metered metric)
+            throws IOException {
+        writeTypeAndValue(out, id, nameExported, "_rate_per_second", metric.getMeanRate(), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_one_min_rate_per_second", metric.getOneMinuteRate(), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_five_min_rate_per_second", metric.getFiveMinuteRate(), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_fifteen_min_rate_per_second", metric.getFifteenMinuteRate(), GAUGE);
+    }
+
+    private void writeSnapshotBasics(Writer out, EncodedMetricID id, boolean nameExported, Snapshot snapshot,
+            String unitSuffix, String scaleFrom) throws IOException {
+        writeTypeAndValue(out, id, nameExported, "_min" + unitSuffix, scale(scaleFrom, snapshot.getMin()), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_max" + unitSuffix, scale(scaleFrom, snapshot.getMax()), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_mean" + unitSuffix, scale(scaleFrom, snapshot.getMean()), GAUGE);
+        writeTypeAndValue(out, id, nameExported, "_stddev" + unitSuffix, scale(scaleFrom, snapshot.getStdDev()), GAUGE);
+    }
+
+    private void writeSnapshotQuantiles(Writer out, EncodedMetricID id, Snapshot snapshot, String unitSuffix,
+            String scaleFrom) throws IOException {
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.5\"", scale(scaleFrom, snapshot.getMedian()));
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.75\"", scale(scaleFrom, snapshot.get75thPercentile()));
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.95\"", scale(scaleFrom, snapshot.get95thPercentile()));
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.98\"", scale(scaleFrom, snapshot.get98thPercentile()));
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.99\"", scale(scaleFrom, snapshot.get99thPercentile()));
+        writeValueLine(out, id, unitSuffix, "quantile=\"0.999\"", scale(scaleFrom, snapshot.get999thPercentile()));
+    }
+
+    private static double scale(String unit, double value) {
+        return OpenMetricsUnit.scaleToBase(unit, value);
+    }
+
+    private void writeTypeAndValue(Writer out, EncodedMetricID id, boolean nameExported, String suffix, double value,
+            String type) throws IOException {
+        if (!nameExported) {
+            writeTypeLine(out, id, suffix, type);
+        }
+        writeValueLine(out, id, suffix, null, value);
+    }
+
+    private void writeHelpLine(Writer out, EncodedMetricID id, Metadata md, String suffix) throws IOException {
+        // only write this line if we actually have a description in metadata
+        String description = md.getDescription().orElse("");
+        if (writeHelpLine && !description.isEmpty()) {
+            out.write("# HELP ");
+            out.write(id.name);
+            if (suffix != null) {
+                out.write(suffix);
+            }
+            out.write(' ');
+            out.write(OpenMetricsExporter.quoteHelpText(description));
+            out.write(LF);
+        }
+    }
+
+    private void writeTypeLine(Writer out, EncodedMetricID id, String suffix, String type) throws IOException {
+        out.write("# TYPE ");
+        out.write(id.name);
+        if (suffix != null) {
+            out.write(suffix);
+        }
+        out.write(' ');
+        out.write(type);
+        out.write(LF);
+    }
+
+    private void writeValueLine(Writer out, EncodedMetricID id, String suffix, String extraTag, double value)
+            throws IOException {
+        out.write(id.name);
+        if (suffix != null) {
+            out.write(suffix);
+        }
+        if (extraTag != null) {
+            out.write('{');
+            if (!id.tags.isEmpty()) {
+                out.write(id.tags);
+                out.write(',');
+            }
+            out.write(extraTag);
+            out.write('}');
+        } else if (!id.tags.isEmpty()) {
+            out.write('{');
+            out.write(id.tags);
+            out.write('}');
+        }
+        out.write(' ');
+        out.write(Double.toString(value));
+        out.write(LF);
+    }
+
+    private static String getOpenMetricsMetricName(String name) {
+        String out = name.replaceAll("[^\\w]+", "_");
+        out = out.replace("__", "_");
+        out = out.replace(":_", ":");
+        return out;
+    }
+
+    /**
+     * The name and the tags of a metric, encoded once.
+     */
+    static final class EncodedMetricID {
+
+        /**
+         * The name of the metric, prefixed with its scope.
+         */
+        final String name;
+        /**
+         * The tags of the metric, without the enclosing braces.
+         */
+        final String tags;
+
+        EncodedMetricID(MetricRegistry.Type scope, MetricID metricID) {
+            this.name = scope.getName().toLowerCase() + "_" + getOpenMetricsMetricName(metricID.getName());
+            StringBuilder tags = new StringBuilder();
+            Iterator<Map.Entry<String, String>> it = metricID.getTags().entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<String, String> tag = it.next();
+                tags.append(tag.getKey()).append("=\"").append(OpenMetricsExporter.quoteValue(tag.getValue())).append('"');
+                if (it.hasNext()) {
+                    tags.append(',');
+                }
+            }
+            this.tags = tags.toString();
+        }
+    }
+}
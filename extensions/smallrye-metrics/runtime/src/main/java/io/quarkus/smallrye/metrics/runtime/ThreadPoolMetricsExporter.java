@@ -0,0 +1,142 @@
+package io.quarkus.smallrye.metrics.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.quarkus.runtime.metrics.ThreadPoolMetricsListener;
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+
+/**
+ * Publishes the thread pools registered in {@link io.quarkus.runtime.metrics.ThreadPoolMetrics} in the vendor registry,
+ * tagged with the name of the pool.
+ * <p>
+ * The values a pool cannot provide are not registered.
+ */
+class ThreadPoolMetricsExporter implements ThreadPoolMetricsListener {
+
+    private static final String POOL_TAG = "pool";
+
+    private final MetricRegistry registry;
+    private final Map<String, List<MetricID>> metricIds = new ConcurrentHashMap<>();
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+    ThreadPoolMetricsExporter(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void poolRegistered(String poolName, ThreadPoolStatistics statistics) {
+        Tag tag = new Tag(POOL_TAG, poolName);
+        List<MetricID> ids = new ArrayList<>();
+
+        gauge(ids, tag, "thread.pool.size", "Pool Size",
+                "Current number of threads in the pool.", statistics.getPoolSize(), statistics::getPoolSize);
+        gauge(ids, tag, "thread.pool.max.size", "Max Pool Size",
+                "Maximum number of threads in the pool.", statistics.getMaximumPoolSize(),
+                statistics::getMaximumPoolSize);
+        gauge(ids, tag, "thread.pool.largest.size", "Largest Pool Size",
+                "Largest number of threads the pool ever had.", statistics.getLargestPoolSize(),
+                statistics::getLargestPoolSize);
+        gauge(ids, tag, "thread.pool.active.count", "Active Threads",
+                "Number of threads currently executing a task.", statistics.getActiveCount(),
+                statistics::getActiveCount);
+        gauge(ids, tag, "thread.pool.queue.size", "Queue Size",
+                "Number of tasks waiting to be executed.", statistics.getQueueSize(), statistics::getQueueSize);
+        counter(ids, tag, "thread.pool.completed.count", "Completed Tasks",
+                "Number of tasks that completed their execution.", statistics.getCompletedTaskCount(),
+                statistics::getCompletedTaskCount);
+        counter(ids, tag, "thread.pool.rejected.count", "Rejected Tasks",
+                "Number of tasks rejected by the pool.", statistics.getRejectedTaskCount(),
+                statistics::getRejectedTaskCount);
+
+        Timer queueWait = timer(ids, tag, "thread.pool.queue.wait.time", "Queue Wait Time",
+                "Time a task waited in the queue before being executed.");
+        Timer execution = timer(ids, tag, "thread.pool.execution.time", "Execution Time",
+                "Time spent executing a task.");
+        timers.put(poolName, new Timer[] { queueWait, execution });
+
+        metricIds.put(poolName, ids);
+    }
+
+    @Override
+    public void poolUnregistered(String poolName) {
+        timers.remove(poolName);
+        List<MetricID> ids = metricIds.remove(poolName);
+        if (ids != null) {
+            ids.forEach(registry::remove);
+        }
+    }
+
+    @Override
+    public void taskExecuted(String poolName, long queueWaitNanos, long executionNanos) {
+        Timer[] poolTimers = timers.get(poolName);
+        if (poolTimers != null) {
+            poolTimers[0].update(queueWaitNanos, TimeUnit.NANOSECONDS);
+            poolTimers[1].update(executionNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void unregisterAll() {
+        for (String poolName : new ArrayList<>(metricIds.keySet())) {
+            poolUnregistered(poolName);
+        }
+    }
+
+    private void gauge(List<MetricID> ids, Tag tag, String name, String displayName, String description,
+            long initialValue, Callable<Number> value) {
+        if (initialValue < 0) {
+            return;
+        }
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.GAUGE)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build();
+        MetricID id = new MetricID(name, tag);
+        registry.remove(id);
+        registry.register(metadata, new LambdaGauge(value), tag);
+        ids.add(id);
+    }
+
+    private void counter(List<MetricID> ids, Tag tag, String name, String displayName, String description,
+            long initialValue, Callable<Long> value) {
+        if (initialValue < 0) {
+            return;
+        }
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.COUNTER)
+                .withDisplayName(displayName)
+                .withDescription(description)
+                .build();
+        MetricID id = new MetricID(name, tag);
+        registry.remove(id);
+        registry.register(metadata, new LambdaCounter(value), tag);
+        ids.add(id);
+    }
+
+    private Timer timer(List<MetricID> ids, Tag tag, String name, String displayName, String description) {
+        Metadata metadata = Metadata.builder()
+                .withName(name)
+                .withType(MetricType.TIMER)
+                .withDisplayName(displayName)
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withDescription(description)
+                .build();
+        ids.add(new MetricID(name, tag));
+        return registry.timer(metadata, tag);
+    }
+}
@@ -0,0 +1,26 @@
+package io.quarkus.undertow.deployment;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The metadata of the static resources computed at build time.
+ */
+final class StaticResourceMetadataBuildItem extends SimpleBuildItem {
+
+    /**
+     * The strong ETags, keyed by the resource path relative to {@code META-INF/resources}.
+     */
+    final Map<String, String> etags;
+    /**
+     * The resources that have a gzip variant, and the gzip variants themselves.
+     */
+    final Set<String> precompressedFiles;
+
+    StaticResourceMetadataBuildItem(Map<String, String> etags, Set<String> precompressedFiles) {
+        this.etags = etags;
+        this.precompressedFiles = precompressedFiles;
+    }
+}
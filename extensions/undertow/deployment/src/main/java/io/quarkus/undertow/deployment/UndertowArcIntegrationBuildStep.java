@@ -1,11 +1,15 @@
 package io.quarkus.undertow.deployment;
 
+import io.quarkus.arc.deployment.ArcConfig;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.arc.deployment.BeanDefiningAnnotationBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.undertow.runtime.BeanStatisticsServlet;
 import io.quarkus.undertow.runtime.UndertowDeploymentRecorder;
 
 public class UndertowArcIntegrationBuildStep {
@@ -23,4 +27,12 @@ public class UndertowArcIntegrationBuildStep {
         annotations.produce(new BeanDefiningAnnotationBuildItem(UndertowBuildStep.WEB_SERVLET));
         annotations.produce(new BeanDefiningAnnotationBuildItem(UndertowBuildStep.WEB_LISTENER));
     }
+
+    @BuildStep
+    void beanStatistics(ArcConfig arcConfig, LaunchModeBuildItem launchMode, BuildProducer<ServletBuildItem> servlets) {
+        if (arcConfig.beanStatistics && launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            servlets.produce(ServletBuildItem.builder("arc-bean-statistics", BeanStatisticsServlet.class.getName())
+                    .addMapping("/arc/bean-statistics").build());
+        }
+    }
 }
@@ -103,6 +103,7 @@ import io.quarkus.undertow.runtime.HttpSessionContext;
 import io.quarkus.undertow.runtime.ServletProducer;
 import io.quarkus.undertow.runtime.ServletSecurityInfoProxy;
 import io.quarkus.undertow.runtime.ServletSecurityInfoSubstitution;
+import io.quarkus.undertow.runtime.StaticResourcesConfig;
 import io.quarkus.undertow.runtime.UndertowDeploymentRecorder;
 import io.quarkus.undertow.runtime.UndertowHandlersConfServletExtension;
 import io.quarkus.undertow.runtime.filters.CORSRecorder;
@@ -270,6 +271,8 @@ public class UndertowBuildStep {
             LaunchModeBuildItem launchMode,
             ShutdownContextBuildItem shutdownContext,
             KnownPathsBuildItem knownPaths,
+            StaticResourceMetadataBuildItem staticResourceMetadata,
+            HttpBuildConfig httpBuildConfig,
             ServletConfig servletConfig) throws Exception {
 
         ObjectSubstitutionBuildItem.Holder holder = new ObjectSubstitutionBuildItem.Holder(ServletSecurityInfo.class,
@@ -295,8 +298,13 @@ public class UndertowBuildStep {
             contextPath = "/";
         }
         RuntimeValue<DeploymentInfo> deployment = recorder.createDeployment("test", knownPaths.knownFiles,
-                knownPaths.knownDirectories,
-                launchMode.getLaunchMode(), shutdownContext, contextPath);
+                knownPaths.knownDirectories, shutdownContext, contextPath);
+        StaticResourcesConfig staticResourcesConfig = httpBuildConfig.staticResources;
+        recorder.configureStaticResources(deployment, launchMode.getLaunchMode(), staticResourceMetadata.etags,
+                staticResourceMetadata.precompressedFiles, staticResourcesConfig.cacheMaxEntries,
+                (int) Math.min(staticResourcesConfig.cacheMaxAge.toMillis(), Integer.MAX_VALUE),
+                (int) Math.min(staticResourcesConfig.cacheMaxMemory.asLongValue(), Integer.MAX_VALUE),
+                staticResourcesConfig.cacheMaxFileSize.asLongValue());
 
         //add servlets
         if (webMetaData.getServlets() != null) {
@@ -1,16 +1,26 @@
 package io.quarkus.undertow.deployment;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.JarURLConnection;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -19,12 +29,16 @@ import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.substrate.SubstrateResourceBuildItem;
+import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.undertow.runtime.HttpBuildConfig;
+import io.quarkus.undertow.runtime.StaticResourcesConfig;
 
 public class UndertowStaticResourcesBuildStep {
 
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
+    private static final String GZIP_SUFFIX = ".gz";
 
     @BuildStep
     void handleGeneratedWebResources(BuildProducer<GeneratedResourceBuildItem> generatedResources,
@@ -108,10 +122,105 @@ public class UndertowStaticResourcesBuildStep {
         return new KnownPathsBuildItem(knownFiles, knownDirectories);
     }
 
+    @BuildStep
+    StaticResourceMetadataBuildItem precomputeStaticResources(KnownPathsBuildItem paths,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            List<GeneratedWebResourceBuildItem> generatedWebResources,
+            HttpBuildConfig httpBuildConfig,
+            LaunchModeBuildItem launchModeBuildItem,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<SubstrateResourceBuildItem> substrate) throws Exception {
+        StaticResourcesConfig config = httpBuildConfig.staticResources;
+        if (launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT || (!config.precompress && !config.etag)) {
+            //in development mode the resources are served from the project dir and may change at any time,
+            //so etags and compressed copies computed at build time would be stale
+            return new StaticResourceMetadataBuildItem(Collections.emptyMap(), Collections.emptySet());
+        }
+        Map<String, byte[]> generated = new HashMap<>();
+        for (GeneratedWebResourceBuildItem genResource : generatedWebResources) {
+            String sub = genResource.getName();
+            if (sub.startsWith("/")) {
+                sub = sub.substring(1);
+            }
+            generated.put(sub, genResource.getClassData());
+        }
+        Set<String> extensions = new HashSet<>();
+        for (String extension : config.precompressExtensions) {
+            extensions.add(extension.startsWith(".") ? extension.substring(1) : extension);
+        }
+        long minSize = config.precompressMinSize.asLongValue();
+
+        Map<String, String> etags = new HashMap<>();
+        Set<String> precompressedFiles = new HashSet<>();
+        for (String file : paths.knownFiles) {
+            byte[] data = readStaticResource(file, applicationArchivesBuildItem, generated);
+            if (data == null) {
+                continue;
+            }
+            if (config.etag) {
+                etags.put(file, etag(data));
+            }
+            String gzFile = file + GZIP_SUFFIX;
+            if (config.precompress && data.length >= minSize && extensions.contains(extension(file))
+                    && !paths.knownFiles.contains(gzFile)) {
+                byte[] compressed = gzip(data);
+                if (compressed.length < data.length) {
+                    generatedResources.produce(new GeneratedResourceBuildItem(META_INF_RESOURCES_SLASH + gzFile, compressed));
+                    substrate.produce(new SubstrateResourceBuildItem(META_INF_RESOURCES_SLASH + gzFile));
+                    precompressedFiles.add(file);
+                    precompressedFiles.add(gzFile);
+                    if (config.etag) {
+                        etags.put(gzFile, etag(compressed));
+                    }
+                }
+            }
+        }
+        return new StaticResourceMetadataBuildItem(etags, precompressedFiles);
+    }
+
     @BuildStep
     void substrateResources(KnownPathsBuildItem paths, BuildProducer<SubstrateResourceBuildItem> substrate) {
         for (String i : paths.knownFiles) {
             substrate.produce(new SubstrateResourceBuildItem(META_INF_RESOURCES_SLASH + i));
         }
     }
+
+    private byte[] readStaticResource(String file, ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            Map<String, byte[]> generated) throws IOException {
+        byte[] data = generated.get(file);
+        if (data != null) {
+            return data;
+        }
+        for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
+            Path path = i.getChildPath(META_INF_RESOURCES_SLASH + file);
+            if (path != null && !Files.isDirectory(path)) {
+                return Files.readAllBytes(path);
+            }
+        }
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(META_INF_RESOURCES_SLASH + file)) {
+            return in == null ? null : IoUtil.readBytes(in);
+        }
+    }
+
+    private static String extension(String file) {
+        int i = file.lastIndexOf('.');
+        return i == -1 ? "" : file.substring(i + 1);
+    }
+
+    private static String etag(byte[] data) throws NoSuchAlgorithmException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
 }
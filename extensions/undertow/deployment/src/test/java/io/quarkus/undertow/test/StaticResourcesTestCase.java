@@ -0,0 +1,68 @@
+package io.quarkus.undertow.test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StaticResourcesTestCase {
+
+    private static final String SCRIPT = createScript();
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsManifestResource(new StringAsset(SCRIPT), "resources/app.js")
+                    .addAsManifestResource(new StringAsset("<html></html>"), "resources/index.html"));
+
+    @Test
+    public void testPrecompressedResource() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/app.js").then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", startsWith("application/javascript"))
+                .header("Vary", "Accept-Encoding")
+                .body(is(SCRIPT));
+    }
+
+    @Test
+    public void testSmallResourceNotPrecompressed() {
+        given().header("Accept-Encoding", "gzip")
+                .when().get("/index.html").then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is("<html></html>"));
+    }
+
+    @Test
+    public void testETag() {
+        String etag = given().header("Accept-Encoding", "identity")
+                .when().get("/index.html").then()
+                .statusCode(200)
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+        Assertions.assertTrue(etag.startsWith("\""));
+        given().header("If-None-Match", etag)
+                .when().get("/index.html").then()
+                .statusCode(304);
+    }
+
+    private static String createScript() {
+        StringBuilder script = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            script.append("console.log('static resource line ").append(i).append("');\n");
+        }
+        return script.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.enterprise.context.NormalScope;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.quarkus.arc.BeanStatistics;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Dev mode endpoint that reports the bean instantiation statistics as JSON, the most expensive beans first.
+ * <p>
+ * A bean that was never created is reported as unused, a bean created only during startup and never accessed afterwards
+ * is reported as a candidate for lazy initialization. The access is only recorded for the normal scoped beans, for the
+ * other beans the lazy initialization candidate is reported as {@code null}, i.e. unknown.
+ */
+public class BeanStatisticsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (!BeanStatistics.isEnabled()) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Bean statistics are not enabled");
+            return;
+        }
+        List<BeanStatistics.Entry> entries = BeanStatistics.getEntries();
+        entries.sort(Comparator.comparingLong(BeanStatistics.Entry::getTotalCreationTime).reversed());
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < entries.size(); i++) {
+            BeanStatistics.Entry entry = entries.get(i);
+            InjectableBean<?> bean = entry.getBean();
+            if (i > 0) {
+                json.append(",");
+            }
+            json.append("\n  {");
+            appendString(json, "id", bean.getIdentifier()).append(", ");
+            appendString(json, "beanClass", bean.getBeanClass().getName()).append(", ");
+            appendString(json, "scope", bean.getScope().getName()).append(", ");
+            json.append("\"creationCount\": ").append(entry.getCreationCount()).append(", ");
+            json.append("\"startupCreationCount\": ").append(entry.getStartupCreationCount()).append(", ");
+            json.append("\"totalCreationTimeMicros\": ").append(entry.getTotalCreationTime() / 1000).append(", ");
+            json.append("\"maxCreationTimeMicros\": ").append(entry.getMaxCreationTime() / 1000).append(", ");
+            json.append("\"lastCreated\": ").append(entry.getLastCreated()).append(", ");
+            json.append("\"lastAccessed\": ").append(entry.getLastAccessed()).append(", ");
+            json.append("\"unused\": ").append(entry.isUnused()).append(", ");
+            json.append("\"lazyCandidate\": ").append(isLazyCandidate(entry, bean));
+            json.append("}");
+        }
+        json.append("\n]\n");
+
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        resp.getWriter().write(json.toString());
+    }
+
+    private static Boolean isLazyCandidate(BeanStatistics.Entry entry, InjectableBean<?> bean) {
+        if (!bean.getScope().isAnnotationPresent(NormalScope.class)) {
+            // the access to the instances of the other beans is not recorded
+            return null;
+        }
+        return entry.getStartupCreationCount() > 0 && entry.getCreationCount() == entry.getStartupCreationCount()
+                && entry.getLastAccessed() <= entry.getLastCreated();
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String name, String value) {
+        json.append("\"").append(name).append("\": \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append("\"");
+    }
+
+}
@@ -15,4 +15,9 @@ public class HttpBuildConfig {
      */
     @ConfigItem(name = "cors")
     public boolean corsEnabled = false;
+
+    /**
+     * The static resources config
+     */
+    public StaticResourcesConfig staticResources;
 }
@@ -0,0 +1,53 @@
+package io.quarkus.undertow.runtime;
+
+import org.xnio.management.XnioWorkerMXBean;
+
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+
+/**
+ * The statistics of the XNIO IO threads. The IO threads are a fixed set of non blocking threads, so only their count
+ * is available.
+ */
+final class IoThreadStatistics implements ThreadPoolStatistics {
+
+    private final XnioWorkerMXBean worker;
+
+    IoThreadStatistics(XnioWorkerMXBean worker) {
+        this.worker = worker;
+    }
+
+    @Override
+    public int getPoolSize() {
+        return worker.getIoThreadCount();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        return worker.getIoThreadCount();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return -1;
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        return worker.getIoThreadCount();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return -1;
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return -1;
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return -1;
+    }
+}
@@ -0,0 +1,198 @@
+package io.quarkus.undertow.runtime;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.RangeAwareResource;
+import io.undertow.server.handlers.resource.Resource;
+import io.undertow.server.handlers.resource.ResourceChangeListener;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.ETag;
+import io.undertow.util.Headers;
+import io.undertow.util.MimeMappings;
+
+/**
+ * A resource manager that decorates the static resources with the metadata computed at build time: the strong
+ * {@link ETag} of the resource content, and the {@code Vary: Accept-Encoding} header for the resources that have
+ * a precompressed variant, as well as for the variants themselves.
+ * <p>
+ * The precompressed variants report the name of the original resource, so that they are served with the content type
+ * of the original resource.
+ */
+public class StaticResourceMetadataResourceManager implements ResourceManager {
+
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private final Map<String, String> etags;
+    private final Set<String> precompressedFiles;
+    private final ResourceManager underlying;
+
+    public StaticResourceMetadataResourceManager(Map<String, String> etags, Set<String> precompressedFiles,
+            ResourceManager underlying) {
+        this.etags = etags;
+        this.precompressedFiles = precompressedFiles;
+        this.underlying = underlying;
+    }
+
+    @Override
+    public Resource getResource(String path) throws IOException {
+        Resource resource = underlying.getResource(path);
+        if (resource == null || resource.isDirectory()) {
+            return resource;
+        }
+        String key = path.startsWith("/") ? path.substring(1) : path;
+        String etag = etags.get(key);
+        boolean precompressed = precompressedFiles.contains(key);
+        if (etag == null && !precompressed) {
+            return resource;
+        }
+        String name = resource.getName();
+        if (precompressed && name.endsWith(GZIP_SUFFIX)) {
+            name = name.substring(0, name.length() - GZIP_SUFFIX.length());
+        }
+        return new MetadataResource(resource, name, etag == null ? null : new ETag(false, etag), precompressed);
+    }
+
+    @Override
+    public boolean isResourceChangeListenerSupported() {
+        return underlying.isResourceChangeListenerSupported();
+    }
+
+    @Override
+    public void registerResourceChangeListener(ResourceChangeListener listener) {
+        underlying.registerResourceChangeListener(listener);
+    }
+
+    @Override
+    public void removeResourceChangeListener(ResourceChangeListener listener) {
+        underlying.removeResourceChangeListener(listener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        underlying.close();
+    }
+
+    private static class MetadataResource implements RangeAwareResource {
+
+        private final Resource delegate;
+        private final String name;
+        private final ETag etag;
+        private final boolean precompressed;
+
+        private MetadataResource(Resource delegate, String name, ETag etag, boolean precompressed) {
+            this.delegate = delegate;
+            this.name = name;
+            this.etag = etag;
+            this.precompressed = precompressed;
+        }
+
+        @Override
+        public String getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public Date getLastModified() {
+            return delegate.getLastModified();
+        }
+
+        @Override
+        public String getLastModifiedString() {
+            return delegate.getLastModifiedString();
+        }
+
+        @Override
+        public ETag getETag() {
+            return etag != null ? etag : delegate.getETag();
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return delegate.isDirectory();
+        }
+
+        @Override
+        public List<Resource> list() {
+            return delegate.list();
+        }
+
+        @Override
+        public String getContentType(MimeMappings mimeMappings) {
+            return delegate.getContentType(mimeMappings);
+        }
+
+        @Override
+        public void serve(Sender sender, HttpServerExchange exchange, IoCallback completionCallback) {
+            addVaryHeader(exchange);
+            delegate.serve(sender, exchange, completionCallback);
+        }
+
+        @Override
+        public void serveRange(Sender sender, HttpServerExchange exchange, long start, long end,
+                IoCallback completionCallback) {
+            addVaryHeader(exchange);
+            ((RangeAwareResource) delegate).serveRange(sender, exchange, start, end, completionCallback);
+        }
+
+        @Override
+        public boolean isRangeSupported() {
+            return delegate instanceof RangeAwareResource && ((RangeAwareResource) delegate).isRangeSupported();
+        }
+
+        @Override
+        public Long getContentLength() {
+            return delegate.getContentLength();
+        }
+
+        @Override
+        public String getCacheKey() {
+            return delegate.getCacheKey();
+        }
+
+        @Override
+        public File getFile() {
+            return delegate.getFile();
+        }
+
+        @Override
+        public Path getFilePath() {
+            return delegate.getFilePath();
+        }
+
+        @Override
+        public File getResourceManagerRoot() {
+            return delegate.getResourceManagerRoot();
+        }
+
+        @Override
+        public Path getResourceManagerRootPath() {
+            return delegate.getResourceManagerRootPath();
+        }
+
+        @Override
+        public URL getUrl() {
+            return delegate.getUrl();
+        }
+
+        private void addVaryHeader(HttpServerExchange exchange) {
+            if (precompressed) {
+                exchange.getResponseHeaders().put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            }
+        }
+    }
+}
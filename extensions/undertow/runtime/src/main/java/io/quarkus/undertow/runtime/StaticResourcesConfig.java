@@ -0,0 +1,67 @@
+package io.quarkus.undertow.runtime;
+
+import java.time.Duration;
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Configuration of the static resources served from {@code META-INF/resources}.
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * If compressible static resources should be gzip compressed at build time. The compressed variant is served
+     * to the clients sending an {@code Accept-Encoding: gzip} header, so the resource is never compressed on the fly.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean precompress;
+
+    /**
+     * The file extensions of the static resources that are compressed at build time.
+     */
+    @ConfigItem(defaultValue = "html,htm,css,js,json,map,svg,txt,xml")
+    public List<String> precompressExtensions;
+
+    /**
+     * Static resources smaller than this size are not compressed at build time, the compression overhead would outweigh
+     * the savings.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize precompressMinSize;
+
+    /**
+     * If a strong {@code ETag} should be computed at build time for every static resource. Conditional requests
+     * matching the {@code ETag} are then answered with a {@code 304 Not Modified} status.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean etag;
+
+    /**
+     * The maximum number of static resources whose metadata is cached.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int cacheMaxEntries;
+
+    /**
+     * The time after which a cached static resource is checked again for modifications.
+     */
+    @ConfigItem(defaultValue = "2S")
+    public Duration cacheMaxAge;
+
+    /**
+     * The amount of off-heap memory used to cache the content of the static resources.
+     * Setting it to {@code 0} disables the content cache. Sizes above 2G are capped to 2G.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize cacheMaxMemory;
+
+    /**
+     * Static resources larger than this size are not kept in the off-heap content cache.
+     */
+    @ConfigItem(defaultValue = "1M")
+    public MemorySize cacheMaxFileSize;
+}
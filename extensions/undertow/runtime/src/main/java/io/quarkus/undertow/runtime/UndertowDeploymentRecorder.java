@@ -42,6 +42,7 @@ import io.quarkus.runtime.ThreadPoolConfig;
 import io.quarkus.runtime.Timing;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
 import io.undertow.Undertow;
 import io.undertow.server.HandlerWrapper;
 import io.undertow.server.HttpHandler;
@@ -49,6 +50,7 @@ import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.CanonicalPathHandler;
 import io.undertow.server.handlers.PathHandler;
 import io.undertow.server.handlers.ResponseCodeHandler;
+import io.undertow.server.handlers.cache.DirectBufferCache;
 import io.undertow.server.handlers.resource.CachingResourceManager;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.PathResourceManager;
@@ -101,6 +103,10 @@ public class UndertowDeploymentRecorder {
     private static final AttachmentKey<InjectableContext.ContextState> REQUEST_CONTEXT = AttachmentKey
             .create(InjectableContext.ContextState.class);
 
+    private static final int STATIC_RESOURCES_CACHE_SLICE_SIZE = 1024;
+    private static final int STATIC_RESOURCES_CACHE_SLICES_PER_PAGE = 10;
+    private static final String IO_THREADS_POOL_NAME = "undertow-io";
+
     public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
@@ -122,7 +128,7 @@ public class UndertowDeploymentRecorder {
     }
 
     public RuntimeValue<DeploymentInfo> createDeployment(String name, Set<String> knownFile, Set<String> knownDirectories,
-            LaunchMode launchMode, ShutdownContext context, String contextPath) {
+            ShutdownContext context, String contextPath) {
         DeploymentInfo d = new DeploymentInfo();
         d.setSessionIdGenerator(new QuarkusSessionIdGenerator());
         d.setClassLoader(getClass().getClassLoader());
@@ -148,11 +154,6 @@ public class UndertowDeploymentRecorder {
             managers.add(new ClassPathResourceManager(d.getClassLoader(), "META-INF/resources"));
             resourceManager = new DelegatingResourceManager(managers.toArray(new ResourceManager[0]));
         }
-
-        if (launchMode == LaunchMode.NORMAL) {
-            //todo: cache configuration
-            resourceManager = new CachingResourceManager(1000, 0, null, resourceManager, 2000);
-        }
         d.setResourceManager(resourceManager);
 
         d.addWelcomePages("index.html", "index.htm");
@@ -181,6 +182,30 @@ public class UndertowDeploymentRecorder {
         return null;
     }
 
+    public void configureStaticResources(RuntimeValue<DeploymentInfo> deployment, LaunchMode launchMode,
+            Map<String, String> etags, Set<String> precompressedFiles, int cacheMaxEntries, int cacheMaxAgeMillis,
+            int cacheMaxMemory, long cacheMaxFileSize) {
+        DeploymentInfo d = deployment.getValue();
+        ResourceManager resourceManager = d.getResourceManager();
+        if (launchMode == LaunchMode.NORMAL) {
+            DirectBufferCache dataCache = null;
+            if (cacheMaxMemory > 0) {
+                dataCache = new DirectBufferCache(STATIC_RESOURCES_CACHE_SLICE_SIZE,
+                        STATIC_RESOURCES_CACHE_SLICES_PER_PAGE, cacheMaxMemory);
+            }
+            resourceManager = new CachingResourceManager(cacheMaxEntries, dataCache == null ? 0 : cacheMaxFileSize,
+                    dataCache, resourceManager, cacheMaxAgeMillis);
+        }
+        if (!etags.isEmpty() || !precompressedFiles.isEmpty()) {
+            //the metadata wraps the cache, as the cached resources are served without calling the underlying resource
+            resourceManager = new StaticResourceMetadataResourceManager(etags, precompressedFiles, resourceManager);
+        }
+        if (!precompressedFiles.isEmpty()) {
+            d.addPreCompressedResourceEncoding("gzip", ".gz");
+        }
+        d.setResourceManager(resourceManager);
+    }
+
     public RuntimeValue<ServletInfo> registerServlet(RuntimeValue<DeploymentInfo> deploymentInfo,
             String name,
             Class<?> servletClass,
@@ -294,6 +319,7 @@ public class UndertowDeploymentRecorder {
                     @Override
                     public void run() {
                         XnioWorker worker = undertow.getWorker();
+                        ThreadPoolMetrics.unregister(IO_THREADS_POOL_NAME);
                         undertow.stop();
                         worker.shutdown();
                         undertow = null;
@@ -375,6 +401,7 @@ public class UndertowDeploymentRecorder {
                 workerBuilder.setWorkerIoThreads(Runtime.getRuntime().availableProcessors() * 2);
             }
             XnioWorker worker = workerBuilder.build();
+            ThreadPoolMetrics.register(IO_THREADS_POOL_NAME, new IoThreadStatistics(worker.getMXBean()));
             builder.setWorker(worker);
             if (sslContext != null) {
                 log.debugf("Starting Undertow HTTPS listener on port %d", sslPort);
@@ -26,6 +26,7 @@ import io.vertx.core.eventbus.EventBusOptions;
 import io.vertx.core.eventbus.MessageConsumer;
 import io.vertx.core.file.FileSystemOptions;
 import io.vertx.core.http.ClientAuth;
+import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.JksOptions;
 import io.vertx.core.net.PemKeyCertOptions;
 import io.vertx.core.net.PemTrustOptions;
@@ -39,9 +40,9 @@ public class VertxRecorder {
 
     public RuntimeValue<Vertx> configureVertx(BeanContainer container, VertxConfiguration config,
             Map<String, ConsumeEvent> messageConsumerConfigurations,
-            LaunchMode launchMode, ShutdownContext shutdown) {
+            LaunchMode launchMode, ShutdownContext shutdown, boolean threadPoolMetrics) {
 
-        initialize(config);
+        initialize(config, threadPoolMetrics);
         registerMessageConsumers(messageConsumerConfigurations);
 
         VertxProducer producer = container.instance(VertxProducer.class);
@@ -65,6 +66,10 @@ public class VertxRecorder {
     }
 
     void initialize(VertxConfiguration conf) {
+        initialize(conf, false);
+    }
+
+    void initialize(VertxConfiguration conf, boolean threadPoolMetrics) {
         if (vertx != null) {
             return;
         }
@@ -74,6 +79,9 @@ public class VertxRecorder {
         }
 
         VertxOptions options = convertToVertxOptions(conf);
+        if (threadPoolMetrics) {
+            options.setMetricsOptions(new MetricsOptions().setEnabled(true).setFactory(VertxThreadPoolMetrics::new));
+        }
 
         if (!conf.useAsyncDNS) {
             System.setProperty("vertx.disableDnsResolver", "true");
@@ -0,0 +1,187 @@
+package io.quarkus.vertx.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.quarkus.runtime.metrics.ThreadPoolMetrics;
+import io.quarkus.runtime.metrics.ThreadPoolStatistics;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.core.spi.metrics.VertxMetrics;
+
+/**
+ * A minimal {@link VertxMetrics} implementation registering the Vert.x event loops and worker pools in
+ * {@link ThreadPoolMetrics}.
+ * <p>
+ * It is only installed if a metrics extension is present, all the other Vert.x metrics are left disabled.
+ */
+final class VertxThreadPoolMetrics implements VertxMetrics {
+
+    static final String EVENT_LOOP_POOL_NAME = "vert.x-eventloop-thread";
+
+    VertxThreadPoolMetrics(VertxOptions options) {
+        ThreadPoolMetrics.register(EVENT_LOOP_POOL_NAME, new EventLoopStatistics(options.getEventLoopPoolSize()));
+    }
+
+    @Override
+    public PoolMetrics<?> createPoolMetrics(String poolType, String poolName, int maxPoolSize) {
+        return new WorkerPoolMetrics(poolName, maxPoolSize);
+    }
+
+    @Override
+    public void close() {
+        ThreadPoolMetrics.unregister(EVENT_LOOP_POOL_NAME);
+    }
+
+    private static final class EventLoopStatistics implements ThreadPoolStatistics {
+
+        private final int size;
+
+        EventLoopStatistics(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public int getPoolSize() {
+            return size;
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return size;
+        }
+
+        @Override
+        public int getActiveCount() {
+            return -1;
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return size;
+        }
+
+        @Override
+        public int getQueueSize() {
+            return -1;
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return -1;
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return -1;
+        }
+    }
+
+    private static final class Task {
+
+        final long submitted;
+        long started;
+
+        Task(long submitted) {
+            this.submitted = submitted;
+        }
+    }
+
+    private static final class WorkerPoolMetrics implements PoolMetrics<Task>, ThreadPoolStatistics {
+
+        private final String poolName;
+        private final int maxPoolSize;
+        private final AtomicLong started = new AtomicLong();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger largest = new AtomicInteger();
+        private final AtomicLong completed = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        WorkerPoolMetrics(String poolName, int maxPoolSize) {
+            this.poolName = poolName;
+            this.maxPoolSize = maxPoolSize;
+            ThreadPoolMetrics.register(poolName, this);
+        }
+
+        @Override
+        public Task submitted() {
+            if (started.get() < maxPoolSize) {
+                started.incrementAndGet();
+            }
+            queued.incrementAndGet();
+            return new Task(System.nanoTime());
+        }
+
+        @Override
+        public Task begin(Task task) {
+            queued.decrementAndGet();
+            int current = active.incrementAndGet();
+            int max;
+            while (current > (max = largest.get()) && !largest.compareAndSet(max, current)) {
+                // retry
+            }
+            if (task != null) {
+                task.started = System.nanoTime();
+            }
+            return task;
+        }
+
+        @Override
+        public void rejected(Task task) {
+            queued.decrementAndGet();
+            rejected.incrementAndGet();
+        }
+
+        @Override
+        public void end(Task task, boolean succeeded) {
+            active.decrementAndGet();
+            completed.incrementAndGet();
+            if (task != null) {
+                ThreadPoolMetrics.taskExecuted(poolName, task.started - task.submitted, System.nanoTime() - task.started);
+            }
+        }
+
+        @Override
+        public void close() {
+            ThreadPoolMetrics.unregister(poolName);
+        }
+
+        @Override
+        public int getPoolSize() {
+            // the worker pools are fixed thread pools, which start a new thread for each submitted task until they are
+            // full, and never stop them
+            return (int) Math.min(started.get(), maxPoolSize);
+        }
+
+        @Override
+        public int getMaximumPoolSize() {
+            return maxPoolSize;
+        }
+
+        @Override
+        public int getActiveCount() {
+            return active.get();
+        }
+
+        @Override
+        public int getLargestPoolSize() {
+            return largest.get();
+        }
+
+        @Override
+        public int getQueueSize() {
+            return queued.get();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return completed.get();
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return rejected.get();
+        }
+    }
+}
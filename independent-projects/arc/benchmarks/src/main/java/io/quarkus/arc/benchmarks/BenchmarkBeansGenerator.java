@@ -0,0 +1,82 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.Counted;
+import io.quarkus.arc.benchmarks.beans.CountingInterceptor;
+import io.quarkus.arc.benchmarks.beans.DependentService;
+import io.quarkus.arc.benchmarks.beans.Injections;
+import io.quarkus.arc.benchmarks.beans.InterceptedService;
+import io.quarkus.arc.benchmarks.beans.Ping;
+import io.quarkus.arc.benchmarks.beans.PingObservers;
+import io.quarkus.arc.benchmarks.beans.RequestScopedService;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates the beans used by the benchmarks with {@link BeanProcessor}, the same way
+ * the beans of an application are generated at build time.
+ * <p>
+ * The generated classes and the components provider are written to the output directory of the module, so the
+ * benchmarks only have to initialize the container.
+ */
+public final class BenchmarkBeansGenerator {
+
+    static final List<Class<?>> BEAN_CLASSES = Arrays.asList(ApplicationScopedService.class, RequestScopedService.class,
+            DependentService.class, InterceptedService.class, Counted.class, CountingInterceptor.class, Ping.class,
+            PingObservers.class, Injections.class);
+
+    private BenchmarkBeansGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: BenchmarkBeansGenerator <classes directory>");
+        }
+        File classesDirectory = new File(args[0]);
+
+        BeanProcessor beanProcessor = BeanProcessor.builder()
+                .setName("benchmarks")
+                .setIndex(BeanArchives.buildBeanArchiveIndex(index(BEAN_CLASSES)))
+                .setOutput(new ResourceOutput() {
+
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                resource.writeTo(classesDirectory);
+                                break;
+                            case SERVICE_PROVIDER:
+                                File serviceFile = new File(classesDirectory, "META-INF/services/" + resource.getName());
+                                serviceFile.getParentFile().mkdirs();
+                                Files.write(serviceFile.toPath(), resource.getData());
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build();
+        beanProcessor.process();
+    }
+
+    private static Index index(List<Class<?>> classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = BenchmarkBeansGenerator.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+}
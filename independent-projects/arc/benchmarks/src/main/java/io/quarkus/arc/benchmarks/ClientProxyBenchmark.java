@@ -0,0 +1,75 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.RequestScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a method invocation through the client proxy of a normal scoped bean.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Proxies {
+
+        ApplicationScopedService applicationScopedService;
+        RequestScopedService requestScopedService;
+
+        @Setup(Level.Trial)
+        public void lookup(ContainerState state) {
+            applicationScopedService = state.container.instance(ApplicationScopedService.class).get();
+            requestScopedService = state.container.instance(RequestScopedService.class).get();
+        }
+
+    }
+
+    /**
+     * The request context is thread-bound, so it is activated for every benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class ActiveRequest {
+
+        ManagedContext requestContext;
+
+        @Setup(Level.Trial)
+        public void activate(ContainerState state) {
+            requestContext = state.container.requestContext();
+            requestContext.activate();
+        }
+
+        @TearDown(Level.Trial)
+        public void terminate() {
+            requestContext.terminate();
+        }
+
+    }
+
+    @Benchmark
+    public int applicationScoped(Proxies proxies) {
+        return proxies.applicationScopedService.ping();
+    }
+
+    @Benchmark
+    public int requestScoped(Proxies proxies, ActiveRequest request) {
+        return proxies.requestScopedService.ping();
+    }
+
+}
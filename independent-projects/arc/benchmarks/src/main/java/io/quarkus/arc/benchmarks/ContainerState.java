@@ -0,0 +1,29 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Initializes the container with the beans generated by {@link BenchmarkBeansGenerator} once per trial.
+ */
+@State(Scope.Benchmark)
+public class ContainerState {
+
+    ArcContainer container;
+
+    @Setup(Level.Trial)
+    public void initialize() {
+        container = Arc.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        Arc.shutdown();
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.Injections;
+import io.quarkus.arc.benchmarks.beans.Ping;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the synchronous notification of the observers of an event, and the resolution of the observers of an event
+ * type that is not known at injection time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Events {
+
+        Event<Ping> pingEvent;
+        Event<Object> objectEvent;
+
+        @Setup(Level.Trial)
+        public void lookup(ContainerState state) {
+            pingEvent = state.container.instance(Injections.class).get().getPingEvent();
+            objectEvent = state.container.beanManager().getEvent();
+        }
+
+    }
+
+    @Benchmark
+    public int fire(Events events) {
+        Ping ping = new Ping();
+        events.pingEvent.fire(ping);
+        return ping.getObservers();
+    }
+
+    @Benchmark
+    public int fireThroughBeanManager(Events events) {
+        Ping ping = new Ping();
+        events.objectEvent.fire(ping);
+        return ping.getObservers();
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.DependentService;
+import io.quarkus.arc.benchmarks.beans.Injections;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.inject.Instance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the programmatic lookup through an injected {@link Instance}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Instances {
+
+        Instance<DependentService> dependentServices;
+        Instance<ApplicationScopedService> applicationScopedServices;
+
+        @Setup(Level.Trial)
+        public void lookup(ContainerState state) {
+            Injections injections = state.container.instance(Injections.class).get();
+            dependentServices = injections.getDependentServices();
+            applicationScopedServices = injections.getApplicationScopedServices();
+        }
+
+    }
+
+    @Benchmark
+    public int dependent(Instances instances) {
+        DependentService service = instances.dependentServices.get();
+        try {
+            return service.ping();
+        } finally {
+            // dependent instances obtained from Instance are only released when destroyed
+            instances.dependentServices.destroy(service);
+        }
+    }
+
+    @Benchmark
+    public int applicationScoped(Instances instances) {
+        return instances.applicationScopedServices.get().ping();
+    }
+
+}
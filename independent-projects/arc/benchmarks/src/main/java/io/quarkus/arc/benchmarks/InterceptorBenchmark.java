@@ -0,0 +1,52 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.InterceptedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of an interceptor chain, compared to the same invocation of a bean without interceptors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Services {
+
+        InterceptedService interceptedService;
+        ApplicationScopedService plainService;
+
+        @Setup(Level.Trial)
+        public void lookup(ContainerState state) {
+            interceptedService = state.container.instance(InterceptedService.class).get();
+            plainService = state.container.instance(ApplicationScopedService.class).get();
+        }
+
+    }
+
+    @Benchmark
+    public int intercepted(Services services) {
+        return services.interceptedService.ping();
+    }
+
+    @Benchmark
+    public int notIntercepted(Services services) {
+        return services.plainService.ping();
+    }
+
+}
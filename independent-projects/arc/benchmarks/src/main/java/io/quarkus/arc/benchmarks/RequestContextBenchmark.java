@@ -0,0 +1,58 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.RequestScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lifecycle of a request context, as performed for every HTTP request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Request {
+
+        ManagedContext requestContext;
+        RequestScopedService requestScopedService;
+
+        @Setup(Level.Trial)
+        public void lookup(ContainerState state) {
+            requestContext = state.container.requestContext();
+            requestScopedService = state.container.instance(RequestScopedService.class).get();
+        }
+
+    }
+
+    @Benchmark
+    public void empty(Request request) {
+        request.requestContext.activate();
+        request.requestContext.terminate();
+    }
+
+    @Benchmark
+    public int withRequestScopedBean(Request request) {
+        request.requestContext.activate();
+        try {
+            return request.requestScopedService.ping();
+        } finally {
+            request.requestContext.terminate();
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Counted
+@Priority(1)
+@Interceptor
+public class CountingInterceptor {
+
+    static final LongAdder INVOCATIONS = new LongAdder();
+
+    @AroundInvoke
+    Object count(InvocationContext ctx) throws Exception {
+        INVOCATIONS.increment();
+        return ctx.proceed();
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class DependentService {
+
+    @Inject
+    ApplicationScopedService applicationScopedService;
+
+    public int ping() {
+        return applicationScopedService.ping();
+    }
+
+}
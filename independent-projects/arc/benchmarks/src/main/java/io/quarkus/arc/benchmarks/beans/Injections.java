@@ -0,0 +1,35 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Holds the built-in beans used by the benchmarks.
+ */
+@Singleton
+public class Injections {
+
+    @Inject
+    Instance<DependentService> dependentServices;
+
+    @Inject
+    Instance<ApplicationScopedService> applicationScopedServices;
+
+    @Inject
+    Event<Ping> pingEvent;
+
+    public Instance<DependentService> getDependentServices() {
+        return dependentServices;
+    }
+
+    public Instance<ApplicationScopedService> getApplicationScopedServices() {
+        return applicationScopedServices;
+    }
+
+    public Event<Ping> getPingEvent() {
+        return pingEvent;
+    }
+
+}
@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@Counted
+@ApplicationScoped
+public class InterceptedService {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
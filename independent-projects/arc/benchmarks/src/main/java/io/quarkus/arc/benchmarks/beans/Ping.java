@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmarks.beans;
+
+public final class Ping {
+
+    private int observers;
+
+    public void observed() {
+        observers++;
+    }
+
+    public int getObservers() {
+        return observers;
+    }
+
+}
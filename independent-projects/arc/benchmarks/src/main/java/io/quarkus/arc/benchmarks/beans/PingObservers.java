@@ -0,0 +1,27 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+
+@ApplicationScoped
+public class PingObservers {
+
+    void first(@Observes @Priority(1) Ping ping) {
+        ping.observed();
+    }
+
+    void second(@Observes @Priority(2) Ping ping) {
+        ping.observed();
+    }
+
+    void third(@Observes Ping ping) {
+        ping.observed();
+    }
+
+    void async(@ObservesAsync Ping ping) {
+        ping.observed();
+    }
+
+}
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -87,10 +88,12 @@ public class BeanDeployment {
 
     private final Collection<BeanDefiningAnnotation> beanDefiningAnnotations;
 
+    private final ExecutorService executor;
+
     BeanDeployment(IndexView index, Collection<BeanDefiningAnnotation> additionalBeanDefiningAnnotations,
             List<AnnotationsTransformer> annotationTransformers) {
         this(index, additionalBeanDefiningAnnotations, annotationTransformers, Collections.emptyList(), Collections.emptyList(),
-                null, false, null, Collections.emptyMap(), Collections.emptyList());
+                null, false, null, Collections.emptyMap(), Collections.emptyList(), null);
     }
 
     BeanDeployment(IndexView index, Collection<BeanDefiningAnnotation> additionalBeanDefiningAnnotations,
@@ -99,8 +102,9 @@ public class BeanDeployment {
             Collection<DotName> resourceAnnotations,
             BuildContextImpl buildContext, boolean removeUnusedBeans, List<Predicate<BeanInfo>> unusedExclusions,
             Map<DotName, Collection<AnnotationInstance>> additionalStereotypes,
-            List<InterceptorBindingRegistrar> bindingRegistrars) {
+            List<InterceptorBindingRegistrar> bindingRegistrars, ExecutorService executor) {
         this.buildContext = buildContext;
+        this.executor = executor;
         Set<BeanDefiningAnnotation> beanDefiningAnnotations = new HashSet<>();
         if (additionalBeanDefiningAnnotations != null) {
             beanDefiningAnnotations.addAll(additionalBeanDefiningAnnotations);
@@ -204,8 +208,12 @@ public class BeanDeployment {
 
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
-        for (BeanInfo bean : beans) {
-            bean.init(errors);
+        for (List<Throwable> beanErrors : ParallelTasks.map(executor, beans, bean -> {
+            List<Throwable> initErrors = new ArrayList<>();
+            bean.init(initErrors);
+            return initErrors;
+        })) {
+            errors.addAll(beanErrors);
         }
         for (ObserverInfo observer : observers) {
             observer.init(errors);
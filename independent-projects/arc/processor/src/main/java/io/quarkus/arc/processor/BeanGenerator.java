@@ -795,8 +795,9 @@ public class BeanGenerator extends AbstractGenerator {
             Map<InterceptorInfo, String> interceptorToProviderField,
             ReflectionRegistration reflectionRegistration, String targetPackage, boolean isApplicationClass) {
 
-        MethodCreator create = beanCreator.getMethodCreator("create", providerTypeName, CreationalContext.class)
-                .setModifiers(ACC_PUBLIC);
+        // The instance is created in doCreate(), create() records the creation in BeanStatistics
+        MethodCreator create = beanCreator.getMethodCreator("doCreate", providerTypeName, CreationalContext.class)
+                .setModifiers(ACC_PRIVATE);
         AssignableResultHandle instanceHandle;
 
         if (bean.isClassBean()) {
@@ -1186,11 +1187,23 @@ public class BeanGenerator extends AbstractGenerator {
             bean.getCreatorConsumer().accept(create);
         }
 
+        // long start = BeanStatistics.creationStarted();
+        // Foo instance = doCreate(ctx);
+        // BeanStatistics.creationCompleted(this, start);
+        MethodCreator recordingCreate = beanCreator.getMethodCreator("create", providerTypeName, CreationalContext.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle start = recordingCreate.invokeStaticMethod(MethodDescriptors.BEAN_STATISTICS_CREATION_STARTED);
+        ResultHandle instance = recordingCreate.invokeSpecialMethod(create.getMethodDescriptor(), recordingCreate.getThis(),
+                recordingCreate.getMethodParam(0));
+        recordingCreate.invokeStaticMethod(MethodDescriptors.BEAN_STATISTICS_CREATION_COMPLETED, recordingCreate.getThis(),
+                start);
+        recordingCreate.returnValue(instance);
+
         // Bridge method needed
         MethodCreator bridgeCreate = beanCreator.getMethodCreator("create", Object.class, CreationalContext.class)
                 .setModifiers(ACC_PUBLIC | ACC_BRIDGE);
-        bridgeCreate.returnValue(bridgeCreate.invokeVirtualMethod(create.getMethodDescriptor(), bridgeCreate.getThis(),
-                bridgeCreate.getMethodParam(0)));
+        bridgeCreate.returnValue(bridgeCreate.invokeVirtualMethod(recordingCreate.getMethodDescriptor(),
+                bridgeCreate.getThis(), bridgeCreate.getMethodParam(0)));
     }
 
     private List<ResultHandle> newProviderHandles(BeanInfo bean, ClassCreator beanCreator, MethodCreator createMethod,
@@ -15,11 +15,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.logging.Logger;
 
 /**
@@ -63,6 +66,8 @@ public class BeanProcessor {
 
     private final BeanDeployment beanDeployment;
 
+    private final ExecutorService executor;
+
     private BeanProcessor(String name, IndexView index, Collection<BeanDefiningAnnotation> additionalBeanDefiningAnnotations,
             ResourceOutput output,
             boolean sharedAnnotationLiterals, ReflectionRegistration reflectionRegistration,
@@ -73,8 +78,9 @@ public class BeanProcessor {
             List<BeanDeploymentValidator> beanDeploymentValidators, Predicate<DotName> applicationClassPredicate,
             boolean unusedBeansRemovalEnabled,
             List<Predicate<BeanInfo>> unusedExclusions, Map<DotName, Collection<AnnotationInstance>> additionalStereotypes,
-            List<InterceptorBindingRegistrar> interceptorBindingRegistrars) {
+            List<InterceptorBindingRegistrar> interceptorBindingRegistrars, ExecutorService executor) {
         this.reflectionRegistration = reflectionRegistration;
+        this.executor = executor;
         this.applicationClassPredicate = applicationClassPredicate;
         this.name = name;
         this.output = output;
@@ -91,7 +97,7 @@ public class BeanProcessor {
                 initAndSort(annotationTransformers, buildContext),
                 initAndSort(injectionPointsTransformers, buildContext), resourceAnnotations, buildContext,
                 unusedBeansRemovalEnabled, unusedExclusions,
-                additionalStereotypes, interceptorBindingRegistrars);
+                additionalStereotypes, interceptorBindingRegistrars, executor);
     }
 
     public ContextRegistrar.RegistrationContext registerCustomContexts() {
@@ -118,6 +124,9 @@ public class BeanProcessor {
         if (reflectionRegistration == null) {
             reflectionRegistration = this.reflectionRegistration;
         }
+        ReflectionRegistration registration = executor != null
+                ? new SynchronizedReflectionRegistration(reflectionRegistration)
+                : reflectionRegistration;
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
         AnnotationLiteralProcessor annotationLiterals = new AnnotationLiteralProcessor(sharedAnnotationLiterals,
                 applicationClassPredicate);
@@ -135,41 +144,59 @@ public class BeanProcessor {
 
         List<Resource> resources = new ArrayList<>();
 
+        // The components are generated in parallel if an executor is set, the results are collected in the deployment order
+
         // Generate interceptors
-        for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
-            for (Resource resource : interceptorGenerator.generate(interceptor, reflectionRegistration)) {
+        List<InterceptorInfo> interceptors = new ArrayList<>(beanDeployment.getInterceptors());
+        List<Collection<Resource>> interceptorResources = ParallelTasks.map(executor, interceptors,
+                interceptor -> interceptorGenerator.generate(interceptor, registration));
+        for (int i = 0; i < interceptors.size(); i++) {
+            for (Resource resource : interceptorResources.get(i)) {
                 resources.add(resource);
                 if (SpecialType.INTERCEPTOR_BEAN.equals(resource.getSpecialType())) {
-                    beanToGeneratedName.put(interceptor, resource.getName());
+                    beanToGeneratedName.put(interceptors.get(i), resource.getName());
                 }
             }
         }
 
         // Generate beans
-        for (BeanInfo bean : beanDeployment.getBeans()) {
-            for (Resource resource : beanGenerator.generate(bean, reflectionRegistration)) {
-                resources.add(resource);
+        List<BeanInfo> beans = new ArrayList<>(beanDeployment.getBeans());
+        List<List<Resource>> beanResources = ParallelTasks.map(executor, beans, bean -> {
+            List<Resource> generated = new ArrayList<>();
+            for (Resource resource : beanGenerator.generate(bean, registration)) {
+                generated.add(resource);
                 if (SpecialType.BEAN.equals(resource.getSpecialType())) {
                     if (bean.getScope().isNormal()) {
                         // Generate client proxy
-                        resources.addAll(
-                                clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(), reflectionRegistration));
+                        generated.addAll(
+                                clientProxyGenerator.generate(bean, resource.getFullyQualifiedName(), registration));
                     }
-                    beanToGeneratedName.put(bean, resource.getName());
                     if (bean.isSubclassRequired()) {
-                        resources.addAll(
-                                subclassGenerator.generate(bean, resource.getFullyQualifiedName(), reflectionRegistration));
+                        generated.addAll(
+                                subclassGenerator.generate(bean, resource.getFullyQualifiedName(), registration));
                     }
                 }
             }
+            return generated;
+        });
+        for (int i = 0; i < beans.size(); i++) {
+            for (Resource resource : beanResources.get(i)) {
+                resources.add(resource);
+                if (SpecialType.BEAN.equals(resource.getSpecialType())) {
+                    beanToGeneratedName.put(beans.get(i), resource.getName());
+                }
+            }
         }
 
         // Generate observers
-        for (ObserverInfo observer : beanDeployment.getObservers()) {
-            for (Resource resource : observerGenerator.generate(observer, reflectionRegistration)) {
+        List<ObserverInfo> observers = new ArrayList<>(beanDeployment.getObservers());
+        List<Collection<Resource>> observerResources = ParallelTasks.map(executor, observers,
+                observer -> observerGenerator.generate(observer, registration));
+        for (int i = 0; i < observers.size(); i++) {
+            for (Resource resource : observerResources.get(i)) {
                 resources.add(resource);
                 if (SpecialType.OBSERVER.equals(resource.getSpecialType())) {
-                    observerToGeneratedName.put(observer, resource.getName());
+                    observerToGeneratedName.put(observers.get(i), resource.getName());
                 }
             }
         }
@@ -235,6 +262,8 @@ public class BeanProcessor {
         private boolean removeUnusedBeans = false;
         private final List<Predicate<BeanInfo>> removalExclusions = new ArrayList<>();
 
+        private ExecutorService executor;
+
         private Predicate<DotName> applicationClassPredicate = new Predicate<DotName>() {
             @Override
             public boolean test(DotName dotName) {
@@ -353,12 +382,27 @@ public class BeanProcessor {
             return this;
         }
 
+        /**
+         * If set, the initialization of the bean deployment and the generation of the resources are partitioned across
+         * the threads of the given executor. The generated resources are the same as with sequential processing.
+         * <p>
+         * The registered {@link AnnotationsTransformer}s and {@link InjectionPointsTransformer}s must be thread-safe. The
+         * {@link ReflectionRegistration} is always invoked in a synchronized manner.
+         *
+         * @param executor The executor or {@code null} if the processing should happen on the calling thread
+         * @return self
+         */
+        public Builder setExecutor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public BeanProcessor build() {
             return new BeanProcessor(name, index, additionalBeanDefiningAnnotations, output, sharedAnnotationLiterals,
                     reflectionRegistration, annotationTransformers, injectionPointTransformers, resourceAnnotations,
                     beanRegistrars, contextRegistrars, beanDeploymentValidators,
                     applicationClassPredicate, removeUnusedBeans, removalExclusions, additionalStereotypes,
-                    additionalInterceptorBindingRegistrars);
+                    additionalInterceptorBindingRegistrars, executor);
         }
 
     }
@@ -399,6 +443,26 @@ public class BeanProcessor {
 
     }
 
+    static class SynchronizedReflectionRegistration implements ReflectionRegistration {
+
+        private final ReflectionRegistration delegate;
+
+        SynchronizedReflectionRegistration(ReflectionRegistration delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void registerMethod(MethodInfo methodInfo) {
+            delegate.registerMethod(methodInfo);
+        }
+
+        @Override
+        public synchronized void registerField(FieldInfo fieldInfo) {
+            delegate.registerField(fieldInfo);
+        }
+
+    }
+
     static class PrivateMembersCollector {
 
         private final List<String> appDescriptions;
@@ -409,7 +473,7 @@ public class BeanProcessor {
             this.fwkDescriptions = LOGGER.isDebugEnabled() ? new ArrayList<>() : null;
         }
 
-        void add(boolean isApplicationClass, String description) {
+        synchronized void add(boolean isApplicationClass, String description) {
             if (isApplicationClass) {
                 appDescriptions.add(description);
             } else if (fwkDescriptions != null) {
@@ -4,8 +4,8 @@ import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
 import io.quarkus.arc.ClientProxy;
-import io.quarkus.arc.CreationalContextImpl;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -23,8 +23,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
-import javax.enterprise.context.ContextNotActiveException;
-import javax.enterprise.context.spi.Contextual;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
@@ -84,9 +82,11 @@ public class ClientProxyGenerator extends AbstractGenerator {
                 .interfaces(interfaces.toArray(new String[0])).build();
         FieldCreator beanField = clientProxy.getFieldCreator("bean", DescriptorUtils.extToInt(beanClassName))
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
+        FieldCreator contextField = clientProxy.getFieldCreator("context", InjectableContext.class)
+                .setModifiers(ACC_PRIVATE);
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor(), contextField.getFieldDescriptor());
         implementGetContextualInstance(clientProxy, providerTypeName);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
 
@@ -176,32 +176,28 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(null);
     }
 
-    void implementDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField) {
+    void implementDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField,
+            FieldDescriptor contextField) {
         MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerTypeName)
                 .setModifiers(Modifier.PRIVATE);
-        // Arc.container()
-        ResultHandle container = creator.invokeStaticMethod(MethodDescriptors.ARC_CONTAINER);
-        // bean.getScope()
         ResultHandle bean = creator.readInstanceField(beanField, creator.getThis());
-        ResultHandle scope = creator
+        // The context is looked up once and then reused for every invocation
+        AssignableResultHandle context = creator.createVariable(InjectableContext.class);
+        creator.assign(context, creator.readInstanceField(contextField, creator.getThis()));
+        BytecodeCreator notBound = creator.ifNull(context).trueBranch();
+        // ClientProxies.getSingleContext(bean.getScope())
+        ResultHandle scope = notBound
                 .invokeInterfaceMethod(MethodDescriptor.ofMethod(InjectableBean.class, "getScope", Class.class), bean);
-        // getContext()
-        ResultHandle context = creator.invokeInterfaceMethod(MethodDescriptors.ARC_CONTAINER_GET_ACTIVE_CONTEXT,
-                container, scope);
-        BytecodeCreator inactiveBranch = creator.ifNull(context).trueBranch();
-        ResultHandle exception = inactiveBranch.newInstance(
-                MethodDescriptor.ofConstructor(ContextNotActiveException.class, String.class),
-                inactiveBranch.invokeVirtualMethod(MethodDescriptors.OBJECT_TO_STRING, scope));
-        inactiveBranch.throwException(exception);
-        AssignableResultHandle ret = creator.createVariable(Object.class);
-        creator.assign(ret, creator.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET_IF_PRESENT, context, bean));
-        BytecodeCreator isNullBranch = creator.ifNull(ret).trueBranch();
-        // Create a new contextual instance - new CreationalContextImpl<>()
-        ResultHandle creationContext = isNullBranch
-                .newInstance(MethodDescriptor.ofConstructor(CreationalContextImpl.class, Contextual.class), bean);
-        isNullBranch.assign(ret,
-                isNullBranch.invokeInterfaceMethod(MethodDescriptors.CONTEXT_GET, context, bean, creationContext));
-        creator.returnValue(ret);
+        notBound.assign(context, notBound.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_SINGLE_CONTEXT, scope));
+        // More than one context is registered for the scope - the active one is looked up for every invocation
+        BytecodeCreator ambiguous = notBound.ifNull(context).trueBranch();
+        ambiguous.returnValue(ambiguous.checkCast(
+                ambiguous.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE, bean), providerTypeName));
+        notBound.writeInstanceField(contextField, notBound.getThis(), context);
+        // ClientProxies.getDelegate(bean, context)
+        creator.returnValue(creator.checkCast(
+                creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_BOUND_DELEGATE, bean, context),
+                providerTypeName));
     }
 
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
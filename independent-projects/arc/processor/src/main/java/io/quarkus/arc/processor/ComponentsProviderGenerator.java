@@ -17,6 +17,7 @@ import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -148,9 +149,11 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
             }
         }
 
-        // Observers
+        // Observers - registered in the order of notification so that the container does not sort them for every event type
         ResultHandle observersHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
-        for (ObserverInfo observer : beanDeployment.getObservers()) {
+        List<ObserverInfo> observers = new ArrayList<>(beanDeployment.getObservers());
+        observers.sort(Comparator.comparingInt(ObserverInfo::getPriority));
+        for (ObserverInfo observer : observers) {
             String observerType = observerToGeneratedName.get(observer);
             List<InjectionPointInfo> injectionPoints = observer.getInjection().injectionPoints.stream()
                     .filter(ip -> !BuiltinBean.resolvesTo(ip))
@@ -2,6 +2,8 @@ package io.quarkus.arc.processor;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.BeanStatistics;
+import io.quarkus.arc.ClientProxies;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.CreationalContextImpl;
 import io.quarkus.arc.InjectableBean;
@@ -150,6 +152,21 @@ final class MethodDescriptors {
     static final MethodDescriptor ARC_CONTAINER_GET_ACTIVE_CONTEXT = MethodDescriptor.ofMethod(ArcContainer.class,
             "getActiveContext", InjectableContext.class, Class.class);
 
+    static final MethodDescriptor CLIENT_PROXIES_GET_SINGLE_CONTEXT = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getSingleContext", InjectableContext.class, Class.class);
+
+    static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getDelegate", Object.class, InjectableBean.class);
+
+    static final MethodDescriptor CLIENT_PROXIES_GET_BOUND_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getDelegate", Object.class, InjectableBean.class, InjectableContext.class);
+
+    static final MethodDescriptor BEAN_STATISTICS_CREATION_STARTED = MethodDescriptor.ofMethod(BeanStatistics.class,
+            "creationStarted", long.class);
+
+    static final MethodDescriptor BEAN_STATISTICS_CREATION_COMPLETED = MethodDescriptor.ofMethod(BeanStatistics.class,
+            "creationCompleted", void.class, InjectableBean.class, long.class);
+
     static final MethodDescriptor CONTEXT_GET = MethodDescriptor.ofMethod(Context.class, "get", Object.class, Contextual.class,
             CreationalContext.class);
 
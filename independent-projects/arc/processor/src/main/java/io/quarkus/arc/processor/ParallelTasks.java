@@ -0,0 +1,80 @@
+package io.quarkus.arc.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Applies a function to the elements of a list, either sequentially or partitioned across the threads of an executor.
+ * <p>
+ * The results are always returned in the order of the elements, so that the output of the processing does not depend on
+ * the executor.
+ */
+final class ParallelTasks {
+
+    // The number of partitions per thread, a few partitions per thread balance uneven work
+    private static final int PARTITIONS_PER_THREAD = 4;
+
+    private ParallelTasks() {
+    }
+
+    /**
+     *
+     * @param executor The executor or {@code null} if the elements should be processed on the current thread
+     * @param elements
+     * @param function Must be thread-safe if an executor is used
+     * @return the results in the order of the elements
+     */
+    static <T, R> List<R> map(ExecutorService executor, List<T> elements, Function<T, R> function) {
+        int partitions = executor != null ? Math.min(elements.size(), parallelism(executor) * PARTITIONS_PER_THREAD) : 1;
+        if (partitions <= 1) {
+            List<R> results = new ArrayList<>(elements.size());
+            for (T element : elements) {
+                results.add(function.apply(element));
+            }
+            return results;
+        }
+        int partitionSize = (elements.size() + partitions - 1) / partitions;
+        List<Future<List<R>>> futures = new ArrayList<>(partitions);
+        for (int from = 0; from < elements.size(); from += partitionSize) {
+            List<T> partition = elements.subList(from, Math.min(from + partitionSize, elements.size()));
+            futures.add(executor.submit(() -> {
+                List<R> results = new ArrayList<>(partition.size());
+                for (T element : partition) {
+                    results.add(function.apply(element));
+                }
+                return results;
+            }));
+        }
+        List<R> results = new ArrayList<>(elements.size());
+        for (Future<List<R>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the bean processing tasks", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
+
+    private static int parallelism(ExecutorService executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.Basics.index;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.arc.processor.types.Baz;
+import io.quarkus.arc.processor.types.Foo;
+import io.quarkus.arc.processor.types.FooQualifier;
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import org.jboss.jandex.IndexView;
+import org.junit.Test;
+
+public class ParallelProcessingTest {
+
+    @Test
+    public void testResourcesMatchSequentialProcessing() throws IOException {
+        IndexView index = BeanArchives.buildBeanArchiveIndex(index(Foo.class, Baz.class, FooQualifier.class,
+                AbstractList.class, AbstractCollection.class, Collection.class, List.class, Iterable.class));
+
+        List<Resource> sequential = generate(index, null);
+        ForkJoinPool executor = new ForkJoinPool(4);
+        try {
+            List<Resource> parallel = generate(index, executor);
+            assertTrue(parallel.stream().anyMatch(r -> r.getName().endsWith("Foo_Bean")));
+            // The same resources are generated in the same order
+            assertEquals(names(sequential), names(parallel));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<String> names(List<Resource> resources) {
+        return resources.stream().map(Resource::getName).collect(Collectors.toList());
+    }
+
+    private List<Resource> generate(IndexView index, ExecutorService executor) throws IOException {
+        BeanProcessor processor = BeanProcessor.builder().setIndex(index).setExecutor(executor).build();
+        processor.registerCustomContexts();
+        processor.registerBeans();
+        processor.initialize();
+        return processor.generateResources(null);
+    }
+
+}
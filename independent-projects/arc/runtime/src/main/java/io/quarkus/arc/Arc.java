@@ -1,5 +1,6 @@
 package io.quarkus.arc;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -30,6 +31,19 @@ public final class Arc {
         return INSTANCE.get();
     }
 
+    /**
+     * Set the default executor of the current container, used to notify the asynchronous observers.
+     *
+     * @param executor The executor, or {@code null} to use {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     */
+    public static void setExecutor(ExecutorService executor) {
+        ArcContainerImpl container = INSTANCE.get();
+        if (container == null) {
+            throw new IllegalStateException("The container is not initialized");
+        }
+        container.setExecutorService(executor);
+    }
+
     public static void shutdown() {
         if (INSTANCE.get() != null) {
             synchronized (INSTANCE) {
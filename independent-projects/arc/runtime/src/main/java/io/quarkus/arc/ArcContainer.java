@@ -3,6 +3,7 @@ package io.quarkus.arc;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.inject.spi.BeanManager;
@@ -117,4 +118,12 @@ public interface ArcContainer {
      * @return the bean manager
      */
     BeanManager beanManager();
+
+    /**
+     * The executor is used to notify the asynchronous observers of the events fired without an explicit executor.
+     *
+     * @return the default executor, {@link java.util.concurrent.ForkJoinPool#commonPool()} unless set with
+     *         {@link Arc#setExecutor(ExecutorService)}
+     */
+    ExecutorService getExecutorService();
 }
@@ -2,6 +2,8 @@ package io.quarkus.arc;
 
 import io.quarkus.arc.ArcCDIProvider.ArcCDI;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,7 +18,10 @@ import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.ApplicationScoped;
@@ -47,6 +52,9 @@ class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
 
+    // The maximum number of event types and qualifiers combinations whose observers are cached
+    static final int MAX_RESOLVED_OBSERVERS = 1024;
+
     private final String id;
 
     private final AtomicBoolean running;
@@ -61,13 +69,22 @@ class ArcContainerImpl implements ArcContainer {
     private final ManagedContext requestContext;
     private final InjectableContext applicationContext;
     private final InjectableContext singletonContext;
+    // Contexts by scope, computed once so that the lookup of the active context does not allocate
+    private final Map<Class<? extends Annotation>, InjectableContext[]> contextsByScope;
+
+    // Beans by the raw types of their type closures, which are computed at build time
+    private final Map<Class<?>, List<InjectableBean<?>>> beansByRawType;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ComputingCache<EventKey, List<InjectableObserverMethod<?>>> resolvedObservers;
+    private final AtomicInteger resolvedObserversSize;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
+    private volatile ExecutorService executorService;
+
     public ArcContainerImpl() {
         id = UUID.randomUUID().toString();
         running = new AtomicBoolean(true);
@@ -112,17 +129,80 @@ class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        contextsByScope = new HashMap<>();
+        contextsByScope.put(ApplicationScoped.class, new InjectableContext[] { applicationContext });
+        contextsByScope.put(Singleton.class, new InjectableContext[] { singletonContext });
+        for (InjectableContext context : contexts) {
+            InjectableContext[] scopeContexts = contextsByScope.get(context.getScope());
+            if (scopeContexts == null) {
+                scopeContexts = new InjectableContext[] { context };
+            } else {
+                scopeContexts = Arrays.copyOf(scopeContexts, scopeContexts.length + 1);
+                scopeContexts[scopeContexts.length - 1] = context;
+            }
+            contextsByScope.put(context.getScope(), scopeContexts);
+        }
+
+        beansByRawType = indexByRawType(beans);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
+        // Observers are sorted at build time, this only merges the observers of multiple components providers
+        Collections.sort(observers, InjectableObserverMethod::compare);
 
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        // The statistics must be enabled before the container is created
+        ClientProxies.setRecordAccess(BeanStatistics.isEnabled());
+        resolvedObserversSize = new AtomicInteger();
+        resolvedObservers = new ComputingCache<>(key -> {
+            resolvedObserversSize.incrementAndGet();
+            return resolveObservers(key);
+        });
+        executorService = ForkJoinPool.commonPool();
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
         }
     }
 
+    private static Map<Class<?>, List<InjectableBean<?>>> indexByRawType(List<InjectableBean<?>> beans) {
+        Map<Class<?>, List<InjectableBean<?>>> index = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            for (Type type : bean.getTypes()) {
+                Class<?> rawType = getRawTypeForIndex(type);
+                if (rawType == null) {
+                    continue;
+                }
+                List<InjectableBean<?>> rawTypeBeans = index.computeIfAbsent(rawType, t -> new ArrayList<>());
+                // A type closure may contain several types with the same raw type
+                if (rawTypeBeans.isEmpty() || rawTypeBeans.get(rawTypeBeans.size() - 1) != bean) {
+                    rawTypeBeans.add(bean);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Class, parameterized and array types can only be assignable if their raw types are identical, the raw type of a
+     * generic array type being the array class of the raw type of its component. See also
+     * {@link BeanTypeAssignabilityRules}.
+     *
+     * @param type
+     * @return the raw type used to index the given type, or {@code null} if the type cannot be indexed
+     */
+    private static Class<?> getRawTypeForIndex(Type type) {
+        type = Types.boxedType(type);
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType || type instanceof GenericArrayType) {
+            return Types.getRawType(type);
+        }
+        return null;
+    }
+
     private void addBuiltInBeans() {
         // BeanManager, Event<?>, Instance<?>
         beans.add(new BeanManagerBean());
@@ -145,24 +225,35 @@ class ArcContainerImpl implements ArcContainer {
     @Override
     public InjectableContext getActiveContext(Class<? extends Annotation> scopeType) {
         requireRunning();
-        // Application/Singleton context is always active
-        if (ApplicationScoped.class.equals(scopeType)) {
-            return applicationContext;
-        } else if (Singleton.class.equals(scopeType)) {
-            return singletonContext;
+        InjectableContext[] scopeContexts = contextsByScope.get(scopeType);
+        if (scopeContexts == null) {
+            return null;
         }
-        List<InjectableContext> active = new ArrayList<>();
-        for (InjectableContext context : contexts) {
-            if (scopeType.equals(context.getScope()) && context.isActive()) {
-                active.add(context);
+        InjectableContext active = null;
+        for (InjectableContext context : scopeContexts) {
+            if (context.isActive()) {
+                if (active != null) {
+                    throw new IllegalArgumentException("More than one context object for the given scope: "
+                            + Arrays.stream(scopeContexts).filter(InjectableContext::isActive).collect(Collectors.toList()));
+                }
+                active = context;
             }
         }
-        if (active.isEmpty()) {
-            return null;
-        } else if (active.size() == 1) {
-            return active.get(0);
-        }
-        throw new IllegalArgumentException("More than one context object for the given scope: " + active);
+        return active;
+    }
+
+    /**
+     * Client proxies bind to the returned context, so that the context does not have to be looked up for every
+     * invocation.
+     *
+     * @param scopeType
+     * @return the context registered for the given scope, or {@code null} if there is no such context or more than one
+     *         context share the scope
+     */
+    InjectableContext getSingleContext(Class<? extends Annotation> scopeType) {
+        requireRunning();
+        InjectableContext[] scopeContexts = contextsByScope.get(scopeType);
+        return scopeContexts != null && scopeContexts.length == 1 ? scopeContexts[0] : null;
     }
 
     @Override
@@ -239,6 +330,15 @@ class ArcContainerImpl implements ArcContainer {
                         .next(), null);
     }
 
+    @Override
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService != null ? executorService : ForkJoinPool.commonPool();
+    }
+
     @Override
     public ManagedContext requestContext() {
         requireRunning();
@@ -290,8 +390,13 @@ class ArcContainerImpl implements ArcContainer {
             singletonContext.destroy();
             // Clear caches
             contexts.clear();
+            contextsByScope.clear();
             beans.clear();
+            beansByRawType.clear();
             resolved.clear();
+            resolvedObservers.clear();
+            resolvedObserversSize.set(0);
+            ClientProxies.setRecordAccess(false);
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -350,6 +455,10 @@ class ArcContainerImpl implements ArcContainer {
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
+    List<InjectableBean<?>> getAllBeans() {
+        return Collections.unmodifiableList(beans);
+    }
+
     Set<Bean<?>> getBeans(Type requiredType, Annotation... qualifiers) {
         // This method does not cache the results
         return new HashSet<>(getMatchingBeans(new Resolvable(requiredType, qualifiers)));
@@ -463,8 +572,19 @@ class ArcContainerImpl implements ArcContainer {
     }
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
+        Class<?> rawType = getRawTypeForIndex(resolvable.requiredType);
+        List<InjectableBean<?>> candidates;
+        if (rawType != null) {
+            candidates = beansByRawType.get(rawType);
+            if (candidates == null) {
+                return Collections.emptyList();
+            }
+        } else {
+            // Not indexed, check all the beans
+            candidates = beans;
+        }
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        for (InjectableBean<?> bean : candidates) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -491,24 +611,38 @@ class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        EventKey key = new EventKey(eventType, eventQualifiers);
+        List<InjectableObserverMethod<?>> resolved = resolvedObservers.getValueIfPresent(key);
+        if (resolved != null) {
+            return (List) resolved;
+        }
+        if (resolvedObserversSize.get() >= MAX_RESOLVED_OBSERVERS) {
+            // The event types and qualifiers of the injection points are bounded, but not the runtime types of the
+            // event objects nor the qualifier instances selected dynamically: stop caching instead of growing forever
+            return (List) resolveObservers(key);
+        }
+        // The key is kept by the cache, it must not share the qualifiers set of the caller
+        return (List) resolvedObservers.getValue(key.immutableCopy());
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventKey key) {
+        Set<Type> eventTypes = new HierarchyDiscovery(key.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> matching = new ArrayList<>();
+        // Observers are sorted - observers with smaller priority values are called first
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), key.qualifiers)) {
+                    matching.add(observer);
                 }
             }
         }
-        // Observers with smaller priority values are called first
-        Collections.sort(resolvedObservers, InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return matching.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(matching);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -585,6 +719,40 @@ class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    private static final class EventKey {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        EventKey(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        EventKey immutableCopy() {
+            return new EventKey(eventType, Collections.unmodifiableSet(new HashSet<>(qualifiers)));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + qualifiers.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventKey)) {
+                return false;
+            }
+            EventKey other = (EventKey) obj;
+            return eventType.equals(other.eventType) && qualifiers.equals(other.qualifiers);
+        }
+
+    }
+
     private static final class Resolvable {
 
         private static final Set<Type> BUILT_IN_TYPES = new HashSet<>(Arrays.asList(Event.class, Instance.class));
@@ -0,0 +1,225 @@
+package io.quarkus.arc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the creation of the bean instances and the access to the normal scoped beans through their client proxies.
+ * <p>
+ * The recording is disabled by default and must be enabled with {@link #enable()} before the container is initialized.
+ * When disabled, the generated beans only check a flag when an instance is created, and the client proxies a field set
+ * once when the container is created. When enabled, every client proxy invocation also records the access to the bean.
+ *
+ * @see #getEntries()
+ */
+public final class BeanStatistics {
+
+    private static volatile boolean enabled;
+
+    private static volatile boolean startupCompleted;
+
+    private static final ConcurrentMap<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private BeanStatistics() {
+    }
+
+    /**
+     * Enables the recording and discards the statistics recorded previously.
+     */
+    public static void enable() {
+        startupCompleted = false;
+        ENTRIES.clear();
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Disables the recording and discards the recorded statistics.
+     */
+    public static void reset() {
+        enabled = false;
+        startupCompleted = false;
+        ENTRIES.clear();
+    }
+
+    /**
+     * Marks the end of the application startup; the instances created before are reported as created at startup, e.g.
+     * by the observers of the startup event.
+     */
+    public static void startupCompleted() {
+        if (enabled) {
+            startupCompleted = true;
+        }
+    }
+
+    /**
+     * Invoked by the generated beans before an instance is created.
+     *
+     * @return the start time or 0 if the recording is disabled
+     */
+    public static long creationStarted() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Invoked by the generated beans once an instance is created.
+     *
+     * @param bean
+     * @param start The value returned by {@link #creationStarted()}
+     */
+    public static void creationCompleted(InjectableBean<?> bean, long start) {
+        if (start != 0 && enabled) {
+            getEntry(bean).created(System.nanoTime() - start, !startupCompleted);
+        }
+    }
+
+    static void accessed(InjectableBean<?> bean) {
+        if (enabled) {
+            getEntry(bean).accessed();
+        }
+    }
+
+    /**
+     *
+     * @return the statistics of all the beans of the current container, including the beans that were never created, or
+     *         an empty list if there is no container
+     */
+    public static List<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>();
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            // not initialized yet or already shut down
+            return entries;
+        }
+        for (InjectableBean<?> bean : ArcContainerImpl.unwrap(container).getAllBeans()) {
+            Entry entry = ENTRIES.get(bean.getIdentifier());
+            entries.add(entry != null ? entry : new Entry(bean));
+        }
+        return entries;
+    }
+
+    private static Entry getEntry(InjectableBean<?> bean) {
+        Entry entry = ENTRIES.get(bean.getIdentifier());
+        if (entry == null) {
+            entry = new Entry(bean);
+            Entry previous = ENTRIES.putIfAbsent(bean.getIdentifier(), entry);
+            if (previous != null) {
+                entry = previous;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * The statistics of a single bean.
+     */
+    public static final class Entry {
+
+        private final InjectableBean<?> bean;
+        private final LongAdder creations;
+        private final LongAdder startupCreations;
+        private final LongAdder creationTime;
+        private final AtomicLong maxCreationTime;
+        private volatile long lastCreated;
+        private volatile long lastAccessed;
+
+        Entry(InjectableBean<?> bean) {
+            this.bean = bean;
+            this.creations = new LongAdder();
+            this.startupCreations = new LongAdder();
+            this.creationTime = new LongAdder();
+            this.maxCreationTime = new AtomicLong();
+        }
+
+        void created(long time, boolean startup) {
+            creations.increment();
+            if (startup) {
+                startupCreations.increment();
+            }
+            creationTime.add(time);
+            maxCreationTime.accumulateAndGet(time, Math::max);
+            lastCreated = System.currentTimeMillis();
+        }
+
+        void accessed() {
+            lastAccessed = System.currentTimeMillis();
+        }
+
+        public InjectableBean<?> getBean() {
+            return bean;
+        }
+
+        /**
+         *
+         * @return the number of created instances
+         */
+        public long getCreationCount() {
+            return creations.sum();
+        }
+
+        /**
+         *
+         * @return the number of instances created before the application startup completed
+         */
+        public long getStartupCreationCount() {
+            return startupCreations.sum();
+        }
+
+        /**
+         *
+         * @return the total time spent creating the instances in nanoseconds, including the creation of their dependencies
+         */
+        public long getTotalCreationTime() {
+            return creationTime.sum();
+        }
+
+        /**
+         *
+         * @return the longest creation of an instance in nanoseconds, including the creation of its dependencies
+         */
+        public long getMaxCreationTime() {
+            return maxCreationTime.get();
+        }
+
+        /**
+         *
+         * @return the time of the last creation in milliseconds since the epoch, or 0 if no instance was created
+         */
+        public long getLastCreated() {
+            return lastCreated;
+        }
+
+        /**
+         * Only the access to normal scoped beans through their client proxies is recorded, the instances of the other
+         * beans are accessed directly once injected.
+         *
+         * @return the time of the last access in milliseconds since the epoch, or 0 if not recorded
+         */
+        public long getLastAccessed() {
+            return lastAccessed;
+        }
+
+        /**
+         *
+         * @return {@code true} if no instance of the bean was ever created
+         */
+        public boolean isUnused() {
+            return creations.sum() == 0;
+        }
+
+        @Override
+        public String toString() {
+            return "Entry [bean=" + bean + ", creations=" + getCreationCount() + ", startupCreations="
+                    + getStartupCreationCount() + ", totalCreationTime=" + getTotalCreationTime() + "]";
+        }
+
+    }
+
+}
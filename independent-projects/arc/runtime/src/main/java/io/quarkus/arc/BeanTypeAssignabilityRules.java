@@ -33,6 +33,10 @@ final class BeanTypeAssignabilityRules {
     }
 
     private static boolean matchesNoBoxing(Type requiredType, Type beanType) {
+        if (Types.isArray(requiredType) && Types.isArray(beanType)) {
+            // Array types are assignable if their component types are
+            return matchesNoBoxing(Types.getArrayComponentType(requiredType), Types.getArrayComponentType(beanType));
+        }
         if (requiredType instanceof Class<?>) {
             if (beanType instanceof Class<?>) {
                 return matches((Class<?>) requiredType, (Class<?>) beanType);
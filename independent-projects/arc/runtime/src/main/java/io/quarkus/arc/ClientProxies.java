@@ -0,0 +1,75 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.Annotation;
+import javax.enterprise.context.ContextNotActiveException;
+
+/**
+ * Static helpers used by the generated client proxies to obtain the contextual instance of a normal scoped bean.
+ */
+public final class ClientProxies {
+
+    // Set once when the container is created, a plain field so that the proxy invocations do not pay a volatile read
+    // when the bean statistics are disabled
+    private static boolean recordAccess;
+
+    private ClientProxies() {
+    }
+
+    /**
+     * Invoked when the container is created and shut down. When enabled, every invocation of a client proxy also updates
+     * the last access time of the bean, which costs a map lookup and a volatile write per invocation.
+     *
+     * @param value
+     */
+    static void setRecordAccess(boolean value) {
+        recordAccess = value;
+    }
+
+    /**
+     *
+     * @param scope
+     * @return the only context registered for the given scope, or {@code null} if the context must be looked up for
+     *         every invocation
+     */
+    public static InjectableContext getSingleContext(Class<? extends Annotation> scope) {
+        return ArcContainerImpl.instance().getSingleContext(scope);
+    }
+
+    /**
+     *
+     * @param bean
+     * @param context The only context registered for the scope of the bean
+     * @return the contextual instance
+     */
+    public static <T> T getDelegate(InjectableBean<T> bean, InjectableContext context) {
+        if (!context.isActive()) {
+            throw new ContextNotActiveException(bean.getScope().toString());
+        }
+        return getDelegateFromContext(bean, context);
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the contextual instance
+     */
+    public static <T> T getDelegate(InjectableBean<T> bean) {
+        InjectableContext context = Arc.container().getActiveContext(bean.getScope());
+        if (context == null) {
+            throw new ContextNotActiveException(bean.getScope().toString());
+        }
+        return getDelegateFromContext(bean, context);
+    }
+
+    private static <T> T getDelegateFromContext(InjectableBean<T> bean, InjectableContext context) {
+        if (recordAccess) {
+            BeanStatistics.accessed(bean);
+        }
+        T result = context.get(bean);
+        if (result == null) {
+            result = context.get(bean, new CreationalContextImpl<>(bean));
+        }
+        return result;
+    }
+
+}
@@ -16,7 +16,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Supplier;
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.Event;
@@ -39,11 +39,8 @@ class EventImpl<T> implements Event<T> {
 
     private static final int DEFAULT_CACHE_CAPACITY = 4;
 
-    private static final Executor DEFAULT_EXECUTOR = ForkJoinPool.commonPool();
-
-    private static final NotificationOptions DEFAULT_OPTIONS = NotificationOptions.ofExecutor(DEFAULT_EXECUTOR);
-
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
+    // Only needed to resolve the type variables of an event object, which is rare
+    private final LazyValue<HierarchyDiscovery> injectionPointTypeHierarchy;
 
     private final Type eventType;
 
@@ -58,7 +55,8 @@ class EventImpl<T> implements Event<T> {
             eventType = ((ParameterizedType) eventType).getActualTypeArguments()[0];
         }
         this.eventType = eventType;
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(eventType);
+        Type injectionPointType = eventType;
+        this.injectionPointTypeHierarchy = new LazyValue<>(() -> new HierarchyDiscovery(injectionPointType));
         this.qualifiers = qualifiers;
         this.qualifiers.add(Any.Literal.INSTANCE);
         this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
@@ -71,22 +69,24 @@ class EventImpl<T> implements Event<T> {
 
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event) {
-        return fireAsync(event, DEFAULT_OPTIONS);
+        return fireAsync(event, Arc.container().getExecutorService());
     }
 
     @Override
     public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options) {
         Objects.requireNonNull(options);
-
-        @SuppressWarnings("unchecked")
-        Notifier<U> notifier = (Notifier<U>) getNotifier(event.getClass());
-
         Executor executor = options.getExecutor();
         if (executor == null) {
-            executor = DEFAULT_EXECUTOR;
+            executor = Arc.container().getExecutorService();
         }
+        return fireAsync(event, executor);
+    }
+
+    private <U extends T> CompletionStage<U> fireAsync(U event, Executor executor) {
+        @SuppressWarnings("unchecked")
+        Notifier<U> notifier = (Notifier<U>) getNotifier(event.getClass());
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -111,7 +111,14 @@ class EventImpl<T> implements Event<T> {
                 }
             }
         };
-        CompletableFuture<U> completableFuture = CompletableFuture.supplyAsync(withinRequest, executor);
+        CompletableFuture<U> completableFuture;
+        try {
+            completableFuture = CompletableFuture.supplyAsync(withinRequest, executor);
+        } catch (RejectedExecutionException e) {
+            // e.g. the executor is shut down, the observers will never be notified
+            completableFuture = new CompletableFuture<>();
+            completableFuture.completeExceptionally(e);
+        }
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
@@ -167,7 +174,7 @@ class EventImpl<T> implements Event<T> {
              * infer the parameterized type of
              * the event types.
              */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+            resolvedType = injectionPointTypeHierarchy.get().resolveType(resolvedType);
         }
         if (Types.containsTypeVariable(resolvedType)) {
             /*
@@ -177,7 +184,7 @@ class EventImpl<T> implements Event<T> {
              */
             Type canonicalEventType = Types.getCanonicalType(runtimeType);
             TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
-                    injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
+                    injectionPointTypeHierarchy.get().getResolver().getResolvedTypeVariables(),
                     new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
             resolvedType = objectTypeResolver.resolveType(canonicalEventType);
         }
@@ -204,13 +211,23 @@ class EventImpl<T> implements Event<T> {
 
         private final Class<?> runtimeType;
 
-        private final List<ObserverMethod<? super T>> observerMethods;
+        // Observers with smaller priority values come first
+        private final ObserverMethod<? super T>[] syncObservers;
+
+        private final ObserverMethod<? super T>[] asyncObservers;
 
         private final EventMetadata eventMetadata;
 
+        @SuppressWarnings("unchecked")
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this.runtimeType = runtimeType;
-            this.observerMethods = observerMethods;
+            List<ObserverMethod<? super T>> sync = new ArrayList<>(observerMethods.size());
+            List<ObserverMethod<? super T>> async = new ArrayList<>(observerMethods.size());
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                (observerMethod.isAsync() ? async : sync).add(observerMethod);
+            }
+            this.syncObservers = sync.toArray(new ObserverMethod[0]);
+            this.asyncObservers = async.toArray(new ObserverMethod[0]);
             this.eventMetadata = eventMetadata;
         }
 
@@ -220,22 +237,25 @@ class EventImpl<T> implements Event<T> {
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            ObserverMethod<? super T>[] observers = async ? asyncObservers : syncObservers;
+            if (observers.length > 0) {
                 EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-                for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                    if (observerMethod.isAsync() == async) {
-                        try {
-                            observerMethod.notify(eventContext);
-                        } catch (Throwable e) {
-                            exceptionHandler.handle(e);
-                        }
+                for (ObserverMethod<? super T> observerMethod : observers) {
+                    try {
+                        observerMethod.notify(eventContext);
+                    } catch (Throwable e) {
+                        exceptionHandler.handle(e);
                     }
                 }
             }
         }
 
         boolean isEmpty() {
-            return observerMethods.isEmpty();
+            return syncObservers.length == 0 && asyncObservers.length == 0;
+        }
+
+        boolean hasAsyncObservers() {
+            return asyncObservers.length > 0;
         }
 
     }
@@ -59,6 +59,16 @@ final class Types {
         return (type instanceof GenericArrayType) || (type instanceof Class<?> && ((Class<?>) type).isArray());
     }
 
+    static Type getArrayComponentType(Type type) {
+        if (type instanceof GenericArrayType) {
+            return ((GenericArrayType) type).getGenericComponentType();
+        }
+        if (type instanceof Class<?> && ((Class<?>) type).isArray()) {
+            return ((Class<?>) type).getComponentType();
+        }
+        throw new IllegalArgumentException("Not an array type: " + type);
+    }
+
     /**
      * Determines whether the given array only contains unbounded type variables or Object.class.
      *
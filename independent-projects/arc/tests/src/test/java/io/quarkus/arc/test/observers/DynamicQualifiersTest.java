@@ -0,0 +1,76 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.Assert.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.literal.NamedLiteral;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DynamicQualifiersTest {
+
+    // more qualifier instances than the container caches the observers for
+    private static final int EVENTS = 2000;
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(NamedProducer.class, NamedObserver.class);
+
+    @Test
+    public void testObserversResolvedForEachQualifier() {
+        NamedProducer producer = Arc.container().instance(NamedProducer.class).get();
+        NamedObserver observer = Arc.container().instance(NamedObserver.class).get();
+        for (int i = 0; i < EVENTS; i++) {
+            producer.produce("event" + i);
+        }
+        assertEquals(EVENTS, observer.all.get());
+        assertEquals(1, observer.first.get());
+        assertEquals(1, observer.last.get());
+
+        // resolved again once the cache stopped growing
+        producer.produce("event" + (EVENTS - 1));
+        assertEquals(EVENTS + 1, observer.all.get());
+        assertEquals(2, observer.last.get());
+    }
+
+    @Singleton
+    static class NamedObserver {
+
+        final AtomicInteger all = new AtomicInteger();
+        final AtomicInteger first = new AtomicInteger();
+        final AtomicInteger last = new AtomicInteger();
+
+        void observeAll(@Observes String value) {
+            all.incrementAndGet();
+        }
+
+        void observeFirst(@Observes @Named("event0") String value) {
+            first.incrementAndGet();
+        }
+
+        void observeLast(@Observes @Named("event" + (EVENTS - 1)) String value) {
+            last.incrementAndGet();
+        }
+
+    }
+
+    @Dependent
+    static class NamedProducer {
+
+        @Inject
+        Event<String> event;
+
+        void produce(String name) {
+            event.select(NamedLiteral.of(name)).fire(name);
+        }
+
+    }
+
+}
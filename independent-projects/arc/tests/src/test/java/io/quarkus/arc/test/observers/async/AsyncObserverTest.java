@@ -3,6 +3,7 @@ package io.quarkus.arc.test.observers.async;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -11,6 +12,9 @@ import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.annotation.PostConstruct;
@@ -52,6 +56,46 @@ public class AsyncObserverTest {
         assertFalse(events.get(0).endsWith(currentThread));
     }
 
+    @Test
+    public void testDefaultExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        StringProducer producer = container.instance(StringProducer.class).get();
+        StringObserver observer = container.instance(StringObserver.class).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "async-events"));
+        try {
+            Arc.setExecutor(executor);
+            assertEquals(executor, container.getExecutorService());
+            CompletionStage<String> completionStage = producer.produceAsync("pong");
+            assertEquals("pong", completionStage.toCompletableFuture().get(10, TimeUnit.SECONDS));
+            List<String> events = observer.getEvents();
+            assertEquals(1, events.size());
+            assertEquals("async::pong::async-events", events.get(0));
+        } finally {
+            Arc.setExecutor(null);
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testShutdownExecutor() throws InterruptedException, TimeoutException {
+        ArcContainer container = Arc.container();
+        StringProducer producer = container.instance(StringProducer.class).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        try {
+            Arc.setExecutor(executor);
+            CompletionStage<String> completionStage = producer.produceAsync("pong");
+            try {
+                completionStage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+                fail("The delivery should have failed");
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof RejectedExecutionException);
+            }
+        } finally {
+            Arc.setExecutor(null);
+        }
+    }
+
     @Singleton
     static class StringObserver {
 
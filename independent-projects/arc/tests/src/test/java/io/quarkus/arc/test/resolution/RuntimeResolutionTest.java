@@ -1,6 +1,7 @@
 package io.quarkus.arc.test.resolution;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import io.quarkus.arc.Arc;
@@ -10,6 +11,7 @@ import io.quarkus.arc.test.ArcTestContainer;
 import java.io.IOException;
 import java.util.AbstractList;
 import java.util.List;
+import javax.enterprise.inject.Produces;
 import javax.enterprise.util.TypeLiteral;
 import javax.inject.Singleton;
 import org.junit.Rule;
@@ -18,7 +20,7 @@ import org.junit.Test;
 public class RuntimeResolutionTest {
 
     @Rule
-    public ArcTestContainer container = new ArcTestContainer(MyList.class);
+    public ArcTestContainer container = new ArcTestContainer(MyList.class, Producers.class);
 
     @SuppressWarnings("serial")
     @Test
@@ -31,6 +33,53 @@ public class RuntimeResolutionTest {
         assertEquals(Integer.valueOf(7), list.get().get(1));
     }
 
+    @Test
+    public void testResolutionByRawType() {
+        ArcContainer arc = Arc.container();
+        // Primitive bean types are boxed
+        assertEquals(Long.valueOf(42), arc.instance(long.class).get());
+        assertEquals(Long.valueOf(42), arc.instance(Long.class).get());
+        // Raw required type matches AbstractList<Integer> only if the type arguments are Object or unbounded
+        assertFalse(arc.instance(AbstractList.class).isAvailable());
+        assertTrue(arc.instance(MyList.class).isAvailable());
+        assertEquals(1, arc.beanManager().getBeans(CharSequence.class).size());
+        // Every bean has java.lang.Object in its type closure
+        assertTrue(arc.beanManager().getBeans(Object.class).size() > 3);
+        assertTrue(arc.beanManager().getBeans(Runnable.class).isEmpty());
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testResolutionOfArrays() {
+        ArcContainer arc = Arc.container();
+        assertEquals("hello", arc.instance(String[].class).get()[0]);
+        InstanceHandle<List<Integer>[]> lists = arc.instance(new TypeLiteral<List<Integer>[]>() {
+        });
+        assertTrue(lists.isAvailable());
+        assertEquals(1, lists.get().length);
+        assertFalse(arc.instance(new TypeLiteral<List<String>[]>() {
+        }).isAvailable());
+        assertFalse(arc.instance(Integer[].class).isAvailable());
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        long answer = 42;
+
+        @Produces
+        String hello = "hello";
+
+        @Produces
+        String[] hellos = { "hello" };
+
+        @SuppressWarnings("unchecked")
+        @Produces
+        List<Integer>[] lists = new List[] { new MyList() };
+
+    }
+
     @Singleton
     static class MyList extends AbstractList<Integer> {
 
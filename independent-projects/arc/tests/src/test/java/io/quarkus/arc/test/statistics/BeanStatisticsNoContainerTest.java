@@ -0,0 +1,25 @@
+package io.quarkus.arc.test.statistics;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.BeanStatistics;
+import org.junit.After;
+import org.junit.Test;
+
+public class BeanStatisticsNoContainerTest {
+
+    @After
+    public void reset() {
+        BeanStatistics.reset();
+    }
+
+    @Test
+    public void testNoContainer() {
+        assertNull(Arc.container());
+        BeanStatistics.enable();
+        assertTrue(BeanStatistics.getEntries().isEmpty());
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.quarkus.arc.test.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.BeanStatistics;
+import io.quarkus.arc.BeanStatistics.Entry;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class BeanStatisticsTest {
+
+    @Rule
+    public ArcTestContainer container = new ArcTestContainer(Service.class, RequestService.class, Helper.class,
+            Unused.class);
+
+    @BeforeClass
+    public static void enable() {
+        BeanStatistics.enable();
+    }
+
+    @AfterClass
+    public static void reset() {
+        BeanStatistics.reset();
+    }
+
+    @Test
+    public void testStatistics() {
+        Service service = Arc.container().instance(Service.class).get();
+        service.ping();
+        BeanStatistics.startupCompleted();
+        RequestService requestService = Arc.container().instance(RequestService.class).get();
+        Arc.container().requestContext().activate();
+        try {
+            requestService.ping();
+        } finally {
+            Arc.container().requestContext().terminate();
+        }
+
+        List<Entry> entries = BeanStatistics.getEntries();
+        Entry serviceEntry = find(entries, Service.class);
+        assertEquals(1, serviceEntry.getCreationCount());
+        assertEquals(1, serviceEntry.getStartupCreationCount());
+        assertTrue(serviceEntry.getTotalCreationTime() > 0);
+        assertTrue(serviceEntry.getLastAccessed() > 0);
+
+        // One instance injected into each service
+        Entry helperEntry = find(entries, Helper.class);
+        assertEquals(2, helperEntry.getCreationCount());
+        assertEquals(1, helperEntry.getStartupCreationCount());
+        assertTrue(helperEntry.getTotalCreationTime() > 0);
+
+        Entry unusedEntry = find(entries, Unused.class);
+        assertTrue(unusedEntry.isUnused());
+        assertFalse(serviceEntry.isUnused());
+    }
+
+    private Entry find(List<Entry> entries, Class<?> beanClass) {
+        return entries.stream().filter(e -> e.getBean().getBeanClass().equals(beanClass)).findFirst().get();
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+        @Inject
+        Helper helper;
+
+        void ping() {
+            helper.ping();
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestService {
+
+        @Inject
+        Helper helper;
+
+        void ping() {
+            helper.ping();
+        }
+
+    }
+
+    @Dependent
+    static class Helper {
+
+        void ping() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Unused {
+
+    }
+
+}
@@ -0,0 +1,14 @@
+package io.quarkus.it.panache;
+
+import io.quarkus.hibernate.orm.panache.ProjectedFieldName;
+
+public class PersonName {
+
+    public final String name;
+    public final Status status;
+
+    public PersonName(@ProjectedFieldName("name") String name, @ProjectedFieldName("status") Status status) {
+        this.name = name;
+        this.status = status;
+    }
+}
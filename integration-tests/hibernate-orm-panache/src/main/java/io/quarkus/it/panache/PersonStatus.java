@@ -0,0 +1,9 @@
+package io.quarkus.it.panache;
+
+import io.quarkus.hibernate.orm.panache.PanacheProjection;
+
+@PanacheProjection
+public class PersonStatus {
+
+    public Status status;
+}
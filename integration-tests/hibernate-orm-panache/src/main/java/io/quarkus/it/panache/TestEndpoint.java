@@ -1,6 +1,7 @@
 package io.quarkus.it.panache;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -167,6 +168,15 @@ public class TestEndpoint {
         }
         testPaging(Person.findAll());
         testPaging(Person.find("ORDER BY name"));
+        testKeysetPaging(Person.findAll(Sort.by("name").and("id")));
+        testKeysetPaging(Person.find("name LIKE ?1 OR name = ?2", Sort.by("name").and("id"), "stef%", "nobody"));
+        testKeysetPaging(Person.find("name LIKE ?1\n\tAND id IN (SELECT p.id FROM Person2 p WHERE p.name LIKE ?1)",
+                Sort.by("name").and("id"), "stef%"));
+        try {
+            Person.find("FROM Person2\nWHERE name LIKE ?1", Sort.by("name").and("id"), "stef%").after("stef0", 1L);
+            Assertions.fail("after should have thrown");
+        } catch (IllegalStateException x) {
+        }
 
         try {
             Person.findAll().singleResult();
@@ -438,6 +448,8 @@ public class TestEndpoint {
         }
         testPaging(personDao.findAll());
         testPaging(personDao.find("ORDER BY name"));
+        testKeysetPaging(personDao.findAll(Sort.by("name").and("id")));
+        testKeysetPaging(personDao.find("name LIKE :name", Sort.by("name").and("id"), Parameters.with("name", "stef%")));
 
         try {
             personDao.findAll().singleResult();
@@ -578,6 +590,52 @@ public class TestEndpoint {
         return person;
     }
 
+    private void testKeysetPaging(PanacheQuery<Person> query) {
+        List<Person> persons = query.page(Page.ofSize(3)).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef2", persons.get(2).name);
+
+        persons = query.nextKeysetPage().list();
+        Assertions.assertEquals(0, query.page().index);
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+        Long lastId = persons.get(2).id;
+
+        persons = query.nextKeysetPage().list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+
+        persons = query.nextKeysetPage().list();
+        Assertions.assertEquals(0, persons.size());
+        try {
+            query.nextKeysetPage();
+            Assertions.fail("nextKeysetPage should have thrown");
+        } catch (IllegalStateException x) {
+        }
+
+        persons = query.after("stef5", lastId).list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+
+        try {
+            query.count();
+            Assertions.fail("count should have thrown");
+        } catch (IllegalStateException x) {
+        }
+        try {
+            query.hasNextPage();
+            Assertions.fail("hasNextPage should have thrown");
+        } catch (IllegalStateException x) {
+        }
+        try {
+            query.after("stef5", null);
+            Assertions.fail("after should have thrown");
+        } catch (IllegalArgumentException x) {
+        }
+    }
+
     private void testPaging(PanacheQuery<Person> query) {
         // ints
         List<Person> persons = query.page(0, 3).list();
@@ -770,6 +828,83 @@ public class TestEndpoint {
         return "OK";
     }
 
+    @GET
+    @Path("batches")
+    @Transactional
+    public String testBatches() {
+        Assertions.assertEquals(0, Person.count());
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Person person = new Person();
+            person.name = "stef" + i;
+            persons.add(person);
+        }
+        Person.persistInBatches(persons, 3);
+        Assertions.assertEquals(10, Person.count());
+        // the last incomplete batch is flushed but not cleared
+        Assertions.assertTrue(persons.get(9).isPersistent());
+        Assertions.assertFalse(persons.get(0).isPersistent());
+
+        for (Person person : persons) {
+            person.status = Status.LIVING;
+        }
+        personDao.updateInBatches(persons, 3);
+        Assertions.assertEquals(10, Person.count("status", Status.LIVING));
+
+        List<Person> streamed = Person.find("ORDER BY name").<Person> streamInBatches(4).collect(Collectors.toList());
+        Assertions.assertEquals(10, streamed.size());
+        Assertions.assertFalse(streamed.get(0).isPersistent());
+        // the last incomplete batch is cleared once the stream is exhausted
+        Assertions.assertFalse(streamed.get(9).isPersistent());
+
+        Person.deleteInBatches(Person.stream("status", Status.LIVING), 3);
+        Assertions.assertEquals(0, Person.count());
+
+        return "OK";
+    }
+
+    @GET
+    @Path("projection")
+    @Transactional
+    public String testProjection() {
+        Assertions.assertEquals(0, Person.count());
+
+        for (int i = 0; i < 3; i++) {
+            makeSavedPerson(String.valueOf(i));
+        }
+
+        List<PersonName> names = Person.find("status", Sort.by("name"), Status.LIVING).project(PersonName.class).list();
+        Assertions.assertEquals(3, names.size());
+        Assertions.assertEquals("stef0", names.get(0).name);
+        Assertions.assertEquals(Status.LIVING, names.get(0).status);
+
+        PanacheQuery<PersonName> query = personDao.findAll(Sort.by("name")).project(PersonName.class).page(Page.ofSize(2));
+        Assertions.assertEquals(2, query.list().size());
+        Assertions.assertEquals(3, query.count());
+        Assertions.assertEquals(2, query.pageCount());
+        names = query.after("stef1").list();
+        Assertions.assertEquals(1, names.size());
+        Assertions.assertEquals("stef2", names.get(0).name);
+
+        // the keyset restriction is kept by the projection
+        names = personDao.findAll(Sort.by("name")).page(Page.ofSize(2)).after("stef0").project(PersonName.class).list();
+        Assertions.assertEquals(2, names.size());
+        Assertions.assertEquals("stef1", names.get(0).name);
+        Assertions.assertEquals("stef2", names.get(1).name);
+
+        List<PersonStatus> statuses = Person.find("name", "stef1").project(PersonStatus.class).stream()
+                .collect(Collectors.toList());
+        Assertions.assertEquals(1, statuses.size());
+        Assertions.assertEquals(Status.LIVING, statuses.get(0).status);
+
+        Dog.deleteAll();
+        Person.deleteAll();
+        Address.deleteAll();
+
+        return "OK";
+    }
+
     @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
     @GET
     @Path("ignored-properties")
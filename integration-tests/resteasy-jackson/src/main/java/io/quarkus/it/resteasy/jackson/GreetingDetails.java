@@ -0,0 +1,54 @@
+package io.quarkus.it.resteasy.jackson;
+
+import java.util.List;
+
+public class GreetingDetails {
+
+    public String language;
+
+    public transient String ignored = "ignored";
+
+    private final Greeting greeting;
+    private final List<String> recipients;
+    private final int count;
+    private final boolean formal;
+    private final char punctuation;
+    private final String signature;
+
+    public GreetingDetails(Greeting greeting, List<String> recipients, int count, boolean formal) {
+        this.greeting = greeting;
+        this.recipients = recipients;
+        this.count = count;
+        this.formal = formal;
+        this.punctuation = '!';
+        this.signature = null;
+    }
+
+    public Greeting getGreeting() {
+        return greeting;
+    }
+
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public boolean isFormal() {
+        return formal;
+    }
+
+    public char getPunctuation() {
+        return punctuation;
+    }
+
+    public String getSignature() {
+        return signature;
+    }
+
+    public String getURL() {
+        return "/greeting/details";
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.it.resteasy.jackson;
 
+import java.util.Arrays;
+
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -13,4 +15,17 @@ public class GreetingResource {
     public Greeting hello() {
         return new Greeting("hello");
     }
+
+    @GET
+    @Path("/details")
+    @Produces(MediaType.APPLICATION_JSON)
+    public GreetingDetails details() {
+        return createDetails();
+    }
+
+    static GreetingDetails createDetails() {
+        GreetingDetails details = new GreetingDetails(new Greeting("hello"), Arrays.asList("alice", "bob"), 2, true);
+        details.language = "en";
+        return details;
+    }
 }
@@ -14,6 +14,12 @@ class GeneratedClassesTest {
         assertNotNull(generatedContextResolver());
     }
 
+    @Test
+    void testGeneratedSerializers() throws ClassNotFoundException {
+        assertNotNull(Class.forName(Greeting.class.getName() + "_JacksonSerializer"));
+        assertNotNull(Class.forName(GreetingDetails.class.getName() + "_JacksonSerializer"));
+    }
+
     private Object generatedContextResolver() {
         try {
             Class<?> jsonbResolverClass = Class
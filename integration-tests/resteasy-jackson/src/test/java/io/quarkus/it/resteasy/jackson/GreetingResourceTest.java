@@ -2,9 +2,14 @@ package io.quarkus.it.resteasy.jackson;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.quarkus.test.junit.QuarkusTest;
 
 @QuarkusTest
@@ -19,4 +24,16 @@ class GreetingResourceTest {
                 .body(containsString("hello"));
     }
 
+    @Test
+    void testGeneratedSerializer() throws IOException {
+        // the generated serializer writes the same properties as the reflection based one
+        ObjectMapper objectMapper = new ObjectMapper();
+        String body = given()
+                .when().get("/greeting/details")
+                .then()
+                .statusCode(200)
+                .extract().asString();
+        assertEquals(objectMapper.valueToTree(GreetingResource.createDetails()), objectMapper.readTree(body));
+    }
+
 }